@@ -0,0 +1,200 @@
+package mysystem.common.actor;
+
+import com.typesafe.config.Config;
+
+import akka.actor.ActorRef;
+import akka.actor.ActorRefFactory;
+import akka.actor.ActorSelection;
+import akka.actor.Cancellable;
+import akka.actor.ExtendedActorSystem;
+import akka.actor.Props;
+import akka.actor.UntypedActor;
+import akka.event.Logging;
+import akka.event.LoggingAdapter;
+import akka.serialization.SerializationExtension;
+import mysystem.common.config.CommonConfig;
+import mysystem.common.model.Chunk;
+import scala.concurrent.duration.FiniteDuration;
+import scala.util.Try;
+
+import java.io.ByteArrayOutputStream;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Responsible for collecting the {@link Chunk} objects sent to this node, and delivering the original message to the
+ * target actor once all of the chunks of the message have arrived. Messages whose chunks do not all arrive within the
+ * reassembly timeout are dropped.
+ */
+public class ChunkReassembler extends UntypedActor {
+    private final static long DEFAULT_REASSEMBLY_TIMEOUT_MILLIS = 30000;
+
+    /**
+     * Sent to this actor periodically so that partially received messages that have expired can be dropped.
+     */
+    private enum ExpirePartial {
+        INSTANCE
+    }
+
+    /**
+     * Holds the chunks received so far for a single message.
+     */
+    private static class Partial {
+        private final Chunk[] chunks;
+        private final long started = System.nanoTime();
+        private int received = 0;
+
+        private Partial(final int count) {
+            this.chunks = new Chunk[count];
+        }
+    }
+
+    private final LoggingAdapter log = Logging.getLogger(context().system(), this);
+
+    private final FiniteDuration reassemblyTimeout;
+    private final Cancellable expireTimer;
+    private final Map<String, Partial> partials = new HashMap<>();
+
+    /**
+     * @param refFactory the {@link ActorRefFactory} that will host the actor
+     * @return an {@link ActorRef} for the created actor
+     */
+    public static ActorRef create(final ActorRefFactory refFactory) {
+        final Props props = Props.create(ChunkReassembler.class);
+        return Objects.requireNonNull(refFactory).actorOf(props, ChunkReassembler.class.getSimpleName());
+    }
+
+    /**
+     * @param refFactory the {@link ActorRefFactory} hosting the actor
+     * @return an {@link ActorSelection} referencing this actor
+     */
+    public static ActorSelection getActorSelection(final ActorRefFactory refFactory) {
+        return Objects.requireNonNull(refFactory).actorSelection("/user/" + ChunkReassembler.class.getSimpleName());
+    }
+
+    /**
+     * @param refFactory the {@link ActorRefFactory} used to create the selection
+     * @param target the {@link ActorRef} to receive a reassembled message
+     * @return an {@link ActorSelection} referencing this actor on the node hosting the target actor
+     */
+    public static ActorSelection getActorSelection(final ActorRefFactory refFactory, final ActorRef target) {
+        return Objects.requireNonNull(refFactory).actorSelection(
+                Objects.requireNonNull(target).path().root().child("user")
+                        .child(ChunkReassembler.class.getSimpleName()));
+    }
+
+    /**
+     * Default constructor.
+     */
+    public ChunkReassembler() {
+        this.reassemblyTimeout = getReassemblyTimeout(context().system().settings().config());
+        this.expireTimer = context().system().scheduler()
+                .schedule(this.reassemblyTimeout, this.reassemblyTimeout, self(), ExpirePartial.INSTANCE,
+                        context().dispatcher(), self());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void postStop() {
+        this.expireTimer.cancel();
+    }
+
+    /**
+     * @return how long the chunks of a partially received message are kept waiting for the remaining chunks
+     */
+    protected FiniteDuration getReassemblyTimeout() {
+        return this.reassemblyTimeout;
+    }
+
+    /**
+     * @return the number of messages for which some, but not all, of the chunks have been received
+     */
+    protected int getPartialCount() {
+        return this.partials.size();
+    }
+
+    protected FiniteDuration getReassemblyTimeout(final Config config) {
+        long millis = DEFAULT_REASSEMBLY_TIMEOUT_MILLIS;
+        if (Objects.requireNonNull(config).hasPath(CommonConfig.CHUNKING_REASSEMBLY_TIMEOUT.getKey())) {
+            millis = config.getDuration(CommonConfig.CHUNKING_REASSEMBLY_TIMEOUT.getKey()).toMillis();
+            if (millis < 1) {
+                throw new IllegalArgumentException("Chunk reassembly timeout must be positive: " + millis);
+            }
+        }
+        return FiniteDuration.create(millis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onReceive(final Object message) {
+        if (message instanceof Chunk) {
+            handleChunk((Chunk) message);
+        } else if (message == ExpirePartial.INSTANCE) {
+            expirePartial();
+        } else {
+            unhandled(message);
+        }
+    }
+
+    protected void handleChunk(final Chunk chunk) {
+        final Partial partial =
+                this.partials.computeIfAbsent(chunk.getMessageId(), id -> new Partial(chunk.getCount()));
+        if (chunk.getCount() != partial.chunks.length) {
+            log.warning("Dropping chunked message {} with inconsistent chunk counts", chunk.getMessageId());
+            this.partials.remove(chunk.getMessageId());
+            return;
+        }
+        if (partial.chunks[chunk.getIndex()] == null) {
+            partial.chunks[chunk.getIndex()] = chunk;
+            partial.received++;
+        }
+        if (partial.received == partial.chunks.length) {
+            this.partials.remove(chunk.getMessageId());
+            deliver(partial.chunks);
+        }
+    }
+
+    protected void deliver(final Chunk[] chunks) {
+        final Chunk first = chunks[0];
+        int size = 0;
+        for (final Chunk chunk : chunks) {
+            size += chunk.getBytes().length;
+        }
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream(size);
+        for (final Chunk chunk : chunks) {
+            bytes.write(chunk.getBytes(), 0, chunk.getBytes().length);
+        }
+
+        final Try<Object> message = SerializationExtension.get(context().system())
+                .deserialize(bytes.toByteArray(), first.getSerializerId(), first.getManifest());
+        if (message.isFailure()) {
+            log.error(message.failed().get(), "Failed to deserialize chunked message {}", first.getMessageId());
+            return;
+        }
+
+        final ActorRef target =
+                ((ExtendedActorSystem) context().system()).provider().resolveActorRef(first.getTarget());
+        target.tell(message.get(), sender());
+    }
+
+    protected void expirePartial() {
+        final long timeoutNanos = getReassemblyTimeout().toNanos();
+        final long now = System.nanoTime();
+        final Iterator<Map.Entry<String, Partial>> iter = this.partials.entrySet().iterator();
+        while (iter.hasNext()) {
+            final Map.Entry<String, Partial> entry = iter.next();
+            if (now - entry.getValue().started >= timeoutNanos) {
+                log.warning("Dropping chunked message {} after receiving {} of {} chunks", entry.getKey(),
+                        entry.getValue().received, entry.getValue().chunks.length);
+                iter.remove();
+            }
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package mysystem.common.actor;
+
+import akka.actor.ActorRef;
+import akka.actor.ActorRefFactory;
+import akka.actor.ActorSelection;
+import akka.actor.ActorSystem;
+import akka.actor.Address;
+import akka.actor.ExtendedActorSystem;
+import akka.actor.Props;
+import akka.actor.UntypedActor;
+import akka.serialization.SerializationExtension;
+import akka.serialization.Serializer;
+import mysystem.common.model.GetSerializationStatistics;
+import mysystem.common.model.SerializationStatistics;
+import mysystem.common.serialization.BinaryModelSerialization;
+import mysystem.common.serialization.ModelSerialization;
+import scala.collection.JavaConversions;
+
+import java.util.Objects;
+
+/**
+ * Responsible for providing the {@link SerializationStatistics} describing the model objects serialized and
+ * deserialized on this node, so that the statistics of every node in the cluster can be collected remotely.
+ */
+public class SerializationMonitor extends UntypedActor {
+    /**
+     * @param refFactory the {@link ActorRefFactory} that will host the actor
+     * @return an {@link ActorRef} for the created actor
+     */
+    public static ActorRef create(final ActorRefFactory refFactory) {
+        final Props props = Props.create(SerializationMonitor.class);
+        return Objects.requireNonNull(refFactory).actorOf(props, SerializationMonitor.class.getSimpleName());
+    }
+
+    /**
+     * @param refFactory the {@link ActorRefFactory} hosting the actor
+     * @return an {@link ActorSelection} referencing this actor
+     */
+    public static ActorSelection getActorSelection(final ActorRefFactory refFactory) {
+        return Objects.requireNonNull(refFactory).actorSelection("/user/" + SerializationMonitor.class.getSimpleName());
+    }
+
+    /**
+     * @param refFactory the {@link ActorRefFactory} used to create the selection
+     * @param address the {@link Address} of the node hosting the actor
+     * @return an {@link ActorSelection} referencing this actor on the node with the specified address
+     */
+    public static ActorSelection getActorSelection(final ActorRefFactory refFactory, final Address address) {
+        final String name = SerializationMonitor.class.getSimpleName();
+        return Objects.requireNonNull(refFactory)
+                .actorSelection(String.format("%s/user/%s", Objects.requireNonNull(address), name));
+    }
+
+    /**
+     * @param actorSystem the {@link ActorSystem} whose serializers are to be described
+     * @return the {@link SerializationStatistics} describing the serialization and compression performed by the model
+     * serializers configured in the actor system
+     */
+    public static SerializationStatistics getStatistics(final ActorSystem actorSystem) {
+        final Address address = ((ExtendedActorSystem) Objects.requireNonNull(actorSystem)).provider()
+                .getDefaultAddress();
+        final SerializationStatistics.Builder builder = new SerializationStatistics.Builder(address.toString());
+        final Iterable<Serializer> serializers =
+                JavaConversions.asJavaIterable(SerializationExtension.get(actorSystem).serializerByIdentity().values());
+        for (final Serializer serializer : serializers) {
+            final String name = serializer.getClass().getSimpleName();
+            if (serializer instanceof ModelSerialization) {
+                // Only the model serializer compresses, and a single instance is registered for its identifier.
+                final ModelSerialization modelSerialization = (ModelSerialization) serializer;
+                builder.add(modelSerialization.getSerializationMetrics().getStatistics(name));
+                builder.setCompression(modelSerialization.getCompressionStatistics().getSummary());
+            } else if (serializer instanceof BinaryModelSerialization) {
+                builder.add(((BinaryModelSerialization) serializer).getSerializationMetrics().getStatistics(name));
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onReceive(final Object message) {
+        if (message instanceof GetSerializationStatistics) {
+            sender().tell(getStatistics(context().system()), self());
+        } else {
+            unhandled(message);
+        }
+    }
+}
@@ -14,6 +14,37 @@ public enum CommonConfig implements ConfigKey {
      */
     ACTOR_SYSTEM_NAME,
 
+    /**
+     * Whether model objects supporting the compact JSON format are serialized in that format.
+     */
+    SERIALIZATION_COMPACT_JSON,
+
+    /**
+     * The size of serialized model objects at which they are compressed, where compression is disabled when missing.
+     */
+    SERIALIZATION_COMPRESSION_THRESHOLD,
+
+    /**
+     * The maximum size of serialized model objects after decompression, beyond which they are rejected.
+     */
+    SERIALIZATION_DECOMPRESSION_MAX_BYTES,
+
+    /**
+     * The maximum size of the serialized bytes retained by each model object, so they are not serialized again.
+     */
+    SERIALIZATION_MEMOIZE_MAX_BYTES,
+
+    /**
+     * The size of serialized model objects at which they are split into chunks when sent to a remote actor, where
+     * chunking is disabled when missing.
+     */
+    CHUNKING_SIZE,
+
+    /**
+     * How long the chunks of a partially received message are kept waiting for the remaining chunks to arrive.
+     */
+    CHUNKING_REASSEMBLY_TIMEOUT,
+
     ;
 
     public final static String CONFIG_PREFIX = "mysystem";
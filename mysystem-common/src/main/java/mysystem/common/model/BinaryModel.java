@@ -0,0 +1,14 @@
+package mysystem.common.model;
+
+import mysystem.common.serialization.BinaryWriter;
+
+/**
+ * This interface defines the functionality for model objects that support the compact tagged binary format in
+ * addition to JSON.
+ */
+public interface BinaryModel extends Model {
+    /**
+     * @param writer the {@link BinaryWriter} into which the fields of the model object will be written
+     */
+    void writeBinary(BinaryWriter writer);
+}
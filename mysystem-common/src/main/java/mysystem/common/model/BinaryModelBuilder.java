@@ -0,0 +1,18 @@
+package mysystem.common.model;
+
+import mysystem.common.serialization.BinaryReader;
+import mysystem.common.serialization.ManifestMapping;
+
+/**
+ * This interface defines the functionality for model builders that support the compact tagged binary format in
+ * addition to JSON.
+ */
+public interface BinaryModelBuilder<M extends BinaryModel> extends ModelBuilder<M> {
+    /**
+     * @param mapping the {@link ManifestMapping} used to dynamically determine nested model classes
+     * @param reader the {@link BinaryReader} from which the remaining fields of the model object will be read, where
+     * any unrecognized fields are skipped
+     * @return the builder itself for fluent-style usage
+     */
+    BinaryModelBuilder<M> fromBinary(ManifestMapping mapping, BinaryReader reader);
+}
@@ -0,0 +1,498 @@
+package mysystem.common.model;
+
+import com.google.common.base.Preconditions;
+import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+
+import mysystem.common.serialization.BinaryReader;
+import mysystem.common.serialization.BinaryWriter;
+import mysystem.common.serialization.JsonStreaming;
+import mysystem.common.serialization.ManifestMapping;
+import mysystem.common.util.HashCodes;
+
+import java.io.IOException;
+import java.util.Base64;
+import java.util.Objects;
+import java.util.Optional;
+
+import javax.annotation.Nullable;
+
+/**
+ * An immutable representation of one piece of a serialized message that was too large to be sent as a single message,
+ * which is reassembled with the other chunks sharing the same message id on the receiving node.
+ */
+public class Chunk implements BinaryModel, Comparable<Chunk> {
+    private final static String SERIALIZATION_MANIFEST = Chunk.class.getSimpleName();
+
+    // The field numbers used in the binary format, which must never be reused for a different field.
+    private final static int FIELD_MESSAGE_ID = 1;
+    private final static int FIELD_INDEX = 2;
+    private final static int FIELD_COUNT = 3;
+    private final static int FIELD_TARGET = 4;
+    private final static int FIELD_SERIALIZER_ID = 5;
+    private final static int FIELD_MANIFEST = 6;
+    private final static int FIELD_BYTES = 7;
+
+    private final String messageId;
+    private final int index;
+    private final int count;
+    private final String target;
+    private final int serializerId;
+    private final String manifest;
+    private final byte[] bytes;
+
+    private int hashCode = 0;
+
+    /**
+     * @param messageId the unique identifier of the message this chunk belongs to
+     * @param index the position of this chunk within the message, starting from zero
+     * @param count the total number of chunks in the message
+     * @param target the serialized path of the actor that will receive the reassembled message
+     * @param serializerId the identifier of the serializer used to serialize the message
+     * @param manifest the serialization manifest of the message
+     * @param bytes the serialized bytes of the message held by this chunk
+     */
+    private Chunk(
+            final String messageId, final int index, final int count, final String target, final int serializerId,
+            final String manifest, final byte[] bytes) {
+        this.messageId = messageId;
+        this.index = index;
+        this.count = count;
+        this.target = target;
+        this.serializerId = serializerId;
+        this.manifest = manifest;
+        this.bytes = bytes;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getSerializationManifest() {
+        return SERIALIZATION_MANIFEST;
+    }
+
+    /**
+     * @return the unique identifier of the message this chunk belongs to
+     */
+    public String getMessageId() {
+        return this.messageId;
+    }
+
+    /**
+     * @return the position of this chunk within the message, starting from zero
+     */
+    public int getIndex() {
+        return this.index;
+    }
+
+    /**
+     * @return the total number of chunks in the message
+     */
+    public int getCount() {
+        return this.count;
+    }
+
+    /**
+     * @return the serialized path of the actor that will receive the reassembled message
+     */
+    public String getTarget() {
+        return this.target;
+    }
+
+    /**
+     * @return the identifier of the serializer used to serialize the message
+     */
+    public int getSerializerId() {
+        return this.serializerId;
+    }
+
+    /**
+     * @return the serialization manifest of the message
+     */
+    public String getManifest() {
+        return this.manifest;
+    }
+
+    /**
+     * @return the serialized bytes of the message held by this chunk, which must not be modified
+     */
+    public byte[] getBytes() {
+        return this.bytes;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public JsonObject toJson() {
+        final JsonObject json = new JsonObject();
+        json.addProperty("messageId", getMessageId());
+        json.addProperty("index", getIndex());
+        json.addProperty("count", getCount());
+        json.addProperty("target", getTarget());
+        json.addProperty("serializerId", getSerializerId());
+        json.addProperty("messageManifest", getManifest());
+        json.addProperty("bytes", Base64.getEncoder().encodeToString(getBytes()));
+        json.addProperty("manifest", getSerializationManifest());
+        return json;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void toJson(final JsonWriter writer) throws IOException {
+        writer.beginObject();
+        writer.name(JsonStreaming.MANIFEST).value(getSerializationManifest());
+        writer.name("messageId").value(getMessageId());
+        writer.name("index").value(getIndex());
+        writer.name("count").value(getCount());
+        writer.name("target").value(getTarget());
+        writer.name("serializerId").value(getSerializerId());
+        writer.name("messageManifest").value(getManifest());
+        writer.name("bytes").value(Base64.getEncoder().encodeToString(getBytes()));
+        writer.endObject();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void writeBinary(final BinaryWriter writer) {
+        writer.writeStringField(FIELD_MESSAGE_ID, getMessageId());
+        writer.writeIntField(FIELD_INDEX, getIndex());
+        writer.writeIntField(FIELD_COUNT, getCount());
+        writer.writeStringField(FIELD_TARGET, getTarget());
+        writer.writeIntField(FIELD_SERIALIZER_ID, getSerializerId());
+        writer.writeStringField(FIELD_MANIFEST, getManifest());
+        writer.writeBytesField(FIELD_BYTES, getBytes());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        final ToStringBuilder str = new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE);
+        str.append("messageId", getMessageId());
+        str.append("index", getIndex());
+        str.append("count", getCount());
+        str.append("target", getTarget());
+        str.append("serializerId", getSerializerId());
+        str.append("manifest", getManifest());
+        str.append("bytes", getBytes().length);
+        return str.build();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int compareTo(@Nullable final Chunk other) {
+        if (other == this) {
+            return 0;
+        } else if (other == null) {
+            return 1;
+        }
+
+        int cmp = getMessageId().compareTo(other.getMessageId());
+        if (cmp == 0) {
+            cmp = Integer.compare(getIndex(), other.getIndex());
+        }
+        if (cmp == 0) {
+            cmp = Integer.compare(getCount(), other.getCount());
+        }
+        if (cmp == 0) {
+            cmp = getTarget().compareTo(other.getTarget());
+        }
+        if (cmp == 0) {
+            cmp = Integer.compare(getSerializerId(), other.getSerializerId());
+        }
+        if (cmp == 0) {
+            cmp = getManifest().compareTo(other.getManifest());
+        }
+        if (cmp == 0) {
+            cmp = compareBytes(getBytes(), other.getBytes());
+        }
+        return cmp;
+    }
+
+    /**
+     * Orders byte arrays the same way as {@link org.apache.commons.lang3.builder.CompareToBuilder}, first by length and
+     * then by the first differing byte.
+     */
+    private static int compareBytes(final byte[] a, final byte[] b) {
+        if (a.length != b.length) {
+            return a.length < b.length ? -1 : 1;
+        }
+        for (int index = 0; index < a.length; index++) {
+            if (a[index] != b[index]) {
+                return a[index] < b[index] ? -1 : 1;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(final Object other) {
+        if (other == this) {
+            return true;
+        } else if (!(other instanceof Chunk)) {
+            return false;
+        }
+        final Chunk chunk = (Chunk) other;
+        return hashCode() == chunk.hashCode() && compareTo(chunk) == 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        if (this.hashCode == 0) {
+            int hash = HashCodes.INITIAL;
+            hash = HashCodes.append(hash, getMessageId());
+            hash = HashCodes.append(hash, getIndex());
+            hash = HashCodes.append(hash, getCount());
+            hash = HashCodes.append(hash, getTarget());
+            hash = HashCodes.append(hash, getSerializerId());
+            hash = HashCodes.append(hash, getManifest());
+            hash = HashCodes.append(hash, getBytes());
+            this.hashCode = hash;
+        }
+        return this.hashCode;
+    }
+
+    /**
+     * Used to create {@link Chunk} instances.
+     */
+    public static class Builder implements BinaryModelBuilder<Chunk> {
+        private Optional<String> messageId = Optional.empty();
+        private Optional<Integer> index = Optional.empty();
+        private Optional<Integer> count = Optional.empty();
+        private Optional<String> target = Optional.empty();
+        private Optional<Integer> serializerId = Optional.empty();
+        private String manifest = "";
+        private Optional<byte[]> bytes = Optional.empty();
+
+        /**
+         * Default constructor.
+         */
+        public Builder() {
+        }
+
+        /**
+         * @param messageId the unique identifier of the message the chunk belongs to
+         * @return {@code this} for fluent-style usage
+         */
+        public Builder setMessageId(final String messageId) {
+            Objects.requireNonNull(messageId);
+            Preconditions.checkArgument(!StringUtils.isBlank(messageId), "Message id cannot be blank");
+            this.messageId = Optional.of(messageId);
+            return this;
+        }
+
+        /**
+         * @param index the position of the chunk within the message, starting from zero
+         * @return {@code this} for fluent-style usage
+         */
+        public Builder setIndex(final int index) {
+            Preconditions.checkArgument(index >= 0, "Index must not be negative");
+            this.index = Optional.of(index);
+            return this;
+        }
+
+        /**
+         * @param count the total number of chunks in the message
+         * @return {@code this} for fluent-style usage
+         */
+        public Builder setCount(final int count) {
+            Preconditions.checkArgument(count > 0, "Count must be positive");
+            this.count = Optional.of(count);
+            return this;
+        }
+
+        /**
+         * @param target the serialized path of the actor that will receive the reassembled message
+         * @return {@code this} for fluent-style usage
+         */
+        public Builder setTarget(final String target) {
+            Objects.requireNonNull(target);
+            Preconditions.checkArgument(!StringUtils.isBlank(target), "Target cannot be blank");
+            this.target = Optional.of(target);
+            return this;
+        }
+
+        /**
+         * @param serializerId the identifier of the serializer used to serialize the message
+         * @return {@code this} for fluent-style usage
+         */
+        public Builder setSerializerId(final int serializerId) {
+            this.serializerId = Optional.of(serializerId);
+            return this;
+        }
+
+        /**
+         * @param manifest the serialization manifest of the message, possibly empty
+         * @return {@code this} for fluent-style usage
+         */
+        public Builder setManifest(final String manifest) {
+            this.manifest = Objects.requireNonNull(manifest);
+            return this;
+        }
+
+        /**
+         * @param bytes the serialized bytes of the message held by the chunk, which are not copied
+         * @return {@code this} for fluent-style usage
+         */
+        public Builder setBytes(final byte[] bytes) {
+            this.bytes = Optional.of(Objects.requireNonNull(bytes));
+            return this;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Builder fromJson(final ManifestMapping mapping, final JsonObject json) {
+            if (json.has("messageId")) {
+                setMessageId(json.getAsJsonPrimitive("messageId").getAsString());
+            }
+            if (json.has("index")) {
+                setIndex(json.getAsJsonPrimitive("index").getAsInt());
+            }
+            if (json.has("count")) {
+                setCount(json.getAsJsonPrimitive("count").getAsInt());
+            }
+            if (json.has("target")) {
+                setTarget(json.getAsJsonPrimitive("target").getAsString());
+            }
+            if (json.has("serializerId")) {
+                setSerializerId(json.getAsJsonPrimitive("serializerId").getAsInt());
+            }
+            if (json.has("messageManifest")) {
+                setManifest(json.getAsJsonPrimitive("messageManifest").getAsString());
+            }
+            if (json.has("bytes")) {
+                setBytes(Base64.getDecoder().decode(json.getAsJsonPrimitive("bytes").getAsString()));
+            }
+            return this;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Builder fromJsonFields(final ManifestMapping mapping, final JsonReader reader) throws IOException {
+            while (reader.hasNext()) {
+                switch (reader.nextName()) {
+                    case "messageId":
+                        setMessageId(reader.nextString());
+                        break;
+                    case "index":
+                        setIndex(reader.nextInt());
+                        break;
+                    case "count":
+                        setCount(reader.nextInt());
+                        break;
+                    case "target":
+                        setTarget(reader.nextString());
+                        break;
+                    case "serializerId":
+                        setSerializerId(reader.nextInt());
+                        break;
+                    case "messageManifest":
+                        setManifest(reader.nextString());
+                        break;
+                    case "bytes":
+                        setBytes(Base64.getDecoder().decode(reader.nextString()));
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            }
+            return this;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Builder fromBinary(final ManifestMapping mapping, final BinaryReader reader) {
+            while (reader.hasRemaining()) {
+                final int tag = reader.readTag();
+                switch (BinaryReader.getFieldNumber(tag)) {
+                    case FIELD_MESSAGE_ID:
+                        setMessageId(reader.readString());
+                        break;
+                    case FIELD_INDEX:
+                        setIndex(reader.readVarInt());
+                        break;
+                    case FIELD_COUNT:
+                        setCount(reader.readVarInt());
+                        break;
+                    case FIELD_TARGET:
+                        setTarget(reader.readString());
+                        break;
+                    case FIELD_SERIALIZER_ID:
+                        setSerializerId(reader.readVarInt());
+                        break;
+                    case FIELD_MANIFEST:
+                        setManifest(reader.readString());
+                        break;
+                    case FIELD_BYTES:
+                        setBytes(reader.readBytes());
+                        break;
+                    default:
+                        reader.skip(tag);
+                }
+            }
+            return this;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Chunk build() {
+            if (!this.messageId.isPresent()) {
+                throw new IllegalStateException("A message id is required for chunk objects");
+            }
+            if (!this.index.isPresent() || !this.count.isPresent()) {
+                throw new IllegalStateException("An index and count are required for chunk objects");
+            }
+            if (this.index.get() >= this.count.get()) {
+                throw new IllegalStateException("The chunk index must be less than the count");
+            }
+            if (!this.target.isPresent()) {
+                throw new IllegalStateException("A target is required for chunk objects");
+            }
+            if (!this.serializerId.isPresent()) {
+                throw new IllegalStateException("A serializer id is required for chunk objects");
+            }
+            if (!this.bytes.isPresent()) {
+                throw new IllegalStateException("The bytes are required for chunk objects");
+            }
+
+            return new Chunk(this.messageId.get(), this.index.get(), this.count.get(), this.target.get(),
+                    this.serializerId.get(), this.manifest, this.bytes.get());
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String getSerializationManifest() {
+            return SERIALIZATION_MANIFEST;
+        }
+    }
+}
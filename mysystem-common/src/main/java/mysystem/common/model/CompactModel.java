@@ -0,0 +1,19 @@
+package mysystem.common.model;
+
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+
+/**
+ * This interface defines the functionality for model objects that support the compact JSON format in addition to the
+ * regular JSON format. Collections of model objects declare the serialization manifest of their elements once, and
+ * the elements themselves are written as positional arrays of field values without any field names.
+ */
+public interface CompactModel extends Model {
+    /**
+     * @param writer the {@link JsonWriter} to which the compact JSON representation of the model object will be
+     * written
+     * @throws IOException if there is a problem writing the model object
+     */
+    void toCompactJson(JsonWriter writer) throws IOException;
+}
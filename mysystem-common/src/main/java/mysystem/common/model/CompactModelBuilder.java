@@ -0,0 +1,22 @@
+package mysystem.common.model;
+
+import com.google.gson.stream.JsonReader;
+
+import mysystem.common.serialization.ManifestMapping;
+
+import java.io.IOException;
+
+/**
+ * This interface defines the functionality for model builders that support the compact JSON format in addition to the
+ * regular JSON format.
+ */
+public interface CompactModelBuilder<M extends CompactModel> extends ModelBuilder<M> {
+    /**
+     * @param mapping the {@link ManifestMapping} used to dynamically determine nested model classes
+     * @param reader the {@link JsonReader} positioned at the start of the compact JSON representation written by
+     * {@link CompactModel#toCompactJson(com.google.gson.stream.JsonWriter)}, which is consumed completely
+     * @return the builder itself for fluent-style usage
+     * @throws IOException if there is a problem reading the model object
+     */
+    CompactModelBuilder<M> fromCompactJson(ManifestMapping mapping, JsonReader reader) throws IOException;
+}
@@ -2,16 +2,23 @@ package mysystem.common.model;
 
 import com.google.common.base.Preconditions;
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
 
 import org.apache.commons.lang3.StringUtils;
-import org.apache.commons.lang3.builder.CompareToBuilder;
-import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 import org.apache.commons.lang3.builder.ToStringStyle;
 
+import mysystem.common.serialization.BinaryReader;
+import mysystem.common.serialization.BinaryWriter;
+import mysystem.common.serialization.JsonStreaming;
 import mysystem.common.serialization.ManifestMapping;
+import mysystem.common.serialization.SerializedForm;
+import mysystem.common.util.HashCodes;
 import mysystem.common.util.OptionalComparator;
 
+import java.io.IOException;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -20,13 +27,24 @@ import javax.annotation.Nullable;
 /**
  * An immutable representation of a company.
  */
-public class Company implements Model, HasOptionalId, HasActive, Comparable<Company> {
+public class Company
+        implements BinaryModel, CompactModel, MemoizedModel, HasOptionalId, HasActive, Comparable<Company> {
     private final static String SERIALIZATION_MANIFEST = Company.class.getSimpleName();
 
+    // The field numbers used in the binary format, which must never be reused for a different field.
+    private final static int FIELD_ID = 1;
+    private final static int FIELD_NAME = 2;
+    private final static int FIELD_ACTIVE = 3;
+
     private final Optional<Integer> id;
     private final String name;
     private final boolean active;
 
+    // Computed lazily and retained, since this model object is immutable. The serialized form is only created when
+    // this model object is serialized on its own, not when it is nested within another model object.
+    private volatile SerializedForm serializedForm = null;
+    private int hashCode = 0;
+
     /**
      * @param id the unique identifier of the company, possibly empty
      * @param name the unique name of the company
@@ -46,6 +64,20 @@ public class Company implements Model, HasOptionalId, HasActive, Comparable<Comp
         return SERIALIZATION_MANIFEST;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SerializedForm getSerializedForm() {
+        SerializedForm form = this.serializedForm;
+        if (form == null) {
+            // Concurrent callers may both create a form, which at worst loses the bytes retained by the other one.
+            form = new SerializedForm();
+            this.serializedForm = form;
+        }
+        return form;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -84,6 +116,49 @@ public class Company implements Model, HasOptionalId, HasActive, Comparable<Comp
         return json;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void toJson(final JsonWriter writer) throws IOException {
+        writer.beginObject();
+        writer.name(JsonStreaming.MANIFEST).value(getSerializationManifest());
+        if (getId().isPresent()) {
+            writer.name("id").value(getId().get());
+        }
+        writer.name("name").value(getName());
+        writer.name("active").value(isActive());
+        writer.endObject();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void toCompactJson(final JsonWriter writer) throws IOException {
+        writer.beginArray();
+        if (getId().isPresent()) {
+            writer.value(getId().get());
+        } else {
+            writer.nullValue();
+        }
+        writer.value(getName());
+        writer.value(isActive());
+        writer.endArray();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void writeBinary(final BinaryWriter writer) {
+        if (getId().isPresent()) {
+            writer.writeIntField(FIELD_ID, getId().get());
+        }
+        writer.writeStringField(FIELD_NAME, getName());
+        writer.writeBooleanField(FIELD_ACTIVE, isActive());
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -101,15 +176,20 @@ public class Company implements Model, HasOptionalId, HasActive, Comparable<Comp
      */
     @Override
     public int compareTo(@Nullable final Company other) {
-        if (other == null) {
+        if (other == this) {
+            return 0;
+        } else if (other == null) {
             return 1;
         }
 
-        final CompareToBuilder cmp = new CompareToBuilder();
-        cmp.append(getId(), other.getId(), new OptionalComparator());
-        cmp.append(getName(), other.getName());
-        cmp.append(isActive(), other.isActive());
-        return cmp.toComparison();
+        int cmp = OptionalComparator.compareValues(getId(), other.getId());
+        if (cmp == 0) {
+            cmp = getName().compareTo(other.getName());
+        }
+        if (cmp == 0) {
+            cmp = Boolean.compare(isActive(), other.isActive());
+        }
+        return cmp;
     }
 
     /**
@@ -117,7 +197,13 @@ public class Company implements Model, HasOptionalId, HasActive, Comparable<Comp
      */
     @Override
     public boolean equals(final Object other) {
-        return (other instanceof Company) && compareTo((Company) other) == 0;
+        if (other == this) {
+            return true;
+        } else if (!(other instanceof Company)) {
+            return false;
+        }
+        final Company company = (Company) other;
+        return hashCode() == company.hashCode() && compareTo(company) == 0;
     }
 
     /**
@@ -125,17 +211,20 @@ public class Company implements Model, HasOptionalId, HasActive, Comparable<Comp
      */
     @Override
     public int hashCode() {
-        final HashCodeBuilder hash = new HashCodeBuilder();
-        hash.append(getId());
-        hash.append(getName());
-        hash.append(isActive());
-        return hash.toHashCode();
+        if (this.hashCode == 0) {
+            int hash = HashCodes.INITIAL;
+            hash = HashCodes.append(hash, getId());
+            hash = HashCodes.append(hash, getName());
+            hash = HashCodes.append(hash, isActive());
+            this.hashCode = hash;
+        }
+        return this.hashCode;
     }
 
     /**
      * Used to create {@link Company} instances.
      */
-    public static class Builder implements ModelBuilder<Company> {
+    public static class Builder implements BinaryModelBuilder<Company>, CompactModelBuilder<Company> {
         private Optional<Integer> id = Optional.empty();
         private Optional<String> name = Optional.empty();
         private boolean active = true;
@@ -210,6 +299,74 @@ public class Company implements Model, HasOptionalId, HasActive, Comparable<Comp
             return this;
         }
 
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Builder fromJsonFields(final ManifestMapping mapping, final JsonReader reader) throws IOException {
+            while (reader.hasNext()) {
+                switch (reader.nextName()) {
+                    case "id":
+                        setId(reader.nextInt());
+                        break;
+                    case "name":
+                        setName(reader.nextString());
+                        break;
+                    case "active":
+                        setActive(reader.nextBoolean());
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            }
+            return this;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Builder fromCompactJson(final ManifestMapping mapping, final JsonReader reader) throws IOException {
+            reader.beginArray();
+            if (reader.peek() == JsonToken.NULL) {
+                reader.nextNull();
+            } else {
+                setId(reader.nextInt());
+            }
+            setName(reader.nextString());
+            setActive(reader.nextBoolean());
+            while (reader.hasNext()) {
+                // Values appended by newer versions are ignored.
+                reader.skipValue();
+            }
+            reader.endArray();
+            return this;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Builder fromBinary(final ManifestMapping mapping, final BinaryReader reader) {
+            while (reader.hasRemaining()) {
+                final int tag = reader.readTag();
+                switch (BinaryReader.getFieldNumber(tag)) {
+                    case FIELD_ID:
+                        setId(reader.readVarInt());
+                        break;
+                    case FIELD_NAME:
+                        setName(reader.readString());
+                        break;
+                    case FIELD_ACTIVE:
+                        setActive(reader.readBoolean());
+                        break;
+                    default:
+                        reader.skip(tag);
+                }
+            }
+            return this;
+        }
+
         /**
          * {@inheritDoc}
          */
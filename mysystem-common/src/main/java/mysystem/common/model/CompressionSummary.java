@@ -0,0 +1,323 @@
+package mysystem.common.model;
+
+import com.google.common.base.Preconditions;
+import com.google.gson.JsonObject;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+
+import mysystem.common.serialization.ManifestMapping;
+import mysystem.common.util.HashCodes;
+
+import java.util.Objects;
+
+import javax.annotation.Nullable;
+
+/**
+ * An immutable class that summarizes the compression and decompression performed by a serializer, used to tune the
+ * compression threshold.
+ */
+public class CompressionSummary implements Model, Comparable<CompressionSummary> {
+    private final static String SERIALIZATION_MANIFEST = CompressionSummary.class.getSimpleName();
+
+    private final long compressedCount;
+    private final long uncompressedBytes;
+    private final long compressedBytes;
+    private final long compressionNanos;
+    private final long decompressedCount;
+    private final long decompressionNanos;
+
+    private int hashCode = 0;
+
+    /**
+     * @param compressedCount the number of serialized model objects that were compressed
+     * @param uncompressedBytes the total number of bytes of the compressed model objects before compression
+     * @param compressedBytes the total number of bytes of the compressed model objects after compression
+     * @param compressionNanos the total CPU time spent compressing model objects, in nanoseconds
+     * @param decompressedCount the number of serialized model objects that were decompressed
+     * @param decompressionNanos the total CPU time spent decompressing model objects, in nanoseconds
+     */
+    private CompressionSummary(
+            final long compressedCount, final long uncompressedBytes, final long compressedBytes,
+            final long compressionNanos, final long decompressedCount, final long decompressionNanos) {
+        this.compressedCount = compressedCount;
+        this.uncompressedBytes = uncompressedBytes;
+        this.compressedBytes = compressedBytes;
+        this.compressionNanos = compressionNanos;
+        this.decompressedCount = decompressedCount;
+        this.decompressionNanos = decompressionNanos;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getSerializationManifest() {
+        return SERIALIZATION_MANIFEST;
+    }
+
+    /**
+     * @return the number of serialized model objects that were compressed
+     */
+    public long getCompressedCount() {
+        return this.compressedCount;
+    }
+
+    /**
+     * @return the total number of bytes of the compressed model objects before compression
+     */
+    public long getUncompressedBytes() {
+        return this.uncompressedBytes;
+    }
+
+    /**
+     * @return the total number of bytes of the compressed model objects after compression
+     */
+    public long getCompressedBytes() {
+        return this.compressedBytes;
+    }
+
+    /**
+     * @return the total CPU time spent compressing model objects, in nanoseconds
+     */
+    public long getCompressionNanos() {
+        return this.compressionNanos;
+    }
+
+    /**
+     * @return the number of serialized model objects that were decompressed
+     */
+    public long getDecompressedCount() {
+        return this.decompressedCount;
+    }
+
+    /**
+     * @return the total CPU time spent decompressing model objects, in nanoseconds
+     */
+    public long getDecompressionNanos() {
+        return this.decompressionNanos;
+    }
+
+    /**
+     * @return the ratio of the uncompressed size to the compressed size of the compressed model objects, or 1 when no
+     * model objects have been compressed
+     */
+    public double getCompressionRatio() {
+        return getCompressedBytes() == 0 ? 1 : (double) getUncompressedBytes() / getCompressedBytes();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public JsonObject toJson() {
+        final JsonObject json = new JsonObject();
+        json.addProperty("compressedCount", getCompressedCount());
+        json.addProperty("uncompressedBytes", getUncompressedBytes());
+        json.addProperty("compressedBytes", getCompressedBytes());
+        json.addProperty("compressionNanos", getCompressionNanos());
+        json.addProperty("decompressedCount", getDecompressedCount());
+        json.addProperty("decompressionNanos", getDecompressionNanos());
+        json.addProperty("manifest", getSerializationManifest());
+        return json;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        final ToStringBuilder str = new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE);
+        str.append("compressedCount", getCompressedCount());
+        str.append("uncompressedBytes", getUncompressedBytes());
+        str.append("compressedBytes", getCompressedBytes());
+        str.append("compressionNanos", getCompressionNanos());
+        str.append("decompressedCount", getDecompressedCount());
+        str.append("decompressionNanos", getDecompressionNanos());
+        return str.build();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int compareTo(@Nullable final CompressionSummary other) {
+        if (other == this) {
+            return 0;
+        } else if (other == null) {
+            return 1;
+        }
+
+        int cmp = Long.compare(getCompressedCount(), other.getCompressedCount());
+        if (cmp == 0) {
+            cmp = Long.compare(getUncompressedBytes(), other.getUncompressedBytes());
+        }
+        if (cmp == 0) {
+            cmp = Long.compare(getCompressedBytes(), other.getCompressedBytes());
+        }
+        if (cmp == 0) {
+            cmp = Long.compare(getCompressionNanos(), other.getCompressionNanos());
+        }
+        if (cmp == 0) {
+            cmp = Long.compare(getDecompressedCount(), other.getDecompressedCount());
+        }
+        if (cmp == 0) {
+            cmp = Long.compare(getDecompressionNanos(), other.getDecompressionNanos());
+        }
+        return cmp;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(final Object other) {
+        if (other == this) {
+            return true;
+        } else if (!(other instanceof CompressionSummary)) {
+            return false;
+        }
+        final CompressionSummary compressionSummary = (CompressionSummary) other;
+        return hashCode() == compressionSummary.hashCode() && compareTo(compressionSummary) == 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        if (this.hashCode == 0) {
+            int hash = HashCodes.INITIAL;
+            hash = HashCodes.append(hash, getCompressedCount());
+            hash = HashCodes.append(hash, getUncompressedBytes());
+            hash = HashCodes.append(hash, getCompressedBytes());
+            hash = HashCodes.append(hash, getCompressionNanos());
+            hash = HashCodes.append(hash, getDecompressedCount());
+            hash = HashCodes.append(hash, getDecompressionNanos());
+            this.hashCode = hash;
+        }
+        return this.hashCode;
+    }
+
+    /**
+     * Used to create {@link CompressionSummary} instances.
+     */
+    public static class Builder implements ModelBuilder<CompressionSummary> {
+        private long compressedCount = 0;
+        private long uncompressedBytes = 0;
+        private long compressedBytes = 0;
+        private long compressionNanos = 0;
+        private long decompressedCount = 0;
+        private long decompressionNanos = 0;
+
+        /**
+         * Default constructor.
+         */
+        public Builder() {
+        }
+
+        /**
+         * @param compressedCount the number of serialized model objects that were compressed
+         * @return {@code this} for fluent-style usage
+         */
+        public Builder setCompressedCount(final long compressedCount) {
+            Preconditions.checkArgument(compressedCount >= 0, "Compressed count cannot be negative");
+            this.compressedCount = compressedCount;
+            return this;
+        }
+
+        /**
+         * @param uncompressedBytes the total number of bytes of the compressed model objects before compression
+         * @return {@code this} for fluent-style usage
+         */
+        public Builder setUncompressedBytes(final long uncompressedBytes) {
+            Preconditions.checkArgument(uncompressedBytes >= 0, "Uncompressed bytes cannot be negative");
+            this.uncompressedBytes = uncompressedBytes;
+            return this;
+        }
+
+        /**
+         * @param compressedBytes the total number of bytes of the compressed model objects after compression
+         * @return {@code this} for fluent-style usage
+         */
+        public Builder setCompressedBytes(final long compressedBytes) {
+            Preconditions.checkArgument(compressedBytes >= 0, "Compressed bytes cannot be negative");
+            this.compressedBytes = compressedBytes;
+            return this;
+        }
+
+        /**
+         * @param compressionNanos the total CPU time spent compressing model objects, in nanoseconds
+         * @return {@code this} for fluent-style usage
+         */
+        public Builder setCompressionNanos(final long compressionNanos) {
+            Preconditions.checkArgument(compressionNanos >= 0, "Compression nanos cannot be negative");
+            this.compressionNanos = compressionNanos;
+            return this;
+        }
+
+        /**
+         * @param decompressedCount the number of serialized model objects that were decompressed
+         * @return {@code this} for fluent-style usage
+         */
+        public Builder setDecompressedCount(final long decompressedCount) {
+            Preconditions.checkArgument(decompressedCount >= 0, "Decompressed count cannot be negative");
+            this.decompressedCount = decompressedCount;
+            return this;
+        }
+
+        /**
+         * @param decompressionNanos the total CPU time spent decompressing model objects, in nanoseconds
+         * @return {@code this} for fluent-style usage
+         */
+        public Builder setDecompressionNanos(final long decompressionNanos) {
+            Preconditions.checkArgument(decompressionNanos >= 0, "Decompression nanos cannot be negative");
+            this.decompressionNanos = decompressionNanos;
+            return this;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Builder fromJson(final ManifestMapping mapping, final JsonObject json) {
+            Objects.requireNonNull(json);
+            if (json.has("compressedCount")) {
+                setCompressedCount(json.getAsJsonPrimitive("compressedCount").getAsLong());
+            }
+            if (json.has("uncompressedBytes")) {
+                setUncompressedBytes(json.getAsJsonPrimitive("uncompressedBytes").getAsLong());
+            }
+            if (json.has("compressedBytes")) {
+                setCompressedBytes(json.getAsJsonPrimitive("compressedBytes").getAsLong());
+            }
+            if (json.has("compressionNanos")) {
+                setCompressionNanos(json.getAsJsonPrimitive("compressionNanos").getAsLong());
+            }
+            if (json.has("decompressedCount")) {
+                setDecompressedCount(json.getAsJsonPrimitive("decompressedCount").getAsLong());
+            }
+            if (json.has("decompressionNanos")) {
+                setDecompressionNanos(json.getAsJsonPrimitive("decompressionNanos").getAsLong());
+            }
+            return this;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public CompressionSummary build() {
+            return new CompressionSummary(this.compressedCount, this.uncompressedBytes, this.compressedBytes,
+                    this.compressionNanos, this.decompressedCount, this.decompressionNanos);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String getSerializationManifest() {
+            return SERIALIZATION_MANIFEST;
+        }
+    }
+}
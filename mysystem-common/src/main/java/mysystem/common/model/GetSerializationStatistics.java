@@ -0,0 +1,127 @@
+package mysystem.common.model;
+
+import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import mysystem.common.serialization.JsonStreaming;
+import mysystem.common.serialization.ManifestMapping;
+
+import java.io.IOException;
+
+import javax.annotation.Nullable;
+
+/**
+ * An immutable object used to request the serialization statistics of a node in the cluster.
+ */
+public class GetSerializationStatistics implements Model, Comparable<GetSerializationStatistics> {
+    private final static String SERIALIZATION_MANIFEST = GetSerializationStatistics.class.getSimpleName();
+
+    /**
+     * Default constructor.
+     */
+    private GetSerializationStatistics() {
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getSerializationManifest() {
+        return SERIALIZATION_MANIFEST;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public JsonObject toJson() {
+        final JsonObject json = new JsonObject();
+        json.addProperty("manifest", getSerializationManifest());
+        return json;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void toJson(final JsonWriter writer) throws IOException {
+        writer.beginObject();
+        writer.name(JsonStreaming.MANIFEST).value(getSerializationManifest());
+        writer.endObject();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return getClass().getName();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int compareTo(@Nullable final GetSerializationStatistics other) {
+        return (other == null) ? 1 : 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(final Object other) {
+        return other instanceof GetSerializationStatistics;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return getClass().getName().hashCode();
+    }
+
+    /**
+     * Used to create {@link GetSerializationStatistics} objects.
+     */
+    public static class Builder implements ModelBuilder<GetSerializationStatistics> {
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Builder fromJson(final ManifestMapping mapping, final JsonObject json) {
+            // No need to do anything with the json object.
+            return this;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Builder fromJsonFields(final ManifestMapping mapping, final JsonReader reader) throws IOException {
+            while (reader.hasNext()) {
+                reader.nextName();
+                reader.skipValue();
+            }
+            return this;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public GetSerializationStatistics build() {
+            return new GetSerializationStatistics();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String getSerializationManifest() {
+            return SERIALIZATION_MANIFEST;
+        }
+    }
+}
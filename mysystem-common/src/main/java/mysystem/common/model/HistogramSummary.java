@@ -0,0 +1,320 @@
+package mysystem.common.model;
+
+import com.google.common.base.Preconditions;
+import com.google.gson.JsonObject;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+
+import mysystem.common.serialization.ManifestMapping;
+import mysystem.common.util.HashCodes;
+
+import java.util.Objects;
+
+import javax.annotation.Nullable;
+
+/**
+ * An immutable class that summarizes the values recorded in a histogram, where the percentiles are the upper bounds of
+ * the power-of-two buckets containing them.
+ */
+public class HistogramSummary implements Model, Comparable<HistogramSummary> {
+    private final static String SERIALIZATION_MANIFEST = HistogramSummary.class.getSimpleName();
+
+    private final long count;
+    private final long sum;
+    private final long max;
+    private final long p50;
+    private final long p90;
+    private final long p99;
+
+    private int hashCode = 0;
+
+    /**
+     * @param count the number of values recorded
+     * @param sum the sum of the values recorded
+     * @param max the largest value recorded
+     * @param p50 the median of the values recorded
+     * @param p90 the 90th percentile of the values recorded
+     * @param p99 the 99th percentile of the values recorded
+     */
+    private HistogramSummary(
+            final long count, final long sum, final long max, final long p50, final long p90, final long p99) {
+        this.count = count;
+        this.sum = sum;
+        this.max = max;
+        this.p50 = p50;
+        this.p90 = p90;
+        this.p99 = p99;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getSerializationManifest() {
+        return SERIALIZATION_MANIFEST;
+    }
+
+    /**
+     * @return the number of values recorded
+     */
+    public long getCount() {
+        return this.count;
+    }
+
+    /**
+     * @return the sum of the values recorded
+     */
+    public long getSum() {
+        return this.sum;
+    }
+
+    /**
+     * @return the largest value recorded
+     */
+    public long getMax() {
+        return this.max;
+    }
+
+    /**
+     * @return the median of the values recorded
+     */
+    public long getP50() {
+        return this.p50;
+    }
+
+    /**
+     * @return the 90th percentile of the values recorded
+     */
+    public long getP90() {
+        return this.p90;
+    }
+
+    /**
+     * @return the 99th percentile of the values recorded
+     */
+    public long getP99() {
+        return this.p99;
+    }
+
+    /**
+     * @return the mean of the values recorded, or zero when no values have been recorded
+     */
+    public double getMean() {
+        return getCount() == 0 ? 0 : (double) getSum() / getCount();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public JsonObject toJson() {
+        final JsonObject json = new JsonObject();
+        json.addProperty("count", getCount());
+        json.addProperty("sum", getSum());
+        json.addProperty("max", getMax());
+        json.addProperty("p50", getP50());
+        json.addProperty("p90", getP90());
+        json.addProperty("p99", getP99());
+        json.addProperty("manifest", getSerializationManifest());
+        return json;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        final ToStringBuilder str = new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE);
+        str.append("count", getCount());
+        str.append("sum", getSum());
+        str.append("max", getMax());
+        str.append("p50", getP50());
+        str.append("p90", getP90());
+        str.append("p99", getP99());
+        return str.build();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int compareTo(@Nullable final HistogramSummary other) {
+        if (other == this) {
+            return 0;
+        } else if (other == null) {
+            return 1;
+        }
+
+        int cmp = Long.compare(getCount(), other.getCount());
+        if (cmp == 0) {
+            cmp = Long.compare(getSum(), other.getSum());
+        }
+        if (cmp == 0) {
+            cmp = Long.compare(getMax(), other.getMax());
+        }
+        if (cmp == 0) {
+            cmp = Long.compare(getP50(), other.getP50());
+        }
+        if (cmp == 0) {
+            cmp = Long.compare(getP90(), other.getP90());
+        }
+        if (cmp == 0) {
+            cmp = Long.compare(getP99(), other.getP99());
+        }
+        return cmp;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(final Object other) {
+        if (other == this) {
+            return true;
+        } else if (!(other instanceof HistogramSummary)) {
+            return false;
+        }
+        final HistogramSummary histogramSummary = (HistogramSummary) other;
+        return hashCode() == histogramSummary.hashCode() && compareTo(histogramSummary) == 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        if (this.hashCode == 0) {
+            int hash = HashCodes.INITIAL;
+            hash = HashCodes.append(hash, getCount());
+            hash = HashCodes.append(hash, getSum());
+            hash = HashCodes.append(hash, getMax());
+            hash = HashCodes.append(hash, getP50());
+            hash = HashCodes.append(hash, getP90());
+            hash = HashCodes.append(hash, getP99());
+            this.hashCode = hash;
+        }
+        return this.hashCode;
+    }
+
+    /**
+     * Used to create {@link HistogramSummary} instances.
+     */
+    public static class Builder implements ModelBuilder<HistogramSummary> {
+        private long count = 0;
+        private long sum = 0;
+        private long max = 0;
+        private long p50 = 0;
+        private long p90 = 0;
+        private long p99 = 0;
+
+        /**
+         * Default constructor.
+         */
+        public Builder() {
+        }
+
+        /**
+         * @param count the number of values recorded
+         * @return {@code this} for fluent-style usage
+         */
+        public Builder setCount(final long count) {
+            Preconditions.checkArgument(count >= 0, "Count cannot be negative");
+            this.count = count;
+            return this;
+        }
+
+        /**
+         * @param sum the sum of the values recorded
+         * @return {@code this} for fluent-style usage
+         */
+        public Builder setSum(final long sum) {
+            Preconditions.checkArgument(sum >= 0, "Sum cannot be negative");
+            this.sum = sum;
+            return this;
+        }
+
+        /**
+         * @param max the largest value recorded
+         * @return {@code this} for fluent-style usage
+         */
+        public Builder setMax(final long max) {
+            Preconditions.checkArgument(max >= 0, "Max cannot be negative");
+            this.max = max;
+            return this;
+        }
+
+        /**
+         * @param p50 the median of the values recorded
+         * @return {@code this} for fluent-style usage
+         */
+        public Builder setP50(final long p50) {
+            Preconditions.checkArgument(p50 >= 0, "Percentiles cannot be negative");
+            this.p50 = p50;
+            return this;
+        }
+
+        /**
+         * @param p90 the 90th percentile of the values recorded
+         * @return {@code this} for fluent-style usage
+         */
+        public Builder setP90(final long p90) {
+            Preconditions.checkArgument(p90 >= 0, "Percentiles cannot be negative");
+            this.p90 = p90;
+            return this;
+        }
+
+        /**
+         * @param p99 the 99th percentile of the values recorded
+         * @return {@code this} for fluent-style usage
+         */
+        public Builder setP99(final long p99) {
+            Preconditions.checkArgument(p99 >= 0, "Percentiles cannot be negative");
+            this.p99 = p99;
+            return this;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Builder fromJson(final ManifestMapping mapping, final JsonObject json) {
+            Objects.requireNonNull(json);
+            if (json.has("count")) {
+                setCount(json.getAsJsonPrimitive("count").getAsLong());
+            }
+            if (json.has("sum")) {
+                setSum(json.getAsJsonPrimitive("sum").getAsLong());
+            }
+            if (json.has("max")) {
+                setMax(json.getAsJsonPrimitive("max").getAsLong());
+            }
+            if (json.has("p50")) {
+                setP50(json.getAsJsonPrimitive("p50").getAsLong());
+            }
+            if (json.has("p90")) {
+                setP90(json.getAsJsonPrimitive("p90").getAsLong());
+            }
+            if (json.has("p99")) {
+                setP99(json.getAsJsonPrimitive("p99").getAsLong());
+            }
+            return this;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public HistogramSummary build() {
+            return new HistogramSummary(this.count, this.sum, this.max, this.p50, this.p90, this.p99);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String getSerializationManifest() {
+            return SERIALIZATION_MANIFEST;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package mysystem.common.model;
+
+import mysystem.common.serialization.SerializedForm;
+
+import java.util.function.Supplier;
+
+/**
+ * This interface defines the functionality for model builders able to create model objects that are only decoded
+ * from their serialized bytes when their contents are first needed. Model objects that are received and forwarded
+ * without being inspected are then never decoded, and are sent on using the bytes they were received with.
+ */
+public interface LazyModelBuilder<M extends MemoizedModel> extends ModelBuilder<M> {
+    /**
+     * @param serializedForm the {@link SerializedForm} holding the serialized bytes from which the model object was
+     * received
+     * @param decoder used to decode the serialized bytes into a fully populated model object when first needed
+     * @return a model object that decodes the serialized bytes only when its contents are first accessed
+     */
+    M buildLazily(SerializedForm serializedForm, Supplier<M> decoder);
+}
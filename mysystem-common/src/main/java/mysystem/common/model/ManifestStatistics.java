@@ -0,0 +1,337 @@
+package mysystem.common.model;
+
+import com.google.common.base.Preconditions;
+import com.google.gson.JsonObject;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+
+import mysystem.common.serialization.ManifestMapping;
+import mysystem.common.util.HashCodes;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import javax.annotation.Nullable;
+
+/**
+ * An immutable class that describes the serialization performed by a serializer for a single type of model object.
+ */
+public class ManifestStatistics implements Model, Comparable<ManifestStatistics> {
+    private final static String SERIALIZATION_MANIFEST = ManifestStatistics.class.getSimpleName();
+
+    private final String serializer;
+    private final String manifest;
+    private final HistogramSummary serializedBytes;
+    private final HistogramSummary deserializedBytes;
+    private final HistogramSummary encodeNanos;
+    private final HistogramSummary decodeNanos;
+
+    private int hashCode = 0;
+
+    /**
+     * @param serializer the name of the serializer that performed the serialization
+     * @param manifest the manifest of the model objects serialized
+     * @param serializedBytes the sizes of the serialized bytes produced when sending model objects
+     * @param deserializedBytes the sizes of the serialized bytes received when deserializing model objects
+     * @param encodeNanos the times spent serializing model objects, in nanoseconds
+     * @param decodeNanos the times spent decoding model objects, in nanoseconds
+     */
+    private ManifestStatistics(
+            final String serializer, final String manifest, final HistogramSummary serializedBytes,
+            final HistogramSummary deserializedBytes, final HistogramSummary encodeNanos,
+            final HistogramSummary decodeNanos) {
+        this.serializer = serializer;
+        this.manifest = manifest;
+        this.serializedBytes = serializedBytes;
+        this.deserializedBytes = deserializedBytes;
+        this.encodeNanos = encodeNanos;
+        this.decodeNanos = decodeNanos;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getSerializationManifest() {
+        return SERIALIZATION_MANIFEST;
+    }
+
+    /**
+     * @return the name of the serializer that performed the serialization
+     */
+    public String getSerializer() {
+        return this.serializer;
+    }
+
+    /**
+     * @return the manifest of the model objects serialized
+     */
+    public String getManifest() {
+        return this.manifest;
+    }
+
+    /**
+     * @return the sizes of the serialized bytes produced when sending model objects
+     */
+    public HistogramSummary getSerializedBytes() {
+        return this.serializedBytes;
+    }
+
+    /**
+     * @return the sizes of the serialized bytes received when deserializing model objects
+     */
+    public HistogramSummary getDeserializedBytes() {
+        return this.deserializedBytes;
+    }
+
+    /**
+     * @return the times spent serializing model objects, in nanoseconds
+     */
+    public HistogramSummary getEncodeNanos() {
+        return this.encodeNanos;
+    }
+
+    /**
+     * @return the times spent decoding model objects, in nanoseconds
+     */
+    public HistogramSummary getDecodeNanos() {
+        return this.decodeNanos;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public JsonObject toJson() {
+        final JsonObject json = new JsonObject();
+        json.addProperty("serializer", getSerializer());
+        json.addProperty("messageManifest", getManifest());
+        json.add("serializedBytes", getSerializedBytes().toJson());
+        json.add("deserializedBytes", getDeserializedBytes().toJson());
+        json.add("encodeNanos", getEncodeNanos().toJson());
+        json.add("decodeNanos", getDecodeNanos().toJson());
+        json.addProperty("manifest", getSerializationManifest());
+        return json;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        final ToStringBuilder str = new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE);
+        str.append("serializer", getSerializer());
+        str.append("manifest", getManifest());
+        str.append("serializedBytes", getSerializedBytes());
+        str.append("deserializedBytes", getDeserializedBytes());
+        str.append("encodeNanos", getEncodeNanos());
+        str.append("decodeNanos", getDecodeNanos());
+        return str.build();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int compareTo(@Nullable final ManifestStatistics other) {
+        if (other == this) {
+            return 0;
+        } else if (other == null) {
+            return 1;
+        }
+
+        int cmp = getSerializer().compareTo(other.getSerializer());
+        if (cmp == 0) {
+            cmp = getManifest().compareTo(other.getManifest());
+        }
+        if (cmp == 0) {
+            cmp = getSerializedBytes().compareTo(other.getSerializedBytes());
+        }
+        if (cmp == 0) {
+            cmp = getDeserializedBytes().compareTo(other.getDeserializedBytes());
+        }
+        if (cmp == 0) {
+            cmp = getEncodeNanos().compareTo(other.getEncodeNanos());
+        }
+        if (cmp == 0) {
+            cmp = getDecodeNanos().compareTo(other.getDecodeNanos());
+        }
+        return cmp;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(final Object other) {
+        if (other == this) {
+            return true;
+        } else if (!(other instanceof ManifestStatistics)) {
+            return false;
+        }
+        final ManifestStatistics manifestStatistics = (ManifestStatistics) other;
+        return hashCode() == manifestStatistics.hashCode() && compareTo(manifestStatistics) == 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        if (this.hashCode == 0) {
+            int hash = HashCodes.INITIAL;
+            hash = HashCodes.append(hash, getSerializer());
+            hash = HashCodes.append(hash, getManifest());
+            hash = HashCodes.append(hash, getSerializedBytes());
+            hash = HashCodes.append(hash, getDeserializedBytes());
+            hash = HashCodes.append(hash, getEncodeNanos());
+            hash = HashCodes.append(hash, getDecodeNanos());
+            this.hashCode = hash;
+        }
+        return this.hashCode;
+    }
+
+    /**
+     * Used to create {@link ManifestStatistics} instances.
+     */
+    public static class Builder implements ModelBuilder<ManifestStatistics> {
+        private final static HistogramSummary EMPTY = new HistogramSummary.Builder().build();
+
+        private Optional<String> serializer = Optional.empty();
+        private Optional<String> manifest = Optional.empty();
+        private HistogramSummary serializedBytes = EMPTY;
+        private HistogramSummary deserializedBytes = EMPTY;
+        private HistogramSummary encodeNanos = EMPTY;
+        private HistogramSummary decodeNanos = EMPTY;
+
+        /**
+         * Default constructor.
+         */
+        public Builder() {
+        }
+
+        /**
+         * @param serializer the name of the serializer that performed the serialization
+         * @param manifest the manifest of the model objects serialized
+         */
+        public Builder(final String serializer, final String manifest) {
+            setSerializer(serializer);
+            setManifest(manifest);
+        }
+
+        /**
+         * @param serializer the name of the serializer that performed the serialization
+         * @return {@code this} for fluent-style usage
+         */
+        public Builder setSerializer(final String serializer) {
+            Objects.requireNonNull(serializer);
+            Preconditions.checkArgument(!StringUtils.isBlank(serializer), "Serializer cannot be blank");
+            this.serializer = Optional.of(serializer);
+            return this;
+        }
+
+        /**
+         * @param manifest the manifest of the model objects serialized
+         * @return {@code this} for fluent-style usage
+         */
+        public Builder setManifest(final String manifest) {
+            Objects.requireNonNull(manifest);
+            Preconditions.checkArgument(!StringUtils.isBlank(manifest), "Manifest cannot be blank");
+            this.manifest = Optional.of(manifest);
+            return this;
+        }
+
+        /**
+         * @param serializedBytes the sizes of the serialized bytes produced when sending model objects
+         * @return {@code this} for fluent-style usage
+         */
+        public Builder setSerializedBytes(final HistogramSummary serializedBytes) {
+            this.serializedBytes = Objects.requireNonNull(serializedBytes);
+            return this;
+        }
+
+        /**
+         * @param deserializedBytes the sizes of the serialized bytes received when deserializing model objects
+         * @return {@code this} for fluent-style usage
+         */
+        public Builder setDeserializedBytes(final HistogramSummary deserializedBytes) {
+            this.deserializedBytes = Objects.requireNonNull(deserializedBytes);
+            return this;
+        }
+
+        /**
+         * @param encodeNanos the times spent serializing model objects, in nanoseconds
+         * @return {@code this} for fluent-style usage
+         */
+        public Builder setEncodeNanos(final HistogramSummary encodeNanos) {
+            this.encodeNanos = Objects.requireNonNull(encodeNanos);
+            return this;
+        }
+
+        /**
+         * @param decodeNanos the times spent decoding model objects, in nanoseconds
+         * @return {@code this} for fluent-style usage
+         */
+        public Builder setDecodeNanos(final HistogramSummary decodeNanos) {
+            this.decodeNanos = Objects.requireNonNull(decodeNanos);
+            return this;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Builder fromJson(final ManifestMapping mapping, final JsonObject json) {
+            Objects.requireNonNull(json);
+            if (json.has("serializer")) {
+                setSerializer(json.getAsJsonPrimitive("serializer").getAsString());
+            }
+            if (json.has("messageManifest")) {
+                setManifest(json.getAsJsonPrimitive("messageManifest").getAsString());
+            }
+            if (json.has("serializedBytes")) {
+                setSerializedBytes(getSummary(mapping, json.getAsJsonObject("serializedBytes")));
+            }
+            if (json.has("deserializedBytes")) {
+                setDeserializedBytes(getSummary(mapping, json.getAsJsonObject("deserializedBytes")));
+            }
+            if (json.has("encodeNanos")) {
+                setEncodeNanos(getSummary(mapping, json.getAsJsonObject("encodeNanos")));
+            }
+            if (json.has("decodeNanos")) {
+                setDecodeNanos(getSummary(mapping, json.getAsJsonObject("decodeNanos")));
+            }
+            return this;
+        }
+
+        private HistogramSummary getSummary(final ManifestMapping mapping, final JsonObject json) {
+            return new HistogramSummary.Builder().fromJson(mapping, json).build();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public ManifestStatistics build() {
+            if (!this.serializer.isPresent()) {
+                throw new IllegalStateException("Serializer is required");
+            }
+            if (!this.manifest.isPresent()) {
+                throw new IllegalStateException("Manifest is required");
+            }
+
+            return new ManifestStatistics(this.serializer.get(), this.manifest.get(), this.serializedBytes,
+                    this.deserializedBytes, this.encodeNanos, this.decodeNanos);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String getSerializationManifest() {
+            return SERIALIZATION_MANIFEST;
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package mysystem.common.model;
+
+import mysystem.common.serialization.SerializedForm;
+
+/**
+ * This interface defines the functionality for immutable model objects that retain their serialized bytes, so that
+ * the model object is only serialized once no matter how many times it is sent.
+ */
+public interface MemoizedModel extends Model {
+    /**
+     * @return the {@link SerializedForm} holding the serialized bytes of this model object
+     */
+    SerializedForm getSerializedForm();
+}
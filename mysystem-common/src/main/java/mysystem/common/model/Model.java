@@ -1,6 +1,11 @@
 package mysystem.common.model;
 
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonWriter;
+
+import mysystem.common.serialization.JsonStreaming;
+
+import java.io.IOException;
 
 /**
  * This interface defines the required functionality for model objects in this system.
@@ -15,4 +20,13 @@ public interface Model {
      * @return a JSON representation of the model object used for serialization
      */
     JsonObject toJson();
+
+    /**
+     * @param writer the {@link JsonWriter} to which a JSON object representing the model object is streamed, with the
+     * serialization manifest written as the first field
+     * @throws IOException if there is a problem writing the JSON object
+     */
+    default void toJson(final JsonWriter writer) throws IOException {
+        JsonStreaming.writeObject(writer, getSerializationManifest(), toJson());
+    }
 }
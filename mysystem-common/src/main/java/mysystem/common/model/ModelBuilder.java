@@ -1,9 +1,13 @@
 package mysystem.common.model;
 
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
 
+import mysystem.common.serialization.JsonStreaming;
 import mysystem.common.serialization.ManifestMapping;
 
+import java.io.IOException;
+
 /**
  * This interface is a marker for model builder objects in this system.
  */
@@ -20,6 +24,18 @@ public interface ModelBuilder<M extends Model> {
      */
     ModelBuilder<M> fromJson(ManifestMapping mapping, JsonObject json);
 
+    /**
+     * @param mapping the {@link ManifestMapping} used to dynamically determine model classes
+     * @param reader the {@link JsonReader} positioned within the JSON object from which the model object will be built,
+     * after the opening brace, where the remaining fields are consumed up to but not including the closing brace
+     * @return the builder itself for fluent-style usage
+     * @throws IOException if there is a problem reading the JSON object
+     */
+    default ModelBuilder<M> fromJsonFields(final ManifestMapping mapping, final JsonReader reader)
+            throws IOException {
+        return fromJson(mapping, JsonStreaming.readFields(reader));
+    }
+
     /**
      * @return the model object represented by the current state of the builder
      */
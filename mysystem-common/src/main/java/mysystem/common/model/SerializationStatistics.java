@@ -0,0 +1,256 @@
+package mysystem.common.model;
+
+import com.google.common.base.Preconditions;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+
+import mysystem.common.serialization.ManifestMapping;
+import mysystem.common.util.CollectionComparator;
+import mysystem.common.util.HashCodes;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+import javax.annotation.Nullable;
+
+/**
+ * An immutable class that describes the serialization performed by the serializers on a node in the cluster, for
+ * each type of model object, along with the compression performed by the serializers.
+ */
+public class SerializationStatistics implements Model, Comparable<SerializationStatistics> {
+    private final static String SERIALIZATION_MANIFEST = SerializationStatistics.class.getSimpleName();
+
+    private final String address;
+    private final SortedSet<ManifestStatistics> manifests = new TreeSet<>();
+    private final CompressionSummary compression;
+
+    private int hashCode = 0;
+
+    /**
+     * @param address the address of the node on which the serialization was performed
+     * @param manifests the statistics for each serializer and type of model object
+     * @param compression the summary of the compression performed by the serializers
+     */
+    private SerializationStatistics(
+            final String address, final SortedSet<ManifestStatistics> manifests,
+            final CompressionSummary compression) {
+        this.address = address;
+        this.manifests.addAll(manifests);
+        this.compression = compression;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getSerializationManifest() {
+        return SERIALIZATION_MANIFEST;
+    }
+
+    /**
+     * @return the address of the node on which the serialization was performed
+     */
+    public String getAddress() {
+        return this.address;
+    }
+
+    /**
+     * @return an unmodifiable set containing the statistics for each serializer and type of model object
+     */
+    public SortedSet<ManifestStatistics> getManifests() {
+        return Collections.unmodifiableSortedSet(this.manifests);
+    }
+
+    /**
+     * @return the summary of the compression performed by the serializers
+     */
+    public CompressionSummary getCompression() {
+        return this.compression;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public JsonObject toJson() {
+        final JsonArray manifestArr = new JsonArray();
+        getManifests().forEach(m -> manifestArr.add(m.toJson()));
+
+        final JsonObject json = new JsonObject();
+        json.addProperty("address", getAddress());
+        json.add("manifests", manifestArr);
+        json.add("compression", getCompression().toJson());
+        json.addProperty("manifest", getSerializationManifest());
+        return json;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        final ToStringBuilder str = new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE);
+        str.append("address", getAddress());
+        str.append("manifests", getManifests());
+        str.append("compression", getCompression());
+        return str.build();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int compareTo(@Nullable final SerializationStatistics other) {
+        if (other == this) {
+            return 0;
+        } else if (other == null) {
+            return 1;
+        }
+
+        int cmp = getAddress().compareTo(other.getAddress());
+        if (cmp == 0) {
+            cmp = CollectionComparator.compareValues(getManifests(), other.getManifests());
+        }
+        if (cmp == 0) {
+            cmp = getCompression().compareTo(other.getCompression());
+        }
+        return cmp;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(final Object other) {
+        if (other == this) {
+            return true;
+        } else if (!(other instanceof SerializationStatistics)) {
+            return false;
+        }
+        final SerializationStatistics serializationStatistics = (SerializationStatistics) other;
+        return hashCode() == serializationStatistics.hashCode() && compareTo(serializationStatistics) == 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        if (this.hashCode == 0) {
+            int hash = HashCodes.INITIAL;
+            hash = HashCodes.append(hash, getAddress());
+            hash = HashCodes.append(hash, getManifests());
+            hash = HashCodes.append(hash, getCompression());
+            this.hashCode = hash;
+        }
+        return this.hashCode;
+    }
+
+    /**
+     * Used to create {@link SerializationStatistics} instances.
+     */
+    public static class Builder implements ModelBuilder<SerializationStatistics> {
+        private Optional<String> address = Optional.empty();
+        private final SortedSet<ManifestStatistics> manifests = new TreeSet<>();
+        private CompressionSummary compression = new CompressionSummary.Builder().build();
+
+        /**
+         * Default constructor.
+         */
+        public Builder() {
+        }
+
+        /**
+         * @param address the address of the node on which the serialization was performed
+         */
+        public Builder(final String address) {
+            setAddress(address);
+        }
+
+        /**
+         * @param address the address of the node on which the serialization was performed
+         * @return {@code this} for fluent-style usage
+         */
+        public Builder setAddress(final String address) {
+            Objects.requireNonNull(address);
+            Preconditions.checkArgument(!StringUtils.isBlank(address), "Address cannot be blank");
+            this.address = Optional.of(address);
+            return this;
+        }
+
+        /**
+         * @param manifests the statistics for each serializer and type of model object
+         * @return {@code this} for fluent-style usage
+         */
+        public Builder add(final ManifestStatistics... manifests) {
+            return add(Arrays.asList(Objects.requireNonNull(manifests)));
+        }
+
+        /**
+         * @param manifests the statistics for each serializer and type of model object
+         * @return {@code this} for fluent-style usage
+         */
+        public Builder add(final Collection<ManifestStatistics> manifests) {
+            this.manifests.addAll(Objects.requireNonNull(manifests));
+            return this;
+        }
+
+        /**
+         * @param compression the summary of the compression performed by the serializers
+         * @return {@code this} for fluent-style usage
+         */
+        public Builder setCompression(final CompressionSummary compression) {
+            this.compression = Objects.requireNonNull(compression);
+            return this;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Builder fromJson(final ManifestMapping mapping, final JsonObject json) {
+            Objects.requireNonNull(json);
+            if (json.has("address")) {
+                setAddress(json.getAsJsonPrimitive("address").getAsString());
+            }
+            if (json.has("manifests")) {
+                json.getAsJsonArray("manifests").forEach(jsonElement -> add(
+                        new ManifestStatistics.Builder().fromJson(mapping, jsonElement.getAsJsonObject()).build()));
+            }
+            if (json.has("compression")) {
+                setCompression(new CompressionSummary.Builder().fromJson(mapping, json.getAsJsonObject("compression"))
+                        .build());
+            }
+            return this;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public SerializationStatistics build() {
+            if (!this.address.isPresent()) {
+                throw new IllegalStateException("Address is required");
+            }
+
+            return new SerializationStatistics(this.address.get(), this.manifests, this.compression);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String getSerializationManifest() {
+            return SERIALIZATION_MANIFEST;
+        }
+    }
+}
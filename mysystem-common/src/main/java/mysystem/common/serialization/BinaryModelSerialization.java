@@ -0,0 +1,148 @@
+package mysystem.common.serialization;
+
+import com.google.common.base.Preconditions;
+
+import akka.actor.ExtendedActorSystem;
+import akka.serialization.SerializerWithStringManifest;
+import mysystem.common.model.LazyModelBuilder;
+import mysystem.common.model.MemoizedModel;
+import mysystem.common.model.Model;
+import mysystem.common.model.ModelBuilder;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Used to perform serialization using the compact tagged binary format. Model objects opt in by implementing
+ * {@link mysystem.common.model.BinaryModel}, and model objects that do not are written as JSON within the binary
+ * envelope. Since this serializer has a different identifier than the JSON-based {@link ModelSerialization}, both can
+ * be registered at the same time so that nodes are able to read messages in either format during a rolling upgrade.
+ */
+public class BinaryModelSerialization extends SerializerWithStringManifest {
+    /**
+     * The version of the binary format written at the start of each serialized model object.
+     */
+    public final static int FORMAT_VERSION = 1;
+
+    private final ManifestMapping manifestMapping = new ManifestMapping();
+    private final int memoizeMaxBytes;
+    private final SerializationMetrics serializationMetrics = new SerializationMetrics();
+
+    /**
+     * Default constructor.
+     */
+    public BinaryModelSerialization() {
+        this(SerializedForm.DEFAULT_MAX_BYTES);
+    }
+
+    /**
+     * @param system the {@link ExtendedActorSystem} whose configuration determines the maximum size of the serialized
+     * bytes retained by model objects
+     */
+    public BinaryModelSerialization(final ExtendedActorSystem system) {
+        this(SerializedForm.getMaxBytes(Objects.requireNonNull(system).settings().config()));
+    }
+
+    /**
+     * @param memoizeMaxBytes the maximum number of serialized bytes retained by each model object, where zero disables
+     * retention
+     */
+    public BinaryModelSerialization(final int memoizeMaxBytes) {
+        this.memoizeMaxBytes = memoizeMaxBytes;
+    }
+
+    /**
+     * @return the maximum number of serialized bytes retained by each model object, where zero disables retention
+     */
+    public int getMemoizeMaxBytes() {
+        return this.memoizeMaxBytes;
+    }
+
+    /**
+     * @return the metrics describing the sizes and times of the serialization performed for each type of model object
+     */
+    public SerializationMetrics getSerializationMetrics() {
+        return this.serializationMetrics;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int identifier() {
+        return 48151624;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String manifest(final Object object) {
+        Objects.requireNonNull(object);
+        Preconditions.checkArgument(object instanceof Model, "Can only serialize Model objects");
+        final Model model = (Model) object;
+        final Optional<String> manifest = this.manifestMapping.getManifest(model.getClass());
+        if (manifest.isPresent()) {
+            return manifest.get();
+        }
+        throw new RuntimeException("Object type is not recognized: " + model.getClass().getName());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public Object fromBinary(final byte[] bytes, final String manifest) {
+        final Optional<ModelBuilder<?>> builder = this.manifestMapping.getBuilder(Objects.requireNonNull(manifest));
+        if (builder.isPresent()) {
+            getSerializationMetrics().recordDeserialize(manifest, bytes.length);
+            final BinaryReader reader = new BinaryReader(bytes);
+            final int version = reader.readByte();
+            if (version != FORMAT_VERSION) {
+                throw new RuntimeException("Binary serialization format version is not supported: " + version);
+            }
+            if (builder.get() instanceof LazyModelBuilder) {
+                final SerializedForm serializedForm =
+                        new SerializedForm(SerializedForm.getFormat(identifier(), manifest), bytes);
+                return ((LazyModelBuilder) builder.get())
+                        .buildLazily(serializedForm, () -> (MemoizedModel) decode(bytes, manifest, builder.get()));
+            }
+            return decode(bytes, manifest, builder.get());
+        }
+        throw new RuntimeException("Serialization manifest type is not recognized: " + manifest);
+    }
+
+    protected Model decode(final byte[] bytes, final String manifest, final ModelBuilder<?> builder) {
+        final long start = System.nanoTime();
+        final Model model = new BinaryReader(bytes, 1, bytes.length).readModel(this.manifestMapping, builder);
+        getSerializationMetrics().recordDecode(manifest, System.nanoTime() - start);
+        return model;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public byte[] toBinary(final Object object) {
+        Objects.requireNonNull(object);
+        Preconditions.checkArgument(object instanceof Model, "Can only serialize Model objects");
+        final long start = System.nanoTime();
+        final byte[] bytes;
+        if (object instanceof MemoizedModel) {
+            // Model objects received lazily hold their serialized bytes even when retention is disabled.
+            final String format = SerializedForm.getFormat(identifier(), manifest(object));
+            bytes = ((MemoizedModel) object).getSerializedForm()
+                    .get(format, getMemoizeMaxBytes(), () -> serialize((Model) object));
+        } else {
+            bytes = serialize((Model) object);
+        }
+        getSerializationMetrics().recordSerialize(
+                ((Model) object).getSerializationManifest(), bytes.length, System.nanoTime() - start);
+        return bytes;
+    }
+
+    protected byte[] serialize(final Model model) {
+        return new BinaryWriter().writeByte(FORMAT_VERSION).writeModel(model).toByteArray();
+    }
+}
@@ -0,0 +1,217 @@
+package mysystem.common.serialization;
+
+import com.google.gson.JsonParser;
+
+import mysystem.common.model.BinaryModelBuilder;
+import mysystem.common.model.Model;
+import mysystem.common.model.ModelBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.IntConsumer;
+
+/**
+ * Used to read model objects written in the tagged binary format by a {@link BinaryWriter}.
+ */
+public class BinaryReader {
+    private final byte[] buffer;
+    private final int limit;
+    private int position;
+
+    /**
+     * @param buffer the bytes to be read
+     */
+    public BinaryReader(final byte[] buffer) {
+        this(buffer, 0, Objects.requireNonNull(buffer).length);
+    }
+
+    /**
+     * @param buffer the bytes to be read
+     * @param offset the position of the first byte to be read
+     * @param limit the position after the last byte to be read
+     */
+    public BinaryReader(final byte[] buffer, final int offset, final int limit) {
+        this.buffer = Objects.requireNonNull(buffer);
+        if (offset < 0 || limit < offset || limit > buffer.length) {
+            throw new IllegalArgumentException("Invalid binary reader range: " + offset + " to " + limit);
+        }
+        this.position = offset;
+        this.limit = limit;
+    }
+
+    /**
+     * @param tag a tag read from the binary data
+     * @return the field number stored in the tag
+     */
+    public static int getFieldNumber(final int tag) {
+        return tag >>> 3;
+    }
+
+    /**
+     * @param tag a tag read from the binary data
+     * @return the wire type stored in the tag
+     */
+    public static int getWireType(final int tag) {
+        return tag & 0x07;
+    }
+
+    private void require(final int count) {
+        if (count < 0 || this.position + count > this.limit) {
+            throw new IllegalArgumentException("Binary model data is truncated");
+        }
+    }
+
+    /**
+     * @return whether there are more bytes available to be read
+     */
+    public boolean hasRemaining() {
+        return this.position < this.limit;
+    }
+
+    /**
+     * @return the next single byte value as an unsigned value
+     */
+    public int readByte() {
+        require(1);
+        return this.buffer[this.position++] & 0xFF;
+    }
+
+    /**
+     * @return the next unsigned varint value as an integer
+     */
+    public int readVarInt() {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            final int current = readByte();
+            value |= (current & 0x7F) << shift;
+            if ((current & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Binary model data contains a malformed varint");
+    }
+
+    /**
+     * @return the next unsigned varint value as a long
+     */
+    public long readVarLong() {
+        long value = 0;
+        for (int shift = 0; shift < 70; shift += 7) {
+            final long current = readByte();
+            value |= (current & 0x7F) << shift;
+            if ((current & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Binary model data contains a malformed varint");
+    }
+
+    /**
+     * @return the next boolean value
+     */
+    public boolean readBoolean() {
+        return readVarInt() != 0;
+    }
+
+    /**
+     * @return the next length-prefixed UTF-8 string value
+     */
+    public String readString() {
+        final int length = readVarInt();
+        require(length);
+        final String value = new String(this.buffer, this.position, length, StandardCharsets.UTF_8);
+        this.position += length;
+        return value;
+    }
+
+    /**
+     * @return a copy of the next length-prefixed block of bytes
+     */
+    public byte[] readBytes() {
+        final int length = readVarInt();
+        require(length);
+        final byte[] value = Arrays.copyOfRange(this.buffer, this.position, this.position + length);
+        this.position += length;
+        return value;
+    }
+
+    /**
+     * @return the next tag, which describes the field number and wire type of the following field value
+     */
+    public int readTag() {
+        return readVarInt();
+    }
+
+    /**
+     * @param consumer the {@link IntConsumer} that will receive each of the integer values in the next packed field
+     * written by {@link BinaryWriter#writePackedIntField(int, java.util.Collection)}
+     */
+    public void readPackedInts(final IntConsumer consumer) {
+        final int length = readVarInt();
+        require(length);
+        final BinaryReader nested = new BinaryReader(this.buffer, this.position, this.position + length);
+        this.position += length;
+        while (nested.hasRemaining()) {
+            consumer.accept(nested.readVarInt());
+        }
+    }
+
+    /**
+     * @param tag the tag of the field whose value should be skipped since it is not recognized
+     */
+    public void skip(final int tag) {
+        final int wireType = getWireType(tag);
+        if (wireType == BinaryWriter.WIRE_TYPE_VARINT) {
+            readVarLong();
+        } else if (wireType == BinaryWriter.WIRE_TYPE_LENGTH_DELIMITED) {
+            final int length = readVarInt();
+            require(length);
+            this.position += length;
+        } else {
+            throw new IllegalArgumentException("Binary model data contains an unrecognized wire type: " + wireType);
+        }
+    }
+
+    /**
+     * @param mapping the {@link ManifestMapping} used to find the builder for the nested model object
+     * @return the nested model object written by {@link BinaryWriter#writeModelField(int, Model)}, or empty if the
+     * nested model object has a serialization manifest that is not recognized
+     */
+    public Optional<Model> readModelField(final ManifestMapping mapping) {
+        final int length = readVarInt();
+        require(length);
+        final BinaryReader nested = new BinaryReader(this.buffer, this.position, this.position + length);
+        this.position += length;
+        final String manifest = nested.readString();
+        final Optional<ModelBuilder<? extends Model>> builder = Objects.requireNonNull(mapping).getBuilder(manifest);
+        if (builder.isPresent()) {
+            return Optional.of(nested.readModel(mapping, builder.get()));
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * @param mapping the {@link ManifestMapping} used to find the builders for any nested model objects
+     * @param builder the {@link ModelBuilder} used to create the model object from the remaining bytes
+     * @return the model object written by {@link BinaryWriter#writeModel(Model)}
+     */
+    public Model readModel(final ManifestMapping mapping, final ModelBuilder<? extends Model> builder) {
+        final int format = readVarInt();
+        if (format == BinaryWriter.FORMAT_BINARY && builder instanceof BinaryModelBuilder) {
+            ((BinaryModelBuilder<?>) builder).fromBinary(mapping, this);
+        } else if (format == BinaryWriter.FORMAT_JSON) {
+            final InputStreamReader reader = new InputStreamReader(
+                    new ByteArrayInputStream(this.buffer, this.position, this.limit - this.position),
+                    StandardCharsets.UTF_8);
+            builder.fromJson(mapping, new JsonParser().parse(reader).getAsJsonObject());
+            this.position = this.limit;
+        } else {
+            throw new IllegalArgumentException("Binary model data format not supported for builder: " + format);
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,244 @@
+package mysystem.common.serialization;
+
+import mysystem.common.model.BinaryModel;
+import mysystem.common.model.Model;
+import mysystem.common.util.IdSet;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Objects;
+
+/**
+ * Used to write model objects in the tagged binary format. Each field is written as a tag combining the field number
+ * and wire type, followed by either a varint value or a length-prefixed block of bytes, so that readers are able to
+ * skip over any fields they do not recognize.
+ */
+public class BinaryWriter {
+    /**
+     * The wire type used for fields holding a varint value.
+     */
+    public final static int WIRE_TYPE_VARINT = 0;
+
+    /**
+     * The wire type used for fields holding a length-prefixed block of bytes.
+     */
+    public final static int WIRE_TYPE_LENGTH_DELIMITED = 2;
+
+    /**
+     * The format indicating a nested model object was written in the tagged binary format.
+     */
+    public final static int FORMAT_BINARY = 1;
+
+    /**
+     * The format indicating a nested model object was written as UTF-8 JSON since it does not support the tagged
+     * binary format.
+     */
+    public final static int FORMAT_JSON = 0;
+
+    private final static int DEFAULT_CAPACITY = 64;
+
+    private byte[] buffer;
+    private int position = 0;
+
+    /**
+     * Default constructor.
+     */
+    public BinaryWriter() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param capacity the initial capacity of the underlying buffer
+     */
+    public BinaryWriter(final int capacity) {
+        this.buffer = new byte[Math.max(1, capacity)];
+    }
+
+    private void ensureCapacity(final int additional) {
+        if (this.position + additional > this.buffer.length) {
+            this.buffer = Arrays.copyOf(this.buffer, Math.max(this.buffer.length << 1, this.position + additional));
+        }
+    }
+
+    /**
+     * @return the number of bytes written so far
+     */
+    public int size() {
+        return this.position;
+    }
+
+    /**
+     * @return a copy of the bytes written so far
+     */
+    public byte[] toByteArray() {
+        return Arrays.copyOf(this.buffer, this.position);
+    }
+
+    /**
+     * @param value the single byte value to write
+     * @return {@code this} for fluent-style usage
+     */
+    public BinaryWriter writeByte(final int value) {
+        ensureCapacity(1);
+        this.buffer[this.position++] = (byte) value;
+        return this;
+    }
+
+    /**
+     * @param bytes the raw bytes to write, without any length prefix
+     * @return {@code this} for fluent-style usage
+     */
+    public BinaryWriter writeRaw(final byte[] bytes) {
+        ensureCapacity(Objects.requireNonNull(bytes).length);
+        System.arraycopy(bytes, 0, this.buffer, this.position, bytes.length);
+        this.position += bytes.length;
+        return this;
+    }
+
+    /**
+     * @param value the integer to write as an unsigned varint, where negative values always take five bytes
+     * @return {@code this} for fluent-style usage
+     */
+    public BinaryWriter writeVarInt(final int value) {
+        ensureCapacity(5);
+        int remaining = value;
+        while ((remaining & ~0x7F) != 0) {
+            this.buffer[this.position++] = (byte) ((remaining & 0x7F) | 0x80);
+            remaining >>>= 7;
+        }
+        this.buffer[this.position++] = (byte) remaining;
+        return this;
+    }
+
+    /**
+     * @param value the long to write as an unsigned varint, where negative values always take ten bytes
+     * @return {@code this} for fluent-style usage
+     */
+    public BinaryWriter writeVarLong(final long value) {
+        ensureCapacity(10);
+        long remaining = value;
+        while ((remaining & ~0x7FL) != 0) {
+            this.buffer[this.position++] = (byte) ((remaining & 0x7F) | 0x80);
+            remaining >>>= 7;
+        }
+        this.buffer[this.position++] = (byte) remaining;
+        return this;
+    }
+
+    /**
+     * @param value the string to write as a varint length followed by the UTF-8 bytes
+     * @return {@code this} for fluent-style usage
+     */
+    public BinaryWriter writeString(final String value) {
+        final byte[] bytes = Objects.requireNonNull(value).getBytes(StandardCharsets.UTF_8);
+        writeVarInt(bytes.length);
+        return writeRaw(bytes);
+    }
+
+    /**
+     * @param fieldNumber the positive field number identifying the field
+     * @param wireType the wire type describing how the field value is written
+     * @return {@code this} for fluent-style usage
+     */
+    public BinaryWriter writeTag(final int fieldNumber, final int wireType) {
+        return writeVarInt((fieldNumber << 3) | wireType);
+    }
+
+    /**
+     * @param fieldNumber the positive field number identifying the field
+     * @param value the integer value of the field
+     * @return {@code this} for fluent-style usage
+     */
+    public BinaryWriter writeIntField(final int fieldNumber, final int value) {
+        return writeTag(fieldNumber, WIRE_TYPE_VARINT).writeVarInt(value);
+    }
+
+    /**
+     * @param fieldNumber the positive field number identifying the field
+     * @param value the long value of the field
+     * @return {@code this} for fluent-style usage
+     */
+    public BinaryWriter writeLongField(final int fieldNumber, final long value) {
+        return writeTag(fieldNumber, WIRE_TYPE_VARINT).writeVarLong(value);
+    }
+
+    /**
+     * @param fieldNumber the positive field number identifying the field
+     * @param value the boolean value of the field
+     * @return {@code this} for fluent-style usage
+     */
+    public BinaryWriter writeBooleanField(final int fieldNumber, final boolean value) {
+        return writeTag(fieldNumber, WIRE_TYPE_VARINT).writeVarInt(value ? 1 : 0);
+    }
+
+    /**
+     * @param fieldNumber the positive field number identifying the field
+     * @param value the string value of the field
+     * @return {@code this} for fluent-style usage
+     */
+    public BinaryWriter writeStringField(final int fieldNumber, final String value) {
+        return writeTag(fieldNumber, WIRE_TYPE_LENGTH_DELIMITED).writeString(value);
+    }
+
+    /**
+     * @param fieldNumber the positive field number identifying the field
+     * @param value the bytes of the field, written with a varint length prefix
+     * @return {@code this} for fluent-style usage
+     */
+    public BinaryWriter writeBytesField(final int fieldNumber, final byte[] value) {
+        return writeTag(fieldNumber, WIRE_TYPE_LENGTH_DELIMITED).writeVarInt(Objects.requireNonNull(value).length)
+                .writeRaw(value);
+    }
+
+    /**
+     * @param fieldNumber the positive field number identifying the field
+     * @param model the nested model object to write, along with its serialization manifest
+     * @return {@code this} for fluent-style usage
+     */
+    public BinaryWriter writeModelField(final int fieldNumber, final Model model) {
+        final BinaryWriter nested = new BinaryWriter();
+        nested.writeString(Objects.requireNonNull(model).getSerializationManifest());
+        nested.writeModel(model);
+        return writeNestedField(fieldNumber, nested);
+    }
+
+    /**
+     * @param fieldNumber the positive field number identifying the field
+     * @param values the integer values of the field, written as a single length-prefixed block of varints
+     * @return {@code this} for fluent-style usage
+     */
+    public BinaryWriter writePackedIntField(final int fieldNumber, final Collection<Integer> values) {
+        final BinaryWriter nested = new BinaryWriter(Objects.requireNonNull(values).size() * 5);
+        if (values instanceof IdSet) {
+            ((IdSet) values).forEachId(nested::writeVarInt);
+        } else {
+            values.forEach(nested::writeVarInt);
+        }
+        return writeNestedField(fieldNumber, nested);
+    }
+
+    private BinaryWriter writeNestedField(final int fieldNumber, final BinaryWriter nested) {
+        writeTag(fieldNumber, WIRE_TYPE_LENGTH_DELIMITED).writeVarInt(nested.size());
+        ensureCapacity(nested.size());
+        System.arraycopy(nested.buffer, 0, this.buffer, this.position, nested.size());
+        this.position += nested.size();
+        return this;
+    }
+
+    /**
+     * @param model the model object to write as a format indicator followed by the model fields, falling back to
+     * JSON for model objects that do not support the tagged binary format
+     * @return {@code this} for fluent-style usage
+     */
+    public BinaryWriter writeModel(final Model model) {
+        if (Objects.requireNonNull(model) instanceof BinaryModel) {
+            writeVarInt(FORMAT_BINARY);
+            ((BinaryModel) model).writeBinary(this);
+        } else {
+            writeVarInt(FORMAT_JSON);
+            writeRaw(model.toJson().toString().getBytes(StandardCharsets.UTF_8));
+        }
+        return this;
+    }
+}
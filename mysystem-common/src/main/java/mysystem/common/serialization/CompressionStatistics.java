@@ -0,0 +1,120 @@
+package mysystem.common.serialization;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+
+import mysystem.common.model.CompressionSummary;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Holds the running totals describing the compression performed by a {@link ModelSerialization}, used to tune the
+ * compression threshold. The totals are updated concurrently by all the threads performing serialization.
+ */
+public class CompressionStatistics {
+    private final LongAdder compressedCount = new LongAdder();
+    private final LongAdder uncompressedBytes = new LongAdder();
+    private final LongAdder compressedBytes = new LongAdder();
+    private final LongAdder compressionNanos = new LongAdder();
+    private final LongAdder decompressedCount = new LongAdder();
+    private final LongAdder decompressionNanos = new LongAdder();
+
+    /**
+     * @param uncompressedSize the number of bytes before compression
+     * @param compressedSize the number of bytes after compression
+     * @param nanos the CPU time spent performing the compression, in nanoseconds
+     */
+    public void recordCompression(final int uncompressedSize, final int compressedSize, final long nanos) {
+        this.compressedCount.increment();
+        this.uncompressedBytes.add(uncompressedSize);
+        this.compressedBytes.add(compressedSize);
+        this.compressionNanos.add(nanos);
+    }
+
+    /**
+     * @param nanos the CPU time spent performing the decompression, in nanoseconds
+     */
+    public void recordDecompression(final long nanos) {
+        this.decompressedCount.increment();
+        this.decompressionNanos.add(nanos);
+    }
+
+    /**
+     * @return the number of serialized model objects that were compressed
+     */
+    public long getCompressedCount() {
+        return this.compressedCount.sum();
+    }
+
+    /**
+     * @return the total number of bytes of the compressed model objects before compression
+     */
+    public long getUncompressedBytes() {
+        return this.uncompressedBytes.sum();
+    }
+
+    /**
+     * @return the total number of bytes of the compressed model objects after compression
+     */
+    public long getCompressedBytes() {
+        return this.compressedBytes.sum();
+    }
+
+    /**
+     * @return the ratio of the uncompressed size to the compressed size of the compressed model objects, or 1 when no
+     * model objects have been compressed
+     */
+    public double getCompressionRatio() {
+        final long compressed = getCompressedBytes();
+        return compressed == 0 ? 1 : (double) getUncompressedBytes() / compressed;
+    }
+
+    /**
+     * @return the total CPU time spent compressing model objects, in nanoseconds
+     */
+    public long getCompressionNanos() {
+        return this.compressionNanos.sum();
+    }
+
+    /**
+     * @return the number of serialized model objects that were decompressed
+     */
+    public long getDecompressedCount() {
+        return this.decompressedCount.sum();
+    }
+
+    /**
+     * @return the total CPU time spent decompressing model objects, in nanoseconds
+     */
+    public long getDecompressionNanos() {
+        return this.decompressionNanos.sum();
+    }
+
+    /**
+     * @return an immutable summary of the current totals
+     */
+    public CompressionSummary getSummary() {
+        final CompressionSummary.Builder builder = new CompressionSummary.Builder();
+        builder.setCompressedCount(getCompressedCount());
+        builder.setUncompressedBytes(getUncompressedBytes());
+        builder.setCompressedBytes(getCompressedBytes());
+        builder.setCompressionNanos(getCompressionNanos());
+        builder.setDecompressedCount(getDecompressedCount());
+        builder.setDecompressionNanos(getDecompressionNanos());
+        return builder.build();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        final ToStringBuilder str = new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE);
+        str.append("compressedCount", getCompressedCount());
+        str.append("compressionRatio", getCompressionRatio());
+        str.append("compressionNanos", getCompressionNanos());
+        str.append("decompressedCount", getDecompressedCount());
+        str.append("decompressionNanos", getDecompressionNanos());
+        return str.build();
+    }
+}
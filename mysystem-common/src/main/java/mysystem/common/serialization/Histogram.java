@@ -0,0 +1,145 @@
+package mysystem.common.serialization;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+
+import mysystem.common.model.HistogramSummary;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A histogram of non-negative values, which are counted in buckets whose upper bounds are successive powers of two.
+ * The histogram is updated concurrently without locking, so percentiles are only accurate to within a factor of two.
+ */
+public class Histogram {
+    /**
+     * The number of buckets, where bucket {@code n} counts the values of at most {@code 2^n} that are larger than the
+     * bound of the previous bucket, and the first bucket counts the values of zero and one.
+     */
+    public final static int BUCKETS = 64;
+
+    private final LongAdder[] buckets = new LongAdder[BUCKETS];
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Default constructor.
+     */
+    public Histogram() {
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            this.buckets[bucket] = new LongAdder();
+        }
+    }
+
+    /**
+     * @param value the value to record, where negative values are recorded as zero
+     */
+    public void record(final long value) {
+        final long recorded = Math.max(0, value);
+        this.buckets[getBucket(recorded)].increment();
+        this.count.increment();
+        this.sum.add(recorded);
+        this.max.accumulate(recorded);
+    }
+
+    /**
+     * @param value a non-negative value
+     * @return the index of the bucket counting the value
+     */
+    public static int getBucket(final long value) {
+        return value <= 1 ? 0 : Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(value - 1));
+    }
+
+    /**
+     * @param bucket the index of a bucket
+     * @return the largest value counted by the bucket
+     */
+    public static long getUpperBound(final int bucket) {
+        return bucket >= BUCKETS - 1 ? Long.MAX_VALUE : 1L << bucket;
+    }
+
+    /**
+     * @return the number of values recorded
+     */
+    public long getCount() {
+        return this.count.sum();
+    }
+
+    /**
+     * @return the sum of the values recorded
+     */
+    public long getSum() {
+        return this.sum.sum();
+    }
+
+    /**
+     * @return the largest value recorded, or zero when no values have been recorded
+     */
+    public long getMax() {
+        return this.max.get();
+    }
+
+    /**
+     * @return the number of values counted by each bucket
+     */
+    public long[] getBucketCounts() {
+        final long[] counts = new long[BUCKETS];
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            counts[bucket] = this.buckets[bucket].sum();
+        }
+        return counts;
+    }
+
+    /**
+     * @param percentile the percentile to find, between 0 and 100
+     * @return the upper bound of the bucket containing the percentile (but never more than the largest value
+     * recorded), or zero when no values have been recorded
+     */
+    public long getPercentile(final double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100: " + percentile);
+        }
+        final long[] counts = getBucketCounts();
+        long total = 0;
+        for (final long bucketCount : counts) {
+            total += bucketCount;
+        }
+        final long rank = (long) Math.ceil(total * percentile / 100);
+        long seen = 0;
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            seen += counts[bucket];
+            if (seen > 0 && seen >= rank) {
+                return Math.min(getUpperBound(bucket), getMax());
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * @return an immutable {@link HistogramSummary} describing the values recorded so far
+     */
+    public HistogramSummary getSummary() {
+        final HistogramSummary.Builder builder = new HistogramSummary.Builder();
+        builder.setCount(getCount());
+        builder.setSum(getSum());
+        builder.setMax(getMax());
+        builder.setP50(getPercentile(50));
+        builder.setP90(getPercentile(90));
+        builder.setP99(getPercentile(99));
+        return builder.build();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        final ToStringBuilder str = new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE);
+        str.append("count", getCount());
+        str.append("sum", getSum());
+        str.append("max", getMax());
+        return str.build();
+    }
+}
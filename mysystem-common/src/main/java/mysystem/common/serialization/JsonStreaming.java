@@ -0,0 +1,215 @@
+package mysystem.common.serialization;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import mysystem.common.model.CompactModel;
+import mysystem.common.model.CompactModelBuilder;
+import mysystem.common.model.Model;
+import mysystem.common.model.ModelBuilder;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Provides the shared functionality used to stream model objects to and from JSON without building an intermediate
+ * {@link JsonObject}. Model objects are always streamed with the serialization manifest as the first field, so that
+ * nested model objects of unknown type can be read by choosing the builder before any other fields are read.
+ */
+public final class JsonStreaming {
+    /**
+     * The name of the field holding the serialization manifest of a model object.
+     */
+    public final static String MANIFEST = "manifest";
+
+    /**
+     * The name of the field holding the serialization manifest shared by all the elements of a collection written in
+     * the compact JSON format.
+     */
+    public final static String ELEMENTS = "elements";
+
+    private final static Gson GSON = new GsonBuilder().disableHtmlEscaping().create();
+
+    private JsonStreaming() {
+    }
+
+    /**
+     * @param writer the {@link JsonWriter} to which the JSON object will be written
+     * @param manifest the serialization manifest to write as the first field of the JSON object
+     * @param json the {@link JsonObject} holding the remaining fields to be written
+     * @throws IOException if there is a problem writing the JSON object
+     */
+    public static void writeObject(final JsonWriter writer, final String manifest, final JsonObject json)
+            throws IOException {
+        Objects.requireNonNull(writer);
+        writer.beginObject();
+        writer.name(MANIFEST).value(Objects.requireNonNull(manifest));
+        for (final Map.Entry<String, JsonElement> entry : Objects.requireNonNull(json).entrySet()) {
+            if (!MANIFEST.equals(entry.getKey())) {
+                writer.name(entry.getKey());
+                GSON.toJson(entry.getValue(), writer);
+            }
+        }
+        writer.endObject();
+    }
+
+    /**
+     * @param reader the {@link JsonReader} positioned within a JSON object, after the opening brace
+     * @return a {@link JsonObject} holding all the remaining fields of the JSON object, which are consumed up to but
+     * not including the closing brace
+     * @throws IOException if there is a problem reading the JSON object
+     */
+    public static JsonObject readFields(final JsonReader reader) throws IOException {
+        final JsonObject json = new JsonObject();
+        while (Objects.requireNonNull(reader).hasNext()) {
+            json.add(reader.nextName(), new JsonParser().parse(reader));
+        }
+        return json;
+    }
+
+    /**
+     * @param mapping the {@link ManifestMapping} used to dynamically determine model classes
+     * @param builder the {@link ModelBuilder} used to create the model object
+     * @param reader the {@link JsonReader} positioned at the start of the JSON object representing the model object
+     * @param <M> the type of model object being read
+     * @return the model object created from the JSON object, after the whole JSON object has been consumed
+     * @throws IOException if there is a problem reading the JSON object
+     */
+    public static <M extends Model> M readModel(
+            final ManifestMapping mapping, final ModelBuilder<M> builder, final JsonReader reader)
+            throws IOException {
+        Objects.requireNonNull(reader).beginObject();
+        Objects.requireNonNull(builder).fromJsonFields(mapping, reader);
+        reader.endObject();
+        return builder.build();
+    }
+
+    /**
+     * @param mapping the {@link ManifestMapping} used to dynamically determine model classes
+     * @param reader the {@link JsonReader} positioned at the start of a JSON object containing a serialization
+     * manifest field
+     * @return the model object created from the JSON object, or empty if the serialization manifest is not recognized,
+     * after the whole JSON object has been consumed
+     * @throws IOException if there is a problem reading the JSON object
+     */
+    public static Optional<Model> readModel(final ManifestMapping mapping, final JsonReader reader)
+            throws IOException {
+        Objects.requireNonNull(mapping);
+        Objects.requireNonNull(reader).beginObject();
+        if (reader.hasNext()) {
+            final String name = reader.nextName();
+            if (MANIFEST.equals(name) && reader.peek() == JsonToken.STRING) {
+                final Optional<ModelBuilder<?>> builder = mapping.getBuilder(reader.nextString());
+                if (builder.isPresent()) {
+                    builder.get().fromJsonFields(mapping, reader);
+                } else {
+                    readFields(reader);
+                }
+                reader.endObject();
+                return builder.map(ModelBuilder::build);
+            }
+
+            // The manifest is not the first field, so the JSON object needs to be read before the builder is known.
+            final JsonElement first = new JsonParser().parse(reader);
+            final JsonObject json = readFields(reader);
+            json.add(name, first);
+            reader.endObject();
+            if (json.has(MANIFEST)) {
+                final Optional<ModelBuilder<?>> builder =
+                        mapping.getBuilder(json.getAsJsonPrimitive(MANIFEST).getAsString());
+                if (builder.isPresent()) {
+                    return Optional.of(builder.get().fromJson(mapping, json).build());
+                }
+            }
+            return Optional.empty();
+        }
+        reader.endObject();
+        return Optional.empty();
+    }
+
+    /**
+     * @param models the model objects to be written as the elements of a collection
+     * @return the serialization manifest shared by all the model objects when they all support the compact JSON
+     * format, or empty if the collection is empty or the model objects are not all of the same compact type
+     */
+    public static Optional<String> getElementManifest(final Collection<? extends Model> models) {
+        String manifest = null;
+        for (final Model model : Objects.requireNonNull(models)) {
+            if (!(model instanceof CompactModel)) {
+                return Optional.empty();
+            } else if (manifest == null) {
+                manifest = model.getSerializationManifest();
+            } else if (!manifest.equals(model.getSerializationManifest())) {
+                return Optional.empty();
+            }
+        }
+        return Optional.ofNullable(manifest);
+    }
+
+    /**
+     * @param writer the {@link JsonWriter} to which the collection of model objects will be written
+     * @param name the name of the field holding the array of model objects
+     * @param models the model objects to be written, which are written as positional arrays after an {@link #ELEMENTS}
+     * field when they are all of the same compact type, and as regular JSON objects otherwise
+     * @throws IOException if there is a problem writing the model objects
+     */
+    public static void writeCompactModels(
+            final JsonWriter writer, final String name, final Collection<? extends Model> models) throws IOException {
+        final Optional<String> elements = getElementManifest(models);
+        if (elements.isPresent()) {
+            // The element manifest must come before the elements so that they can be read as they are streamed.
+            writer.name(ELEMENTS).value(elements.get());
+        }
+        writer.name(Objects.requireNonNull(name)).beginArray();
+        for (final Model model : models) {
+            if (elements.isPresent()) {
+                ((CompactModel) model).toCompactJson(writer);
+            } else {
+                model.toJson(writer);
+            }
+        }
+        writer.endArray();
+    }
+
+    /**
+     * @param mapping the {@link ManifestMapping} used to dynamically determine model classes
+     * @param elements the serialization manifest read from the {@link #ELEMENTS} field, used to read any elements
+     * written as positional arrays, possibly empty if the collection was not written in the compact JSON format
+     * @param reader the {@link JsonReader} positioned at the start of the array of model objects
+     * @param consumer the {@link Consumer} that will receive each model object that is recognized
+     * @throws IOException if there is a problem reading the model objects
+     */
+    public static void readCompactModels(
+            final ManifestMapping mapping, final Optional<String> elements, final JsonReader reader,
+            final Consumer<Model> consumer) throws IOException {
+        Objects.requireNonNull(mapping);
+        Objects.requireNonNull(elements);
+        Objects.requireNonNull(consumer);
+        Objects.requireNonNull(reader).beginArray();
+        while (reader.hasNext()) {
+            if (reader.peek() == JsonToken.BEGIN_ARRAY) {
+                final Optional<ModelBuilder<? extends Model>> builder = elements.flatMap(mapping::getBuilder);
+                if (builder.isPresent() && builder.get() instanceof CompactModelBuilder) {
+                    ((CompactModelBuilder<?>) builder.get()).fromCompactJson(mapping, reader);
+                    consumer.accept(builder.get().build());
+                } else {
+                    // The element manifest is missing or not recognized, so the element cannot be read.
+                    reader.skipValue();
+                }
+            } else {
+                readModel(mapping, reader).ifPresent(consumer);
+            }
+        }
+        reader.endArray();
+    }
+}
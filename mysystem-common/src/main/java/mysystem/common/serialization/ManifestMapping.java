@@ -7,45 +7,149 @@ import org.reflections.Reflections;
 
 import mysystem.common.model.Model;
 import mysystem.common.model.ModelBuilder;
-
+import mysystem.processor.ModelRegistryProcessor;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Enumeration;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
  * Manage the mapping of model objects to their string-based manifest values during serialization and deserialization.
+ * The model builders are created using factories resolved once when this mapping is populated, so that no reflection
+ * is needed when deserializing each message.
  */
 public class ManifestMapping {
     private final Map<Class<? extends Model>, String> manifestMap = new HashMap<>();
-    private final Map<String, Class<? extends ModelBuilder>> builderMap = new HashMap<>();
+    private final Map<String, Supplier<ModelBuilder<? extends Model>>> builderMap = new HashMap<>();
 
     /**
-     * Default constructor populates this mapping through reflection and introspection of available classes, and is
-     * therefore an expensive operation.
+     * Default constructor populates this mapping from the model registry resources generated at compile time by the
+     * {@link ModelRegistryProcessor}, falling back to the much more expensive scanning of the available classes when
+     * no registry resources are found.
      */
     public ManifestMapping() {
         populate();
     }
 
     protected void populate() {
+        Set<Pair<Class<? extends Model>, Class<? extends ModelBuilder>>> pairs = getRegisteredPairs();
+        if (pairs.isEmpty()) {
+            // The registry is not available, for example when compiled without annotation processing.
+            pairs = getScannedPairs();
+        }
+        sort(getTriples(pairs)).forEach(this::putTriple);
+    }
+
+    protected Set<Pair<Class<? extends Model>, Class<? extends ModelBuilder>>> getScannedPairs() {
         final Reflections reflections = new Reflections(getPackagePrefix());
         final Set<Class<? extends Model>> models = reflections.getSubTypesOf(Model.class);
         final Set<Class<? extends ModelBuilder>> builders = reflections.getSubTypesOf(ModelBuilder.class);
+        return getPairs(models, builders);
+    }
+
+    protected Set<Pair<Class<? extends Model>, Class<? extends ModelBuilder>>> getRegisteredPairs() {
+        final ClassLoader classLoader = getClassLoader();
+        final Set<Pair<Class<? extends Model>, Class<? extends ModelBuilder>>> pairs = new HashSet<>();
+        try {
+            final Enumeration<URL> resources = classLoader.getResources(ModelRegistryProcessor.REGISTRY_RESOURCE);
+            while (resources.hasMoreElements()) {
+                pairs.addAll(getRegisteredPairs(classLoader, resources.nextElement()));
+            }
+        } catch (final IOException readFailed) {
+            // Use whatever was read successfully, or fall back to scanning if nothing was read.
+        }
+        return pairs;
+    }
 
-        sort(getTriples(getPairs(models, builders))).forEach(this::putTriple);
+    protected Set<Pair<Class<? extends Model>, Class<? extends ModelBuilder>>> getRegisteredPairs(
+            final ClassLoader classLoader, final URL registry) throws IOException {
+        try (final BufferedReader reader =
+                     new BufferedReader(new InputStreamReader(registry.openStream(), StandardCharsets.UTF_8))) {
+            return reader.lines().map(line -> asPair(classLoader, line)).filter(Optional::isPresent)
+                    .map(Optional::get).collect(Collectors.toSet());
+        }
+    }
+
+    protected Optional<Pair<Class<? extends Model>, Class<? extends ModelBuilder>>> asPair(
+            final ClassLoader classLoader, final String line) {
+        final String[] classNames = StringUtils.split(line);
+        if (classNames.length == 2) {
+            try {
+                final Class<?> model = Class.forName(classNames[0], false, classLoader);
+                final Class<?> builder = Class.forName(classNames[1], false, classLoader);
+                if (Model.class.isAssignableFrom(model) && ModelBuilder.class.isAssignableFrom(builder)) {
+                    return Optional.of(Pair.of(model.asSubclass(Model.class), builder.asSubclass(ModelBuilder.class)));
+                }
+            } catch (final ClassNotFoundException | LinkageError notFound) {
+                // Registry entries for classes that are no longer available are ignored.
+            }
+        }
+        return Optional.empty();
+    }
+
+    protected ClassLoader getClassLoader() {
+        return Optional.ofNullable(Thread.currentThread().getContextClassLoader())
+                .orElse(ManifestMapping.class.getClassLoader());
     }
 
     protected void putTriple(final Triple<String, Class<? extends Model>, Class<? extends ModelBuilder>> triple) {
         // Mapping from serialization manifest to model class.
         this.manifestMap.put(triple.getMiddle(), triple.getLeft());
 
-        // Mapping from serialization manifest to builder class.
-        this.builderMap.put(triple.getLeft(), triple.getRight());
+        // Mapping from serialization manifest to builder factory, only when the builder can be created.
+        final Optional<Supplier<ModelBuilder<? extends Model>>> factory = getFactory(triple.getRight());
+        if (factory.isPresent()) {
+            this.builderMap.put(triple.getLeft(), factory.get());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    protected Optional<Supplier<ModelBuilder<? extends Model>>> getFactory(
+            final Class<? extends ModelBuilder> builderClass) {
+        final MethodHandles.Lookup lookup = MethodHandles.lookup();
+        final MethodHandle constructor;
+        try {
+            constructor =
+                    lookup.findConstructor(Objects.requireNonNull(builderClass), MethodType.methodType(void.class));
+        } catch (final NoSuchMethodException | IllegalAccessException noDefaultConstructor) {
+            return Optional.empty();
+        }
+
+        try {
+            // Generate a supplier that invokes the constructor directly, just like a constructor reference.
+            final CallSite callSite =
+                    LambdaMetafactory.metafactory(lookup, "get", MethodType.methodType(Supplier.class),
+                            MethodType.methodType(Object.class), constructor, MethodType.methodType(builderClass));
+            return Optional.of((Supplier<ModelBuilder<? extends Model>>) callSite.getTarget().invoke());
+        } catch (final Throwable metafactoryFailed) {
+            // The builder class may not be visible from this class loader, so fall back to the method handle.
+            return Optional.of(() -> {
+                try {
+                    return (ModelBuilder<? extends Model>) constructor.invoke();
+                } catch (final Throwable createFailed) {
+                    final String error = "Failed to create model builder: " + builderClass.getName();
+                    throw new RuntimeException(error, createFailed);
+                }
+            });
+        }
     }
 
     protected Set<Pair<Class<? extends Model>, Class<? extends ModelBuilder>>> getPairs(
@@ -82,12 +186,7 @@ public class ManifestMapping {
 
     protected Optional<String> getSerializationManifest(
             final Pair<Class<? extends Model>, Class<? extends ModelBuilder>> pair) {
-        try {
-            return Optional.of(pair.getRight().newInstance().getSerializationManifest());
-        } catch (final InstantiationException | IllegalAccessException e) {
-            // Ignored.
-            return Optional.empty();
-        }
+        return getFactory(pair.getRight()).map(factory -> factory.get().getSerializationManifest());
     }
 
     protected String getPackagePrefix() {
@@ -107,16 +206,10 @@ public class ManifestMapping {
      * @return the matching builder used to deserialize the model object, possibly empty if the manifest is not
      * recognized
      */
-    @SuppressWarnings("unchecked")
     public Optional<ModelBuilder<? extends Model>> getBuilder(final String manifest) {
-        final Optional<Class<? extends ModelBuilder>> builder =
-                Optional.ofNullable(this.builderMap.get(Objects.requireNonNull(manifest)));
-        if (builder.isPresent()) {
-            try {
-                return Optional.of(builder.get().newInstance());
-            } catch (final InstantiationException | IllegalAccessException createFailed) {
-                // Failed to create the model builder instance.
-            }
+        final Supplier<ModelBuilder<? extends Model>> factory = this.builderMap.get(Objects.requireNonNull(manifest));
+        if (factory != null) {
+            return Optional.of(factory.get());
         }
         return Optional.empty();
     }
@@ -1,21 +1,243 @@
 package mysystem.common.serialization;
 
 import com.google.common.base.Preconditions;
-import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import com.typesafe.config.Config;
 
+import akka.actor.ExtendedActorSystem;
 import akka.serialization.SerializerWithStringManifest;
+import mysystem.common.config.CommonConfig;
+import mysystem.common.model.CompactModel;
+import mysystem.common.model.CompactModelBuilder;
+import mysystem.common.model.LazyModelBuilder;
+import mysystem.common.model.MemoizedModel;
 import mysystem.common.model.Model;
 import mysystem.common.model.ModelBuilder;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.NotSerializableException;
+import java.io.OutputStreamWriter;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
 import java.nio.charset.StandardCharsets;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
 
 /**
- * Used to perform JSON-based serialization.
+ * Used to perform JSON-based serialization. Model objects are streamed directly to and from the serialized bytes,
+ * without building an intermediate JSON object or string. When enabled in the configuration, model objects supporting
+ * the compact JSON format are written in that format and their manifest is given the {@link #COMPACT_PREFIX}, so that
+ * the format is known when reading. Both formats are always readable, so the compact format can be enabled once all
+ * nodes have been upgraded to a version able to read it.
+ * <p>
+ * When a compression threshold is configured, the manifest is also given the {@link #COMPRESSED_PREFIX} and the
+ * serialized bytes start with a flag indicating whether the remaining bytes were deflated, which is only done when the
+ * serialized model object reaches the threshold. Received model objects are never decompressed beyond the configured
+ * maximum size, whether or not compression is enabled on this node. The compression performed is described by the
+ * {@link CompressionStatistics} available from {@link #getCompressionStatistics()}. The sizes and times of the
+ * serialization performed for each type of model object are described by the {@link SerializationMetrics} available
+ * from {@link #getSerializationMetrics()}.
+ * <p>
+ * Model objects implementing {@link MemoizedModel} retain their serialized bytes, up to the configured maximum size,
+ * so that they are not serialized again when sent to many recipients. Model objects with a {@link LazyModelBuilder} are
+ * only decoded when their contents are first needed, and are sent on using the bytes they were received with when
+ * forwarded in the same format.
  */
 public class ModelSerialization extends SerializerWithStringManifest {
+    /**
+     * The prefix added to the manifest of model objects serialized in the compact JSON format.
+     */
+    public final static String COMPACT_PREFIX = "compact:";
+
+    /**
+     * The prefix added to the manifest of model objects serialized by a node with compression enabled, where the
+     * serialized bytes start with one of the {@link #FLAG_STORED} or {@link #FLAG_DEFLATED} flags.
+     */
+    public final static String COMPRESSED_PREFIX = "deflate:";
+
+    /**
+     * The flag indicating the remaining serialized bytes are not compressed.
+     */
+    public final static byte FLAG_STORED = 0;
+
+    /**
+     * The flag indicating the remaining serialized bytes are deflated.
+     */
+    public final static byte FLAG_DEFLATED = 1;
+
+    /**
+     * The default maximum number of bytes a received model object is decompressed to.
+     */
+    public final static int DEFAULT_DECOMPRESSION_MAX_BYTES = 64 * 1024 * 1024;
+
+    private final static int INITIAL_BUFFER_SIZE = 1024;
+    private final static int MAX_RETAINED_BUFFER_SIZE = 64 * 1024;
+    private final static int COMPRESSION_CHUNK_SIZE = 8 * 1024;
+
     private final ManifestMapping manifestMapping = new ManifestMapping();
+    private final boolean compact;
+    private final Optional<Integer> compressionThreshold;
+    private final int memoizeMaxBytes;
+    private final int decompressionMaxBytes;
+    private final CompressionStatistics compressionStatistics = new CompressionStatistics();
+    private final SerializationMetrics serializationMetrics = new SerializationMetrics();
+
+    // Each thread reuses its own buffer, unless a large message has grown it beyond the size worth retaining.
+    private final ThreadLocal<ByteArrayOutputStream> buffers =
+            ThreadLocal.withInitial(() -> new ByteArrayOutputStream(INITIAL_BUFFER_SIZE));
+
+    // Each thread reuses its own deflater and inflater, since creating them allocates native memory.
+    private final ThreadLocal<Deflater> deflaters = ThreadLocal.withInitial(() -> new Deflater(Deflater.BEST_SPEED));
+    private final ThreadLocal<Inflater> inflaters = ThreadLocal.withInitial(Inflater::new);
+
+    /**
+     * Default constructor, which does not write the compact JSON format and does not compress.
+     */
+    public ModelSerialization() {
+        this(false);
+    }
+
+    /**
+     * @param system the {@link ExtendedActorSystem} whose configuration determines whether the compact JSON format is
+     * written, the threshold above which serialized model objects are compressed, the maximum size of the
+     * serialized bytes retained by model objects, and the maximum size received model objects are decompressed to
+     */
+    public ModelSerialization(final ExtendedActorSystem system) {
+        this(isCompact(Objects.requireNonNull(system).settings().config()),
+                getCompressionThreshold(system.settings().config()),
+                SerializedForm.getMaxBytes(system.settings().config()),
+                getDecompressionMaxBytes(system.settings().config()));
+    }
+
+    /**
+     * @param compact whether model objects supporting the compact JSON format are written in that format
+     */
+    public ModelSerialization(final boolean compact) {
+        this(compact, Optional.empty());
+    }
+
+    /**
+     * @param compact whether model objects supporting the compact JSON format are written in that format
+     * @param compressionThreshold the number of serialized bytes at which model objects are compressed, or empty to
+     * disable compression
+     */
+    public ModelSerialization(final boolean compact, final Optional<Integer> compressionThreshold) {
+        this(compact, compressionThreshold, SerializedForm.DEFAULT_MAX_BYTES);
+    }
+
+    /**
+     * @param compact whether model objects supporting the compact JSON format are written in that format
+     * @param compressionThreshold the number of serialized bytes at which model objects are compressed, or empty to
+     * disable compression
+     * @param memoizeMaxBytes the maximum number of serialized bytes retained by each model object, where zero disables
+     * retention
+     */
+    public ModelSerialization(
+            final boolean compact, final Optional<Integer> compressionThreshold, final int memoizeMaxBytes) {
+        this(compact, compressionThreshold, memoizeMaxBytes, DEFAULT_DECOMPRESSION_MAX_BYTES);
+    }
+
+    /**
+     * @param compact whether model objects supporting the compact JSON format are written in that format
+     * @param compressionThreshold the number of serialized bytes at which model objects are compressed, or empty to
+     * disable compression
+     * @param memoizeMaxBytes the maximum number of serialized bytes retained by each model object, where zero disables
+     * retention
+     * @param decompressionMaxBytes the maximum number of bytes a received model object is decompressed to
+     */
+    public ModelSerialization(
+            final boolean compact, final Optional<Integer> compressionThreshold, final int memoizeMaxBytes,
+            final int decompressionMaxBytes) {
+        this.compact = compact;
+        this.compressionThreshold = Objects.requireNonNull(compressionThreshold);
+        this.memoizeMaxBytes = memoizeMaxBytes;
+        this.decompressionMaxBytes = decompressionMaxBytes;
+        if (compressionThreshold.isPresent() && compressionThreshold.get() < 0) {
+            throw new IllegalArgumentException("Compression threshold cannot be negative: " + compressionThreshold);
+        }
+        if (decompressionMaxBytes < 0) {
+            throw new IllegalArgumentException("Decompression max bytes cannot be negative: " + decompressionMaxBytes);
+        }
+    }
+
+    protected static boolean isCompact(final Config config) {
+        final String key = CommonConfig.SERIALIZATION_COMPACT_JSON.getKey();
+        return Objects.requireNonNull(config).hasPath(key) && config.getBoolean(key);
+    }
+
+    protected static Optional<Integer> getCompressionThreshold(final Config config) {
+        final String key = CommonConfig.SERIALIZATION_COMPRESSION_THRESHOLD.getKey();
+        if (Objects.requireNonNull(config).hasPath(key)) {
+            return Optional.of(config.getBytes(key).intValue());
+        }
+        return Optional.empty();
+    }
+
+    protected static int getDecompressionMaxBytes(final Config config) {
+        final String key = CommonConfig.SERIALIZATION_DECOMPRESSION_MAX_BYTES.getKey();
+        if (Objects.requireNonNull(config).hasPath(key)) {
+            final long maxBytes = config.getBytes(key);
+            if (maxBytes < 0 || maxBytes > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Invalid decompression max bytes: " + maxBytes);
+            }
+            return (int) maxBytes;
+        }
+        return DEFAULT_DECOMPRESSION_MAX_BYTES;
+    }
+
+    /**
+     * @return the number of serialized bytes at which model objects are compressed, or empty if compression is
+     * disabled
+     */
+    public Optional<Integer> getCompressionThreshold() {
+        return this.compressionThreshold;
+    }
+
+    /**
+     * @return the maximum number of serialized bytes retained by each model object, where zero disables retention
+     */
+    public int getMemoizeMaxBytes() {
+        return this.memoizeMaxBytes;
+    }
+
+    /**
+     * @return the maximum number of bytes a received model object is decompressed to
+     */
+    public int getDecompressionMaxBytes() {
+        return this.decompressionMaxBytes;
+    }
+
+    /**
+     * @return the statistics describing the compression and decompression performed by this serializer
+     */
+    public CompressionStatistics getCompressionStatistics() {
+        return this.compressionStatistics;
+    }
+
+    /**
+     * @return the metrics describing the sizes and times of the serialization performed for each type of model object
+     */
+    public SerializationMetrics getSerializationMetrics() {
+        return this.serializationMetrics;
+    }
+
+    /**
+     * @return whether model objects supporting the compact JSON format are written in that format
+     */
+    public boolean isCompact() {
+        return this.compact;
+    }
+
+    protected boolean isCompact(final Model model) {
+        return isCompact() && model instanceof CompactModel;
+    }
 
     /**
      * {@inheritDoc}
@@ -35,7 +257,8 @@ public class ModelSerialization extends SerializerWithStringManifest {
         final Model model = (Model) object;
         final Optional<String> manifest = this.manifestMapping.getManifest(model.getClass());
         if (manifest.isPresent()) {
-            return manifest.get();
+            final String format = isCompact(model) ? COMPACT_PREFIX + manifest.get() : manifest.get();
+            return getCompressionThreshold().isPresent() ? COMPRESSED_PREFIX + format : format;
         }
         throw new RuntimeException("Object type is not recognized: " + model.getClass().getName());
     }
@@ -44,12 +267,89 @@ public class ModelSerialization extends SerializerWithStringManifest {
      * {@inheritDoc}
      */
     @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
     public Object fromBinary(final byte[] bytes, final String manifest) {
-        final Optional<ModelBuilder<?>> builder = this.manifestMapping.getBuilder(Objects.requireNonNull(manifest));
-        if (builder.isPresent()) {
-            final String json = new String(bytes, StandardCharsets.UTF_8);
-            builder.get().fromJson(this.manifestMapping, new JsonParser().parse(json).getAsJsonObject());
-            return builder.get().build();
+        Objects.requireNonNull(bytes);
+        final String modelManifest = getModelManifest(manifest);
+        getSerializationMetrics().recordDeserialize(modelManifest, bytes.length);
+        final Optional<ModelBuilder<?>> builder = this.manifestMapping.getBuilder(modelManifest);
+        if (builder.isPresent() && builder.get() instanceof LazyModelBuilder) {
+            final SerializedForm serializedForm =
+                    new SerializedForm(SerializedForm.getFormat(identifier(), manifest), bytes);
+            return ((LazyModelBuilder) builder.get())
+                    .buildLazily(serializedForm, () -> (MemoizedModel) decodeLazily(bytes, manifest));
+        }
+        try {
+            return decode(bytes, manifest);
+        } catch (final NotSerializableException notSerializable) {
+            throw ModelSerialization.<RuntimeException>rethrow(notSerializable);
+        }
+    }
+
+    /**
+     * Akka does not declare any checked exceptions on {@link #fromBinary(byte[], String)}, but expects a
+     * {@link NotSerializableException} for serialized bytes that are refused.
+     */
+    @SuppressWarnings("unchecked")
+    private static <E extends Throwable> RuntimeException rethrow(final Throwable failure) throws E {
+        throw (E) failure;
+    }
+
+    protected Object decodeLazily(final byte[] bytes, final String manifest) {
+        try {
+            return decode(bytes, manifest);
+        } catch (final NotSerializableException notSerializable) {
+            throw new RuntimeException("Failed to decode model object: " + manifest, notSerializable);
+        }
+    }
+
+    /**
+     * @param manifest the manifest provided with the serialized bytes
+     * @return the manifest of the model object, without any of the prefixes describing the format
+     */
+    protected String getModelManifest(final String manifest) {
+        final String format = Objects.requireNonNull(manifest).startsWith(COMPRESSED_PREFIX)
+                ? manifest.substring(COMPRESSED_PREFIX.length()) : manifest;
+        return format.startsWith(COMPACT_PREFIX) ? format.substring(COMPACT_PREFIX.length()) : format;
+    }
+
+    protected Object decode(final byte[] bytes, final String manifest) throws NotSerializableException {
+        final long start = System.nanoTime();
+        final Object model = read(bytes, manifest);
+        getSerializationMetrics().recordDecode(getModelManifest(manifest), System.nanoTime() - start);
+        return model;
+    }
+
+    protected Object read(final byte[] bytes, final String manifest) throws NotSerializableException {
+        if (Objects.requireNonNull(manifest).startsWith(COMPRESSED_PREFIX)) {
+            final String format = manifest.substring(COMPRESSED_PREFIX.length());
+            if (bytes.length > 0 && bytes[0] == FLAG_DEFLATED) {
+                final byte[] inflated = decompress(bytes);
+                return fromBinary(inflated, 0, inflated.length, format);
+            } else if (bytes.length > 0 && bytes[0] == FLAG_STORED) {
+                return fromBinary(bytes, 1, bytes.length - 1, format);
+            }
+            throw new RuntimeException("Compression flag is not recognized for serialized model object: " + manifest);
+        }
+        return fromBinary(bytes, 0, bytes.length, manifest);
+    }
+
+    protected Object fromBinary(final byte[] bytes, final int offset, final int length, final String manifest) {
+        final boolean compactFormat = manifest.startsWith(COMPACT_PREFIX);
+        final String modelManifest = compactFormat ? manifest.substring(COMPACT_PREFIX.length()) : manifest;
+        final Optional<ModelBuilder<?>> builder = this.manifestMapping.getBuilder(modelManifest);
+        if (builder.isPresent() && (!compactFormat || builder.get() instanceof CompactModelBuilder)) {
+            final JsonReader reader = new JsonReader(
+                    new InputStreamReader(new ByteArrayInputStream(bytes, offset, length), StandardCharsets.UTF_8));
+            try {
+                if (compactFormat) {
+                    return ((CompactModelBuilder<?>) builder.get()).fromCompactJson(this.manifestMapping, reader)
+                            .build();
+                }
+                return JsonStreaming.readModel(this.manifestMapping, builder.get(), reader);
+            } catch (final IOException ioException) {
+                throw new RuntimeException("Failed to deserialize model object: " + manifest, ioException);
+            }
         }
         throw new RuntimeException("Serialization manifest type is not recognized: " + manifest);
     }
@@ -61,6 +361,101 @@ public class ModelSerialization extends SerializerWithStringManifest {
     public byte[] toBinary(final Object object) {
         Objects.requireNonNull(object);
         Preconditions.checkArgument(object instanceof Model, "Can only serialize Model objects");
-        return ((Model) object).toJson().toString().getBytes(StandardCharsets.UTF_8);
+        final long start = System.nanoTime();
+        final byte[] bytes;
+        if (object instanceof MemoizedModel) {
+            // Model objects received lazily hold their serialized bytes even when retention is disabled.
+            final String format = SerializedForm.getFormat(identifier(), manifest(object));
+            bytes = ((MemoizedModel) object).getSerializedForm()
+                    .get(format, getMemoizeMaxBytes(), () -> serialize((Model) object));
+        } else {
+            bytes = serialize((Model) object);
+        }
+        getSerializationMetrics().recordSerialize(
+                ((Model) object).getSerializationManifest(), bytes.length, System.nanoTime() - start);
+        return bytes;
+    }
+
+    protected byte[] serialize(final Model model) {
+        final ByteArrayOutputStream buffer = this.buffers.get();
+        buffer.reset();
+        if (getCompressionThreshold().isPresent()) {
+            // The flag is replaced when the serialized model object is large enough to be compressed.
+            buffer.write(FLAG_STORED);
+        }
+        try (final JsonWriter writer = new JsonWriter(new OutputStreamWriter(buffer, StandardCharsets.UTF_8))) {
+            if (isCompact(model)) {
+                ((CompactModel) model).toCompactJson(writer);
+            } else {
+                model.toJson(writer);
+            }
+        } catch (final IOException ioException) {
+            throw new RuntimeException("Failed to serialize model object: " + model.getClass().getName(), ioException);
+        }
+        final byte[] serialized = buffer.toByteArray();
+        if (buffer.size() > MAX_RETAINED_BUFFER_SIZE) {
+            this.buffers.remove();
+        }
+        if (getCompressionThreshold().isPresent() && serialized.length - 1 >= getCompressionThreshold().get()) {
+            return compress(serialized);
+        }
+        return serialized;
+    }
+
+    protected long getCpuTime() {
+        final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        if (threadMXBean.isCurrentThreadCpuTimeSupported()) {
+            return threadMXBean.getCurrentThreadCpuTime();
+        }
+        return System.nanoTime();
+    }
+
+    protected byte[] compress(final byte[] stored) {
+        final long start = getCpuTime();
+        final Deflater deflater = this.deflaters.get();
+        deflater.reset();
+        deflater.setInput(stored, 1, stored.length - 1);
+        deflater.finish();
+
+        final ByteArrayOutputStream compressed = new ByteArrayOutputStream(stored.length / 4 + 16);
+        compressed.write(FLAG_DEFLATED);
+        final byte[] chunk = new byte[COMPRESSION_CHUNK_SIZE];
+        while (!deflater.finished()) {
+            compressed.write(chunk, 0, deflater.deflate(chunk));
+        }
+        this.compressionStatistics.recordCompression(stored.length - 1, compressed.size() - 1, getCpuTime() - start);
+
+        // Data that does not compress well is sent as it is, since the receiver then has less work to do.
+        return compressed.size() < stored.length ? compressed.toByteArray() : stored;
+    }
+
+    protected byte[] decompress(final byte[] deflated) throws NotSerializableException {
+        final long start = getCpuTime();
+        final Inflater inflater = this.inflaters.get();
+        inflater.reset();
+        inflater.setInput(deflated, 1, deflated.length - 1);
+
+        // The initial size is computed in longs so that it cannot overflow, and never exceeds the maximum size.
+        final int maxBytes = getDecompressionMaxBytes();
+        final ByteArrayOutputStream inflated =
+                new ByteArrayOutputStream((int) Math.min(4L * deflated.length, maxBytes));
+        final byte[] chunk = new byte[COMPRESSION_CHUNK_SIZE];
+        try {
+            while (!inflater.finished()) {
+                final int count = inflater.inflate(chunk);
+                if (count == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new DataFormatException("Compressed data is truncated");
+                }
+                if ((long) inflated.size() + count > maxBytes) {
+                    throw new NotSerializableException(
+                            "Serialized model object decompresses to more than the maximum of " + maxBytes + " bytes");
+                }
+                inflated.write(chunk, 0, count);
+            }
+        } catch (final DataFormatException badData) {
+            throw new RuntimeException("Failed to decompress serialized model object", badData);
+        }
+        this.compressionStatistics.recordDecompression(getCpuTime() - start);
+        return inflated.toByteArray();
     }
 }
@@ -0,0 +1,128 @@
+package mysystem.common.serialization;
+
+import mysystem.common.model.ManifestStatistics;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Holds the running metrics describing the model objects serialized and deserialized by a serializer, kept separately
+ * for each model manifest so that the message types that cost the most to send can be found. The metrics are updated
+ * concurrently by all the threads performing serialization, without locking once a manifest has been seen.
+ */
+public class SerializationMetrics {
+    private final ConcurrentMap<String, Manifest> manifests = new ConcurrentHashMap<>();
+
+    /**
+     * The metrics describing the serialization of a single type of model object.
+     */
+    public static class Manifest {
+        private final Histogram serializedBytes = new Histogram();
+        private final Histogram deserializedBytes = new Histogram();
+        private final Histogram encodeNanos = new Histogram();
+        private final Histogram decodeNanos = new Histogram();
+
+        /**
+         * @return the sizes of the serialized bytes produced for the model objects that were sent
+         */
+        public Histogram getSerializedBytes() {
+            return this.serializedBytes;
+        }
+
+        /**
+         * @return the sizes of the serialized bytes received for the model objects that were deserialized
+         */
+        public Histogram getDeserializedBytes() {
+            return this.deserializedBytes;
+        }
+
+        /**
+         * @return the times spent serializing model objects, in nanoseconds
+         */
+        public Histogram getEncodeNanos() {
+            return this.encodeNanos;
+        }
+
+        /**
+         * @return the times spent decoding model objects from their serialized bytes, in nanoseconds
+         */
+        public Histogram getDecodeNanos() {
+            return this.decodeNanos;
+        }
+    }
+
+    /**
+     * @param manifest the manifest of a model object
+     * @return the metrics for the manifest, created when the manifest has not been seen before
+     */
+    protected Manifest getOrCreate(final String manifest) {
+        // Only the first use of a manifest takes the lock that computeIfAbsent may take even when the key is present.
+        final Manifest existing = this.manifests.get(Objects.requireNonNull(manifest));
+        return existing != null ? existing : this.manifests.computeIfAbsent(manifest, key -> new Manifest());
+    }
+
+    /**
+     * @param manifest the manifest of the serialized model object
+     * @param bytes the number of serialized bytes produced
+     * @param nanos the time spent serializing the model object, in nanoseconds
+     */
+    public void recordSerialize(final String manifest, final int bytes, final long nanos) {
+        final Manifest metrics = getOrCreate(manifest);
+        metrics.serializedBytes.record(bytes);
+        metrics.encodeNanos.record(nanos);
+    }
+
+    /**
+     * @param manifest the manifest of the deserialized model object
+     * @param bytes the number of serialized bytes received
+     */
+    public void recordDeserialize(final String manifest, final int bytes) {
+        getOrCreate(manifest).deserializedBytes.record(bytes);
+    }
+
+    /**
+     * @param manifest the manifest of the decoded model object
+     * @param nanos the time spent decoding the model object, in nanoseconds
+     */
+    public void recordDecode(final String manifest, final long nanos) {
+        getOrCreate(manifest).decodeNanos.record(nanos);
+    }
+
+    /**
+     * @param manifest the manifest of a model object
+     * @return the metrics for the manifest, or empty when the manifest has not been serialized or deserialized
+     */
+    public Optional<Manifest> get(final String manifest) {
+        return Optional.ofNullable(this.manifests.get(Objects.requireNonNull(manifest)));
+    }
+
+    /**
+     * @return an unmodifiable view of the metrics, keyed by manifest
+     */
+    public Map<String, Manifest> getManifests() {
+        return Collections.unmodifiableMap(this.manifests);
+    }
+
+    /**
+     * @param serializer the name of the serializer holding these metrics
+     * @return immutable {@link ManifestStatistics} describing the metrics recorded so far for each manifest
+     */
+    public SortedSet<ManifestStatistics> getStatistics(final String serializer) {
+        final SortedSet<ManifestStatistics> statistics = new TreeSet<>();
+        this.manifests.forEach((manifest, metrics) -> {
+            final ManifestStatistics.Builder builder = new ManifestStatistics.Builder(serializer, manifest);
+            builder.setSerializedBytes(metrics.getSerializedBytes().getSummary());
+            builder.setDeserializedBytes(metrics.getDeserializedBytes().getSummary());
+            builder.setEncodeNanos(metrics.getEncodeNanos().getSummary());
+            builder.setDecodeNanos(metrics.getDecodeNanos().getSummary());
+            statistics.add(builder.build());
+        });
+        return statistics;
+    }
+}
@@ -0,0 +1,95 @@
+package mysystem.common.serialization;
+
+import com.typesafe.config.Config;
+
+import org.apache.commons.lang3.tuple.Pair;
+
+import mysystem.common.config.CommonConfig;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Holds the most recently serialized bytes of an immutable model object, so that sending the same model object again
+ * does not serialize it again. Only serialized forms no larger than the configured maximum size are retained, which
+ * bounds the memory held by very large model objects. The serialized bytes are shared between all callers and must
+ * not be modified.
+ */
+public class SerializedForm {
+    /**
+     * The default maximum number of serialized bytes retained by each model object.
+     */
+    public final static int DEFAULT_MAX_BYTES = 256 * 1024;
+
+    // Only a single format is retained, since a model object is normally always sent using the same serializer.
+    private volatile Pair<String, byte[]> serialized;
+
+    /**
+     * Default constructor, which holds no serialized bytes until the model object is first serialized.
+     */
+    public SerializedForm() {
+    }
+
+    /**
+     * @param format identifies the serializer and manifest that produced the serialized bytes
+     * @param bytes the serialized bytes from which the model object was received, which are retained regardless of
+     * their size since the model object holds them anyway until they are decoded
+     */
+    public SerializedForm(final String format, final byte[] bytes) {
+        this.serialized = Pair.of(Objects.requireNonNull(format), Objects.requireNonNull(bytes));
+    }
+
+    /**
+     * @param config the {@link Config} from which the maximum number of serialized bytes to retain will be read
+     * @return the maximum number of serialized bytes retained by each model object, where zero disables retention
+     */
+    public static int getMaxBytes(final Config config) {
+        final String key = CommonConfig.SERIALIZATION_MEMOIZE_MAX_BYTES.getKey();
+        if (Objects.requireNonNull(config).hasPath(key)) {
+            final long maxBytes = config.getBytes(key);
+            if (maxBytes < 0 || maxBytes > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Invalid memoized serialization max bytes: " + maxBytes);
+            }
+            return (int) maxBytes;
+        }
+        return DEFAULT_MAX_BYTES;
+    }
+
+    /**
+     * @param serializerId the identifier of the serializer producing the serialized bytes
+     * @param manifest the manifest written with the serialized bytes
+     * @return the format identifying the serializer and manifest that produced the serialized bytes
+     */
+    public static String getFormat(final int serializerId, final String manifest) {
+        return serializerId + ":" + Objects.requireNonNull(manifest);
+    }
+
+    /**
+     * @param format identifies the serializer and manifest used to produce the serialized bytes
+     * @param maxBytes the maximum number of serialized bytes to retain
+     * @param serializer used to serialize the model object when the serialized bytes are not already available
+     * @return the serialized bytes of the model object in the requested format
+     */
+    public byte[] get(final String format, final int maxBytes, final Supplier<byte[]> serializer) {
+        Objects.requireNonNull(format);
+        final Pair<String, byte[]> current = this.serialized;
+        if (current != null && current.getLeft().equals(format)) {
+            return current.getRight();
+        }
+
+        final byte[] bytes = Objects.requireNonNull(serializer).get();
+        if (bytes.length <= maxBytes) {
+            // Concurrent callers may both serialize, but they produce the same bytes so either may be retained.
+            this.serialized = Pair.of(format, bytes);
+        }
+        return bytes;
+    }
+
+    /**
+     * @return the number of serialized bytes currently retained
+     */
+    public int getRetainedBytes() {
+        final Pair<String, byte[]> current = this.serialized;
+        return current == null ? 0 : current.getRight().length;
+    }
+}
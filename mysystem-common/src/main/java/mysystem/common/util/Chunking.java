@@ -0,0 +1,176 @@
+package mysystem.common.util;
+
+import com.typesafe.config.Config;
+
+import akka.actor.ActorRef;
+import akka.actor.ActorSelection;
+import akka.actor.ActorSystem;
+import akka.actor.Status;
+import akka.dispatch.OnComplete;
+import akka.serialization.Serialization;
+import akka.serialization.SerializationExtension;
+import akka.serialization.Serializer;
+import akka.serialization.SerializerWithStringManifest;
+import mysystem.common.actor.ChunkReassembler;
+import mysystem.common.config.CommonConfig;
+import mysystem.common.model.Chunk;
+import mysystem.common.model.MemoizedModel;
+import scala.concurrent.ExecutionContext;
+import scala.concurrent.Future;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Sends model objects to remote actors, splitting those whose serialized form exceeds the configured chunk size into
+ * {@link Chunk} objects that are reassembled by the {@link ChunkReassembler} on the node hosting the target actor. This
+ * allows large responses to be sent without raising the maximum frame size used by Akka remoting for every message.
+ */
+public class Chunking {
+    private final ActorSystem actorSystem;
+    private final Optional<Integer> chunkSize;
+
+    /**
+     * @param actorSystem the {@link ActorSystem} used to serialize messages and find the remote reassembler actors
+     */
+    public Chunking(final ActorSystem actorSystem) {
+        this.actorSystem = Objects.requireNonNull(actorSystem);
+        this.chunkSize = getChunkSize(actorSystem.settings().config());
+    }
+
+    /**
+     * @param config the system configuration
+     * @return the configured size at which serialized messages are split into chunks, or empty when chunking is
+     * disabled
+     */
+    public static Optional<Integer> getChunkSize(final Config config) {
+        if (Objects.requireNonNull(config).hasPath(CommonConfig.CHUNKING_SIZE.getKey())) {
+            final long size = config.getBytes(CommonConfig.CHUNKING_SIZE.getKey());
+            if (size < 1 || size > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Chunking size must be a positive integer: " + size);
+            }
+            return Optional.of((int) size);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * @return the {@link ActorSystem} used to serialize messages and find the remote reassembler actors
+     */
+    public ActorSystem getActorSystem() {
+        return this.actorSystem;
+    }
+
+    /**
+     * @return the size at which serialized messages are split into chunks, or empty when chunking is disabled
+     */
+    public Optional<Integer> getChunkSize() {
+        return this.chunkSize;
+    }
+
+    /**
+     * Send a message to the target actor, as chunks when the message is a memoized model object being sent to a remote
+     * actor and the serialized form of the model object exceeds the chunk size.
+     *
+     * @param target the {@link ActorRef} to receive the message
+     * @param message the message to send
+     * @param sender the {@link ActorRef} from which the message is sent, possibly {@link ActorRef#noSender()}
+     */
+    public void tell(final ActorRef target, final Object message, final ActorRef sender) {
+        Objects.requireNonNull(target);
+        Objects.requireNonNull(message);
+
+        final List<Chunk> chunks = isRemote(target) ? split(target, message) : Collections.emptyList();
+        if (chunks.isEmpty()) {
+            target.tell(message, sender);
+        } else {
+            final ActorSelection reassembler = ChunkReassembler.getActorSelection(getActorSystem(), target);
+            chunks.forEach(chunk -> reassembler.tell(chunk, sender));
+        }
+    }
+
+    /**
+     * Send the result of the future to the target actor once it completes, as chunks when appropriate, or a
+     * {@link Status.Failure} when the future fails.
+     *
+     * @param future the {@link Future} providing the message to send
+     * @param executionContext the {@link ExecutionContext} used to run the completion of the future
+     * @param target the {@link ActorRef} to receive the message
+     * @param <T> the type of message provided by the future
+     */
+    public <T> void pipe(final Future<T> future, final ExecutionContext executionContext, final ActorRef target) {
+        Objects.requireNonNull(target);
+        Objects.requireNonNull(future).onComplete(new OnComplete<T>() {
+            @Override
+            public void onComplete(final Throwable failure, final T message) {
+                if (failure != null) {
+                    target.tell(new Status.Failure(failure), ActorRef.noSender());
+                } else {
+                    tell(target, message, ActorRef.noSender());
+                }
+            }
+        }, Objects.requireNonNull(executionContext));
+    }
+
+    /**
+     * @param target the {@link ActorRef} to receive the message
+     * @return whether the target actor lives on a remote node, since local messages are never serialized
+     */
+    protected boolean isRemote(final ActorRef target) {
+        return target.path().address().hasGlobalScope();
+    }
+
+    /**
+     * Only {@link MemoizedModel} objects are split, since measuring the serialized form of any other message would
+     * serialize it a second time when it is sent. The responses large enough to need chunking are all memoized model
+     * collections.
+     *
+     * @param target the {@link ActorRef} to receive the reassembled message
+     * @param message the message to split into chunks
+     * @return the chunks holding the serialized form of the message, or an empty list when chunking is disabled, the
+     * message is not a memoized model object, or the serialized form of the message does not exceed the chunk size
+     */
+    public List<Chunk> split(final ActorRef target, final Object message) {
+        if (!getChunkSize().isPresent() || !(message instanceof MemoizedModel)) {
+            return Collections.emptyList();
+        }
+
+        final Serializer serializer = SerializationExtension.get(getActorSystem()).findSerializerFor(message);
+        final byte[] bytes = serializer.toBinary(message);
+        final String manifest;
+        if (serializer instanceof SerializerWithStringManifest) {
+            manifest = ((SerializerWithStringManifest) serializer).manifest(message);
+        } else {
+            manifest = serializer.includeManifest() ? message.getClass().getName() : "";
+        }
+
+        final int size = getChunkSize().get();
+        if (bytes.length <= size) {
+            // The serializer retained the measured bytes if within the memoized maximum, in which case sending the
+            // message reuses them instead of serializing it again.
+            return Collections.emptyList();
+        }
+
+        final String messageId = UUID.randomUUID().toString();
+        final String targetPath = Serialization.serializedActorPath(Objects.requireNonNull(target));
+        final int count = (bytes.length + size - 1) / size;
+        final List<Chunk> chunks = new ArrayList<>(count);
+        for (int index = 0; index < count; index++) {
+            final Chunk.Builder builder = new Chunk.Builder();
+            builder.setMessageId(messageId);
+            builder.setIndex(index);
+            builder.setCount(count);
+            builder.setTarget(targetPath);
+            builder.setSerializerId(serializer.identifier());
+            builder.setManifest(manifest);
+            builder.setBytes(Arrays.copyOfRange(bytes, index * size, Math.min(bytes.length, (index + 1) * size)));
+            chunks.add(builder.build());
+        }
+        return chunks;
+    }
+}
@@ -1,12 +1,14 @@
 package mysystem.common.util;
 
-import org.apache.commons.lang3.builder.CompareToBuilder;
-
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.RandomAccess;
+
+import javax.annotation.Nullable;
 
 /**
  * Perform comparisons between two {@link Collection} objects.
@@ -41,34 +43,77 @@ public class CollectionComparator<T> implements Comparator<Collection<T>> {
      */
     @Override
     public int compare(final Collection<T> a, final Collection<T> b) {
-        if (a != null && b != null) {
-            final CompareToBuilder cmp = new CompareToBuilder();
-            final Iterator<T> iterA = a.iterator();
-            final Iterator<T> iterB = b.iterator();
+        return compare(a, b, getComparator().orElse(null));
+    }
+
+    /**
+     * Compares two collections using the natural ordering of their elements, without creating a comparator, in the
+     * same way as a default {@link CollectionComparator} would.
+     *
+     * @param a the first collection to compare, possibly {@code null}, with elements implementing {@link Comparable}
+     * @param b the second collection to compare, possibly {@code null}, with elements implementing {@link Comparable}
+     * @param <T> the type of the elements within the collections
+     * @return the result of comparing the elements in iteration order, where a collection that is a prefix of the
+     * other is ordered first
+     */
+    public static <T> int compareValues(@Nullable final Collection<T> a, @Nullable final Collection<T> b) {
+        return compare(a, b, null);
+    }
+
+    private static <T> int compare(
+            @Nullable final Collection<T> a, @Nullable final Collection<T> b,
+            @Nullable final Comparator<T> comparator) {
+        if (a == b) {
+            return 0;
+        } else if (a == null) {
+            return -1;
+        } else if (b == null) {
+            return 1;
+        }
 
-            while (cmp.toComparison() == 0 && iterA.hasNext() && iterB.hasNext()) {
-                if (getComparator().isPresent()) {
-                    cmp.append(iterA.next(), iterB.next(), getComparator().get());
-                } else {
-                    cmp.append(iterA.next(), iterB.next());
+        if (a instanceof List && a instanceof RandomAccess && b instanceof List && b instanceof RandomAccess) {
+            // Indexed access avoids creating iterators for the common case of array-backed lists.
+            final List<T> listA = (List<T>) a;
+            final List<T> listB = (List<T>) b;
+            final int common = Math.min(listA.size(), listB.size());
+            for (int index = 0; index < common; index++) {
+                final int cmp = compareElements(listA.get(index), listB.get(index), comparator);
+                if (cmp != 0) {
+                    return cmp;
                 }
             }
+            return Integer.compare(listA.size(), listB.size());
+        }
 
-            if (cmp.toComparison() == 0) {
-                if (iterA.hasNext()) {
-                    return 1;
-                } else if (iterB.hasNext()) {
-                    return -1;
-                }
+        final Iterator<T> iterA = a.iterator();
+        final Iterator<T> iterB = b.iterator();
+        while (iterA.hasNext() && iterB.hasNext()) {
+            final int cmp = compareElements(iterA.next(), iterB.next(), comparator);
+            if (cmp != 0) {
+                return cmp;
             }
+        }
 
-            return cmp.toComparison();
-        } else if (a != null) {
+        if (iterA.hasNext()) {
             return 1;
-        } else if (b != null) {
+        } else if (iterB.hasNext()) {
             return -1;
-        } else {
+        }
+        return 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> int compareElements(
+            @Nullable final T a, @Nullable final T b, @Nullable final Comparator<T> comparator) {
+        if (a == b) {
             return 0;
+        } else if (a == null) {
+            return -1;
+        } else if (b == null) {
+            return 1;
+        } else if (comparator != null) {
+            return comparator.compare(a, b);
         }
+        return ((Comparable<T>) a).compareTo(b);
     }
 }
@@ -0,0 +1,87 @@
+package mysystem.common.util;
+
+import javax.annotation.Nullable;
+
+/**
+ * Static helpers used by the immutable model classes to compute their hash codes without allocating a builder. The
+ * values produced are identical to those produced by the default
+ * {@link org.apache.commons.lang3.builder.HashCodeBuilder}, so that a model's hash code is not changed by switching
+ * to these methods:
+ *
+ * <pre>
+ * int hash = HashCodes.INITIAL;
+ * hash = HashCodes.append(hash, getName());
+ * hash = HashCodes.append(hash, isActive());
+ * return hash;
+ * </pre>
+ */
+public final class HashCodes {
+    /** The initial value of a hash code before any fields are appended. */
+    public final static int INITIAL = 17;
+
+    private final static int MULTIPLIER = 37;
+
+    private HashCodes() {
+    }
+
+    /**
+     * @param hash the hash code computed for the previous fields
+     * @param value the value of the next field, possibly {@code null}
+     * @return the hash code including the field
+     */
+    public static int append(final int hash, @Nullable final Object value) {
+        return hash * MULTIPLIER + (value == null ? 0 : value.hashCode());
+    }
+
+    /**
+     * @param hash the hash code computed for the previous fields
+     * @param value the value of the next field
+     * @return the hash code including the field
+     */
+    public static int append(final int hash, final int value) {
+        return hash * MULTIPLIER + value;
+    }
+
+    /**
+     * @param hash the hash code computed for the previous fields
+     * @param value the value of the next field
+     * @return the hash code including the field
+     */
+    public static int append(final int hash, final long value) {
+        return hash * MULTIPLIER + (int) (value ^ (value >> 32));
+    }
+
+    /**
+     * @param hash the hash code computed for the previous fields
+     * @param value the value of the next field
+     * @return the hash code including the field
+     */
+    public static int append(final int hash, final boolean value) {
+        return hash * MULTIPLIER + (value ? 0 : 1);
+    }
+
+    /**
+     * @param hash the hash code computed for the previous fields
+     * @param value the value of the next field
+     * @return the hash code including the field
+     */
+    public static int append(final int hash, final double value) {
+        return append(hash, Double.doubleToLongBits(value));
+    }
+
+    /**
+     * @param hash the hash code computed for the previous fields
+     * @param value the value of the next field, possibly {@code null}, which is hashed by its contents
+     * @return the hash code including the field
+     */
+    public static int append(final int hash, @Nullable final byte[] value) {
+        if (value == null) {
+            return hash * MULTIPLIER;
+        }
+        int result = hash;
+        for (final byte element : value) {
+            result = result * MULTIPLIER + element;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,347 @@
+package mysystem.common.util;
+
+import com.google.common.base.Preconditions;
+
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+
+import javax.annotation.Nullable;
+
+/**
+ * An immutable set of unique identifiers, held in ascending order in an {@code int} array so that large sets of ids
+ * need only four bytes per id. The {@code int}-based methods ({@link #get(int)}, {@link #contains(int)},
+ * {@link #forEachId(IntConsumer)}, {@link #intStream()} and the {@link PrimitiveIterator.OfInt} iterator) never box
+ * the ids, while the {@link java.util.Set} view allows the set to be used wherever a collection of ids is expected.
+ * Partitions and slices share the array of the set they are taken from.
+ */
+public final class IdSet extends AbstractSet<Integer> implements Comparable<IdSet> {
+    /** An empty set of ids. */
+    public final static IdSet EMPTY = new IdSet(new int[0], 0, 0);
+
+    private final int[] ids;
+    private final int from;
+    private final int to;
+
+    /**
+     * @param ids the array holding the sorted and distinct ids
+     * @param from the index of the first id in the array belonging to this set
+     * @param to the index after the last id in the array belonging to this set
+     */
+    private IdSet(final int[] ids, final int from, final int to) {
+        this.ids = ids;
+        this.from = from;
+        this.to = to;
+    }
+
+    /**
+     * @param ids the ids to include in the set, in any order and possibly with duplicates
+     * @return a set containing the distinct ids
+     */
+    public static IdSet of(final int... ids) {
+        return new Builder().add(Objects.requireNonNull(ids)).build();
+    }
+
+    /**
+     * @param ids the ids to include in the set, in any order and possibly with duplicates
+     * @return a set containing the distinct ids
+     */
+    public static IdSet of(final Collection<Integer> ids) {
+        if (Objects.requireNonNull(ids) instanceof IdSet) {
+            return (IdSet) ids;
+        }
+        return new Builder().add(ids).build();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return this.to - this.from;
+    }
+
+    /**
+     * @param index the position of an id in the set, between zero and the size of the set
+     * @return the id at the position, where the ids are in ascending order
+     */
+    public int get(final int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index " + index + " is outside a set of size " + size());
+        }
+        return this.ids[this.from + index];
+    }
+
+    /**
+     * @return the smallest id in the set
+     * @throws NoSuchElementException if the set is empty
+     */
+    public int first() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("The set of ids is empty");
+        }
+        return this.ids[this.from];
+    }
+
+    /**
+     * @return the largest id in the set
+     * @throws NoSuchElementException if the set is empty
+     */
+    public int last() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("The set of ids is empty");
+        }
+        return this.ids[this.to - 1];
+    }
+
+    /**
+     * @param id the id to find
+     * @return whether the set contains the id
+     */
+    public boolean contains(final int id) {
+        return Arrays.binarySearch(this.ids, this.from, this.to, id) >= 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean contains(@Nullable final Object object) {
+        return (object instanceof Integer) && contains(((Integer) object).intValue());
+    }
+
+    /**
+     * @param consumer the consumer to receive each of the ids in ascending order
+     */
+    public void forEachId(final IntConsumer consumer) {
+        Objects.requireNonNull(consumer);
+        for (int index = this.from; index < this.to; index++) {
+            consumer.accept(this.ids[index]);
+        }
+    }
+
+    /**
+     * @return a stream of the ids in ascending order
+     */
+    public IntStream intStream() {
+        return Arrays.stream(this.ids, this.from, this.to);
+    }
+
+    /**
+     * @return a new array holding the ids in ascending order
+     */
+    public int[] toIntArray() {
+        return Arrays.copyOfRange(this.ids, this.from, this.to);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PrimitiveIterator.OfInt iterator() {
+        return new PrimitiveIterator.OfInt() {
+            private int index = IdSet.this.from;
+
+            @Override
+            public boolean hasNext() {
+                return this.index < IdSet.this.to;
+            }
+
+            @Override
+            public int nextInt() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return IdSet.this.ids[this.index++];
+            }
+        };
+    }
+
+    /**
+     * @param fromIndex the position of the first id to include, inclusive
+     * @param toIndex the position of the last id to include, exclusive
+     * @return a set containing the ids between the two positions, sharing the array of this set
+     */
+    public IdSet slice(final int fromIndex, final int toIndex) {
+        if (fromIndex < 0 || toIndex > size() || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException(
+                    "Slice " + fromIndex + " to " + toIndex + " is outside a set of size " + size());
+        }
+        return new IdSet(this.ids, this.from + fromIndex, this.from + toIndex);
+    }
+
+    /**
+     * @param size the largest number of ids to include in each partition
+     * @return consecutive slices of this set, each of which holds the specified number of ids except for the last
+     */
+    public List<IdSet> partition(final int size) {
+        Preconditions.checkArgument(size > 0, "Partition size must be positive");
+        final List<IdSet> partitions = new ArrayList<>((size() + size - 1) / size);
+        for (int index = 0; index < size(); index += size) {
+            partitions.add(slice(index, Math.min(size(), index + size)));
+        }
+        return Collections.unmodifiableList(partitions);
+    }
+
+    /**
+     * @param predicate the predicate used to decide which ids to keep
+     * @return a set containing the ids in this set that match the predicate
+     */
+    public IdSet filter(final IntPredicate predicate) {
+        Objects.requireNonNull(predicate);
+        final int[] kept = new int[size()];
+        int count = 0;
+        for (int index = this.from; index < this.to; index++) {
+            if (predicate.test(this.ids[index])) {
+                kept[count++] = this.ids[index];
+            }
+        }
+        return count == size() ? this : new IdSet(kept, 0, count);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int compareTo(@Nullable final IdSet other) {
+        if (other == null) {
+            return 1;
+        }
+
+        // Compares the ids in order, with a set that is a prefix of the other ordered first.
+        final int common = Math.min(size(), other.size());
+        for (int index = 0; index < common; index++) {
+            final int cmp = Integer.compare(this.ids[this.from + index], other.ids[other.from + index]);
+            if (cmp != 0) {
+                return cmp;
+            }
+        }
+        return Integer.compare(size(), other.size());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(@Nullable final Object other) {
+        if (other instanceof IdSet) {
+            return compareTo((IdSet) other) == 0;
+        }
+        return super.equals(other);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        // Matches the hash code of any other set holding the same ids, as required by the Set contract.
+        int hash = 0;
+        for (int index = this.from; index < this.to; index++) {
+            hash += this.ids[index];
+        }
+        return hash;
+    }
+
+    /**
+     * Used to create {@link IdSet} instances, collecting ids in a growable array that is sorted only once when the set
+     * is built.
+     */
+    public static class Builder {
+        private int[] ids;
+        private int size = 0;
+
+        /**
+         * Default constructor.
+         */
+        public Builder() {
+            this(16);
+        }
+
+        /**
+         * @param expectedSize the number of ids expected to be added to the builder
+         */
+        public Builder(final int expectedSize) {
+            Preconditions.checkArgument(expectedSize >= 0, "Expected size cannot be negative");
+            this.ids = new int[expectedSize];
+        }
+
+        private void ensureCapacity(final int additional) {
+            if (this.size + additional > this.ids.length) {
+                this.ids = Arrays.copyOf(this.ids, Math.max(this.size + additional, this.ids.length * 2));
+            }
+        }
+
+        /**
+         * @return whether no ids have been added to the builder
+         */
+        public boolean isEmpty() {
+            return this.size == 0;
+        }
+
+        /**
+         * @param id the id to add to the set
+         * @return {@code this} for fluent-style usage
+         */
+        public Builder add(final int id) {
+            ensureCapacity(1);
+            this.ids[this.size++] = id;
+            return this;
+        }
+
+        /**
+         * @param ids the ids to add to the set
+         * @return {@code this} for fluent-style usage
+         */
+        public Builder add(final int... ids) {
+            ensureCapacity(Objects.requireNonNull(ids).length);
+            System.arraycopy(ids, 0, this.ids, this.size, ids.length);
+            this.size += ids.length;
+            return this;
+        }
+
+        /**
+         * @param ids the ids to add to the set
+         * @return {@code this} for fluent-style usage
+         */
+        public Builder add(final Collection<Integer> ids) {
+            if (Objects.requireNonNull(ids) instanceof IdSet) {
+                final IdSet idSet = (IdSet) ids;
+                ensureCapacity(idSet.size());
+                System.arraycopy(idSet.ids, idSet.from, this.ids, this.size, idSet.size());
+                this.size += idSet.size();
+            } else {
+                ensureCapacity(ids.size());
+                ids.forEach(id -> this.ids[this.size++] = Objects.requireNonNull(id));
+            }
+            return this;
+        }
+
+        /**
+         * @return the set of the distinct ids added to this builder
+         */
+        public IdSet build() {
+            if (this.size == 0) {
+                return EMPTY;
+            }
+            final int[] sorted = Arrays.copyOf(this.ids, this.size);
+            Arrays.sort(sorted);
+            int distinct = 1;
+            for (int index = 1; index < sorted.length; index++) {
+                if (sorted[index] != sorted[distinct - 1]) {
+                    sorted[distinct++] = sorted[index];
+                }
+            }
+            return new IdSet(sorted, 0, distinct);
+        }
+    }
+}
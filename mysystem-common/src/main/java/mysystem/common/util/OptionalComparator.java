@@ -1,7 +1,5 @@
 package mysystem.common.util;
 
-import org.apache.commons.lang3.builder.CompareToBuilder;
-
 import java.util.Comparator;
 import java.util.Objects;
 import java.util.Optional;
@@ -38,17 +36,42 @@ public class OptionalComparator<T> implements Comparator<Optional<T>> {
      * {@inheritDoc}
      */
     @Override
+    @SuppressWarnings("unchecked")
     public int compare(final Optional<T> a, final Optional<T> b) {
         // Parameters expected to not be null. That is why optionals are used, after all.
         if (a.isPresent() && b.isPresent()) {
-            final CompareToBuilder cmp = new CompareToBuilder();
-            if (getComparator().isPresent()) {
-                cmp.append(a.get(), b.get(), getComparator().get());
-            } else {
-                cmp.append(a.get(), b.get());
+            final T valueA = a.get();
+            final T valueB = b.get();
+            if (valueA == valueB) {
+                return 0;
+            } else if (getComparator().isPresent()) {
+                return getComparator().get().compare(valueA, valueB);
             }
-            return cmp.toComparison();
-        } else if (!a.isPresent() && !b.isPresent()) {
+            return ((Comparable<T>) valueA).compareTo(valueB);
+        }
+        return compareEmpty(a, b);
+    }
+
+    /**
+     * Compares two optionals using the natural ordering of their values, without creating a comparator, in the same
+     * way as a default {@link OptionalComparator} would.
+     *
+     * @param a the first optional to compare
+     * @param b the second optional to compare
+     * @param <T> the type of the values within the optionals
+     * @return the result of the comparison, where an empty optional is ordered before a present one
+     */
+    public static <T extends Comparable<? super T>> int compareValues(final Optional<T> a, final Optional<T> b) {
+        if (a.isPresent() && b.isPresent()) {
+            final T valueA = a.get();
+            final T valueB = b.get();
+            return valueA == valueB ? 0 : valueA.compareTo(valueB);
+        }
+        return compareEmpty(a, b);
+    }
+
+    private static int compareEmpty(final Optional<?> a, final Optional<?> b) {
+        if (!a.isPresent() && !b.isPresent()) {
             return 0;
         } else if (a.isPresent()) {
             return 1;
@@ -0,0 +1,135 @@
+package mysystem.common.actor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.actor.Props;
+import akka.testkit.JavaTestKit;
+import akka.testkit.TestActorRef;
+import mysystem.common.config.CommonConfig;
+import mysystem.common.model.Chunk;
+import mysystem.common.model.Company;
+import mysystem.common.util.Chunking;
+import scala.concurrent.duration.FiniteDuration;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Perform testing on the {@link ChunkReassembler} class.
+ */
+public class ChunkReassemblerTest {
+    private static ActorSystem system = null;
+
+    /**
+     * Initialize the test actor system, binding model objects to the model serializer and using a tiny chunk size.
+     */
+    @BeforeClass
+    public static void setup() {
+        final Config config = ConfigFactory.parseString(String.join("\n",
+                "akka.actor.serializers.mysystem = \"mysystem.common.serialization.ModelSerialization\"",
+                "akka.actor.serialization-bindings { \"mysystem.common.model.Model\" = mysystem }",
+                CommonConfig.CHUNKING_SIZE.getKey() + " = 8",
+                CommonConfig.CHUNKING_REASSEMBLY_TIMEOUT.getKey() + " = 100 ms"));
+        system = ActorSystem.create(ChunkReassemblerTest.class.getSimpleName(), config);
+    }
+
+    /**
+     * Shut down the test actor system.
+     */
+    @AfterClass
+    public static void teardown() {
+        JavaTestKit.shutdownActorSystem(system);
+        system = null;
+    }
+
+    @Test
+    public void testReassembleOutOfOrder() {
+        new JavaTestKit(system) {{
+            final TestActorRef<ChunkReassembler> reassembler =
+                    TestActorRef.create(system, Props.create(ChunkReassembler.class));
+            final Company company = new Company.Builder().setId(1).setName("a company name").build();
+            final List<Chunk> chunks = new Chunking(system).split(getRef(), company);
+            assertTrue(chunks.size() > 2);
+
+            Collections.reverse(chunks);
+            chunks.forEach(chunk -> reassembler.tell(chunk, ActorRef.noSender()));
+            expectMsgEquals(company);
+            assertEquals(0, reassembler.underlyingActor().getPartialCount());
+        }};
+    }
+
+    @Test
+    public void testDuplicateChunks() {
+        new JavaTestKit(system) {{
+            final TestActorRef<ChunkReassembler> reassembler =
+                    TestActorRef.create(system, Props.create(ChunkReassembler.class));
+            final Company company = new Company.Builder().setId(2).setName("another company").build();
+            final List<Chunk> chunks = new Chunking(system).split(getRef(), company);
+
+            reassembler.tell(chunks.get(0), ActorRef.noSender());
+            chunks.forEach(chunk -> reassembler.tell(chunk, ActorRef.noSender()));
+            expectMsgEquals(company);
+            expectNoMsg(FiniteDuration.create(50, TimeUnit.MILLISECONDS));
+        }};
+    }
+
+    @Test
+    public void testExpirePartial() {
+        new JavaTestKit(system) {{
+            final TestActorRef<ChunkReassembler> reassembler =
+                    TestActorRef.create(system, Props.create(ChunkReassembler.class));
+            assertEquals(FiniteDuration.create(100, TimeUnit.MILLISECONDS),
+                    reassembler.underlyingActor().getReassemblyTimeout());
+
+            final Company company = new Company.Builder().setId(3).setName("incomplete company").build();
+            final List<Chunk> chunks = new Chunking(system).split(getRef(), company);
+            reassembler.tell(chunks.get(0), ActorRef.noSender());
+            assertEquals(1, reassembler.underlyingActor().getPartialCount());
+
+            new AwaitCond(duration("2 seconds")) {
+                @Override
+                protected boolean cond() {
+                    return reassembler.underlyingActor().getPartialCount() == 0;
+                }
+            };
+
+            // The remaining chunks arriving after expiration never complete the message.
+            chunks.stream().skip(1).forEach(chunk -> reassembler.tell(chunk, ActorRef.noSender()));
+            expectNoMsg(FiniteDuration.create(50, TimeUnit.MILLISECONDS));
+        }};
+    }
+
+    @Test
+    public void testCreate() {
+        new JavaTestKit(system) {{
+            final ActorRef reassembler = ChunkReassembler.create(system);
+            final Company company = new Company.Builder().setId(4).setName("selected company").build();
+            new Chunking(system).split(getRef(), company)
+                    .forEach(chunk -> ChunkReassembler.getActorSelection(system, getRef()).tell(chunk, getRef()));
+            expectMsgEquals(company);
+            assertEquals(getRef(), getLastSender());
+            system.stop(reassembler);
+        }};
+    }
+
+    @Test
+    public void testUnhandled() {
+        new JavaTestKit(system) {{
+            final TestActorRef<ChunkReassembler> reassembler =
+                    TestActorRef.create(system, Props.create(ChunkReassembler.class));
+            reassembler.tell("unhandled", getRef());
+            expectNoMsg(FiniteDuration.create(50, TimeUnit.MILLISECONDS));
+        }};
+    }
+}
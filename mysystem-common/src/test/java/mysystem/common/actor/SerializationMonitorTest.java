@@ -0,0 +1,93 @@
+package mysystem.common.actor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+import org.apache.commons.lang3.StringUtils;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.actor.PoisonPill;
+import akka.actor.Props;
+import akka.serialization.SerializationExtension;
+import akka.testkit.JavaTestKit;
+import mysystem.common.config.CommonConfig;
+import mysystem.common.model.Company;
+import mysystem.common.model.CompressionSummary;
+import mysystem.common.model.GetSerializationStatistics;
+import mysystem.common.model.ManifestStatistics;
+import mysystem.common.model.SerializationStatistics;
+
+/**
+ * Perform testing on the {@link SerializationMonitor} class.
+ */
+public class SerializationMonitorTest {
+    private static ActorSystem system = null;
+
+    /**
+     * Initialize the test actor system, binding model objects to the model serializer with compression enabled.
+     */
+    @BeforeClass
+    public static void setup() {
+        final Config config = ConfigFactory.parseString(String.join("\n",
+                "akka.actor.serializers.mysystem = \"mysystem.common.serialization.ModelSerialization\"",
+                "akka.actor.serialization-bindings { \"mysystem.common.model.Model\" = mysystem }",
+                CommonConfig.SERIALIZATION_COMPRESSION_THRESHOLD.getKey() + " = 64"));
+        system = ActorSystem.create(SerializationMonitorTest.class.getSimpleName(), config);
+    }
+
+    /**
+     * Shut down the test actor system.
+     */
+    @AfterClass
+    public static void teardown() {
+        JavaTestKit.shutdownActorSystem(system);
+        system = null;
+    }
+
+    @Test
+    public void testGetSerializationStatistics() {
+        new JavaTestKit(system) {{
+            final Company company = new Company.Builder().setId(1).setName(StringUtils.repeat("name", 50)).build();
+            SerializationExtension.get(system).serialize(company).get();
+
+            final ActorRef monitor = SerializationMonitor.create(system);
+            try {
+                SerializationMonitor.getActorSelection(system)
+                        .tell(new GetSerializationStatistics.Builder().build(), getRef());
+
+                final SerializationStatistics statistics = expectMsgClass(SerializationStatistics.class);
+                assertEquals("akka://" + SerializationMonitorTest.class.getSimpleName(), statistics.getAddress());
+                assertTrue(statistics.getManifests().size() >= 1);
+
+                final ManifestStatistics companyStatistics = statistics.getManifests().stream()
+                        .filter(m -> m.getManifest().equals("Company")).findFirst().get();
+                assertEquals("ModelSerialization", companyStatistics.getSerializer());
+                assertEquals(1, companyStatistics.getSerializedBytes().getCount());
+
+                final CompressionSummary compression = statistics.getCompression();
+                assertEquals(1, compression.getCompressedCount());
+                assertTrue(compression.getCompressionRatio() > 1);
+                assertTrue(compression.getCompressionNanos() > 0);
+            } finally {
+                monitor.tell(PoisonPill.getInstance(), ActorRef.noSender());
+            }
+        }};
+    }
+
+    @Test
+    public void testUnhandled() {
+        new JavaTestKit(system) {{
+            final ActorRef monitor = system.actorOf(Props.create(SerializationMonitor.class));
+            monitor.tell("unhandled", getRef());
+            expectNoMsg(duration("100 ms"));
+            monitor.tell(PoisonPill.getInstance(), ActorRef.noSender());
+        }};
+    }
+}
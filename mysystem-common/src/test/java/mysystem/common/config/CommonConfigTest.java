@@ -20,5 +20,11 @@ public class CommonConfigTest {
     public void testGetKey() {
         assertEquals("mysystem.version", CommonConfig.VERSION.getKey());
         assertEquals("mysystem.actor.system.name", CommonConfig.ACTOR_SYSTEM_NAME.getKey());
+        assertEquals("mysystem.serialization.compact.json", CommonConfig.SERIALIZATION_COMPACT_JSON.getKey());
+        assertEquals("mysystem.serialization.compression.threshold",
+                CommonConfig.SERIALIZATION_COMPRESSION_THRESHOLD.getKey());
+        assertEquals("mysystem.serialization.memoize.max.bytes", CommonConfig.SERIALIZATION_MEMOIZE_MAX_BYTES.getKey());
+        assertEquals("mysystem.chunking.size", CommonConfig.CHUNKING_SIZE.getKey());
+        assertEquals("mysystem.chunking.reassembly.timeout", CommonConfig.CHUNKING_REASSEMBLY_TIMEOUT.getKey());
     }
 }
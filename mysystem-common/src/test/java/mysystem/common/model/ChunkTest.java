@@ -0,0 +1,144 @@
+package mysystem.common.model;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.junit.Test;
+
+import mysystem.common.serialization.BinaryReader;
+import mysystem.common.serialization.BinaryWriter;
+import mysystem.common.serialization.ManifestMapping;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+
+/**
+ * Perform testing of the {@link Chunk} class and builder.
+ */
+public class ChunkTest {
+    private final ManifestMapping mapping = new ManifestMapping();
+
+    private Chunk.Builder getBuilder() {
+        return new Chunk.Builder().setMessageId("id").setIndex(0).setCount(2).setTarget("akka://sys/user/a#1")
+                .setSerializerId(5).setManifest("Company").setBytes(new byte[] {1, 2, 3});
+    }
+
+    @Test
+    public void testCompareTo() {
+        final Chunk a = getBuilder().build();
+        final Chunk b = getBuilder().setIndex(1).build();
+        final Chunk c = getBuilder().setBytes(new byte[] {1, 2, 4}).build();
+        final Chunk d = getBuilder().setBytes(new byte[] {9}).build();
+
+        assertEquals(1, a.compareTo(null));
+        assertEquals(0, a.compareTo(a));
+        assertEquals(0, a.compareTo(getBuilder().build()));
+        assertEquals(-1, a.compareTo(b));
+        assertEquals(-1, a.compareTo(c));
+        assertEquals(1, b.compareTo(a));
+        assertEquals(1, c.compareTo(a));
+
+        // Bytes are ordered by length before their contents.
+        assertEquals(1, a.compareTo(d));
+        assertEquals(-1, d.compareTo(a));
+    }
+
+    @Test
+    public void testEquals() {
+        final Chunk a = getBuilder().build();
+        final Chunk b = getBuilder().setManifest("").build();
+
+        assertFalse(a.equals(null));
+        assertTrue(a.equals(a));
+        assertTrue(a.equals(getBuilder().build()));
+        assertFalse(a.equals(b));
+        assertFalse(b.equals(a));
+    }
+
+    @Test
+    public void testHashCode() {
+        // The bytes are hashed by their contents, the same as the HashCodeBuilder previously used.
+        final HashCodeBuilder hash = new HashCodeBuilder();
+        hash.append("id").append(0).append(2).append("akka://sys/user/a#1").append(5).append("Company");
+        hash.append(new byte[] {1, 2, 3});
+        assertEquals(hash.toHashCode(), getBuilder().build().hashCode());
+
+        assertEquals(getBuilder().build().hashCode(), getBuilder().build().hashCode());
+        assertFalse(getBuilder().build().hashCode() == getBuilder().setBytes(new byte[] {3}).build().hashCode());
+    }
+
+    @Test
+    public void testToJson() {
+        assertEquals("{\"messageId\":\"id\",\"index\":0,\"count\":2,\"target\":\"akka://sys/user/a#1\","
+                + "\"serializerId\":5,\"messageManifest\":\"Company\",\"bytes\":\"AQID\",\"manifest\":\"Chunk\"}",
+                getBuilder().build().toJson().toString());
+    }
+
+    @Test
+    public void testToString() {
+        assertEquals("Chunk[messageId=id,index=0,count=2,target=akka://sys/user/a#1,serializerId=5,manifest=Company,"
+                + "bytes=3]", getBuilder().build().toString());
+    }
+
+    @Test
+    public void testJsonRoundTrip() throws IOException {
+        final Chunk chunk = getBuilder().build();
+        assertEquals(chunk, new Chunk.Builder().fromJson(mapping, chunk.toJson()).build());
+
+        final StringWriter stringWriter = new StringWriter();
+        chunk.toJson(new JsonWriter(stringWriter));
+        final JsonReader reader = new JsonReader(new StringReader(stringWriter.toString()));
+        reader.beginObject();
+        final Chunk streamed = new Chunk.Builder().fromJsonFields(mapping, reader).build();
+        reader.endObject();
+        assertEquals(chunk, streamed);
+    }
+
+    @Test
+    public void testBinaryRoundTrip() {
+        final Chunk chunk = getBuilder().setSerializerId(-5).build();
+        final BinaryWriter writer = new BinaryWriter();
+        chunk.writeBinary(writer);
+
+        final Chunk read = new Chunk.Builder().fromBinary(mapping, new BinaryReader(writer.toByteArray())).build();
+        assertEquals(chunk, read);
+        assertArrayEquals(new byte[] {1, 2, 3}, read.getBytes());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testBuilderWithNoMessageId() {
+        new Chunk.Builder().setIndex(0).setCount(1).setTarget("t").setSerializerId(1).setBytes(new byte[0]).build();
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testBuilderWithIndexBeyondCount() {
+        getBuilder().setIndex(2).build();
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testBuilderWithNoBytes() {
+        new Chunk.Builder().setMessageId("id").setIndex(0).setCount(1).setTarget("t").setSerializerId(1).build();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBuilderWithNegativeIndex() {
+        new Chunk.Builder().setIndex(-1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBuilderWithZeroCount() {
+        new Chunk.Builder().setCount(0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBuilderWithBlankTarget() {
+        new Chunk.Builder().setTarget(" ");
+    }
+}
@@ -2,15 +2,22 @@ package mysystem.common.model;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 
 import org.junit.Test;
 
 import mysystem.common.serialization.ManifestMapping;
 
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+
 /**
  * Perform testing of the {@link Company} class and builder.
  */
@@ -69,6 +76,15 @@ public class CompanyTest {
         assertTrue(d.equals(d));
     }
 
+    @Test
+    public void testSerializedForm() {
+        final Company model = new Company.Builder().setId(1).setName("name").build();
+
+        // The serialized form is created when first needed, and then retained.
+        assertSame(model.getSerializedForm(), model.getSerializedForm());
+        assertEquals(0, model.getSerializedForm().getRetainedBytes());
+    }
+
     @Test
     public void testHashCode() {
         final Company a = new Company.Builder().setId(1).setName("a").build();
@@ -142,6 +158,33 @@ public class CompanyTest {
         assertEquals(cd, new Company.Builder().fromJson(mapping, jd).build());
     }
 
+    @Test
+    public void testToJsonWriter() throws IOException {
+        final Company a = new Company.Builder().setId(1).setName("a").build();
+        final Company b = new Company.Builder().setName("b").setActive(false).build();
+
+        final StringWriter stringWriter = new StringWriter();
+        a.toJson(new JsonWriter(stringWriter));
+        assertEquals("{\"manifest\":\"Company\",\"id\":1,\"name\":\"a\",\"active\":true}",
+                stringWriter.toString());
+
+        stringWriter.getBuffer().setLength(0);
+        b.toJson(new JsonWriter(stringWriter));
+        assertEquals("{\"manifest\":\"Company\",\"name\":\"b\",\"active\":false}",
+                stringWriter.toString());
+    }
+
+    @Test
+    public void testBuilderFromJsonFields() throws IOException {
+        final JsonReader reader =
+                new JsonReader(new StringReader("{\"id\":1,\"name\":\"a\",\"other\":[1],\"active\":false}"));
+        reader.beginObject();
+        final Company company = new Company.Builder().fromJsonFields(mapping, reader).build();
+        reader.endObject();
+
+        assertEquals(new Company.Builder().setId(1).setName("a").setActive(false).build(), company);
+    }
+
     @Test(expected = IllegalStateException.class)
     public void testBuilderFromJsonNoName() {
         new Company.Builder().fromJson(mapping, new JsonParser().parse("{\"active\":true}").getAsJsonObject()).build();
@@ -154,4 +197,30 @@ public class CompanyTest {
 
         assertEquals(a, b);
     }
+
+    @Test
+    public void testToCompactJson() throws IOException {
+        final Company a = new Company.Builder().setId(1).setName("a").build();
+        final Company b = new Company.Builder().setName("b").setActive(false).build();
+
+        final StringWriter stringWriter = new StringWriter();
+        a.toCompactJson(new JsonWriter(stringWriter));
+        assertEquals("[1,\"a\",true]", stringWriter.toString());
+
+        stringWriter.getBuffer().setLength(0);
+        b.toCompactJson(new JsonWriter(stringWriter));
+        assertEquals("[null,\"b\",false]", stringWriter.toString());
+    }
+
+    @Test
+    public void testBuilderFromCompactJson() throws IOException {
+        final Company a = new Company.Builder()
+                .fromCompactJson(mapping, new JsonReader(new StringReader("[1,\"a\",false]"))).build();
+        assertEquals(new Company.Builder().setId(1).setName("a").setActive(false).build(), a);
+
+        // Any values appended by newer versions are ignored.
+        final Company b = new Company.Builder()
+                .fromCompactJson(mapping, new JsonReader(new StringReader("[null,\"b\",true,[1],\"c\"]"))).build();
+        assertEquals(new Company.Builder().setName("b").build(), b);
+    }
 }
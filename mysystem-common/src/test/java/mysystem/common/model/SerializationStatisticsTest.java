@@ -0,0 +1,153 @@
+package mysystem.common.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import mysystem.common.serialization.ManifestMapping;
+
+/**
+ * Perform testing of the {@link SerializationStatistics}, {@link ManifestStatistics}, {@link HistogramSummary} and
+ * {@link CompressionSummary} classes and builders.
+ */
+public class SerializationStatisticsTest {
+    private final ManifestMapping mapping = new ManifestMapping();
+
+    private HistogramSummary getSummary(final long count) {
+        return new HistogramSummary.Builder().setCount(count).setSum(count * 10).setMax(20).setP50(8).setP90(16)
+                .setP99(20).build();
+    }
+
+    private ManifestStatistics getManifest(final String manifest) {
+        return new ManifestStatistics.Builder("ModelSerialization", manifest).setSerializedBytes(getSummary(2))
+                .setDeserializedBytes(getSummary(3)).setEncodeNanos(getSummary(2)).setDecodeNanos(getSummary(1))
+                .build();
+    }
+
+    private CompressionSummary getCompression(final long count) {
+        return new CompressionSummary.Builder().setCompressedCount(count).setUncompressedBytes(count * 300)
+                .setCompressedBytes(count * 100).setCompressionNanos(count * 50).setDecompressedCount(1)
+                .setDecompressionNanos(20).build();
+    }
+
+    private SerializationStatistics getStatistics() {
+        return new SerializationStatistics.Builder("akka://sys").add(getManifest("Company"), getManifest("Chunk"))
+                .setCompression(getCompression(2)).build();
+    }
+
+    @Test
+    public void testCompareTo() {
+        final SerializationStatistics a = getStatistics();
+        final SerializationStatistics b = new SerializationStatistics.Builder("akka://sys").add(getManifest("Chunk"))
+                .build();
+        final SerializationStatistics c = new SerializationStatistics.Builder("akka://tys").build();
+
+        assertEquals(1, a.compareTo(null));
+        assertEquals(0, a.compareTo(a));
+        assertEquals(0, a.compareTo(getStatistics()));
+        assertEquals(1, a.compareTo(b));
+        assertEquals(-1, b.compareTo(a));
+        assertEquals(-1, a.compareTo(c));
+        assertEquals(1, c.compareTo(a));
+        assertEquals(-1, getCompression(1).compareTo(getCompression(2)));
+        assertEquals(1, getCompression(1).compareTo(null));
+    }
+
+    @Test
+    public void testEquals() {
+        assertFalse(getStatistics().equals(null));
+        assertTrue(getStatistics().equals(getStatistics()));
+        assertFalse(getManifest("Company").equals(getManifest("Chunk")));
+        assertFalse(getSummary(1).equals(getSummary(2)));
+        assertFalse(getCompression(1).equals(getCompression(2)));
+        assertFalse(getStatistics().equals(new SerializationStatistics.Builder("akka://sys")
+                .add(getManifest("Company"), getManifest("Chunk")).build()));
+    }
+
+    @Test
+    public void testHashCode() {
+        assertEquals(getStatistics().hashCode(), getStatistics().hashCode());
+        assertEquals(getManifest("Company").hashCode(), getManifest("Company").hashCode());
+        assertFalse(getSummary(1).hashCode() == getSummary(2).hashCode());
+        assertEquals(getCompression(1).hashCode(), getCompression(1).hashCode());
+    }
+
+    @Test
+    public void testGetCompressionRatio() {
+        assertEquals(3, getCompression(2).getCompressionRatio(), 0.001);
+        assertEquals(1, new CompressionSummary.Builder().build().getCompressionRatio(), 0.001);
+    }
+
+    @Test
+    public void testGetMean() {
+        assertEquals(10, getSummary(2).getMean(), 0.001);
+        assertEquals(0, new HistogramSummary.Builder().build().getMean(), 0.001);
+    }
+
+    @Test
+    public void testToJson() {
+        assertEquals("{\"count\":2,\"sum\":20,\"max\":20,\"p50\":8,\"p90\":16,\"p99\":20,"
+                + "\"manifest\":\"HistogramSummary\"}", getSummary(2).toJson().toString());
+        assertEquals("{\"address\":\"akka://sys\",\"manifests\":[],\"compression\":{\"compressedCount\":0,"
+                + "\"uncompressedBytes\":0,\"compressedBytes\":0,\"compressionNanos\":0,\"decompressedCount\":0,"
+                + "\"decompressionNanos\":0,\"manifest\":\"CompressionSummary\"},"
+                + "\"manifest\":\"SerializationStatistics\"}",
+                new SerializationStatistics.Builder("akka://sys").build().toJson().toString());
+    }
+
+    @Test
+    public void testToString() {
+        assertEquals("HistogramSummary[count=2,sum=20,max=20,p50=8,p90=16,p99=20]", getSummary(2).toString());
+        assertEquals("CompressionSummary[compressedCount=1,uncompressedBytes=300,compressedBytes=100,"
+                + "compressionNanos=50,decompressedCount=1,decompressionNanos=20]", getCompression(1).toString());
+        assertEquals("SerializationStatistics[address=akka://sys,manifests=[],compression=CompressionSummary["
+                + "compressedCount=0,uncompressedBytes=0,compressedBytes=0,compressionNanos=0,decompressedCount=0,"
+                + "decompressionNanos=0]]", new SerializationStatistics.Builder("akka://sys").build().toString());
+    }
+
+    @Test
+    public void testJsonRoundTrip() {
+        final SerializationStatistics statistics = getStatistics();
+        final SerializationStatistics read =
+                new SerializationStatistics.Builder().fromJson(mapping, statistics.toJson()).build();
+        assertEquals(statistics, read);
+        assertEquals(2, read.getManifests().size());
+        assertEquals("Chunk", read.getManifests().first().getManifest());
+        assertEquals(getSummary(3), read.getManifests().first().getDeserializedBytes());
+        assertEquals(getCompression(2), read.getCompression());
+    }
+
+    @Test
+    public void testManifestBuilderDefaults() {
+        final ManifestStatistics manifest = new ManifestStatistics.Builder("BinaryModelSerialization", "Chunk").build();
+        assertEquals(new HistogramSummary.Builder().build(), manifest.getSerializedBytes());
+        assertEquals(0, manifest.getDecodeNanos().getCount());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testBuilderWithNoAddress() {
+        new SerializationStatistics.Builder().build();
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testManifestBuilderWithNoSerializer() {
+        new ManifestStatistics.Builder().setManifest("Company").build();
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testManifestBuilderWithNoManifest() {
+        new ManifestStatistics.Builder().setSerializer("ModelSerialization").build();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSummaryBuilderWithNegativeCount() {
+        new HistogramSummary.Builder().setCount(-1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testCompressionBuilderWithNegativeBytes() {
+        new CompressionSummary.Builder().setCompressedBytes(-1);
+    }
+}
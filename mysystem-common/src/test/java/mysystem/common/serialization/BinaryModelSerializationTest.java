@@ -0,0 +1,144 @@
+package mysystem.common.serialization;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import mysystem.common.model.Company;
+
+/**
+ * Perform testing on the {@link BinaryModelSerialization} class, including comparisons with the size of the JSON
+ * format produced by {@link ModelSerialization}.
+ */
+public class BinaryModelSerializationTest {
+    @Test
+    public void testIdentifier() {
+        assertEquals(48151624, new BinaryModelSerialization().identifier());
+        assertTrue(new BinaryModelSerialization().identifier() != new ModelSerialization().identifier());
+    }
+
+    @Test
+    public void testManifest() {
+        final Company company = new Company.Builder().setName("a").build();
+        assertEquals(Company.class.getSimpleName(), new BinaryModelSerialization().manifest(company));
+    }
+
+    @Test(expected = RuntimeException.class)
+    public void testManifestUnrecognized() {
+        new BinaryModelSerialization().manifest("unrecognized");
+    }
+
+    @Test
+    public void testRoundTripCompany() {
+        final Company company = new Company.Builder().setId(1).setName("Name").setActive(false).build();
+
+        final BinaryModelSerialization serialization = new BinaryModelSerialization();
+        final String manifest = serialization.manifest(company);
+        final byte[] serialized = serialization.toBinary(company);
+
+        assertEquals(company, serialization.fromBinary(serialized, manifest));
+    }
+
+    @Test
+    public void testRoundTripCompanyNoId() {
+        final Company company = new Company.Builder().setName("Ñamé with ünïcödé").build();
+
+        final BinaryModelSerialization serialization = new BinaryModelSerialization();
+        final byte[] serialized = serialization.toBinary(company);
+
+        assertEquals(company, serialization.fromBinary(serialized, serialization.manifest(company)));
+    }
+
+    @Test
+    public void testCompanyFormat() {
+        final Company company = new Company.Builder().setId(300).setName("Name").build();
+
+        // The version, the format, the id tag and two byte varint, the name tag, length and bytes, the active tag and
+        // value.
+        final byte[] expected = new byte[] {1, 1, 8, (byte) 0xAC, 2, 18, 4, 'N', 'a', 'm', 'e', 24, 1};
+        assertArrayEquals(expected, new BinaryModelSerialization().toBinary(company));
+    }
+
+    @Test
+    public void testSmallerThanJson() {
+        final Company company = new Company.Builder().setId(123456).setName("Some Company Name").build();
+
+        final int binary = new BinaryModelSerialization().toBinary(company).length;
+        final int json = new ModelSerialization().toBinary(company).length;
+        assertTrue("Binary " + binary + " not less than half of JSON " + json, binary * 2 < json);
+    }
+
+    @Test
+    public void testFromJsonFormat() {
+        // A model object written as JSON within the binary envelope, as done for models without binary support.
+        final Company company = new Company.Builder().setId(1).setName("Name").build();
+        final byte[] serialized = new BinaryWriter().writeByte(BinaryModelSerialization.FORMAT_VERSION)
+                .writeVarInt(BinaryWriter.FORMAT_JSON).writeRaw(new ModelSerialization().toBinary(company))
+                .toByteArray();
+
+        assertEquals(company, new BinaryModelSerialization().fromBinary(serialized, "Company"));
+    }
+
+    @Test
+    public void testSkipsUnknownFields() {
+        // Simulates a newer node that added fields 10 and 11 to the company.
+        final byte[] serialized = new BinaryWriter().writeByte(BinaryModelSerialization.FORMAT_VERSION)
+                .writeVarInt(BinaryWriter.FORMAT_BINARY).writeIntField(10, 12345).writeStringField(2, "Name")
+                .writeStringField(11, "unknown").writeLongField(10, Long.MAX_VALUE).toByteArray();
+
+        final Company expected = new Company.Builder().setName("Name").build();
+        assertEquals(expected, new BinaryModelSerialization().fromBinary(serialized, "Company"));
+    }
+
+    @Test(expected = RuntimeException.class)
+    public void testFromBinaryUnsupportedVersion() {
+        final Company company = new Company.Builder().setName("Name").build();
+        final byte[] serialized = new BinaryModelSerialization().toBinary(company);
+        serialized[0] = 2;
+        new BinaryModelSerialization().fromBinary(serialized, "Company");
+    }
+
+    @Test(expected = RuntimeException.class)
+    public void testFromBinaryUnrecognized() {
+        new BinaryModelSerialization().fromBinary(new byte[0], "unrecognized");
+    }
+
+    @Test(expected = RuntimeException.class)
+    public void testToBinaryUnrecognized() {
+        new BinaryModelSerialization().toBinary("unrecognized");
+    }
+
+    @Test
+    public void testToBinaryMemoized() {
+        final Company company = new Company.Builder().setId(300).setName("Name").build();
+
+        final BinaryModelSerialization serialization = new BinaryModelSerialization();
+        final byte[] serialized = serialization.toBinary(company);
+        assertSame(serialized, serialization.toBinary(company));
+
+        // The retained bytes are specific to the serializer that produced them.
+        new ModelSerialization().toBinary(company);
+        assertArrayEquals(serialized, serialization.toBinary(company));
+        assertNotSame(serialized, serialization.toBinary(company));
+    }
+
+    @Test
+    public void testSerializationMetrics() {
+        final Company company = new Company.Builder().setId(1).setName("Name").build();
+
+        final BinaryModelSerialization serialization = new BinaryModelSerialization();
+        final byte[] serialized = serialization.toBinary(company);
+        assertEquals(company, serialization.fromBinary(serialized, serialization.manifest(company)));
+
+        final SerializationMetrics.Manifest metrics = serialization.getSerializationMetrics().get("Company").get();
+        assertEquals(1, metrics.getSerializedBytes().getCount());
+        assertEquals(serialized.length, metrics.getSerializedBytes().getSum());
+        assertEquals(serialized.length, metrics.getDeserializedBytes().getSum());
+        assertEquals(1, metrics.getEncodeNanos().getCount());
+        assertEquals(1, metrics.getDecodeNanos().getCount());
+    }
+}
@@ -0,0 +1,133 @@
+package mysystem.common.serialization;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Perform testing on the {@link BinaryReader} and {@link BinaryWriter} classes.
+ */
+public class BinaryReaderTest {
+    @Test
+    public void testVarIntRoundTrip() {
+        final int[] values = new int[] {0, 1, 127, 128, 16383, 16384, Integer.MAX_VALUE, -1, Integer.MIN_VALUE};
+        final BinaryWriter writer = new BinaryWriter(1);
+        for (final int value : values) {
+            writer.writeVarInt(value);
+        }
+
+        final BinaryReader reader = new BinaryReader(writer.toByteArray());
+        for (final int value : values) {
+            assertEquals(value, reader.readVarInt());
+        }
+        assertFalse(reader.hasRemaining());
+    }
+
+    @Test
+    public void testVarIntSizes() {
+        assertEquals(1, new BinaryWriter().writeVarInt(127).size());
+        assertEquals(2, new BinaryWriter().writeVarInt(128).size());
+        assertEquals(5, new BinaryWriter().writeVarInt(-1).size());
+        assertEquals(10, new BinaryWriter().writeVarLong(-1L).size());
+    }
+
+    @Test
+    public void testVarLongRoundTrip() {
+        final long[] values = new long[] {0, 1, 128, Long.MAX_VALUE, -1, Long.MIN_VALUE};
+        final BinaryWriter writer = new BinaryWriter();
+        for (final long value : values) {
+            writer.writeVarLong(value);
+        }
+
+        final BinaryReader reader = new BinaryReader(writer.toByteArray());
+        for (final long value : values) {
+            assertEquals(value, reader.readVarLong());
+        }
+    }
+
+    @Test
+    public void testFieldsRoundTrip() {
+        final byte[] bytes = new BinaryWriter().writeStringField(1, "ünïcödé").writeBooleanField(2, true)
+                .writePackedIntField(3, Arrays.asList(1, 300, 70000)).toByteArray();
+
+        final BinaryReader reader = new BinaryReader(bytes);
+        int tag = reader.readTag();
+        assertEquals(1, BinaryReader.getFieldNumber(tag));
+        assertEquals(BinaryWriter.WIRE_TYPE_LENGTH_DELIMITED, BinaryReader.getWireType(tag));
+        assertEquals("ünïcödé", reader.readString());
+
+        tag = reader.readTag();
+        assertEquals(2, BinaryReader.getFieldNumber(tag));
+        assertEquals(BinaryWriter.WIRE_TYPE_VARINT, BinaryReader.getWireType(tag));
+        assertTrue(reader.readBoolean());
+
+        tag = reader.readTag();
+        assertEquals(3, BinaryReader.getFieldNumber(tag));
+        final List<Integer> ids = new LinkedList<>();
+        reader.readPackedInts(ids::add);
+        assertEquals(Arrays.asList(1, 300, 70000), ids);
+        assertFalse(reader.hasRemaining());
+    }
+
+    @Test
+    public void testBytesFieldRoundTrip() {
+        final byte[] value = new byte[] {0, 1, -1, 127, -128};
+        final byte[] bytes = new BinaryWriter().writeBytesField(1, value).writeBytesField(2, new byte[0])
+                .writeIntField(3, 5).toByteArray();
+
+        final BinaryReader reader = new BinaryReader(bytes);
+        assertEquals(1, BinaryReader.getFieldNumber(reader.readTag()));
+        assertArrayEquals(value, reader.readBytes());
+        assertEquals(2, BinaryReader.getFieldNumber(reader.readTag()));
+        assertEquals(0, reader.readBytes().length);
+        reader.skip(reader.readTag());
+        assertFalse(reader.hasRemaining());
+    }
+
+    @Test
+    public void testSkip() {
+        final byte[] bytes = new BinaryWriter().writeLongField(1, -1L).writeStringField(2, "skipped")
+                .writeIntField(3, 5).toByteArray();
+
+        final BinaryReader reader = new BinaryReader(bytes);
+        reader.skip(reader.readTag());
+        reader.skip(reader.readTag());
+        assertEquals(3, BinaryReader.getFieldNumber(reader.readTag()));
+        assertEquals(5, reader.readVarInt());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSkipUnrecognizedWireType() {
+        new BinaryReader(new byte[] {0}).skip((1 << 3) | 5);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testTruncatedString() {
+        final byte[] bytes = new BinaryWriter().writeString("truncated").toByteArray();
+        new BinaryReader(bytes, 0, bytes.length - 1).readString();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testTruncatedVarInt() {
+        new BinaryReader(new byte[] {(byte) 0x80}).readVarInt();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMalformedVarInt() {
+        final byte[] bytes = new byte[6];
+        Arrays.fill(bytes, (byte) 0x80);
+        new BinaryReader(bytes).readVarInt();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidRange() {
+        new BinaryReader(new byte[2], 1, 3);
+    }
+}
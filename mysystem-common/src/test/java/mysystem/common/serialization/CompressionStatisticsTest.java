@@ -0,0 +1,48 @@
+package mysystem.common.serialization;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+import mysystem.common.model.CompressionSummary;
+
+/**
+ * Perform testing on the {@link CompressionStatistics} class.
+ */
+public class CompressionStatisticsTest {
+    @Test
+    public void testEmpty() {
+        final CompressionStatistics statistics = new CompressionStatistics();
+        assertEquals(0, statistics.getCompressedCount());
+        assertEquals(0, statistics.getUncompressedBytes());
+        assertEquals(0, statistics.getCompressedBytes());
+        assertEquals(1, statistics.getCompressionRatio(), 0.001);
+        assertEquals(0, statistics.getCompressionNanos());
+        assertEquals(0, statistics.getDecompressedCount());
+        assertEquals(0, statistics.getDecompressionNanos());
+    }
+
+    @Test
+    public void testRecord() {
+        final CompressionStatistics statistics = new CompressionStatistics();
+        statistics.recordCompression(1000, 100, 20);
+        statistics.recordCompression(3000, 900, 30);
+        statistics.recordDecompression(5);
+
+        assertEquals(2, statistics.getCompressedCount());
+        assertEquals(4000, statistics.getUncompressedBytes());
+        assertEquals(1000, statistics.getCompressedBytes());
+        assertEquals(4, statistics.getCompressionRatio(), 0.001);
+        assertEquals(50, statistics.getCompressionNanos());
+        assertEquals(1, statistics.getDecompressedCount());
+        assertEquals(5, statistics.getDecompressionNanos());
+        assertEquals("CompressionStatistics[compressedCount=2,compressionRatio=4.0,compressionNanos=50,"
+                + "decompressedCount=1,decompressionNanos=5]", statistics.toString());
+
+        final CompressionSummary summary = statistics.getSummary();
+        assertEquals(2, summary.getCompressedCount());
+        assertEquals(4, summary.getCompressionRatio(), 0.001);
+        assertEquals(50, summary.getCompressionNanos());
+        assertEquals(5, summary.getDecompressionNanos());
+    }
+}
@@ -0,0 +1,93 @@
+package mysystem.common.serialization;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+import mysystem.common.model.HistogramSummary;
+
+import java.util.stream.IntStream;
+
+/**
+ * Perform testing of the {@link Histogram} class.
+ */
+public class HistogramTest {
+    @Test
+    public void testGetBucket() {
+        assertEquals(0, Histogram.getBucket(0));
+        assertEquals(0, Histogram.getBucket(1));
+        assertEquals(1, Histogram.getBucket(2));
+        assertEquals(2, Histogram.getBucket(3));
+        assertEquals(2, Histogram.getBucket(4));
+        assertEquals(3, Histogram.getBucket(5));
+        assertEquals(10, Histogram.getBucket(1024));
+        assertEquals(11, Histogram.getBucket(1025));
+        assertEquals(Histogram.BUCKETS - 1, Histogram.getBucket(Long.MAX_VALUE));
+    }
+
+    @Test
+    public void testGetUpperBound() {
+        assertEquals(1, Histogram.getUpperBound(0));
+        assertEquals(1024, Histogram.getUpperBound(10));
+        assertEquals(Long.MAX_VALUE, Histogram.getUpperBound(Histogram.BUCKETS - 1));
+        for (long value = 0; value < 5000; value++) {
+            assertEquals(true, value <= Histogram.getUpperBound(Histogram.getBucket(value)));
+        }
+    }
+
+    @Test
+    public void testEmpty() {
+        final Histogram histogram = new Histogram();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getSum());
+        assertEquals(0, histogram.getMax());
+        assertEquals(0, histogram.getPercentile(50));
+        assertEquals(new HistogramSummary.Builder().build(), histogram.getSummary());
+    }
+
+    @Test
+    public void testRecord() {
+        final Histogram histogram = new Histogram();
+        IntStream.rangeClosed(1, 100).forEach(histogram::record);
+        histogram.record(-5);
+
+        assertEquals(101, histogram.getCount());
+        assertEquals(5050, histogram.getSum());
+        assertEquals(100, histogram.getMax());
+        assertEquals(2, histogram.getBucketCounts()[0]);
+        assertEquals(64, histogram.getPercentile(50));
+        assertEquals(100, histogram.getPercentile(90));
+        assertEquals(100, histogram.getPercentile(100));
+        assertEquals(1, histogram.getPercentile(0));
+
+        final HistogramSummary summary = histogram.getSummary();
+        assertEquals(101, summary.getCount());
+        assertEquals(5050, summary.getSum());
+        assertEquals(100, summary.getMax());
+        assertEquals(64, summary.getP50());
+        assertEquals(100, summary.getP90());
+        assertEquals(100, summary.getP99());
+        assertEquals(50, summary.getMean(), 0.001);
+    }
+
+    @Test
+    public void testRecordConcurrently() {
+        final Histogram histogram = new Histogram();
+        IntStream.range(0, 10000).parallel().forEach(i -> histogram.record(i % 10));
+        assertEquals(10000, histogram.getCount());
+        assertEquals(45000, histogram.getSum());
+        assertEquals(9, histogram.getMax());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testGetPercentileTooLarge() {
+        new Histogram().getPercentile(101);
+    }
+
+    @Test
+    public void testToString() {
+        final Histogram histogram = new Histogram();
+        histogram.record(3);
+        assertEquals("Histogram[count=1,sum=3,max=3]", histogram.toString());
+    }
+}
@@ -0,0 +1,135 @@
+package mysystem.common.serialization;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import org.junit.Test;
+
+import mysystem.common.model.Company;
+import mysystem.common.model.Model;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Perform testing on the {@link JsonStreaming} class.
+ */
+public class JsonStreamingTest {
+    private final ManifestMapping mapping = new ManifestMapping();
+
+    @Test
+    public void testWriteObject() throws IOException {
+        final JsonObject json = new JsonParser().parse("{\"a\":[1,{\"b\":\"<c>\"}],\"manifest\":\"M\"}")
+                .getAsJsonObject();
+
+        final StringWriter stringWriter = new StringWriter();
+        JsonStreaming.writeObject(new JsonWriter(stringWriter), "M", json);
+        assertEquals("{\"manifest\":\"M\",\"a\":[1,{\"b\":\"<c>\"}]}", stringWriter.toString());
+    }
+
+    @Test
+    public void testReadFields() throws IOException {
+        final JsonReader reader = new JsonReader(new StringReader("{\"a\":1,\"b\":[true]}"));
+        reader.beginObject();
+        final JsonObject json = JsonStreaming.readFields(reader);
+        reader.endObject();
+
+        assertEquals(new JsonParser().parse("{\"a\":1,\"b\":[true]}"), json);
+    }
+
+    @Test
+    public void testReadModelManifestFirst() throws IOException {
+        final JsonReader reader =
+                new JsonReader(new StringReader("{\"manifest\":\"Company\",\"name\":\"a\",\"unknown\":{\"b\":1}}"));
+        final Optional<Model> model = JsonStreaming.readModel(this.mapping, reader);
+
+        assertEquals(Optional.of(new Company.Builder().setName("a").build()), model);
+    }
+
+    @Test
+    public void testReadModelManifestLast() throws IOException {
+        final JsonReader reader =
+                new JsonReader(new StringReader("{\"id\":1,\"name\":\"a\",\"active\":false,\"manifest\":\"Company\"}"));
+        final Optional<Model> model = JsonStreaming.readModel(this.mapping, reader);
+
+        assertEquals(Optional.of(new Company.Builder().setId(1).setName("a").setActive(false).build()), model);
+    }
+
+    @Test
+    public void testReadModelUnrecognized() throws IOException {
+        assertFalse(JsonStreaming.readModel(this.mapping,
+                new JsonReader(new StringReader("{\"manifest\":\"Unrecognized\",\"a\":[1]}"))).isPresent());
+        assertFalse(JsonStreaming.readModel(this.mapping,
+                new JsonReader(new StringReader("{\"a\":[1],\"manifest\":\"Unrecognized\"}"))).isPresent());
+        assertFalse(JsonStreaming.readModel(this.mapping, new JsonReader(new StringReader("{\"a\":[1]}")))
+                .isPresent());
+        assertFalse(JsonStreaming.readModel(this.mapping, new JsonReader(new StringReader("{}"))).isPresent());
+    }
+
+    @Test
+    public void testReadModelWithBuilder() throws IOException {
+        final JsonReader reader = new JsonReader(new StringReader("{\"name\":\"a\",\"manifest\":\"Company\"}"));
+        final Company company = JsonStreaming.readModel(this.mapping, new Company.Builder(), reader);
+
+        assertEquals(new Company.Builder().setName("a").build(), company);
+    }
+
+    @Test
+    public void testGetElementManifest() {
+        final Company a = new Company.Builder().setName("a").build();
+        final Company b = new Company.Builder().setName("b").build();
+
+        assertEquals(Optional.of("Company"), JsonStreaming.getElementManifest(Arrays.asList(a, b)));
+        assertFalse(JsonStreaming.getElementManifest(Collections.emptyList()).isPresent());
+    }
+
+    @Test
+    public void testWriteCompactModels() throws IOException {
+        final Company a = new Company.Builder().setId(1).setName("a").build();
+        final Company b = new Company.Builder().setName("b").setActive(false).build();
+
+        final StringWriter stringWriter = new StringWriter();
+        final JsonWriter writer = new JsonWriter(stringWriter);
+        writer.beginObject();
+        JsonStreaming.writeCompactModels(writer, "models", Arrays.asList(a, b));
+        writer.endObject();
+
+        assertEquals("{\"elements\":\"Company\",\"models\":[[1,\"a\",true],[null,\"b\",false]]}",
+                stringWriter.toString());
+    }
+
+    @Test
+    public void testReadCompactModels() throws IOException {
+        final List<Model> models = new LinkedList<>();
+        final JsonReader reader =
+                new JsonReader(new StringReader("[[1,\"a\",true],{\"manifest\":\"Company\",\"name\":\"b\"}]"));
+        JsonStreaming.readCompactModels(this.mapping, Optional.of("Company"), reader, models::add);
+
+        assertEquals(Arrays.asList(new Company.Builder().setId(1).setName("a").build(),
+                new Company.Builder().setName("b").build()), models);
+    }
+
+    @Test
+    public void testReadCompactModelsUnrecognized() throws IOException {
+        // Elements cannot be read without a recognized element manifest, so they are skipped.
+        final List<Model> models = new LinkedList<>();
+        JsonStreaming.readCompactModels(this.mapping, Optional.of("Unrecognized"),
+                new JsonReader(new StringReader("[[1,\"a\",true]]")), models::add);
+        JsonStreaming.readCompactModels(this.mapping, Optional.empty(),
+                new JsonReader(new StringReader("[[1,\"a\",true]]")), models::add);
+
+        assertTrue(models.isEmpty());
+    }
+}
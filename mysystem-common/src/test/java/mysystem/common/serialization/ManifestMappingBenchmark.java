@@ -0,0 +1,136 @@
+package mysystem.common.serialization;
+
+import com.google.gson.stream.JsonReader;
+
+import org.apache.commons.lang3.tuple.Pair;
+
+import mysystem.common.model.Company;
+import mysystem.common.model.Model;
+import mysystem.common.model.ModelBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * A microbenchmark comparing the cost of creating model builders through the cached factories held by the
+ * {@link ManifestMapping} with the reflective {@link Class#newInstance()} it previously used, both for the lookup alone
+ * and for complete deserialization, with several threads deserializing concurrently. The time taken to populate the
+ * mapping from the compile-time model registry is also compared with scanning the classpath. This is not run as part
+ * of the unit tests, run the {@link #main(String[])} method with the test classpath instead.
+ */
+public class ManifestMappingBenchmark {
+    private final static int WARMUP_ITERATIONS = 500_000;
+    private final static int ITERATIONS = 2_000_000;
+
+    private final ManifestMapping mapping = new ManifestMapping();
+    private final Map<String, Class<? extends ModelBuilder<? extends Model>>> builderClasses =
+            Collections.singletonMap("Company", Company.Builder.class);
+    private final ModelSerialization serialization = new ModelSerialization();
+    private final byte[] serialized = "{\"id\":1,\"name\":\"a\",\"active\":true,\"manifest\":\"Company\"}"
+            .getBytes(StandardCharsets.UTF_8);
+
+    private interface Operation {
+        Object run() throws Exception;
+    }
+
+    private ModelBuilder<? extends Model> reflective() throws Exception {
+        // The previous lookup of the builder class by manifest, followed by reflective construction.
+        return this.builderClasses.get("Company").newInstance();
+    }
+
+    private ModelBuilder<? extends Model> cached() {
+        return this.mapping.getBuilder("Company").get();
+    }
+
+    private Object deserializeReflective() throws Exception {
+        // The same steps as the ModelSerialization, but creating the builder reflectively.
+        final InputStreamReader input =
+                new InputStreamReader(new ByteArrayInputStream(this.serialized), StandardCharsets.UTF_8);
+        final JsonReader reader = new JsonReader(input);
+        return JsonStreaming.readModel(this.mapping, reflective(), reader);
+    }
+
+    private Object deserializeCached() {
+        return this.serialization.fromBinary(this.serialized, "Company");
+    }
+
+    private static long measure(final int threads, final Operation operation) throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            final List<Future<Integer>> futures = new LinkedList<>();
+            final long start = System.nanoTime();
+            for (int thread = 0; thread < threads; thread++) {
+                futures.add(executor.submit(() -> {
+                    int hashes = 0;
+                    for (int iteration = 0; iteration < ITERATIONS; iteration++) {
+                        hashes += System.identityHashCode(operation.run());
+                    }
+                    return hashes;
+                }));
+            }
+            for (final Future<Integer> future : futures) {
+                future.get();
+            }
+            return (System.nanoTime() - start) / ITERATIONS;
+        } finally {
+            executor.shutdown();
+            executor.awaitTermination(1, TimeUnit.MINUTES);
+        }
+    }
+
+    private static void report(final String name, final int threads, final Operation operation) throws Exception {
+        for (int iteration = 0; iteration < WARMUP_ITERATIONS; iteration++) {
+            operation.run();
+        }
+        System.out.println(String.format("%-24s threads=%d  %6d ns/op", name, threads, measure(threads, operation)));
+    }
+
+    private static void reportStartup(final String name, final Supplier<ManifestMapping> supplier) {
+        // The first population includes class loading, which is reported separately from the steady state.
+        long start = System.nanoTime();
+        supplier.get();
+        final long first = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        final int iterations = 10;
+        start = System.nanoTime();
+        for (int iteration = 0; iteration < iterations; iteration++) {
+            supplier.get();
+        }
+        final long average = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) / iterations;
+        System.out.println(String.format("%-24s first=%d ms  average=%d ms", name, first, average));
+    }
+
+    /**
+     * @param args the number of concurrent threads to use, defaulting to the number of available processors
+     * @throws Exception if there is a problem running the benchmark
+     */
+    public static void main(final String... args) throws Exception {
+        final int threads = args.length > 0 ? Integer.parseInt(args[0]) : Runtime.getRuntime().availableProcessors();
+        reportStartup("populate from registry", ManifestMapping::new);
+        reportStartup("populate by scanning", () -> new ManifestMapping() {
+            @Override
+            protected Set<Pair<Class<? extends Model>, Class<? extends ModelBuilder>>> getRegisteredPairs() {
+                return Collections.emptySet();
+            }
+        });
+
+        final ManifestMappingBenchmark benchmark = new ManifestMappingBenchmark();
+        for (final int count : new int[] {1, threads}) {
+            report("builder newInstance", count, benchmark::reflective);
+            report("builder factory", count, benchmark::cached);
+            report("deserialize newInstance", count, benchmark::deserializeReflective);
+            report("deserialize factory", count, benchmark::deserializeCached);
+        }
+    }
+}
@@ -2,6 +2,7 @@ package mysystem.common.serialization;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertTrue;
 
 import com.google.gson.JsonObject;
@@ -14,7 +15,10 @@ import mysystem.common.model.Company;
 import mysystem.common.model.Model;
 import mysystem.common.model.ModelBuilder;
 
+import java.util.Collections;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
 
 /**
  * Perform testing on the {@link ManifestMapping} class.
@@ -62,6 +66,67 @@ public class ManifestMappingTest {
         assertFalse(opt.isPresent());
     }
 
+    @Test
+    public void testGetBuilderNewInstances() {
+        final ManifestMapping mapping = new ManifestMapping();
+        final Optional<ModelBuilder<?>> a = mapping.getBuilder(Company.class.getSimpleName());
+        final Optional<ModelBuilder<?>> b = mapping.getBuilder(Company.class.getSimpleName());
+        assertTrue(a.isPresent());
+        assertTrue(b.isPresent());
+        assertNotSame(a.get(), b.get());
+    }
+
+    @Test
+    public void testGetFactory() {
+        final Optional<Supplier<ModelBuilder<? extends Model>>> factory =
+                new ManifestMapping().getFactory(Company.Builder.class);
+        assertTrue(factory.isPresent());
+        assertEquals(Company.Builder.class, factory.get().get().getClass());
+        assertNotSame(factory.get().get(), factory.get().get());
+    }
+
+    @Test
+    public void testGetFactoryNoDefaultConstructor() {
+        assertFalse(new ManifestMapping().getFactory(SimpleModel.NoDefaultConstructorBuilder.class).isPresent());
+    }
+
+    @Test
+    public void testGetRegisteredPairs() {
+        final Set<Pair<Class<? extends Model>, Class<? extends ModelBuilder>>> pairs =
+                new ManifestMapping().getRegisteredPairs();
+        assertTrue(pairs.contains(Pair.of(Company.class, Company.Builder.class)));
+        assertTrue(pairs.contains(Pair.of(SimpleModel.class, SimpleModel.NoDefaultConstructorBuilder.class)));
+    }
+
+    @Test
+    public void testGetScannedPairs() {
+        final ManifestMapping mapping = new ManifestMapping();
+        assertEquals(mapping.getRegisteredPairs(), mapping.getScannedPairs());
+    }
+
+    @Test
+    public void testPopulateFallbackToScanning() {
+        final ManifestMapping mapping = new ManifestMapping() {
+            @Override
+            protected Set<Pair<Class<? extends Model>, Class<? extends ModelBuilder>>> getRegisteredPairs() {
+                return Collections.emptySet();
+            }
+        };
+        assertEquals(Optional.of(Company.class.getSimpleName()), mapping.getManifest(Company.class));
+    }
+
+    @Test
+    public void testAsPairInvalid() {
+        final ManifestMapping mapping = new ManifestMapping();
+        final ClassLoader classLoader = getClass().getClassLoader();
+        assertFalse(mapping.asPair(classLoader, "").isPresent());
+        assertFalse(mapping.asPair(classLoader, "mysystem.common.model.Company").isPresent());
+        assertFalse(mapping.asPair(classLoader, "a.Missing a.Missing$Builder").isPresent());
+        assertFalse(mapping.asPair(classLoader, "java.lang.String mysystem.common.model.Company$Builder").isPresent());
+        assertTrue(mapping.asPair(classLoader, "mysystem.common.model.Company mysystem.common.model.Company$Builder")
+                .isPresent());
+    }
+
     public static class SimpleModel implements Model {
         @Override
         public String getSerializationManifest() {
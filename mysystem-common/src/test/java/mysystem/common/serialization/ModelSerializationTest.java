@@ -1,14 +1,30 @@
 package mysystem.common.serialization;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 import com.google.gson.JsonObject;
+import com.typesafe.config.ConfigFactory;
 
+import org.apache.commons.lang3.StringUtils;
 import org.junit.Test;
 
+import akka.actor.ActorSystem;
+import akka.actor.ExtendedActorSystem;
+import mysystem.common.config.CommonConfig;
 import mysystem.common.model.Company;
 import mysystem.common.model.Model;
 
+import java.io.ByteArrayOutputStream;
+import java.io.NotSerializableException;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.zip.Deflater;
+
 /**
  * Perform testing on the {@link ModelSerialization} class.
  */
@@ -59,6 +75,39 @@ public class ModelSerializationTest {
         assertEquals(company, deserialized);
     }
 
+    @Test
+    public void testToBinaryCompany() {
+        final Company company = new Company.Builder().setId(1).setName("Name").build();
+        assertEquals("{\"manifest\":\"Company\",\"id\":1,\"name\":\"Name\",\"active\":true}",
+                new String(new ModelSerialization().toBinary(company), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testFromBinaryJsonObject() {
+        // The JSON written from the JSON object representation by earlier versions can still be read.
+        final Company company = new Company.Builder().setId(1).setName("Name").build();
+        final byte[] serialized = company.toJson().toString().getBytes(StandardCharsets.UTF_8);
+
+        assertEquals(company, new ModelSerialization().fromBinary(serialized, "Company"));
+    }
+
+    @Test
+    public void testRoundTripLarge() {
+        // Larger than the retained buffer size, so that the buffer is released after use.
+        final String name = StringUtils.repeat("a", 100 * 1024);
+        final Company company = new Company.Builder().setId(1).setName(name).build();
+
+        final ModelSerialization serialization = new ModelSerialization();
+        assertEquals(company, serialization.fromBinary(serialization.toBinary(company), "Company"));
+        final Company small = new Company.Builder().setName("b").build();
+        assertEquals(small, serialization.fromBinary(serialization.toBinary(small), "Company"));
+    }
+
+    @Test(expected = RuntimeException.class)
+    public void testFromBinaryMalformed() {
+        new ModelSerialization().fromBinary("{\"name\":".getBytes(StandardCharsets.UTF_8), "Company");
+    }
+
     @Test(expected = RuntimeException.class)
     public void testFromBinaryUnrecognized() {
         new ModelSerialization().fromBinary(new byte[0], "unrecognized");
@@ -68,4 +117,229 @@ public class ModelSerializationTest {
     public void testToBinaryUnrecognized() {
         new ModelSerialization().toBinary("unrecognized");
     }
+
+    @Test
+    public void testCompactDisabledByDefault() {
+        final Company company = new Company.Builder().setId(1).setName("Name").build();
+        final ModelSerialization serialization = new ModelSerialization();
+
+        assertFalse(serialization.isCompact());
+        assertEquals("Company", serialization.manifest(company));
+    }
+
+    @Test
+    public void testRoundTripCompactCompany() {
+        final Company company = new Company.Builder().setId(1).setName("Name").build();
+
+        final ModelSerialization serialization = new ModelSerialization(true);
+        final String manifest = serialization.manifest(company);
+        final byte[] serialized = serialization.toBinary(company);
+
+        assertEquals(ModelSerialization.COMPACT_PREFIX + "Company", manifest);
+        assertEquals("[1,\"Name\",true]", new String(serialized, StandardCharsets.UTF_8));
+        assertEquals(company, serialization.fromBinary(serialized, manifest));
+
+        // Both formats are readable whether or not the compact format is written.
+        assertEquals(company, new ModelSerialization().fromBinary(serialized, manifest));
+        assertEquals(company, serialization.fromBinary(new ModelSerialization().toBinary(company), "Company"));
+    }
+
+    @Test
+    public void testCompactFromConfig() {
+        final ActorSystem system = ActorSystem.create("test-compact-from-config",
+                ConfigFactory.parseString(CommonConfig.SERIALIZATION_COMPACT_JSON.getKey() + " = true"));
+        try {
+            final ModelSerialization serialization = new ModelSerialization((ExtendedActorSystem) system);
+            assertTrue(serialization.isCompact());
+        } finally {
+            system.terminate();
+        }
+    }
+
+    @Test(expected = RuntimeException.class)
+    public void testFromBinaryCompactUnrecognized() {
+        new ModelSerialization().fromBinary("[]".getBytes(StandardCharsets.UTF_8),
+                ModelSerialization.COMPACT_PREFIX + "unrecognized");
+    }
+
+    @Test
+    public void testCompressionBelowThreshold() {
+        final Company company = new Company.Builder().setId(1).setName("Name").build();
+
+        final ModelSerialization serialization = new ModelSerialization(false, Optional.of(1024));
+        final String manifest = serialization.manifest(company);
+        final byte[] serialized = serialization.toBinary(company);
+
+        assertEquals(ModelSerialization.COMPRESSED_PREFIX + "Company", manifest);
+        assertEquals(ModelSerialization.FLAG_STORED, serialized[0]);
+        assertEquals(company, serialization.fromBinary(serialized, manifest));
+        assertEquals(0, serialization.getCompressionStatistics().getCompressedCount());
+        assertEquals(0, serialization.getCompressionStatistics().getDecompressedCount());
+    }
+
+    @Test
+    public void testCompressionAboveThreshold() {
+        final Company company = new Company.Builder().setId(1).setName(StringUtils.repeat("Name", 1000)).build();
+
+        final ModelSerialization serialization = new ModelSerialization(true, Optional.of(1024));
+        final String manifest = serialization.manifest(company);
+        final byte[] serialized = serialization.toBinary(company);
+
+        assertEquals(ModelSerialization.COMPRESSED_PREFIX + ModelSerialization.COMPACT_PREFIX + "Company", manifest);
+        assertEquals(ModelSerialization.FLAG_DEFLATED, serialized[0]);
+        assertTrue(serialized.length < 100);
+        assertEquals(company, serialization.fromBinary(serialized, manifest));
+
+        // Compressed model objects are readable by serializers without compression enabled.
+        assertEquals(company, new ModelSerialization().fromBinary(serialized, manifest));
+
+        final CompressionStatistics statistics = serialization.getCompressionStatistics();
+        assertEquals(1, statistics.getCompressedCount());
+        assertEquals(1, statistics.getDecompressedCount());
+        assertEquals(4011, statistics.getUncompressedBytes());
+        assertEquals(serialized.length - 1, statistics.getCompressedBytes());
+        assertTrue(statistics.getCompressionRatio() > 40);
+    }
+
+    @Test
+    public void testCompressionFromConfig() {
+        final ActorSystem system = ActorSystem.create("test-compression-from-config",
+                ConfigFactory.parseString(CommonConfig.SERIALIZATION_COMPRESSION_THRESHOLD.getKey() + " = 64 KiB"));
+        try {
+            final ModelSerialization serialization = new ModelSerialization((ExtendedActorSystem) system);
+            assertEquals(Optional.of(64 * 1024), serialization.getCompressionThreshold());
+        } finally {
+            system.terminate();
+        }
+    }
+
+    @Test
+    public void testDecompressionMaxBytes() {
+        final Company company = new Company.Builder().setId(1).setName(StringUtils.repeat("Name", 1000)).build();
+        final ModelSerialization serialization = new ModelSerialization(false, Optional.of(0));
+        final String manifest = serialization.manifest(company);
+        final byte[] serialized = serialization.toBinary(company);
+
+        // The limit is inclusive of the full decompressed size.
+        final int size = (int) serialization.getCompressionStatistics().getUncompressedBytes();
+        assertEquals(company,
+                new ModelSerialization(false, Optional.empty(), 0, size).fromBinary(serialized, manifest));
+        try {
+            new ModelSerialization(false, Optional.empty(), 0, size - 1).fromBinary(serialized, manifest);
+            fail("Expected the decompressed model object to exceed the maximum size");
+        } catch (final Exception exception) {
+            assertTrue(exception instanceof NotSerializableException);
+        }
+    }
+
+    @Test
+    public void testDecompressionBomb() {
+        // A payload of a few kilobytes that decompresses to over 100 MiB.
+        final Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        final ByteArrayOutputStream bomb = new ByteArrayOutputStream();
+        bomb.write(ModelSerialization.FLAG_DEFLATED);
+        final byte[] zeros = new byte[1024 * 1024];
+        final byte[] chunk = new byte[8 * 1024];
+        for (int i = 0; i < 100; i++) {
+            deflater.setInput(zeros);
+            while (!deflater.needsInput()) {
+                bomb.write(chunk, 0, deflater.deflate(chunk));
+            }
+        }
+        deflater.finish();
+        while (!deflater.finished()) {
+            bomb.write(chunk, 0, deflater.deflate(chunk));
+        }
+        deflater.end();
+        assertTrue(bomb.size() < 200 * 1024);
+
+        final ModelSerialization serialization = new ModelSerialization();
+        try {
+            serialization.fromBinary(bomb.toByteArray(), ModelSerialization.COMPRESSED_PREFIX + "Company");
+            fail("Expected the decompressed model object to exceed the maximum size");
+        } catch (final Exception exception) {
+            assertTrue(exception instanceof NotSerializableException);
+        }
+        assertEquals(0, serialization.getCompressionStatistics().getDecompressedCount());
+    }
+
+    @Test
+    public void testDecompressionMaxBytesFromConfig() {
+        final ActorSystem system = ActorSystem.create("test-decompression-max-from-config",
+                ConfigFactory.parseString(CommonConfig.SERIALIZATION_DECOMPRESSION_MAX_BYTES.getKey() + " = 1 MiB"));
+        try {
+            final ModelSerialization serialization = new ModelSerialization((ExtendedActorSystem) system);
+            assertEquals(1024 * 1024, serialization.getDecompressionMaxBytes());
+            assertEquals(ModelSerialization.DEFAULT_DECOMPRESSION_MAX_BYTES,
+                    new ModelSerialization().getDecompressionMaxBytes());
+        } finally {
+            system.terminate();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDecompressionNegativeMaxBytes() {
+        new ModelSerialization(false, Optional.empty(), 0, -1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testCompressionNegativeThreshold() {
+        new ModelSerialization(false, Optional.of(-1));
+    }
+
+    @Test(expected = RuntimeException.class)
+    public void testFromBinaryCompressedMalformed() {
+        new ModelSerialization().fromBinary(new byte[] {ModelSerialization.FLAG_DEFLATED, 1, 2, 3},
+                ModelSerialization.COMPRESSED_PREFIX + "Company");
+    }
+
+    @Test(expected = RuntimeException.class)
+    public void testFromBinaryCompressedUnrecognizedFlag() {
+        new ModelSerialization().fromBinary(new byte[] {5}, ModelSerialization.COMPRESSED_PREFIX + "Company");
+    }
+
+    @Test
+    public void testToBinaryMemoized() {
+        final Company company = new Company.Builder().setId(1).setName("Name").build();
+
+        final ModelSerialization serialization = new ModelSerialization();
+        final byte[] serialized = serialization.toBinary(company);
+        assertSame(serialized, serialization.toBinary(company));
+        assertEquals(serialized.length, company.getSerializedForm().getRetainedBytes());
+
+        // A different format is serialized again rather than reusing the retained bytes.
+        final byte[] compact = new ModelSerialization(true).toBinary(company);
+        assertEquals("[1,\"Name\",true]", new String(compact, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testToBinaryMemoizeDisabled() {
+        final Company company = new Company.Builder().setId(1).setName("Name").build();
+
+        final ModelSerialization serialization = new ModelSerialization(false, Optional.empty(), 0);
+        assertNotSame(serialization.toBinary(company), serialization.toBinary(company));
+        assertEquals(0, company.getSerializedForm().getRetainedBytes());
+    }
+
+    @Test
+    public void testSerializationMetrics() {
+        final Company company = new Company.Builder().setId(1).setName(StringUtils.repeat("Name", 1000)).build();
+
+        final ModelSerialization serialization = new ModelSerialization(true, Optional.of(1024));
+        final String manifest = serialization.manifest(company);
+        final byte[] serialized = serialization.toBinary(company);
+        assertEquals(company, serialization.fromBinary(serialized, manifest));
+        assertEquals(company, serialization.fromBinary(serialized, manifest));
+
+        // Metrics are kept under the model manifest regardless of the compact and compressed prefixes.
+        final Optional<SerializationMetrics.Manifest> metrics = serialization.getSerializationMetrics().get("Company");
+        assertTrue(metrics.isPresent());
+        assertEquals(1, metrics.get().getSerializedBytes().getCount());
+        assertEquals(serialized.length, metrics.get().getSerializedBytes().getMax());
+        assertEquals(1, metrics.get().getEncodeNanos().getCount());
+        assertEquals(2, metrics.get().getDeserializedBytes().getCount());
+        assertEquals(2L * serialized.length, metrics.get().getDeserializedBytes().getSum());
+        assertEquals(2, metrics.get().getDecodeNanos().getCount());
+        assertEquals(1, serialization.getSerializationMetrics().getManifests().size());
+    }
 }
@@ -0,0 +1,67 @@
+package mysystem.common.serialization;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import mysystem.common.model.ManifestStatistics;
+
+import java.util.Optional;
+import java.util.SortedSet;
+
+/**
+ * Perform testing of the {@link SerializationMetrics} class.
+ */
+public class SerializationMetricsTest {
+    @Test
+    public void testRecord() {
+        final SerializationMetrics metrics = new SerializationMetrics();
+        assertFalse(metrics.get("Company").isPresent());
+
+        metrics.recordSerialize("Company", 100, 2000);
+        metrics.recordSerialize("Company", 300, 4000);
+        metrics.recordDeserialize("Company", 100);
+        metrics.recordDecode("Company", 1000);
+        metrics.recordDeserialize("Chunk", 5000);
+
+        final Optional<SerializationMetrics.Manifest> company = metrics.get("Company");
+        assertTrue(company.isPresent());
+        assertSame(company.get(), metrics.getManifests().get("Company"));
+        assertEquals(2, company.get().getSerializedBytes().getCount());
+        assertEquals(400, company.get().getSerializedBytes().getSum());
+        assertEquals(6000, company.get().getEncodeNanos().getSum());
+        assertEquals(1, company.get().getDeserializedBytes().getCount());
+        assertEquals(1000, company.get().getDecodeNanos().getMax());
+        assertEquals(2, metrics.getManifests().size());
+    }
+
+    @Test
+    public void testGetStatistics() {
+        final SerializationMetrics metrics = new SerializationMetrics();
+        metrics.recordSerialize("Company", 100, 2000);
+        metrics.recordDeserialize("Chunk", 5000);
+
+        final SortedSet<ManifestStatistics> statistics = metrics.getStatistics("ModelSerialization");
+        assertEquals(2, statistics.size());
+
+        final ManifestStatistics chunk = statistics.first();
+        assertEquals("ModelSerialization", chunk.getSerializer());
+        assertEquals("Chunk", chunk.getManifest());
+        assertEquals(0, chunk.getSerializedBytes().getCount());
+        assertEquals(5000, chunk.getDeserializedBytes().getMax());
+
+        final ManifestStatistics company = statistics.last();
+        assertEquals("Company", company.getManifest());
+        assertEquals(100, company.getSerializedBytes().getP99());
+        assertEquals(2000, company.getEncodeNanos().getSum());
+        assertEquals(0, company.getDecodeNanos().getCount());
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testRecordNullManifest() {
+        new SerializationMetrics().recordDecode(null, 1);
+    }
+}
@@ -0,0 +1,82 @@
+package mysystem.common.serialization;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import com.typesafe.config.ConfigFactory;
+
+import org.junit.Test;
+
+import mysystem.common.config.CommonConfig;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Perform testing on the {@link SerializedForm} class.
+ */
+public class SerializedFormTest {
+    private static Supplier<byte[]> counting(final AtomicInteger count, final byte... bytes) {
+        return () -> {
+            count.incrementAndGet();
+            return bytes;
+        };
+    }
+
+    @Test
+    public void testGetRetained() {
+        final AtomicInteger count = new AtomicInteger();
+        final SerializedForm form = new SerializedForm();
+
+        final byte[] first = form.get("a", 10, counting(count, (byte) 1, (byte) 2));
+        final byte[] second = form.get("a", 10, counting(count, (byte) 3));
+
+        assertSame(first, second);
+        assertEquals(1, count.get());
+        assertEquals(2, form.getRetainedBytes());
+    }
+
+    @Test
+    public void testGetDifferentFormat() {
+        final AtomicInteger count = new AtomicInteger();
+        final SerializedForm form = new SerializedForm();
+
+        form.get("a", 10, counting(count, (byte) 1));
+        assertArrayEquals(new byte[] {2}, form.get("b", 10, counting(count, (byte) 2)));
+        assertArrayEquals(new byte[] {2}, form.get("b", 10, counting(count, (byte) 3)));
+        assertEquals(2, count.get());
+    }
+
+    @Test
+    public void testGetTooLarge() {
+        final AtomicInteger count = new AtomicInteger();
+        final SerializedForm form = new SerializedForm();
+
+        form.get("a", 1, counting(count, (byte) 1, (byte) 2));
+        form.get("a", 1, counting(count, (byte) 1, (byte) 2));
+
+        assertEquals(2, count.get());
+        assertEquals(0, form.getRetainedBytes());
+    }
+
+    @Test
+    public void testGetFormat() {
+        assertEquals("42:Company", SerializedForm.getFormat(42, "Company"));
+    }
+
+    @Test
+    public void testGetMaxBytes() {
+        assertEquals(SerializedForm.DEFAULT_MAX_BYTES, SerializedForm.getMaxBytes(ConfigFactory.empty()));
+        assertEquals(1024, SerializedForm.getMaxBytes(ConfigFactory
+                .parseString(CommonConfig.SERIALIZATION_MEMOIZE_MAX_BYTES.getKey() + " = 1 KiB")));
+        assertEquals(0, SerializedForm.getMaxBytes(ConfigFactory
+                .parseString(CommonConfig.SERIALIZATION_MEMOIZE_MAX_BYTES.getKey() + " = 0")));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testGetMaxBytesNegative() {
+        SerializedForm.getMaxBytes(
+                ConfigFactory.parseString(CommonConfig.SERIALIZATION_MEMOIZE_MAX_BYTES.getKey() + " = -1"));
+    }
+}
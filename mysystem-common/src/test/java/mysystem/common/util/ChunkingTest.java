@@ -0,0 +1,219 @@
+package mysystem.common.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+import org.apache.commons.lang3.StringUtils;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.actor.Address;
+import akka.actor.ExtendedActorSystem;
+import akka.actor.Status;
+import akka.dispatch.Futures;
+import akka.serialization.SerializationExtension;
+import akka.serialization.Serializer;
+import akka.testkit.JavaTestKit;
+import mysystem.common.actor.ChunkReassembler;
+import mysystem.common.config.CommonConfig;
+import mysystem.common.model.Chunk;
+import mysystem.common.model.Company;
+import scala.concurrent.Await;
+import scala.concurrent.duration.FiniteDuration;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Perform testing on the {@link Chunking} class.
+ */
+public class ChunkingTest {
+    private static ActorSystem system = null;
+
+    /**
+     * Initialize the test actor system, binding model objects to the model serializer and using a tiny chunk size.
+     */
+    @BeforeClass
+    public static void setup() {
+        final Config config = ConfigFactory.parseString(String.join("\n",
+                "akka.actor.serializers.mysystem = \"mysystem.common.serialization.ModelSerialization\"",
+                "akka.actor.serialization-bindings { \"mysystem.common.model.Model\" = mysystem }",
+                CommonConfig.CHUNKING_SIZE.getKey() + " = 16"));
+        system = ActorSystem.create(ChunkingTest.class.getSimpleName(), config);
+    }
+
+    /**
+     * Shut down the test actor system.
+     */
+    @AfterClass
+    public static void teardown() {
+        JavaTestKit.shutdownActorSystem(system);
+        system = null;
+    }
+
+    private static ActorSystem getChunkedSystem(final String name, final String memoizeMaxBytes) {
+        return ActorSystem.create(name, ConfigFactory.parseString(String.join("\n",
+                CommonConfig.SERIALIZATION_MEMOIZE_MAX_BYTES.getKey() + " = " + memoizeMaxBytes,
+                CommonConfig.CHUNKING_SIZE.getKey() + " = 1 MiB")).withFallback(system.settings().config()));
+    }
+
+    @Test
+    public void testGetChunkSize() {
+        assertEquals(Optional.empty(), Chunking.getChunkSize(ConfigFactory.empty()));
+        assertEquals(Optional.of(65536), Chunking.getChunkSize(
+                ConfigFactory.parseString(CommonConfig.CHUNKING_SIZE.getKey() + " = 64 KiB")));
+        assertEquals(Optional.of(16), new Chunking(system).getChunkSize());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testGetChunkSizeZero() {
+        Chunking.getChunkSize(ConfigFactory.parseString(CommonConfig.CHUNKING_SIZE.getKey() + " = 0"));
+    }
+
+    @Test
+    public void testSplit() {
+        new JavaTestKit(system) {{
+            final Company company = new Company.Builder().setId(1).setName("a company with a long name").build();
+            final byte[] bytes = SerializationExtension.get(system).serialize(company).get();
+
+            final List<Chunk> chunks = new Chunking(system).split(getRef(), company);
+            assertEquals((bytes.length + 15) / 16, chunks.size());
+
+            int size = 0;
+            for (int index = 0; index < chunks.size(); index++) {
+                final Chunk chunk = chunks.get(index);
+                assertEquals(chunks.get(0).getMessageId(), chunk.getMessageId());
+                assertEquals(index, chunk.getIndex());
+                assertEquals(chunks.size(), chunk.getCount());
+                assertEquals("Company", chunk.getManifest());
+                assertTrue(chunk.getTarget().startsWith(getRef().path().toString()));
+                assertTrue(chunk.getBytes().length <= 16);
+                size += chunk.getBytes().length;
+            }
+            assertEquals(bytes.length, size);
+        }};
+    }
+
+    @Test
+    public void testSplitNotNeeded() {
+        new JavaTestKit(system) {{
+            final Company company = new Company.Builder().setName("a long company name").build();
+            assertTrue(new Chunking(system).split(getRef(), "not a model").isEmpty());
+
+            final ActorSystem large = ActorSystem.create("large",
+                    ConfigFactory.parseString(CommonConfig.CHUNKING_SIZE.getKey() + " = 1 MiB").withFallback(
+                            system.settings().config()));
+            final ActorSystem disabled = ActorSystem.create("disabled", system.settings().config()
+                    .withoutPath(CommonConfig.CHUNKING_SIZE.getKey()));
+            try {
+                assertTrue(new Chunking(large).split(getRef(), company).isEmpty());
+                assertTrue(new Chunking(disabled).split(getRef(), company).isEmpty());
+            } finally {
+                JavaTestKit.shutdownActorSystem(large);
+                JavaTestKit.shutdownActorSystem(disabled);
+            }
+        }};
+    }
+
+    @Test
+    public void testSplitRetainsBytes() {
+        new JavaTestKit(system) {{
+            // The bytes measured when splitting are reused when the message is sent.
+            final Chunking chunking = new Chunking(getChunkedSystem("memoized", "256 KiB"));
+            try {
+                final Company company = new Company.Builder().setId(1).setName("a company with a long name").build();
+                assertTrue(chunking.split(getRef(), company).isEmpty());
+
+                final Serializer serializer =
+                        SerializationExtension.get(chunking.getActorSystem()).findSerializerFor(company);
+                final byte[] bytes = serializer.toBinary(company);
+                assertEquals(bytes.length, company.getSerializedForm().getRetainedBytes());
+                assertSame(bytes, serializer.toBinary(company));
+            } finally {
+                JavaTestKit.shutdownActorSystem(chunking.getActorSystem());
+            }
+        }};
+    }
+
+    @Test
+    public void testSplitUnmemoized() {
+        new JavaTestKit(system) {{
+            // Retention is disabled, so the bytes measured when splitting are not retained either.
+            final Chunking chunking = new Chunking(getChunkedSystem("unmemoized", "0"));
+            try {
+                final Company company = new Company.Builder().setId(1).setName("a company with a long name").build();
+                assertTrue(chunking.split(getRef(), company).isEmpty());
+                assertEquals(0, company.getSerializedForm().getRetainedBytes());
+            } finally {
+                JavaTestKit.shutdownActorSystem(chunking.getActorSystem());
+            }
+        }};
+    }
+
+    @Test
+    public void testTellLocal() {
+        new JavaTestKit(system) {{
+            final Chunking chunking = new Chunking(system);
+            assertFalse(chunking.isRemote(getRef()));
+
+            // Local messages are never serialized, so they are sent without chunking.
+            final Company company = new Company.Builder().setId(1).setName("a company with a long name").build();
+            chunking.tell(getRef(), company, ActorRef.noSender());
+            expectMsgEquals(company);
+        }};
+    }
+
+    @Test
+    public void testTellRemote() throws Exception {
+        // Two remote systems with the smallest frame size, which the serialized company could never fit within.
+        final Config remote = ConfigFactory.parseString(String.join("\n",
+                "akka.actor.provider = \"akka.remote.RemoteActorRefProvider\"",
+                "akka.remote.netty.tcp { hostname = \"127.0.0.1\", port = 0, maximum-frame-size = 32000b }",
+                CommonConfig.CHUNKING_SIZE.getKey() + " = 16000")).withFallback(system.settings().config());
+        final ActorSystem sender = ActorSystem.create("sender", remote);
+        final ActorSystem receiver = ActorSystem.create("receiver", remote);
+        try {
+            ChunkReassembler.create(receiver);
+            new JavaTestKit(receiver) {{
+                final Address address = ((ExtendedActorSystem) receiver).provider().getDefaultAddress();
+                final FiniteDuration timeout = duration("5 seconds");
+                final ActorRef target = Await.result(
+                        sender.actorSelection(getRef().path().toStringWithAddress(address)).resolveOne(timeout),
+                        timeout);
+
+                final Chunking chunking = new Chunking(sender);
+                assertTrue(chunking.isRemote(target));
+
+                final Company company = new Company.Builder().setId(1).setName(StringUtils.repeat("name", 25000))
+                        .build();
+                chunking.tell(target, company, ActorRef.noSender());
+                expectMsgEquals(duration("10 seconds"), company);
+            }};
+        } finally {
+            JavaTestKit.shutdownActorSystem(sender);
+            JavaTestKit.shutdownActorSystem(receiver);
+        }
+    }
+
+    @Test
+    public void testPipe() {
+        new JavaTestKit(system) {{
+            final Chunking chunking = new Chunking(system);
+            final Company company = new Company.Builder().setName("a").build();
+            chunking.pipe(Futures.successful(company), system.dispatcher(), getRef());
+            expectMsgEquals(company);
+
+            final Exception failure = new Exception("failed");
+            chunking.pipe(Futures.failed(failure), system.dispatcher(), getRef());
+            assertEquals(failure, expectMsgClass(Status.Failure.class).cause());
+        }};
+    }
+}
@@ -3,10 +3,14 @@ package mysystem.common.util;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
 import java.util.Optional;
+import java.util.Random;
 
 /**
  * Perform testing of the {@link CollectionComparatorTest} class.
@@ -75,4 +79,28 @@ public class CollectionComparatorTest {
 
         Assert.assertEquals(-1, new CollectionComparator<Optional<Integer>>(new OptionalComparator<>()).compare(a, b));
     }
+
+    @Test
+    public void testCompareValuesMatchesComparator() {
+        final CollectionComparator<Integer> comparator = new CollectionComparator<>();
+        final Random random = new Random(5);
+        for (int test = 0; test < 500; test++) {
+            final List<Integer> a = getRandomList(random);
+            final List<Integer> b = getRandomList(random);
+            // Compares both the indexed path for array lists and the iterator path for linked lists.
+            Assert.assertEquals(comparator.compare(new LinkedList<>(a), new LinkedList<>(b)),
+                    CollectionComparator.compareValues(a, b));
+            Assert.assertEquals(comparator.compare(new LinkedList<>(a), new LinkedList<>(b)),
+                    CollectionComparator.compareValues(new LinkedList<>(a), b));
+        }
+    }
+
+    private List<Integer> getRandomList(final Random random) {
+        final int size = random.nextInt(4);
+        final List<Integer> list = new ArrayList<>(size);
+        for (int index = 0; index < size; index++) {
+            list.add(random.nextInt(3));
+        }
+        return list;
+    }
 }
@@ -0,0 +1,58 @@
+package mysystem.common.util;
+
+import static org.junit.Assert.assertEquals;
+
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.Random;
+
+/**
+ * Perform testing of the {@link HashCodes} class.
+ */
+public class HashCodesTest {
+    @Test
+    public void testInitial() {
+        assertEquals(new HashCodeBuilder().toHashCode(), HashCodes.INITIAL);
+    }
+
+    @Test
+    public void testMatchesHashCodeBuilder() {
+        final Random random = new Random(11);
+        for (int test = 0; test < 500; test++) {
+            final int intValue = random.nextInt();
+            final long longValue = random.nextLong();
+            final boolean booleanValue = random.nextBoolean();
+            final double doubleValue = random.nextDouble();
+            final Optional<String> optional = random.nextBoolean() ? Optional.of("a" + intValue) : Optional.empty();
+            final byte[] bytes = new byte[random.nextInt(5)];
+            random.nextBytes(bytes);
+
+            final HashCodeBuilder hash = new HashCodeBuilder();
+            hash.append(intValue);
+            hash.append(longValue);
+            hash.append(booleanValue);
+            hash.append(doubleValue);
+            hash.append(optional);
+            hash.append(bytes);
+            hash.append((byte[]) null);
+            hash.append((Object) null);
+            hash.append(Arrays.asList(intValue, 3));
+
+            int actual = HashCodes.INITIAL;
+            actual = HashCodes.append(actual, intValue);
+            actual = HashCodes.append(actual, longValue);
+            actual = HashCodes.append(actual, booleanValue);
+            actual = HashCodes.append(actual, doubleValue);
+            actual = HashCodes.append(actual, optional);
+            actual = HashCodes.append(actual, bytes);
+            actual = HashCodes.append(actual, (byte[]) null);
+            actual = HashCodes.append(actual, (Object) null);
+            actual = HashCodes.append(actual, Arrays.asList(intValue, 3));
+
+            assertEquals(hash.toHashCode(), actual);
+        }
+    }
+}
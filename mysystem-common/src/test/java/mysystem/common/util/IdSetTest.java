@@ -0,0 +1,218 @@
+package mysystem.common.util;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+import java.util.TreeSet;
+
+/**
+ * Perform testing of the {@link IdSet} class.
+ */
+public class IdSetTest {
+    @Test
+    public void testOfSortsAndRemovesDuplicates() {
+        final IdSet ids = IdSet.of(5, 1, 3, 5, 1);
+        assertEquals(3, ids.size());
+        assertArrayEquals(new int[] {1, 3, 5}, ids.toIntArray());
+        assertEquals(1, ids.first());
+        assertEquals(5, ids.last());
+        assertEquals(3, ids.get(1));
+        assertEquals("[1, 3, 5]", ids.toString());
+    }
+
+    @Test
+    public void testOfCollection() {
+        final IdSet ids = IdSet.of(Arrays.asList(3, 2, 1));
+        assertArrayEquals(new int[] {1, 2, 3}, ids.toIntArray());
+        assertSame(ids, IdSet.of(ids));
+    }
+
+    @Test
+    public void testEmpty() {
+        assertSame(IdSet.EMPTY, IdSet.of());
+        assertSame(IdSet.EMPTY, new IdSet.Builder().build());
+        assertTrue(IdSet.EMPTY.isEmpty());
+        assertFalse(IdSet.EMPTY.iterator().hasNext());
+        assertEquals(0, IdSet.EMPTY.hashCode());
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void testFirstEmpty() {
+        IdSet.EMPTY.first();
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void testLastEmpty() {
+        IdSet.EMPTY.last();
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testGetOutOfBounds() {
+        IdSet.of(1, 2).get(2);
+    }
+
+    @Test
+    public void testContains() {
+        final IdSet ids = IdSet.of(-4, 2, 8);
+        assertTrue(ids.contains(-4));
+        assertTrue(ids.contains(8));
+        assertFalse(ids.contains(3));
+        assertTrue(ids.contains((Object) 2));
+        assertFalse(ids.contains("2"));
+        assertFalse(ids.contains(null));
+    }
+
+    @Test
+    public void testIteration() {
+        final IdSet ids = IdSet.of(3, 1, 2);
+
+        final List<Integer> consumed = new ArrayList<>();
+        ids.forEachId(consumed::add);
+        assertEquals(Arrays.asList(1, 2, 3), consumed);
+
+        assertEquals(6, ids.intStream().sum());
+
+        final PrimitiveIterator.OfInt iter = ids.iterator();
+        assertEquals(1, iter.nextInt());
+        assertEquals(2, iter.nextInt());
+        assertEquals(3, iter.nextInt());
+        assertFalse(iter.hasNext());
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void testIteratorPastEnd() {
+        final PrimitiveIterator.OfInt iter = IdSet.of(1).iterator();
+        iter.nextInt();
+        iter.nextInt();
+    }
+
+    @Test
+    public void testSliceAndPartition() {
+        final IdSet ids = IdSet.of(1, 2, 3, 4, 5, 6, 7);
+        final IdSet slice = ids.slice(2, 5);
+        assertArrayEquals(new int[] {3, 4, 5}, slice.toIntArray());
+        assertEquals(3, slice.first());
+        assertEquals(5, slice.last());
+        assertTrue(slice.contains(4));
+        assertFalse(slice.contains(2));
+        assertFalse(slice.contains(6));
+        assertEquals(IdSet.of(3, 4, 5), slice);
+        assertEquals(IdSet.of(3, 4, 5).hashCode(), slice.hashCode());
+
+        final List<IdSet> partitions = ids.partition(3);
+        assertEquals(3, partitions.size());
+        assertEquals(IdSet.of(1, 2, 3), partitions.get(0));
+        assertEquals(IdSet.of(4, 5, 6), partitions.get(1));
+        assertEquals(IdSet.of(7), partitions.get(2));
+        assertTrue(IdSet.EMPTY.partition(3).isEmpty());
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testSliceOutOfBounds() {
+        IdSet.of(1, 2).slice(1, 3);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testPartitionInvalidSize() {
+        IdSet.of(1, 2).partition(0);
+    }
+
+    @Test
+    public void testFilter() {
+        final IdSet ids = IdSet.of(1, 2, 3, 4);
+        assertEquals(IdSet.of(2, 4), ids.filter(id -> id % 2 == 0));
+        assertSame(ids, ids.filter(id -> true));
+        assertTrue(ids.filter(id -> false).isEmpty());
+    }
+
+    @Test
+    public void testCompareTo() {
+        final IdSet a = IdSet.of(1, 2);
+        final IdSet b = IdSet.of(1, 2, 3);
+        final IdSet c = IdSet.of(2);
+
+        assertEquals(1, a.compareTo(null));
+        assertEquals(0, a.compareTo(IdSet.of(2, 1)));
+        assertEquals(-1, a.compareTo(b));
+        assertEquals(1, b.compareTo(a));
+        assertEquals(-1, b.compareTo(c));
+        assertEquals(1, c.compareTo(a));
+    }
+
+    @Test
+    public void testCompareToMatchesCollectionComparator() {
+        final CollectionComparator<Integer> comparator = new CollectionComparator<>();
+        final Random random = new Random(7);
+        for (int test = 0; test < 200; test++) {
+            final TreeSet<Integer> a = getRandomSet(random);
+            final TreeSet<Integer> b = getRandomSet(random);
+            assertEquals(Integer.signum(comparator.compare(a, b)), Integer.signum(IdSet.of(a).compareTo(IdSet.of(b))));
+        }
+    }
+
+    private TreeSet<Integer> getRandomSet(final Random random) {
+        final TreeSet<Integer> set = new TreeSet<>();
+        final int size = random.nextInt(5);
+        for (int index = 0; index < size; index++) {
+            set.add(random.nextInt(10) - 5);
+        }
+        return set;
+    }
+
+    @Test
+    public void testEqualsAndHashCodeWithOtherSets() {
+        final IdSet ids = IdSet.of(1, 2, 3);
+        final TreeSet<Integer> treeSet = new TreeSet<>(Arrays.asList(1, 2, 3));
+
+        assertTrue(ids.equals(treeSet));
+        assertTrue(treeSet.equals(ids));
+        assertEquals(treeSet.hashCode(), ids.hashCode());
+        assertFalse(ids.equals(IdSet.of(1, 2)));
+        assertFalse(ids.equals(null));
+        assertFalse(ids.equals(Collections.singletonList(1)));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testImmutable() {
+        IdSet.of(1).add(2);
+    }
+
+    @Test
+    public void testBuilder() {
+        final IdSet.Builder builder = new IdSet.Builder(0);
+        assertTrue(builder.isEmpty());
+        builder.add(9).add(4, 4, 1).add(Arrays.asList(7, 9)).add(IdSet.of(2, 1).slice(0, 1));
+        assertFalse(builder.isEmpty());
+        assertArrayEquals(new int[] {1, 4, 7, 9}, builder.build().toIntArray());
+    }
+
+    @Test
+    public void testBuilderManyIds() {
+        final IdSet.Builder builder = new IdSet.Builder();
+        for (int id = 10000; id > 0; id--) {
+            builder.add(id);
+        }
+        final IdSet ids = builder.build();
+        assertEquals(10000, ids.size());
+        assertEquals(1, ids.first());
+        assertEquals(10000, ids.last());
+        assertTrue(ids.contains(5000));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBuilderNegativeSize() {
+        new IdSet.Builder(-1);
+    }
+}
@@ -51,4 +51,17 @@ public class OptionalComparatorTest {
 
         Assert.assertEquals(0, new OptionalComparator<>(customComparator).compare(a, b));
     }
+
+    @Test
+    public void testCompareValues() {
+        final OptionalComparator<String> comparator = new OptionalComparator<>();
+        final String[] values = new String[] {null, "a", "b", "ab", "ba"};
+        for (final String a : values) {
+            for (final String b : values) {
+                final Optional<String> optA = Optional.ofNullable(a);
+                final Optional<String> optB = Optional.ofNullable(b);
+                Assert.assertEquals(comparator.compare(optA, optB), OptionalComparator.compareValues(optA, optB));
+            }
+        }
+    }
 }
@@ -1,14 +1,53 @@
 package mysystem.db.actor;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
 import akka.actor.ActorRef;
+import akka.actor.Cancellable;
 import akka.actor.Props;
 import akka.actor.UntypedActor;
+import akka.dispatch.ExecutionContexts;
+import akka.dispatch.Futures;
+import akka.dispatch.Mapper;
+import akka.dispatch.OnComplete;
+import akka.event.Logging;
+import akka.event.LoggingAdapter;
 import akka.pattern.CircuitBreaker;
+import akka.pattern.Patterns;
+import akka.util.Timeout;
+import mysystem.common.model.Company;
+import mysystem.common.util.Chunking;
+import mysystem.common.util.IdSet;
+import mysystem.db.cache.CompanyCache;
+import mysystem.db.cache.ExistenceFilter;
+import mysystem.db.cache.ResultCache;
+import mysystem.db.model.Add;
+import mysystem.db.model.CacheStatistics;
+import mysystem.db.model.DataType;
 import mysystem.db.model.DatabaseManagerConfig;
+import mysystem.db.model.DeleteById;
+import mysystem.db.model.ExistenceFilterStatistics;
+import mysystem.db.model.GetAll;
+import mysystem.db.model.GetById;
+import mysystem.db.model.GetCacheStatistics;
+import mysystem.db.model.GetExistenceFilterStatistics;
+import mysystem.db.model.ModelCollection;
+import scala.concurrent.ExecutionContextExecutor;
+import scala.concurrent.Future;
+import scala.concurrent.duration.FiniteDuration;
 
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
 
 import javax.sql.DataSource;
 
@@ -16,7 +55,29 @@ import javax.sql.DataSource;
  * This actor is responsible for managing all of the actors for a specific database table.
  */
 public class DatabaseTableManager extends UntypedActor {
+    private final static int ID_FETCH_SIZE = 1000;
+
+    /**
+     * Sent to this actor when the existence filter needs to be rebuilt from the table.
+     */
+    private enum RebuildExistenceFilter {
+        INSTANCE
+    }
+
+    private final LoggingAdapter log = Logging.getLogger(context().system(), this);
+
     private final Map<Class<?>, ActorRef> actorMap = new HashMap<>();
+    private final Optional<ExecutorService> executorService;
+    private final DataType dataType;
+    private final Timeout timeout;
+    private final Optional<CompanyCache> companyCache;
+    private final Optional<ResultCache<GetAll>> resultCache;
+    private final Optional<ExistenceFilter> existenceFilter;
+    private final Optional<FiniteDuration> existenceFilterRebuildInterval;
+    private final DataSource dataSource;
+    private final ExecutionContextExecutor executionContext;
+    private final Chunking chunking;
+    private Optional<Cancellable> rebuildTimer = Optional.empty();
 
     /**
      * @param managerConfig the {@link DatabaseManagerConfig} defining the child actors to be managed
@@ -26,35 +87,309 @@ public class DatabaseTableManager extends UntypedActor {
     public DatabaseTableManager(
             final DatabaseManagerConfig managerConfig, final DataSource dataSource,
             final CircuitBreaker circuitBreaker) {
-        final Map<Class<? extends UntypedActor>, ActorRef> map = getActorMap(managerConfig, dataSource, circuitBreaker);
-        managerConfig.getActorConfigs().forEach(
-                actorConfig -> this.actorMap.put(actorConfig.getMessageClass(), map.get(actorConfig.getActorClass())));
+        this.executorService = getExecutorService(managerConfig);
+        this.dataType = managerConfig.getDataType();
+        this.timeout = new Timeout(managerConfig.getCallTimeout());
+        this.companyCache = getCompanyCache(managerConfig);
+        this.resultCache = getResultCache(managerConfig);
+        this.existenceFilter = getExistenceFilter(managerConfig);
+        this.existenceFilterRebuildInterval = managerConfig.getExistenceFilterRebuildInterval();
+        this.dataSource = dataSource;
+        this.executionContext = getExecutionContext(managerConfig, this.executorService);
+        this.chunking = new Chunking(context().system());
+        this.actorMap.putAll(getActorMap(managerConfig, dataSource, circuitBreaker, this.executionContext));
     }
 
-    protected Map<Class<? extends UntypedActor>, ActorRef> getActorMap(
+    /**
+     * Creates one actor, or one router pool of actors, for each configured database actor so that each message type
+     * is processed from its own mailbox.
+     *
+     * @param managerConfig the {@link DatabaseManagerConfig} defining the child actors to be managed
+     * @param dataSource the {@link DataSource} used to manage database connections
+     * @param circuitBreaker the {@link CircuitBreaker} used to manage push-back when the database gets overloaded
+     * @param executionContext the {@link ExecutionContextExecutor} used to run the blocking database operations
+     * @return a map of message class to the actor responsible for processing messages of that type
+     */
+    protected Map<Class<?>, ActorRef> getActorMap(
             final DatabaseManagerConfig managerConfig, final DataSource dataSource,
-            final CircuitBreaker circuitBreaker) {
-        final Map<Class<? extends UntypedActor>, ActorRef> map = new HashMap<>();
+            final CircuitBreaker circuitBreaker, final ExecutionContextExecutor executionContext) {
+        final Map<Class<?>, ActorRef> map = new HashMap<>();
         managerConfig.getActorConfigs().forEach(actorConfig -> {
-            if (!map.containsKey(actorConfig.getActorClass())) {
-                final Props props = Props.create(actorConfig.getActorClass(), dataSource, circuitBreaker);
-                final ActorRef actorRef = context().actorOf(props, actorConfig.getActorName());
-                map.put(actorConfig.getActorClass(), actorRef);
-            }
+            final Props props = actorConfig.getProps(
+                    Props.create(actorConfig.getActorClass(), dataSource, circuitBreaker, executionContext));
+            map.put(actorConfig.getMessageClass(), context().actorOf(props, actorConfig.getActorName()));
         });
         return map;
     }
 
+    /**
+     * @param managerConfig the {@link DatabaseManagerConfig} defining the thread count
+     * @return a fixed-size {@link ExecutorService} dedicated to the data type when a thread count has been configured,
+     * which this actor shuts down when it stops
+     */
+    protected Optional<ExecutorService> getExecutorService(final DatabaseManagerConfig managerConfig) {
+        if (managerConfig.getThreadCount().isPresent()) {
+            final String nameFormat = String.format("%s-database-%%d", managerConfig.getActorName());
+            return Optional.of(Executors.newFixedThreadPool(managerConfig.getThreadCount().get(),
+                    new ThreadFactoryBuilder().setNameFormat(nameFormat).setDaemon(true).build()));
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * @param managerConfig the {@link DatabaseManagerConfig} defining the dispatcher
+     * @param executorService the dedicated {@link ExecutorService} for the data type, possibly empty
+     * @return the execution context used to run the blocking database operations, separate from the default dispatcher
+     * when either a thread count or a dispatcher has been configured
+     */
+    protected ExecutionContextExecutor getExecutionContext(
+            final DatabaseManagerConfig managerConfig, final Optional<ExecutorService> executorService) {
+        if (executorService.isPresent()) {
+            return ExecutionContexts.fromExecutorService(executorService.get());
+        } else if (managerConfig.getDispatcher().isPresent()) {
+            return context().system().dispatchers().lookup(managerConfig.getDispatcher().get());
+        }
+        return context().dispatcher();
+    }
+
+    /**
+     * @param managerConfig the {@link DatabaseManagerConfig} defining the cache configuration
+     * @return the cache used to serve {@link GetById} requests from memory, when configured for the company table
+     */
+    protected Optional<CompanyCache> getCompanyCache(final DatabaseManagerConfig managerConfig) {
+        if (managerConfig.getDataType() == DataType.COMPANY && managerConfig.getCacheSize().isPresent()) {
+            return Optional.of(new CompanyCache(managerConfig.getCacheSize().get(), managerConfig.getCacheTtl()));
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * @param managerConfig the {@link DatabaseManagerConfig} defining the result cache configuration
+     * @return the cache used to serve and coalesce unpaged {@link GetAll} requests, when configured
+     */
+    protected Optional<ResultCache<GetAll>> getResultCache(final DatabaseManagerConfig managerConfig) {
+        return managerConfig.getResultCacheStaleness().map(ResultCache::new);
+    }
+
+    /**
+     * @param managerConfig the {@link DatabaseManagerConfig} defining the existence filter configuration
+     * @return the filter used to skip {@link GetById} queries for ids that do not exist, when configured for the
+     * company table
+     */
+    protected Optional<ExistenceFilter> getExistenceFilter(final DatabaseManagerConfig managerConfig) {
+        if (managerConfig.getDataType() == DataType.COMPANY && managerConfig.getExistenceFilterSize().isPresent()) {
+            return Optional.of(new ExistenceFilter(managerConfig.getExistenceFilterSize().get()));
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void preStart() {
+        if (this.existenceFilter.isPresent()) {
+            self().tell(RebuildExistenceFilter.INSTANCE, self());
+            if (this.existenceFilterRebuildInterval.isPresent()) {
+                final FiniteDuration interval = this.existenceFilterRebuildInterval.get();
+                this.rebuildTimer = Optional.of(context().system().scheduler()
+                        .schedule(interval, interval, self(), RebuildExistenceFilter.INSTANCE, context().dispatcher(),
+                                self()));
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void postStop() {
+        this.rebuildTimer.ifPresent(Cancellable::cancel);
+        this.executorService.ifPresent(ExecutorService::shutdown);
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public void onReceive(final Object message) {
         final Optional<ActorRef> handler = Optional.ofNullable(this.actorMap.get(message.getClass()));
-        if (handler.isPresent()) {
+        if (message instanceof GetCacheStatistics) {
+            handleGetCacheStatistics();
+        } else if (message instanceof GetExistenceFilterStatistics) {
+            handleGetExistenceFilterStatistics();
+        } else if (message == RebuildExistenceFilter.INSTANCE) {
+            this.existenceFilter.ifPresent(this::rebuildExistenceFilter);
+        } else if (!handler.isPresent()) {
+            unhandled(message);
+        } else if (message instanceof GetAll && !((GetAll) message).isPaged() && this.resultCache.isPresent()) {
+            // Paged requests are not cached since each distinct page would add another entry to the result cache.
+            handleGetAll(handler.get(), this.resultCache.get(), (GetAll) message);
+        } else if (message instanceof GetById && (this.companyCache.isPresent() || this.existenceFilter.isPresent())) {
+            handleGetById(handler.get(), (GetById) message);
+        } else if ((message instanceof Add || message instanceof DeleteById) && (this.companyCache.isPresent()
+                || this.resultCache.isPresent() || this.existenceFilter.isPresent())) {
+            handleWrite(handler.get(), message);
+        } else {
             handler.get().forward(message, context());
+        }
+    }
+
+    protected void handleGetCacheStatistics() {
+        if (this.companyCache.isPresent()) {
+            sender().tell(this.companyCache.get().getStatistics(this.dataType), self());
         } else {
-            unhandled(message);
+            sender().tell(new CacheStatistics.Builder(this.dataType).build(), self());
+        }
+    }
+
+    protected void handleGetExistenceFilterStatistics() {
+        if (this.existenceFilter.isPresent()) {
+            sender().tell(this.existenceFilter.get().getStatistics(this.dataType), self());
+        } else {
+            sender().tell(new ExistenceFilterStatistics.Builder(this.dataType).build(), self());
+        }
+    }
+
+    protected void rebuildExistenceFilter(final ExistenceFilter filter) {
+        if (!filter.startRebuild()) {
+            // The previous rebuild is still loading the ids from the table.
+            return;
+        }
+        loadIds().onComplete(new OnComplete<IdSet>() {
+            @Override
+            public void onComplete(final Throwable failure, final IdSet ids) {
+                if (failure != null) {
+                    filter.abortRebuild();
+                    log.error(failure, "Failed to rebuild the {} existence filter", dataType);
+                } else {
+                    filter.completeRebuild(ids);
+                }
+            }
+        }, context().dispatcher());
+    }
+
+    /**
+     * The load is not run through the circuit breaker since a full scan of a large table can legitimately take longer
+     * than the call timeout, and its failure should not push back on the regular requests.
+     *
+     * @return all of the unique identifiers currently stored in the company table
+     */
+    protected Future<IdSet> loadIds() {
+        return Futures.future(() -> {
+            final IdSet.Builder builder = new IdSet.Builder();
+            try (final Connection conn = this.dataSource.getConnection();
+                 final Statement stmt = conn.createStatement()) {
+                stmt.setFetchSize(ID_FETCH_SIZE);
+                try (final ResultSet rs = stmt.executeQuery("SELECT id FROM companies")) {
+                    while (rs.next()) {
+                        builder.add(rs.getInt(1));
+                    }
+                }
+            }
+            return builder.build();
+        }, this.executionContext);
+    }
+
+    protected void handleGetAll(final ActorRef handler, final ResultCache<GetAll> resultCache, final GetAll getAll) {
+        final Future<Object> future = resultCache.get(getAll, () -> Patterns.ask(handler, getAll, this.timeout));
+        this.chunking.pipe(future, context().dispatcher(), sender());
+    }
+
+    @SuppressWarnings("unchecked")
+    protected void handleGetById(final ActorRef handler, final GetById getById) {
+        // Ids ruled out by the existence filter are neither looked up in the cache nor queried. Without an active
+        // filter every queried id that is not returned is a candidate false positive of the existence filter.
+        final boolean countFalsePositives = !getById.getActive().isPresent()
+                && this.existenceFilter.map(ExistenceFilter::isReady).orElse(false);
+        final IdSet ids =
+                this.existenceFilter.map(filter -> filter.filter(getById.getIds())).orElse(getById.getIds());
+
+        final Map<Integer, Company> hits =
+                this.companyCache.map(cache -> cache.getAllPresent(ids)).orElse(Collections.emptyMap());
+        final List<Company> matched = hits.values().stream().filter(company -> !getById.getActive().isPresent()
+                || getById.getActive().get() == company.isActive()).collect(Collectors.toList());
+
+        final IdSet missed = hits.isEmpty() ? ids : ids.filter(id -> !hits.containsKey(id));
+        // Recorded before querying so that a delete invalidating the cache during the query discards the results.
+        final long generation = this.companyCache.map(CompanyCache::getGeneration).orElse(0L);
+        if (missed.isEmpty()) {
+            this.chunking.tell(sender(), merge(matched, Collections.emptyList()), self());
+        } else {
+            final GetById fetch =
+                    new GetById.Builder(getById.getDataType(), missed).setActive(getById.getActive()).build();
+            final Future<Object> future = Patterns.ask(handler, fetch, this.timeout).map(new Mapper<Object, Object>() {
+                @Override
+                public Object apply(final Object response) {
+                    final ModelCollection<Company> fetched = (ModelCollection<Company>) response;
+                    companyCache.ifPresent(cache -> cache.putAll(fetched.getModelList(), generation));
+                    if (countFalsePositives) {
+                        final IdSet.Builder found = new IdSet.Builder();
+                        fetched.getModelList().forEach(company -> company.getId().ifPresent(found::add));
+                        final IdSet foundIds = found.build();
+                        existenceFilter.get().recordFalsePositives(missed.filter(id -> !foundIds.contains(id)));
+                    }
+                    return merge(matched, fetched.getModelList());
+                }
+            }, context().dispatcher());
+            this.chunking.pipe(future, context().dispatcher(), sender());
+        }
+    }
+
+    /**
+     * @param hits the companies served from the cache
+     * @param fetched the companies retrieved from the database, ordered by id
+     * @return the combined companies ordered by id, matching the order of the rows queried from the database
+     */
+    protected ModelCollection<Company> merge(final List<Company> hits, final List<Company> fetched) {
+        if (hits.isEmpty()) {
+            return new ModelCollection.Builder<Company>().setModels(fetched).build();
+        }
+        final List<Company> merged = new ArrayList<>(hits.size() + fetched.size());
+        merged.addAll(hits);
+        merged.addAll(fetched);
+        // Companies compare on their unique identifier first.
+        Collections.sort(merged);
+        return new ModelCollection.Builder<Company>().setModels(merged).build();
+    }
+
+    protected void handleWrite(final ActorRef handler, final Object message) {
+        // Invalidate both before and after the write so that reads racing with the write cannot leave results from
+        // before the write in the caches, since the company cache drops the results of reads started before either
+        // invalidation. The caches are updated before the response is sent back to the sender.
+        invalidate(message);
+        final Future<Object> future = Patterns.ask(handler, message, this.timeout).transform(
+                new Mapper<Object, Object>() {
+                    @Override
+                    public Object apply(final Object response) {
+                        invalidate(message);
+                        populate(message, response);
+                        return response;
+                    }
+                }, new Mapper<Throwable, Throwable>() {
+                    @Override
+                    public Throwable apply(final Throwable failure) {
+                        invalidate(message);
+                        return failure;
+                    }
+                }, context().dispatcher());
+        this.chunking.pipe(future, context().dispatcher(), sender());
+    }
+
+    protected void invalidate(final Object message) {
+        this.resultCache.ifPresent(ResultCache::invalidateAll);
+        if (message instanceof DeleteById) {
+            this.companyCache.ifPresent(cache -> cache.invalidateAll(((DeleteById) message).getIds()));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    protected void populate(final Object message, final Object response) {
+        if (message instanceof Add && response instanceof ModelCollection) {
+            final ModelCollection<Company> added = (ModelCollection<Company>) response;
+            this.companyCache.ifPresent(cache -> cache.putAll(added.getModelList()));
+            this.existenceFilter.ifPresent(
+                    filter -> added.getModelList().forEach(company -> company.getId().ifPresent(filter::put)));
         }
     }
 }
@@ -1,24 +1,42 @@
 package mysystem.db.actor.company;
 
+import com.google.common.collect.Iterables;
 import com.mysql.jdbc.Statement;
+import com.typesafe.config.Config;
+
+import org.apache.commons.lang3.tuple.Pair;
 
 import akka.actor.ActorRef;
 import akka.actor.ActorRefFactory;
+import akka.actor.Cancellable;
 import akka.actor.Props;
+import akka.actor.Status;
 import akka.actor.UntypedActor;
 import akka.dispatch.Futures;
+import akka.dispatch.OnComplete;
 import akka.pattern.CircuitBreaker;
 import akka.pattern.Patterns;
 import mysystem.common.model.Company;
+import mysystem.db.config.DatabaseConfig;
 import mysystem.db.model.Add;
+import mysystem.db.model.InsertStrategy;
 import mysystem.db.model.ModelCollection;
+import scala.concurrent.ExecutionContextExecutor;
 import scala.concurrent.Future;
+import scala.concurrent.duration.FiniteDuration;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
 
 import javax.sql.DataSource;
 
@@ -26,8 +44,27 @@ import javax.sql.DataSource;
  * This actor is responsible for adding {@link Company} objects to the configured data source.
  */
 public class AddActor extends UntypedActor {
+    private final static int DEFAULT_BATCH_SIZE = 500;
+    private final static int DEFAULT_GROUP_MAX_REQUESTS = 64;
+
+    /**
+     * Sent to this actor when the group window expires and the pending add requests need to be inserted.
+     */
+    private enum InsertPending {
+        INSTANCE
+    }
+
     private final DataSource dataSource;
     private final CircuitBreaker circuitBreaker;
+    private final ExecutionContextExecutor executionContext;
+    private final InsertStrategy insertStrategy;
+    private final int batchSize;
+    private final Optional<FiniteDuration> groupWindow;
+    private final int groupMaxRequests;
+
+    // The add requests waiting to be inserted in a single transaction, along with the actors that sent them.
+    private final List<Pair<ActorRef, Add<Company>>> pending = new LinkedList<>();
+    private Optional<Cancellable> insertTimer = Optional.empty();
 
     /**
      * @param actorRefFactory the {@link ActorRefFactory} that will be used to create actor references
@@ -46,8 +83,40 @@ public class AddActor extends UntypedActor {
      * @param circuitBreaker the {@link CircuitBreaker} used to manage push-back when the database gets overloaded
      */
     public AddActor(final DataSource dataSource, final CircuitBreaker circuitBreaker) {
+        this(dataSource, circuitBreaker, Optional.empty());
+    }
+
+    /**
+     * @param dataSource the {@link DataSource} used to manage database connections
+     * @param circuitBreaker the {@link CircuitBreaker} used to manage push-back when the database gets overloaded
+     * @param executionContext the {@link ExecutionContextExecutor} used to run the blocking database operations
+     */
+    public AddActor(
+            final DataSource dataSource, final CircuitBreaker circuitBreaker,
+            final ExecutionContextExecutor executionContext) {
+        this(dataSource, circuitBreaker, Optional.of(executionContext));
+    }
+
+    private AddActor(
+            final DataSource dataSource, final CircuitBreaker circuitBreaker,
+            final Optional<ExecutionContextExecutor> executionContext) {
         this.dataSource = Objects.requireNonNull(dataSource);
         this.circuitBreaker = Objects.requireNonNull(circuitBreaker);
+        this.executionContext = executionContext.orElse(context().dispatcher());
+
+        final Config config = context().system().settings().config();
+        this.insertStrategy = getInsertStrategy(config);
+        this.batchSize = getBatchSize(config);
+        this.groupWindow = getGroupWindow(config);
+        this.groupMaxRequests = getGroupMaxRequests(config);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void postStop() {
+        this.insertTimer.ifPresent(Cancellable::cancel);
     }
 
     protected DataSource getDataSource() {
@@ -58,32 +127,144 @@ public class AddActor extends UntypedActor {
         return this.circuitBreaker;
     }
 
+    protected ExecutionContextExecutor getExecutionContext() {
+        return this.executionContext;
+    }
+
+    protected InsertStrategy getInsertStrategy() {
+        return this.insertStrategy;
+    }
+
+    protected int getBatchSize() {
+        return this.batchSize;
+    }
+
+    protected Optional<FiniteDuration> getGroupWindow() {
+        return this.groupWindow;
+    }
+
+    protected int getGroupMaxRequests() {
+        return this.groupMaxRequests;
+    }
+
+    protected InsertStrategy getInsertStrategy(final Config config) {
+        if (Objects.requireNonNull(config).hasPath(DatabaseConfig.DATABASE_INSERT_STRATEGY.getKey())) {
+            return InsertStrategy.valueOf(config.getString(DatabaseConfig.DATABASE_INSERT_STRATEGY.getKey()));
+        }
+        return InsertStrategy.BATCH;
+    }
+
+    protected int getBatchSize(final Config config) {
+        if (Objects.requireNonNull(config).hasPath(DatabaseConfig.DATABASE_INSERT_BATCH_SIZE.getKey())) {
+            final int size = config.getInt(DatabaseConfig.DATABASE_INSERT_BATCH_SIZE.getKey());
+            if (size < 1) {
+                throw new IllegalArgumentException("Insert batch size must be positive: " + size);
+            }
+            return size;
+        }
+        return DEFAULT_BATCH_SIZE;
+    }
+
+    protected Optional<FiniteDuration> getGroupWindow(final Config config) {
+        if (Objects.requireNonNull(config).hasPath(DatabaseConfig.DATABASE_INSERT_GROUP_WINDOW.getKey())) {
+            final long millis = config.getDuration(DatabaseConfig.DATABASE_INSERT_GROUP_WINDOW.getKey()).toMillis();
+            if (millis > 0) {
+                return Optional.of(FiniteDuration.create(millis, TimeUnit.MILLISECONDS));
+            }
+        }
+        return Optional.empty();
+    }
+
+    protected int getGroupMaxRequests(final Config config) {
+        if (Objects.requireNonNull(config).hasPath(DatabaseConfig.DATABASE_INSERT_GROUP_MAX_REQUESTS.getKey())) {
+            final int max = config.getInt(DatabaseConfig.DATABASE_INSERT_GROUP_MAX_REQUESTS.getKey());
+            if (max < 1) {
+                throw new IllegalArgumentException("Insert group max requests must be positive: " + max);
+            }
+            return max;
+        }
+        return DEFAULT_GROUP_MAX_REQUESTS;
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     @SuppressWarnings("unchecked")
     public void onReceive(final Object message) {
-        if (message instanceof Add) {
+        if (message instanceof Add && getGroupWindow().isPresent()) {
+            handleGroup((Add<Company>) message);
+        } else if (message instanceof Add) {
             final Callable<Future<ModelCollection>> callable = handleAdd((Add<Company>) message);
             final Future<ModelCollection> future = getCircuitBreaker().callWithCircuitBreaker(callable);
             Patterns.pipe(future, context().dispatcher()).to(sender());
+        } else if (message == InsertPending.INSTANCE) {
+            insertPending();
         } else {
             unhandled(message);
         }
     }
 
+    protected void handleGroup(final Add<Company> add) {
+        this.pending.add(Pair.of(sender(), add));
+        if (this.pending.size() >= getGroupMaxRequests()) {
+            insertPending();
+        } else if (!this.insertTimer.isPresent() && getGroupWindow().isPresent()) {
+            this.insertTimer = Optional.of(context().system().scheduler()
+                    .scheduleOnce(getGroupWindow().get(), self(), InsertPending.INSTANCE, context().dispatcher(),
+                            self()));
+        }
+    }
+
+    protected void insertPending() {
+        this.insertTimer.ifPresent(Cancellable::cancel);
+        this.insertTimer = Optional.empty();
+        if (this.pending.isEmpty()) {
+            // A timer that was already queued when the pending requests were inserted for reaching the max requests.
+            return;
+        }
+
+        final List<Pair<ActorRef, Add<Company>>> requests = new ArrayList<>(this.pending);
+        this.pending.clear();
+
+        final List<Add<Company>> adds = new ArrayList<>(requests.size());
+        requests.forEach(request -> adds.add(request.getRight()));
+        final Future<List<Object>> future = getCircuitBreaker().callWithCircuitBreaker(handleAddGroup(adds));
+        future.onComplete(new OnComplete<List<Object>>() {
+            @Override
+            public void onComplete(final Throwable failure, final List<Object> responses) {
+                for (int index = 0; index < requests.size(); index++) {
+                    final Object response = failure != null ? new Status.Failure(failure) : responses.get(index);
+                    requests.get(index).getLeft().tell(response, ActorRef.noSender());
+                }
+            }
+        }, context().dispatcher());
+    }
+
     protected Callable<Future<ModelCollection>> handleAdd(final Add<Company> add) {
-        final String sql = "INSERT INTO companies (name, active) VALUES (?, ?)";
+        if (getInsertStrategy() == InsertStrategy.BATCH) {
+            return handleAddBatch(add);
+        }
+        return handleAddPerRow(add);
+    }
 
+    protected String getSql() {
+        return "INSERT INTO companies (name, active) VALUES (?, ?)";
+    }
+
+    protected void setStatementParameters(final PreparedStatement ps, final Company company) throws SQLException {
+        ps.setString(1, company.getName());
+        ps.setBoolean(2, company.isActive());
+    }
+
+    protected Callable<Future<ModelCollection>> handleAddPerRow(final Add<Company> add) {
         return () -> Futures.future(() -> {
             final ModelCollection.Builder<Company> builder = new ModelCollection.Builder<>();
 
             try (final Connection conn = getDataSource().getConnection();
-                 final PreparedStatement ps = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+                 final PreparedStatement ps = conn.prepareStatement(getSql(), Statement.RETURN_GENERATED_KEYS)) {
                 for (final Company company : add.getModels()) {
-                    ps.setString(1, company.getName());
-                    ps.setBoolean(2, company.isActive());
+                    setStatementParameters(ps, company);
                     ps.executeUpdate();
 
                     try (final ResultSet rs = ps.getGeneratedKeys()) {
@@ -95,6 +276,139 @@ public class AddActor extends UntypedActor {
             }
 
             return builder.build();
-        }, context().dispatcher());
+        }, getExecutionContext());
+    }
+
+    protected Callable<Future<ModelCollection>> handleAddBatch(final Add<Company> add) {
+        return () -> Futures.future(() -> {
+            final ModelCollection.Builder<Company> builder = new ModelCollection.Builder<>();
+
+            try (final Connection conn = getDataSource().getConnection()) {
+                final boolean autoCommit = conn.getAutoCommit();
+                conn.setAutoCommit(false);
+                try (final PreparedStatement ps = conn.prepareStatement(getSql(), Statement.RETURN_GENERATED_KEYS)) {
+                    for (final List<Company> chunk : Iterables.partition(add.getModels(), getBatchSize())) {
+                        executeBatch(ps, chunk, builder);
+                    }
+                    conn.commit();
+                } catch (final Throwable failure) {
+                    // Any failure must roll back, since restoring auto-commit would otherwise commit the partial batch.
+                    conn.rollback();
+                    throw failure;
+                } finally {
+                    conn.setAutoCommit(autoCommit);
+                }
+            }
+
+            return builder.build();
+        }, getExecutionContext());
+    }
+
+    /**
+     * Inserts the companies from all of the add requests in a single transaction. The companies are first inserted
+     * together in as few JDBC batches as possible. When that fails, the transaction is rolled back and each add request
+     * is inserted again within its own savepoint, so that a failing request (such as one with a company name that is
+     * already in use) only fails itself and not the other requests in the group.
+     *
+     * @param adds the add requests to be inserted together
+     * @return one response for each add request in the same order, either the {@link ModelCollection} of companies
+     * added by the request or a {@link Status.Failure} describing why the request failed
+     */
+    protected Callable<Future<List<Object>>> handleAddGroup(final List<Add<Company>> adds) {
+        return () -> Futures.future(() -> {
+            try (final Connection conn = getDataSource().getConnection()) {
+                final boolean autoCommit = conn.getAutoCommit();
+                conn.setAutoCommit(false);
+                try {
+                    List<Object> responses;
+                    try {
+                        responses = insertTogether(conn, adds);
+                    } catch (final Exception groupException) {
+                        conn.rollback();
+                        responses = insertSeparately(conn, adds);
+                    }
+                    conn.commit();
+                    return responses;
+                } catch (final Throwable failure) {
+                    // Any failure must roll back, since restoring auto-commit would otherwise commit the partial group.
+                    conn.rollback();
+                    throw failure;
+                } finally {
+                    conn.setAutoCommit(autoCommit);
+                }
+            }
+        }, getExecutionContext());
+    }
+
+    protected List<Object> insertTogether(final Connection conn, final List<Add<Company>> adds) throws SQLException {
+        final List<Company> companies = new ArrayList<>();
+        adds.forEach(add -> companies.addAll(add.getModels()));
+
+        final List<Company> created = new ArrayList<>(companies.size());
+        try (final PreparedStatement ps = conn.prepareStatement(getSql(), Statement.RETURN_GENERATED_KEYS)) {
+            for (final List<Company> chunk : Iterables.partition(companies, getBatchSize())) {
+                created.addAll(executeBatch(ps, chunk));
+            }
+        }
+
+        // The created companies are in the same order as the add requests, so each request takes the next companies.
+        final List<Object> responses = new ArrayList<>(adds.size());
+        int offset = 0;
+        for (final Add<Company> add : adds) {
+            final int count = add.getModels().size();
+            responses.add(new ModelCollection.Builder<>(created.subList(offset, offset + count)).build());
+            offset += count;
+        }
+        return responses;
+    }
+
+    protected List<Object> insertSeparately(final Connection conn, final List<Add<Company>> adds)
+            throws SQLException {
+        final List<Object> responses = new ArrayList<>(adds.size());
+        try (final PreparedStatement ps = conn.prepareStatement(getSql(), Statement.RETURN_GENERATED_KEYS)) {
+            for (final Add<Company> add : adds) {
+                final Savepoint savepoint = conn.setSavepoint();
+                try {
+                    final ModelCollection.Builder<Company> builder = new ModelCollection.Builder<>();
+                    for (final List<Company> chunk : Iterables.partition(add.getModels(), getBatchSize())) {
+                        executeBatch(ps, chunk, builder);
+                    }
+                    conn.releaseSavepoint(savepoint);
+                    responses.add(builder.build());
+                } catch (final Exception exception) {
+                    conn.rollback(savepoint);
+                    ps.clearBatch();
+                    responses.add(new Status.Failure(exception));
+                }
+            }
+        }
+        return responses;
+    }
+
+    protected void executeBatch(
+            final PreparedStatement ps, final List<Company> chunk, final ModelCollection.Builder<Company> builder)
+            throws SQLException {
+        builder.add(executeBatch(ps, chunk));
+    }
+
+    protected List<Company> executeBatch(final PreparedStatement ps, final List<Company> chunk) throws SQLException {
+        for (final Company company : chunk) {
+            setStatementParameters(ps, company);
+            ps.addBatch();
+        }
+        ps.executeBatch();
+
+        // The generated keys are returned in the same order the rows were added to the batch.
+        final List<Company> created = new ArrayList<>(chunk.size());
+        try (final ResultSet rs = ps.getGeneratedKeys()) {
+            for (final Company company : chunk) {
+                if (!rs.next()) {
+                    // Without a key for every row the created companies cannot be matched back to the requests.
+                    throw new SQLException("Generated keys were not returned for all of the added companies");
+                }
+                created.add(new Company.Builder(company).setId(rs.getInt(1)).build());
+            }
+        }
+        return created;
     }
 }
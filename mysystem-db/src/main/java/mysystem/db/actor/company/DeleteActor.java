@@ -1,21 +1,32 @@
 package mysystem.db.actor.company;
 
+import com.typesafe.config.Config;
+
 import akka.actor.ActorRef;
 import akka.actor.ActorRefFactory;
 import akka.actor.Props;
-import akka.actor.Status;
 import akka.actor.UntypedActor;
 import akka.dispatch.Futures;
 import akka.pattern.CircuitBreaker;
 import akka.pattern.Patterns;
 import mysystem.common.model.Company;
+import mysystem.common.util.IdSet;
+import mysystem.db.config.DatabaseConfig;
 import mysystem.db.model.DeleteById;
+import mysystem.db.model.DeleteResult;
+import mysystem.db.model.DeleteStrategy;
+import scala.concurrent.ExecutionContextExecutor;
 import scala.concurrent.Future;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Collections;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import javax.sql.DataSource;
 
@@ -23,8 +34,17 @@ import javax.sql.DataSource;
  * This actor is responsible for deleting {@link Company} objects from the configured data source.
  */
 public class DeleteActor extends UntypedActor {
+    private final static int DEFAULT_BATCH_SIZE = 256;
+    private final static int MIN_BUCKET_SIZE = 8;
+
     private final DataSource dataSource;
     private final CircuitBreaker circuitBreaker;
+    private final ExecutionContextExecutor executionContext;
+    private final DeleteStrategy deleteStrategy;
+    private final int batchSize;
+
+    // The IN list delete statements keyed by bucket size.
+    private final ConcurrentMap<Integer, String> inListSql = new ConcurrentHashMap<>();
 
     /**
      * @param actorRefFactory the {@link ActorRefFactory} that will be used to create actor references
@@ -43,8 +63,30 @@ public class DeleteActor extends UntypedActor {
      * @param circuitBreaker the {@link CircuitBreaker} used to manage push-back when the database gets overloaded
      */
     public DeleteActor(final DataSource dataSource, final CircuitBreaker circuitBreaker) {
+        this(dataSource, circuitBreaker, Optional.empty());
+    }
+
+    /**
+     * @param dataSource the {@link DataSource} used to manage database connections
+     * @param circuitBreaker the {@link CircuitBreaker} used to manage push-back when the database gets overloaded
+     * @param executionContext the {@link ExecutionContextExecutor} used to run the blocking database operations
+     */
+    public DeleteActor(
+            final DataSource dataSource, final CircuitBreaker circuitBreaker,
+            final ExecutionContextExecutor executionContext) {
+        this(dataSource, circuitBreaker, Optional.of(executionContext));
+    }
+
+    private DeleteActor(
+            final DataSource dataSource, final CircuitBreaker circuitBreaker,
+            final Optional<ExecutionContextExecutor> executionContext) {
         this.dataSource = Objects.requireNonNull(dataSource);
         this.circuitBreaker = Objects.requireNonNull(circuitBreaker);
+        this.executionContext = executionContext.orElse(context().dispatcher());
+
+        final Config config = context().system().settings().config();
+        this.deleteStrategy = getDeleteStrategy(config);
+        this.batchSize = getBatchSize(config);
     }
 
     protected DataSource getDataSource() {
@@ -55,33 +97,175 @@ public class DeleteActor extends UntypedActor {
         return this.circuitBreaker;
     }
 
+    protected ExecutionContextExecutor getExecutionContext() {
+        return this.executionContext;
+    }
+
+    protected DeleteStrategy getDeleteStrategy() {
+        return this.deleteStrategy;
+    }
+
+    protected int getBatchSize() {
+        return this.batchSize;
+    }
+
+    protected DeleteStrategy getDeleteStrategy(final Config config) {
+        if (Objects.requireNonNull(config).hasPath(DatabaseConfig.DATABASE_DELETE_STRATEGY.getKey())) {
+            return DeleteStrategy.valueOf(config.getString(DatabaseConfig.DATABASE_DELETE_STRATEGY.getKey()));
+        }
+        return DeleteStrategy.IN_LIST;
+    }
+
+    protected int getBatchSize(final Config config) {
+        if (Objects.requireNonNull(config).hasPath(DatabaseConfig.DATABASE_DELETE_BATCH_SIZE.getKey())) {
+            final int size = config.getInt(DatabaseConfig.DATABASE_DELETE_BATCH_SIZE.getKey());
+            if (size < 1) {
+                throw new IllegalArgumentException("Delete batch size must be positive: " + size);
+            }
+            return size;
+        }
+        return DEFAULT_BATCH_SIZE;
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public void onReceive(final Object message) {
         if (message instanceof DeleteById) {
-            final Callable<Future<Status.Success>> callable = handleDeleteById((DeleteById) message);
-            final Future<Status.Success> future = getCircuitBreaker().callWithCircuitBreaker(callable);
+            final Callable<Future<DeleteResult>> callable = handleDeleteById((DeleteById) message);
+            final Future<DeleteResult> future = getCircuitBreaker().callWithCircuitBreaker(callable);
             Patterns.pipe(future, context().dispatcher()).to(sender());
         } else {
             unhandled(message);
         }
     }
 
-    protected Callable<Future<Status.Success>> handleDeleteById(final DeleteById deleteById) {
-        final String sql = "DELETE FROM companies WHERE id = ?";
+    protected String getSql() {
+        return "DELETE FROM companies WHERE id = ?";
+    }
+
+    /**
+     * @param idCount the number of unique identifiers to be included in an {@code IN} list
+     * @return the number of placeholders to use in the {@code IN} list, rounded up to the next power of two (but never
+     * larger than the batch size) so that only a small number of distinct statements are ever prepared
+     */
+    protected int getBucketSize(final int idCount) {
+        final int bucket = Math.max(MIN_BUCKET_SIZE, Integer.highestOneBit(Math.max(1, idCount - 1)) << 1);
+        return Math.min(bucket, getBatchSize());
+    }
 
+    protected String getSql(final int bucketSize) {
+        return this.inListSql.computeIfAbsent(bucketSize, size -> String
+                .format("DELETE FROM companies WHERE id IN (%s)", String.join(", ", Collections.nCopies(size, "?"))));
+    }
+
+    protected void setStatementParameters(final PreparedStatement ps, final IdSet ids, final int bucketSize)
+            throws SQLException {
+        // Unused placeholders repeat the last id, which does not change the rows affected by the IN list.
+        for (int index = 0; index < bucketSize; index++) {
+            ps.setInt(index + 1, ids.get(Math.min(index, ids.size() - 1)));
+        }
+    }
+
+    protected Callable<Future<DeleteResult>> handleDeleteById(final DeleteById deleteById) {
+        switch (getDeleteStrategy()) {
+            case IN_LIST:
+                return handleDeleteByIdInList(deleteById);
+            case BATCH:
+                return handleDeleteByIdBatch(deleteById);
+            default:
+                return handleDeleteByIdPerId(deleteById);
+        }
+    }
+
+    protected Callable<Future<DeleteResult>> handleDeleteByIdPerId(final DeleteById deleteById) {
         return () -> Futures.future(() -> {
+            final DeleteResult.Builder builder = new DeleteResult.Builder();
+
             try (final Connection conn = getDataSource().getConnection();
-                 final PreparedStatement ps = conn.prepareStatement(sql)) {
-                for (final Integer id : deleteById.getIds()) {
-                    ps.setInt(1, id);
-                    ps.executeUpdate();
+                 final PreparedStatement ps = conn.prepareStatement(getSql())) {
+                final IdSet ids = deleteById.getIds();
+                for (int index = 0; index < ids.size(); index++) {
+                    ps.setInt(1, ids.get(index));
+                    builder.add(ps.executeUpdate());
                 }
             }
 
-            return new Status.Success("Delete completed successfully");
-        }, context().dispatcher());
+            return builder.build();
+        }, getExecutionContext());
+    }
+
+    protected Callable<Future<DeleteResult>> handleDeleteByIdInList(final DeleteById deleteById) {
+        return () -> Futures.future(() -> {
+            final DeleteResult.Builder builder = new DeleteResult.Builder();
+
+            try (final Connection conn = getDataSource().getConnection()) {
+                final boolean autoCommit = conn.getAutoCommit();
+                conn.setAutoCommit(false);
+                try {
+                    for (final IdSet chunk : deleteById.getIds().partition(getBatchSize())) {
+                        final int bucketSize = getBucketSize(chunk.size());
+                        try (final PreparedStatement ps = conn.prepareStatement(getSql(bucketSize))) {
+                            setStatementParameters(ps, chunk, bucketSize);
+                            builder.add(ps.executeUpdate());
+                        }
+                    }
+                    conn.commit();
+                } catch (final Throwable failure) {
+                    // Any failure must roll back, as restoring auto-commit would otherwise commit the partial delete.
+                    conn.rollback();
+                    throw failure;
+                } finally {
+                    conn.setAutoCommit(autoCommit);
+                }
+            }
+
+            return builder.build();
+        }, getExecutionContext());
+    }
+
+    protected Callable<Future<DeleteResult>> handleDeleteByIdBatch(final DeleteById deleteById) {
+        return () -> Futures.future(() -> {
+            final DeleteResult.Builder builder = new DeleteResult.Builder();
+
+            try (final Connection conn = getDataSource().getConnection()) {
+                final boolean autoCommit = conn.getAutoCommit();
+                conn.setAutoCommit(false);
+                try (final PreparedStatement ps = conn.prepareStatement(getSql())) {
+                    for (final IdSet chunk : deleteById.getIds().partition(getBatchSize())) {
+                        for (int index = 0; index < chunk.size(); index++) {
+                            ps.setInt(1, chunk.get(index));
+                            ps.addBatch();
+                        }
+                        builder.add(getRowCount(ps.executeBatch()));
+                    }
+                    conn.commit();
+                } catch (final Throwable failure) {
+                    // Any failure must roll back, as restoring auto-commit would otherwise commit the partial delete.
+                    conn.rollback();
+                    throw failure;
+                } finally {
+                    conn.setAutoCommit(autoCommit);
+                }
+            }
+
+            return builder.build();
+        }, getExecutionContext());
+    }
+
+    /**
+     * @param updateCounts the update counts returned from a batch execution
+     * @return the total number of rows affected by the batch, ignoring any statements for which the driver could not
+     * provide a row count
+     */
+    protected int getRowCount(final int[] updateCounts) {
+        int total = 0;
+        if (updateCounts != null) {
+            for (final int count : updateCounts) {
+                total += Math.max(0, count);
+            }
+        }
+        return total;
     }
 }
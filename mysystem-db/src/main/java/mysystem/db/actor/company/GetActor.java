@@ -1,26 +1,45 @@
 package mysystem.db.actor.company;
 
+import com.typesafe.config.Config;
+
+import org.apache.commons.lang3.tuple.Pair;
+
 import akka.actor.ActorRef;
 import akka.actor.ActorRefFactory;
+import akka.actor.Cancellable;
 import akka.actor.Props;
+import akka.actor.Status;
 import akka.actor.UntypedActor;
 import akka.dispatch.Futures;
+import akka.dispatch.OnComplete;
 import akka.pattern.CircuitBreaker;
-import akka.pattern.Patterns;
 import mysystem.common.model.Company;
+import mysystem.common.util.Chunking;
+import mysystem.common.util.IdSet;
+import mysystem.db.config.DatabaseConfig;
 import mysystem.db.model.GetAll;
 import mysystem.db.model.GetById;
 import mysystem.db.model.ModelCollection;
+import mysystem.db.model.QueryStrategy;
+import mysystem.db.model.StreamAll;
+import scala.concurrent.ExecutionContextExecutor;
 import scala.concurrent.Future;
+import scala.concurrent.duration.FiniteDuration;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
 
 import javax.sql.DataSource;
 
@@ -28,8 +47,32 @@ import javax.sql.DataSource;
  * This actor is responsible for retrieving {@link Company} objects from the configured data source.
  */
 public class GetActor extends UntypedActor {
+    private final static int DEFAULT_BATCH_SIZE = 256;
+    private final static int MIN_BUCKET_SIZE = 8;
+    private final static int DEFAULT_COALESCE_MAX_REQUESTS = 64;
+
+    /**
+     * Sent to this actor when the coalesce window expires and the pending fetch-by-id requests need to be executed.
+     */
+    private enum FlushPending {
+        INSTANCE
+    }
+
     private final DataSource dataSource;
     private final CircuitBreaker circuitBreaker;
+    private final ExecutionContextExecutor executionContext;
+    private final Chunking chunking;
+    private final QueryStrategy queryStrategy;
+    private final int batchSize;
+    private final Optional<FiniteDuration> coalesceWindow;
+    private final int coalesceMaxRequests;
+
+    // The fetch-by-id requests waiting to be combined into a single query, along with the actors that sent them.
+    private final List<Pair<ActorRef, GetById>> pending = new LinkedList<>();
+    private Optional<Cancellable> flushTimer = Optional.empty();
+
+    // The IN list queries keyed by bucket size and whether the active flag is included.
+    private final ConcurrentMap<Pair<Integer, Boolean>, String> inListSql = new ConcurrentHashMap<>();
 
     /**
      * @param actorRefFactory the {@link ActorRefFactory} that will be used to create actor references
@@ -48,8 +91,41 @@ public class GetActor extends UntypedActor {
      * @param circuitBreaker the {@link CircuitBreaker} used to manage push-back when the database gets overloaded
      */
     public GetActor(final DataSource dataSource, final CircuitBreaker circuitBreaker) {
+        this(dataSource, circuitBreaker, Optional.empty());
+    }
+
+    /**
+     * @param dataSource the {@link DataSource} used to manage database connections
+     * @param circuitBreaker the {@link CircuitBreaker} used to manage push-back when the database gets overloaded
+     * @param executionContext the {@link ExecutionContextExecutor} used to run the blocking database operations
+     */
+    public GetActor(
+            final DataSource dataSource, final CircuitBreaker circuitBreaker,
+            final ExecutionContextExecutor executionContext) {
+        this(dataSource, circuitBreaker, Optional.of(executionContext));
+    }
+
+    private GetActor(
+            final DataSource dataSource, final CircuitBreaker circuitBreaker,
+            final Optional<ExecutionContextExecutor> executionContext) {
         this.dataSource = Objects.requireNonNull(dataSource);
         this.circuitBreaker = Objects.requireNonNull(circuitBreaker);
+        this.executionContext = executionContext.orElse(context().dispatcher());
+        this.chunking = new Chunking(context().system());
+
+        final Config config = context().system().settings().config();
+        this.queryStrategy = getQueryStrategy(config);
+        this.batchSize = getBatchSize(config);
+        this.coalesceWindow = getCoalesceWindow(config);
+        this.coalesceMaxRequests = getCoalesceMaxRequests(config);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void postStop() {
+        this.flushTimer.ifPresent(Cancellable::cancel);
     }
 
     protected DataSource getDataSource() {
@@ -60,24 +136,171 @@ public class GetActor extends UntypedActor {
         return this.circuitBreaker;
     }
 
+    protected ExecutionContextExecutor getExecutionContext() {
+        return this.executionContext;
+    }
+
+    protected Chunking getChunking() {
+        return this.chunking;
+    }
+
+    protected QueryStrategy getQueryStrategy() {
+        return this.queryStrategy;
+    }
+
+    protected int getBatchSize() {
+        return this.batchSize;
+    }
+
+    protected Optional<FiniteDuration> getCoalesceWindow() {
+        return this.coalesceWindow;
+    }
+
+    protected int getCoalesceMaxRequests() {
+        return this.coalesceMaxRequests;
+    }
+
+    protected QueryStrategy getQueryStrategy(final Config config) {
+        if (Objects.requireNonNull(config).hasPath(DatabaseConfig.DATABASE_QUERY_STRATEGY.getKey())) {
+            return QueryStrategy.valueOf(config.getString(DatabaseConfig.DATABASE_QUERY_STRATEGY.getKey()));
+        }
+        return QueryStrategy.IN_LIST;
+    }
+
+    protected int getBatchSize(final Config config) {
+        if (Objects.requireNonNull(config).hasPath(DatabaseConfig.DATABASE_QUERY_BATCH_SIZE.getKey())) {
+            final int size = config.getInt(DatabaseConfig.DATABASE_QUERY_BATCH_SIZE.getKey());
+            if (size < 1) {
+                throw new IllegalArgumentException("Query batch size must be positive: " + size);
+            }
+            return size;
+        }
+        return DEFAULT_BATCH_SIZE;
+    }
+
+    protected Optional<FiniteDuration> getCoalesceWindow(final Config config) {
+        if (Objects.requireNonNull(config).hasPath(DatabaseConfig.DATABASE_QUERY_COALESCE_WINDOW.getKey())) {
+            final long millis = config.getDuration(DatabaseConfig.DATABASE_QUERY_COALESCE_WINDOW.getKey()).toMillis();
+            if (millis > 0) {
+                return Optional.of(FiniteDuration.create(millis, TimeUnit.MILLISECONDS));
+            }
+        }
+        return Optional.empty();
+    }
+
+    protected int getCoalesceMaxRequests(final Config config) {
+        if (Objects.requireNonNull(config).hasPath(DatabaseConfig.DATABASE_QUERY_COALESCE_MAX_REQUESTS.getKey())) {
+            final int max = config.getInt(DatabaseConfig.DATABASE_QUERY_COALESCE_MAX_REQUESTS.getKey());
+            if (max < 1) {
+                throw new IllegalArgumentException("Query coalesce max requests must be positive: " + max);
+            }
+            return max;
+        }
+        return DEFAULT_COALESCE_MAX_REQUESTS;
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public void onReceive(final Object message) {
-        if (message instanceof GetById) {
+        if (message instanceof GetById && getCoalesceWindow().isPresent()) {
+            handleCoalesce((GetById) message);
+        } else if (message instanceof GetById) {
             final Callable<Future<ModelCollection>> callable = handleGetById((GetById) message);
             final Future<ModelCollection> future = getCircuitBreaker().callWithCircuitBreaker(callable);
-            Patterns.pipe(future, context().dispatcher()).to(sender());
+            getChunking().pipe(future, context().dispatcher(), sender());
+        } else if (message == FlushPending.INSTANCE) {
+            flushPending();
+        } else if (message instanceof StreamAll) {
+            handleStreamAll((StreamAll) message);
         } else if (message instanceof GetAll) {
             final Callable<Future<ModelCollection>> callable = handleGetAll((GetAll) message);
             final Future<ModelCollection> future = getCircuitBreaker().callWithCircuitBreaker(callable);
-            Patterns.pipe(future, context().dispatcher()).to(sender());
+            getChunking().pipe(future, context().dispatcher(), sender());
         } else {
             unhandled(message);
         }
     }
 
+    protected void handleStreamAll(final StreamAll streamAll) {
+        context().actorOf(
+                Props.create(StreamActor.class, getDataSource(), getExecutionContext(), streamAll, sender()));
+    }
+
+    protected void handleCoalesce(final GetById getById) {
+        this.pending.add(Pair.of(sender(), getById));
+        if (this.pending.size() >= getCoalesceMaxRequests()) {
+            flushPending();
+        } else if (!this.flushTimer.isPresent() && getCoalesceWindow().isPresent()) {
+            this.flushTimer = Optional.of(context().system().scheduler()
+                    .scheduleOnce(getCoalesceWindow().get(), self(), FlushPending.INSTANCE, context().dispatcher(),
+                            self()));
+        }
+    }
+
+    protected void flushPending() {
+        this.flushTimer.ifPresent(Cancellable::cancel);
+        this.flushTimer = Optional.empty();
+        if (this.pending.isEmpty()) {
+            // A timer that was already queued when the pending requests were flushed for reaching the max requests.
+            return;
+        }
+
+        final List<Pair<ActorRef, GetById>> requests = new ArrayList<>(this.pending);
+        this.pending.clear();
+
+        final Callable<Future<ModelCollection>> callable = handleGetById(getCombined(requests));
+        final Future<ModelCollection> future = getCircuitBreaker().callWithCircuitBreaker(callable);
+        future.onComplete(new OnComplete<ModelCollection>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public void onComplete(final Throwable failure, final ModelCollection combined) {
+                for (final Pair<ActorRef, GetById> request : requests) {
+                    if (failure != null) {
+                        request.getLeft().tell(new Status.Failure(failure), ActorRef.noSender());
+                    } else {
+                        getChunking().tell(request.getLeft(), getResponse(combined, request.getRight()),
+                                ActorRef.noSender());
+                    }
+                }
+            }
+        }, context().dispatcher());
+    }
+
+    /**
+     * @param requests the pending fetch-by-id requests to be combined
+     * @return a single {@link GetById} that fetches all of the unique identifiers in the pending requests, with an
+     * active filter only when all of the requests share the same one
+     */
+    protected GetById getCombined(final List<Pair<ActorRef, GetById>> requests) {
+        final GetById first = requests.get(0).getRight();
+        final GetById.Builder builder = new GetById.Builder(first.getDataType());
+        boolean sameActive = true;
+        for (final Pair<ActorRef, GetById> request : requests) {
+            builder.add(request.getRight().getIds());
+            sameActive &= first.getActive().equals(request.getRight().getActive());
+        }
+        if (sameActive) {
+            builder.setActive(first.getActive());
+        }
+        return builder.build();
+    }
+
+    /**
+     * @param combined the companies retrieved by the combined fetch-by-id request
+     * @param getById the original fetch-by-id request for which a response is needed
+     * @return the companies from the combined response that match the ids and active filter in the original request
+     */
+    protected ModelCollection<Company> getResponse(final ModelCollection<Company> combined, final GetById getById) {
+        final ModelCollection.Builder<Company> builder = new ModelCollection.Builder<>();
+        combined.getModelList().stream()
+                .filter(company -> company.getId().isPresent() && getById.getIds().contains(company.getId().get()))
+                .filter(company -> !getById.getActive().isPresent() || getById.getActive().get() == company.isActive())
+                .forEach(builder::add);
+        return builder.build();
+    }
+
     protected String getSql(final GetById getById) {
         final List<String> parts = new LinkedList<>();
         parts.add("SELECT id, name, active FROM companies WHERE");
@@ -88,16 +311,53 @@ public class GetActor extends UntypedActor {
         return String.join(" ", parts);
     }
 
+    /**
+     * @param idCount the number of unique identifiers to be included in an {@code IN} list
+     * @return the number of placeholders to use in the {@code IN} list, rounded up to the next power of two (but never
+     * larger than the batch size) so that only a small number of distinct statements are ever prepared
+     */
+    protected int getBucketSize(final int idCount) {
+        final int bucket = Math.max(MIN_BUCKET_SIZE, Integer.highestOneBit(Math.max(1, idCount - 1)) << 1);
+        return Math.min(bucket, getBatchSize());
+    }
+
+    protected String getSql(final GetById getById, final int bucketSize) {
+        final Pair<Integer, Boolean> key = Pair.of(bucketSize, getById.getActive().isPresent());
+        return this.inListSql.computeIfAbsent(key, k -> {
+            final List<String> parts = new LinkedList<>();
+            parts.add("SELECT id, name, active FROM companies WHERE");
+            parts.add(String.format("id IN (%s)", String.join(", ", Collections.nCopies(k.getLeft(), "?"))));
+            if (k.getRight()) {
+                parts.add("AND active = ?");
+            }
+            parts.add("ORDER BY id");
+            return String.join(" ", parts);
+        });
+    }
+
     protected String getSql(final GetAll getAll) {
+        final List<String> conditions = new LinkedList<>();
+        if (getAll.getActive().isPresent()) {
+            conditions.add("active = ?");
+        }
+        if (getAll.getAfterId().isPresent()) {
+            conditions.add("id > ?");
+        }
+
         final List<String> parts = new LinkedList<>();
         parts.add("SELECT id, name, active FROM companies");
-        if (getAll.getActive().isPresent()) {
-            parts.add("WHERE active = ?");
+        if (!conditions.isEmpty()) {
+            parts.add("WHERE " + String.join(" AND ", conditions));
+        }
+        parts.add("ORDER BY id");
+        if (getAll.getLimit().isPresent()) {
+            // One extra row is fetched to determine whether another page exists.
+            parts.add("LIMIT ?");
         }
         return String.join(" ", parts);
     }
 
-    protected void setStatementParameters(final PreparedStatement ps, final GetById getById, final Integer id)
+    protected void setStatementParameters(final PreparedStatement ps, final GetById getById, final int id)
             throws SQLException {
         ps.setInt(1, id);
         if (getById.getActive().isPresent()) {
@@ -105,9 +365,28 @@ public class GetActor extends UntypedActor {
         }
     }
 
+    protected void setStatementParameters(
+            final PreparedStatement ps, final GetById getById, final IdSet ids, final int bucketSize)
+            throws SQLException {
+        // Unused placeholders repeat the last id, which does not change the results of the IN list.
+        for (int index = 0; index < bucketSize; index++) {
+            ps.setInt(index + 1, ids.get(Math.min(index, ids.size() - 1)));
+        }
+        if (getById.getActive().isPresent()) {
+            ps.setBoolean(bucketSize + 1, getById.getActive().get());
+        }
+    }
+
     protected void setStatementParameters(final PreparedStatement ps, final GetAll getAll) throws SQLException {
+        int index = 1;
         if (getAll.getActive().isPresent()) {
-            ps.setBoolean(1, getAll.getActive().get());
+            ps.setBoolean(index++, getAll.getActive().get());
+        }
+        if (getAll.getAfterId().isPresent()) {
+            ps.setInt(index++, getAll.getAfterId().get());
+        }
+        if (getAll.getLimit().isPresent()) {
+            ps.setInt(index, getAll.getLimit().get() + 1);
         }
     }
 
@@ -126,14 +405,60 @@ public class GetActor extends UntypedActor {
         }
     }
 
+    protected void populateCompanyPage(
+            final ModelCollection.Builder<Company> builder, final ResultSet resultSet, final int limit)
+            throws SQLException {
+        Optional<Integer> lastId = Optional.empty();
+        int count = 0;
+        while (resultSet.next()) {
+            if (count++ == limit) {
+                // The extra row exists, so the last id in this page is the cursor for the next page.
+                builder.setNextAfterId(lastId);
+                break;
+            }
+            final Company company = getCompany(resultSet);
+            builder.add(company);
+            lastId = company.getId();
+        }
+    }
+
     protected Callable<Future<ModelCollection>> handleGetById(final GetById getById) {
+        if (getQueryStrategy() == QueryStrategy.IN_LIST) {
+            return handleGetByIdInList(getById);
+        }
+        return handleGetByIdPerId(getById);
+    }
+
+    protected Callable<Future<ModelCollection>> handleGetByIdInList(final GetById getById) {
+        return () -> Futures.future(() -> {
+            final ModelCollection.Builder<Company> builder = new ModelCollection.Builder<>();
+
+            try (final Connection conn = getDataSource().getConnection()) {
+                for (final IdSet chunk : getById.getIds().partition(getBatchSize())) {
+                    final int bucketSize = getBucketSize(chunk.size());
+                    try (final PreparedStatement ps = conn.prepareStatement(getSql(getById, bucketSize))) {
+                        setStatementParameters(ps, getById, chunk, bucketSize);
+
+                        try (final ResultSet rs = ps.executeQuery()) {
+                            populateCompanyResponse(builder, rs);
+                        }
+                    }
+                }
+            }
+
+            return builder.build();
+        }, getExecutionContext());
+    }
+
+    protected Callable<Future<ModelCollection>> handleGetByIdPerId(final GetById getById) {
         return () -> Futures.future(() -> {
             final ModelCollection.Builder<Company> builder = new ModelCollection.Builder<>();
 
             try (final Connection conn = getDataSource().getConnection();
                  final PreparedStatement ps = conn.prepareStatement(getSql(getById))) {
-                for (final Integer id : getById.getIds()) {
-                    setStatementParameters(ps, getById, id);
+                final IdSet ids = getById.getIds();
+                for (int index = 0; index < ids.size(); index++) {
+                    setStatementParameters(ps, getById, ids.get(index));
 
                     try (final ResultSet rs = ps.executeQuery()) {
                         populateCompanyResponse(builder, rs);
@@ -142,7 +467,7 @@ public class GetActor extends UntypedActor {
             }
 
             return builder.build();
-        }, context().dispatcher());
+        }, getExecutionContext());
     }
 
     protected Callable<Future<ModelCollection>> handleGetAll(final GetAll getAll) {
@@ -153,11 +478,15 @@ public class GetActor extends UntypedActor {
                  final PreparedStatement ps = conn.prepareStatement(getSql(getAll))) {
                 setStatementParameters(ps, getAll);
                 try (final ResultSet rs = ps.executeQuery()) {
-                    populateCompanyResponse(builder, rs);
+                    if (getAll.getLimit().isPresent()) {
+                        populateCompanyPage(builder, rs, getAll.getLimit().get());
+                    } else {
+                        populateCompanyResponse(builder, rs);
+                    }
                 }
             }
 
             return builder.build();
-        }, context().dispatcher());
+        }, getExecutionContext());
     }
 }
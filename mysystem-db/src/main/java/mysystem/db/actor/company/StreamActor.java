@@ -0,0 +1,249 @@
+package mysystem.db.actor.company;
+
+import com.typesafe.config.Config;
+
+import akka.actor.ActorRef;
+import akka.actor.ReceiveTimeout;
+import akka.actor.Status;
+import akka.actor.Terminated;
+import akka.actor.UntypedActor;
+import akka.dispatch.Futures;
+import akka.pattern.Patterns;
+import mysystem.common.model.Company;
+import mysystem.db.config.DatabaseConfig;
+import mysystem.db.model.ModelCollection;
+import mysystem.db.model.StreamAck;
+import mysystem.db.model.StreamAll;
+import mysystem.db.model.StreamComplete;
+import scala.concurrent.ExecutionContextExecutor;
+import scala.concurrent.Future;
+import scala.concurrent.duration.Duration;
+import scala.concurrent.duration.FiniteDuration;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import javax.sql.DataSource;
+
+/**
+ * This actor is responsible for streaming {@link Company} objects from the configured data source to the requester
+ * of a {@link StreamAll}. The companies are read with a forward-only {@link ResultSet} and sent as
+ * {@link ModelCollection} chunks, and the next chunk is not read until the requester acknowledges the previous one
+ * with a {@link StreamAck}, so only a single chunk is held in memory at a time. A {@link StreamComplete} is sent after
+ * the last chunk. This actor stops itself when the stream completes or fails, when the requester does not
+ * acknowledge a chunk within the configured timeout, or when the requester terminates. The database resources are
+ * released whenever this actor stops.
+ */
+public class StreamActor extends UntypedActor {
+    private final static int DEFAULT_CHUNK_SIZE = 500;
+    private final static int DEFAULT_FETCH_SIZE = 500;
+    private final static FiniteDuration DEFAULT_ACK_TIMEOUT = FiniteDuration.create(30, TimeUnit.SECONDS);
+
+    private final ExecutionContextExecutor executionContext;
+    private final ActorRef requester;
+    private final int chunkSize;
+    private final FiniteDuration ackTimeout;
+    private final Cursor cursor;
+
+    private long count = 0;
+    private boolean awaitingAck = false;
+
+    /**
+     * @param dataSource the {@link DataSource} used to manage database connections
+     * @param executionContext the {@link ExecutionContextExecutor} used to run the blocking database operations
+     * @param streamAll the {@link StreamAll} request describing the companies to stream
+     * @param requester the actor that requested the stream and will receive the chunks
+     */
+    public StreamActor(
+            final DataSource dataSource, final ExecutionContextExecutor executionContext, final StreamAll streamAll,
+            final ActorRef requester) {
+        this.executionContext = Objects.requireNonNull(executionContext);
+        this.requester = Objects.requireNonNull(requester);
+
+        final Config config = context().system().settings().config();
+        this.chunkSize = Objects.requireNonNull(streamAll).getChunkSize().orElse(getChunkSize(config));
+        this.ackTimeout = getAckTimeout(config);
+        this.cursor = new Cursor(Objects.requireNonNull(dataSource), streamAll, getFetchSize(config));
+    }
+
+    protected ActorRef getRequester() {
+        return this.requester;
+    }
+
+    protected int getChunkSize() {
+        return this.chunkSize;
+    }
+
+    protected FiniteDuration getAckTimeout() {
+        return this.ackTimeout;
+    }
+
+    protected int getChunkSize(final Config config) {
+        if (Objects.requireNonNull(config).hasPath(DatabaseConfig.DATABASE_STREAM_CHUNK_SIZE.getKey())) {
+            final int size = config.getInt(DatabaseConfig.DATABASE_STREAM_CHUNK_SIZE.getKey());
+            if (size < 1) {
+                throw new IllegalArgumentException("Stream chunk size must be positive: " + size);
+            }
+            return size;
+        }
+        return DEFAULT_CHUNK_SIZE;
+    }
+
+    protected int getFetchSize(final Config config) {
+        if (Objects.requireNonNull(config).hasPath(DatabaseConfig.DATABASE_STREAM_FETCH_SIZE.getKey())) {
+            return config.getInt(DatabaseConfig.DATABASE_STREAM_FETCH_SIZE.getKey());
+        }
+        return DEFAULT_FETCH_SIZE;
+    }
+
+    protected FiniteDuration getAckTimeout(final Config config) {
+        if (Objects.requireNonNull(config).hasPath(DatabaseConfig.DATABASE_STREAM_ACK_TIMEOUT.getKey())) {
+            final long millis = config.getDuration(DatabaseConfig.DATABASE_STREAM_ACK_TIMEOUT.getKey()).toMillis();
+            return FiniteDuration.create(millis, TimeUnit.MILLISECONDS);
+        }
+        return DEFAULT_ACK_TIMEOUT;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void preStart() {
+        // Without the watch, a requester that stops mid-stream would hold the connection until the ack timeout.
+        context().watch(getRequester());
+        readNextChunk();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void postStop() {
+        this.cursor.close();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void onReceive(final Object message) {
+        if (message instanceof ModelCollection) {
+            handleChunk((ModelCollection<Company>) message);
+        } else if (message instanceof StreamAck && this.awaitingAck) {
+            this.awaitingAck = false;
+            context().setReceiveTimeout(Duration.Undefined());
+            readNextChunk();
+        } else if (message instanceof ReceiveTimeout) {
+            final String error = "Stream chunk not acknowledged within " + getAckTimeout();
+            getRequester().tell(new Status.Failure(new TimeoutException(error)), self());
+            context().stop(self());
+        } else if (message instanceof Status.Failure) {
+            getRequester().tell(message, self());
+            context().stop(self());
+        } else if (message instanceof Terminated && getRequester().equals(((Terminated) message).actor())) {
+            context().stop(self());
+        } else {
+            unhandled(message);
+        }
+    }
+
+    protected void readNextChunk() {
+        final Future<ModelCollection<Company>> future =
+                Futures.future(() -> this.cursor.next(getChunkSize()), this.executionContext);
+        Patterns.pipe(future, context().dispatcher()).to(self());
+    }
+
+    protected void handleChunk(final ModelCollection<Company> chunk) {
+        this.count += chunk.getModelList().size();
+        if (chunk.getModelList().size() < getChunkSize()) {
+            // A partial chunk means the result set has been exhausted, so no acknowledgement is needed.
+            if (!chunk.getModelList().isEmpty()) {
+                getRequester().tell(chunk, self());
+            }
+            getRequester().tell(new StreamComplete.Builder(this.count).build(), self());
+            context().stop(self());
+        } else {
+            getRequester().tell(chunk, self());
+            this.awaitingAck = true;
+            context().setReceiveTimeout(getAckTimeout());
+        }
+    }
+
+    /**
+     * Holds the open database resources for the stream. Only a single read is ever in progress since the next read
+     * is not started until the previous chunk has been acknowledged, and closing waits for any in-progress read.
+     */
+    private static class Cursor {
+        private final DataSource dataSource;
+        private final StreamAll streamAll;
+        private final int fetchSize;
+
+        private Connection connection;
+        private PreparedStatement statement;
+        private ResultSet resultSet;
+
+        Cursor(final DataSource dataSource, final StreamAll streamAll, final int fetchSize) {
+            this.dataSource = dataSource;
+            this.streamAll = streamAll;
+            this.fetchSize = fetchSize;
+        }
+
+        private String getSql() {
+            final List<String> parts = new LinkedList<>();
+            parts.add("SELECT id, name, active FROM companies");
+            if (this.streamAll.getActive().isPresent()) {
+                parts.add("WHERE active = ?");
+            }
+            return String.join(" ", parts);
+        }
+
+        private void open() throws SQLException {
+            this.connection = this.dataSource.getConnection();
+            this.statement = this.connection
+                    .prepareStatement(getSql(), ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            this.statement.setFetchSize(this.fetchSize);
+            if (this.streamAll.getActive().isPresent()) {
+                this.statement.setBoolean(1, this.streamAll.getActive().get());
+            }
+            this.resultSet = this.statement.executeQuery();
+        }
+
+        synchronized ModelCollection<Company> next(final int chunkSize) throws SQLException {
+            if (this.resultSet == null) {
+                open();
+            }
+
+            final ModelCollection.Builder<Company> builder =
+                    new ModelCollection.Builder<Company>().setExpectedSize(chunkSize);
+            for (int index = 0; index < chunkSize && this.resultSet.next(); index++) {
+                final Company.Builder companyBuilder = new Company.Builder();
+                companyBuilder.setId(this.resultSet.getInt("id"));
+                companyBuilder.setName(this.resultSet.getString("name"));
+                companyBuilder.setActive(this.resultSet.getBoolean("active"));
+                builder.add(companyBuilder.build());
+            }
+            return builder.build();
+        }
+
+        synchronized void close() {
+            final AutoCloseable[] closeables = new AutoCloseable[] {this.resultSet, this.statement, this.connection};
+            for (final AutoCloseable closeable : closeables) {
+                try {
+                    if (closeable != null) {
+                        closeable.close();
+                    }
+                } catch (final Exception closeFailed) {
+                    // Nothing else can be done, the remaining resources still need to be closed.
+                }
+            }
+        }
+    }
+}
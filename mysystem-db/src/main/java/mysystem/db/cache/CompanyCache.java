@@ -0,0 +1,102 @@
+package mysystem.db.cache;
+
+import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+
+import mysystem.common.model.Company;
+import mysystem.db.model.CacheStatistics;
+import mysystem.db.model.DataType;
+import scala.concurrent.duration.FiniteDuration;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A bounded, thread-safe cache of {@link Company} objects by unique identifier, with least-recently-used eviction and
+ * an optional time-to-live.
+ * <p>
+ * Every invalidation advances the generation of the cache. Reads record the generation before querying the database
+ * and store their results with {@link #putAll(Collection, long)}, which drops the results when an invalidation
+ * happened in the meantime since the results may then include companies that have since been deleted.
+ */
+public class CompanyCache {
+    private final Cache<Integer, Company> cache;
+    private long generation = 0;
+
+    /**
+     * @param maximumSize the maximum number of companies to keep in the cache
+     * @param ttl the amount of time a company remains in the cache after being stored, possibly empty
+     */
+    public CompanyCache(final long maximumSize, final Optional<FiniteDuration> ttl) {
+        Preconditions.checkArgument(maximumSize > 0, "Maximum size must be positive");
+        final CacheBuilder<Object, Object> builder = CacheBuilder.newBuilder().maximumSize(maximumSize).recordStats();
+        if (Objects.requireNonNull(ttl).isPresent()) {
+            builder.expireAfterWrite(ttl.get().toMillis(), TimeUnit.MILLISECONDS);
+        }
+        this.cache = builder.build();
+    }
+
+    /**
+     * @param ids the unique identifiers of the companies to retrieve from the cache
+     * @return a map of unique identifier to company for the identifiers that were found in the cache
+     */
+    public Map<Integer, Company> getAllPresent(final Collection<Integer> ids) {
+        return this.cache.getAllPresent(Objects.requireNonNull(ids));
+    }
+
+    /**
+     * @param companies the companies to store in the cache, those without a unique identifier are ignored
+     */
+    public void putAll(final Collection<Company> companies) {
+        Objects.requireNonNull(companies).stream().filter(company -> company.getId().isPresent())
+                .forEach(company -> this.cache.put(company.getId().get(), company));
+    }
+
+    /**
+     * @param companies the companies read from the database, those without a unique identifier are ignored
+     * @param generation the generation of the cache recorded before the companies were read from the database
+     * @return whether the companies were stored, which only happens when the cache was not invalidated since the
+     * recorded generation
+     */
+    public synchronized boolean putAll(final Collection<Company> companies, final long generation) {
+        if (generation != this.generation) {
+            return false;
+        }
+        putAll(companies);
+        return true;
+    }
+
+    /**
+     * @return the current generation of the cache, advanced by every invalidation
+     */
+    public synchronized long getGeneration() {
+        return this.generation;
+    }
+
+    /**
+     * @param ids the unique identifiers of the companies to remove from the cache
+     */
+    public synchronized void invalidateAll(final Collection<Integer> ids) {
+        this.generation++;
+        this.cache.invalidateAll(Objects.requireNonNull(ids));
+    }
+
+    /**
+     * @param dataType the {@link DataType} describing the type of data stored in the cache
+     * @return the current statistics describing the effectiveness of the cache
+     */
+    public CacheStatistics getStatistics(final DataType dataType) {
+        final CacheStats stats = this.cache.stats();
+        final CacheStatistics.Builder builder = new CacheStatistics.Builder(dataType);
+        builder.setSize(this.cache.size());
+        builder.setHitCount(stats.hitCount());
+        builder.setMissCount(stats.missCount());
+        builder.setEvictionCount(stats.evictionCount());
+        return builder.build();
+    }
+}
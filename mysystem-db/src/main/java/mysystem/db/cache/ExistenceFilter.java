@@ -0,0 +1,165 @@
+package mysystem.db.cache;
+
+import com.google.common.base.Preconditions;
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnels;
+
+import mysystem.common.util.IdSet;
+import mysystem.db.model.DataType;
+import mysystem.db.model.ExistenceFilterStatistics;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * A thread-safe Bloom filter of the unique identifiers known to exist in a table, used to skip database lookups for
+ * ids that definitely do not exist. The filter may report that an id exists when it does not, but never the reverse.
+ * Since ids cannot be removed from a Bloom filter, deleted ids continue to pass the filter until it is rebuilt from
+ * the table. Until the first build completes every id is considered to possibly exist.
+ * <p>
+ * Ids stored by other nodes or writers are not seen until the next rebuild, so the filter is only trusted for ids at
+ * or below the highest id loaded from the table, and larger ids are always queried. This relies on the table assigning
+ * ascending ids, and on no writer storing an explicit id below ids that have already been loaded.
+ */
+public class ExistenceFilter {
+    /** The false positive probability used when none is specified. */
+    public final static double DEFAULT_FALSE_POSITIVE_PROBABILITY = 0.01;
+
+    private final long expectedInsertions;
+    private final double falsePositiveProbability;
+
+    private BloomFilter<Integer> filter;
+    private boolean ready = false;
+    private long insertions = 0;
+
+    // Ids above the highest id loaded from the table may have been stored elsewhere since the load, so pass the filter.
+    private int highestLoadedId = Integer.MIN_VALUE;
+
+    // The ids added while a rebuild is running, which the rebuilt filter needs to include.
+    private Optional<IdSet.Builder> rebuildAdded = Optional.empty();
+
+    private long skippedCount = 0;
+    private long queriedCount = 0;
+    private long falsePositiveCount = 0;
+
+    /**
+     * @param expectedInsertions the number of ids expected to be stored in the filter
+     */
+    public ExistenceFilter(final long expectedInsertions) {
+        this(expectedInsertions, DEFAULT_FALSE_POSITIVE_PROBABILITY);
+    }
+
+    /**
+     * @param expectedInsertions the number of ids expected to be stored in the filter
+     * @param falsePositiveProbability the desired probability of an absent id passing the filter when the filter
+     * holds the expected number of ids
+     */
+    public ExistenceFilter(final long expectedInsertions, final double falsePositiveProbability) {
+        Preconditions.checkArgument(expectedInsertions > 0, "Expected insertions must be positive");
+        Preconditions.checkArgument(falsePositiveProbability > 0 && falsePositiveProbability < 1,
+                "False positive probability must be between 0 and 1");
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveProbability = falsePositiveProbability;
+        this.filter = create();
+    }
+
+    private BloomFilter<Integer> create() {
+        return BloomFilter.create(Funnels.integerFunnel(), this.expectedInsertions, this.falsePositiveProbability);
+    }
+
+    /**
+     * @return whether the filter has been built from the table and is able to rule out ids
+     */
+    public synchronized boolean isReady() {
+        return this.ready;
+    }
+
+    /**
+     * @param ids the unique identifiers to be looked up
+     * @return the unique identifiers that possibly exist, which are all of the provided ids when the filter is not
+     * ready
+     */
+    public synchronized IdSet filter(final IdSet ids) {
+        if (!this.ready) {
+            return Objects.requireNonNull(ids);
+        }
+        final IdSet candidates = ids.filter(id -> id > this.highestLoadedId || this.filter.mightContain(id));
+        this.queriedCount += candidates.size();
+        this.skippedCount += ids.size() - candidates.size();
+        return candidates;
+    }
+
+    /**
+     * @param id the unique identifier of a newly stored object
+     */
+    public synchronized void put(final int id) {
+        this.filter.put(id);
+        this.insertions++;
+        this.rebuildAdded.ifPresent(added -> added.add(id));
+    }
+
+    /**
+     * @param notFound the ids that passed the filter but were not found in the table, of which only the ids the filter
+     * is trusted for are counted as false positives
+     */
+    public synchronized void recordFalsePositives(final IdSet notFound) {
+        this.falsePositiveCount += notFound.filter(id -> id <= this.highestLoadedId).size();
+    }
+
+    /**
+     * Begins a rebuild of the filter. Ids stored after this call are included in the rebuilt filter, even if they
+     * were inserted too late to be loaded from the table.
+     *
+     * @return whether the rebuild was started, or {@code false} when a rebuild is already running
+     */
+    public synchronized boolean startRebuild() {
+        if (this.rebuildAdded.isPresent()) {
+            return false;
+        }
+        this.rebuildAdded = Optional.of(new IdSet.Builder());
+        return true;
+    }
+
+    /**
+     * @param ids all of the unique identifiers loaded from the table since the rebuild was started
+     */
+    public void completeRebuild(final IdSet ids) {
+        // The new filter is populated outside the lock so that lookups are not blocked while it is built.
+        final BloomFilter<Integer> rebuilt = create();
+        Objects.requireNonNull(ids).forEachId(rebuilt::put);
+
+        synchronized (this) {
+            Preconditions.checkState(this.rebuildAdded.isPresent(), "No rebuild has been started");
+            final IdSet added = this.rebuildAdded.get().build();
+            added.forEachId(rebuilt::put);
+            this.filter = rebuilt;
+            this.insertions = ids.size() + added.size();
+            // The ids added through this filter do not raise the mark, since other writers may have stored lower ids.
+            this.highestLoadedId = ids.size() == 0 ? Integer.MIN_VALUE : ids.last();
+            this.rebuildAdded = Optional.empty();
+            this.ready = true;
+        }
+    }
+
+    /**
+     * Abandons a running rebuild, leaving the current filter in place.
+     */
+    public synchronized void abortRebuild() {
+        this.rebuildAdded = Optional.empty();
+    }
+
+    /**
+     * @param dataType the {@link DataType} describing the type of data whose ids are stored in the filter
+     * @return the current statistics describing the effectiveness of the filter
+     */
+    public synchronized ExistenceFilterStatistics getStatistics(final DataType dataType) {
+        final ExistenceFilterStatistics.Builder builder = new ExistenceFilterStatistics.Builder(dataType);
+        builder.setReady(this.ready);
+        builder.setInsertions(this.insertions);
+        builder.setExpectedFalsePositiveRate(this.filter.expectedFpp());
+        builder.setSkippedCount(this.skippedCount);
+        builder.setQueriedCount(this.queriedCount);
+        builder.setFalsePositiveCount(this.falsePositiveCount);
+        return builder.build();
+    }
+}
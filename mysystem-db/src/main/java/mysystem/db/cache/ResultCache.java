@@ -0,0 +1,65 @@
+package mysystem.db.cache;
+
+import org.apache.commons.lang3.tuple.Pair;
+
+import scala.Option;
+import scala.concurrent.Future;
+import scala.concurrent.duration.FiniteDuration;
+import scala.util.Try;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * A thread-safe cache of query result futures by request. Concurrent identical requests share the single in-flight
+ * future, completed results are reused until they exceed the maximum staleness, and failed results are never reused.
+ *
+ * @param <K> the type of request used as the cache key
+ */
+public class ResultCache<K> {
+    private final long maxStalenessNanos;
+    private final ConcurrentMap<K, Pair<Long, Future<Object>>> results = new ConcurrentHashMap<>();
+
+    /**
+     * @param maxStaleness the maximum age of a result, measured from when the query was started, before it is fetched
+     * again
+     */
+    public ResultCache(final FiniteDuration maxStaleness) {
+        this.maxStalenessNanos = Objects.requireNonNull(maxStaleness).toNanos();
+    }
+
+    /**
+     * @param key the request for which a result is needed
+     * @param loader used to start the query when there is no usable result for the request
+     * @return the cached or in-flight result when usable, otherwise the newly started result from the loader
+     */
+    public Future<Object> get(final K key, final Supplier<Future<Object>> loader) {
+        final long now = System.nanoTime();
+        final Optional<Pair<Long, Future<Object>>> existing = Optional.ofNullable(this.results.get(key));
+        if (existing.isPresent() && isUsable(existing.get(), now)) {
+            return existing.get().getRight();
+        }
+
+        final Future<Object> future = Objects.requireNonNull(loader).get();
+        this.results.put(key, Pair.of(now, future));
+        return future;
+    }
+
+    protected boolean isUsable(final Pair<Long, Future<Object>> entry, final long now) {
+        if (now - entry.getLeft() > this.maxStalenessNanos) {
+            return false;
+        }
+        final Option<Try<Object>> value = entry.getRight().value();
+        return value.isEmpty() || value.get().isSuccess();
+    }
+
+    /**
+     * Remove all of the cached and in-flight results, so subsequent requests are fetched again.
+     */
+    public void invalidateAll() {
+        this.results.clear();
+    }
+}
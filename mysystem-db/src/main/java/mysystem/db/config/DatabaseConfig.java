@@ -32,6 +32,74 @@ public enum DatabaseConfig implements ConfigKey {
      */
     DATABASE_JDBC_URL,
 
+    /**
+     * The configuration specifying the {@link mysystem.db.model.InsertStrategy} used when adding model objects.
+     */
+    DATABASE_INSERT_STRATEGY,
+
+    /**
+     * The configuration specifying the maximum number of rows included in each JDBC batch when inserting.
+     */
+    DATABASE_INSERT_BATCH_SIZE,
+
+    /**
+     * The configuration specifying how long concurrent add requests are collected before being inserted together in a
+     * single transaction. When not specified, each add request is inserted in its own transaction.
+     */
+    DATABASE_INSERT_GROUP_WINDOW,
+
+    /**
+     * The configuration specifying the maximum number of add requests inserted together in a single transaction.
+     */
+    DATABASE_INSERT_GROUP_MAX_REQUESTS,
+
+    /**
+     * The configuration specifying the {@link mysystem.db.model.QueryStrategy} used when fetching objects by id.
+     */
+    DATABASE_QUERY_STRATEGY,
+
+    /**
+     * The configuration specifying the maximum number of unique identifiers included in each {@code IN} list query.
+     */
+    DATABASE_QUERY_BATCH_SIZE,
+
+    /**
+     * The configuration specifying how long concurrent fetch-by-id requests are collected before being combined into
+     * a single query. When not specified, fetch-by-id requests are not combined.
+     */
+    DATABASE_QUERY_COALESCE_WINDOW,
+
+    /**
+     * The configuration specifying the maximum number of fetch-by-id requests combined into a single query.
+     */
+    DATABASE_QUERY_COALESCE_MAX_REQUESTS,
+
+    /**
+     * The configuration specifying the default number of objects sent in each chunk when streaming objects.
+     */
+    DATABASE_STREAM_CHUNK_SIZE,
+
+    /**
+     * The configuration specifying the JDBC fetch size used by the forward-only result set when streaming objects.
+     */
+    DATABASE_STREAM_FETCH_SIZE,
+
+    /**
+     * The configuration specifying how long to wait for the requester to acknowledge a chunk when streaming objects
+     * before the stream is abandoned.
+     */
+    DATABASE_STREAM_ACK_TIMEOUT,
+
+    /**
+     * The configuration specifying the {@link mysystem.db.model.DeleteStrategy} used when deleting objects by id.
+     */
+    DATABASE_DELETE_STRATEGY,
+
+    /**
+     * The configuration specifying the maximum number of unique identifiers deleted by each chunk of a delete.
+     */
+    DATABASE_DELETE_BATCH_SIZE,
+
     ;
 
     /**
@@ -2,17 +2,28 @@ package mysystem.db.model;
 
 import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 
-import org.apache.commons.lang3.builder.CompareToBuilder;
-import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 import org.apache.commons.lang3.builder.ToStringStyle;
 
+import mysystem.common.model.BinaryModel;
+import mysystem.common.model.BinaryModelBuilder;
+import mysystem.common.model.CompactModel;
+import mysystem.common.model.CompactModelBuilder;
+import mysystem.common.model.MemoizedModel;
 import mysystem.common.model.Model;
 import mysystem.common.model.ModelBuilder;
+import mysystem.common.serialization.BinaryReader;
+import mysystem.common.serialization.BinaryWriter;
+import mysystem.common.serialization.JsonStreaming;
 import mysystem.common.serialization.ManifestMapping;
+import mysystem.common.serialization.SerializedForm;
 import mysystem.common.util.CollectionComparator;
+import mysystem.common.util.HashCodes;
 
+import java.io.IOException;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -26,12 +37,21 @@ import javax.annotation.Nullable;
 /**
  * An immutable class that represents the information needed to add model objects to a table in the database.
  */
-public class Add<M extends Model> implements Model, HasDataType, Comparable<Add<M>> {
+public class Add<M extends Model> implements BinaryModel, CompactModel, MemoizedModel, HasDataType, Comparable<Add<M>> {
     private final static String SERIALIZATION_MANIFEST = Add.class.getSimpleName();
 
+    // The field numbers used in the binary format, which must never be reused for a different field.
+    private final static int FIELD_DATA_TYPE = 1;
+    private final static int FIELD_MODELS = 2;
+
     private final DataType dataType;
     private final SortedSet<M> models;
 
+    // Computed lazily and retained, since this model object is immutable. The serialized form is only created when
+    // this model object is serialized on its own, not when it is nested within another model object.
+    private volatile SerializedForm serializedForm = null;
+    private int hashCode = 0;
+
     /**
      * @param dataType the type of data to be added to the database
      * @param models the model objects to add to the database
@@ -49,6 +69,20 @@ public class Add<M extends Model> implements Model, HasDataType, Comparable<Add<
         return SERIALIZATION_MANIFEST;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SerializedForm getSerializedForm() {
+        SerializedForm form = this.serializedForm;
+        if (form == null) {
+            // Concurrent callers may both create a form, which at worst loses the bytes retained by the other one.
+            form = new SerializedForm();
+            this.serializedForm = form;
+        }
+        return form;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -79,6 +113,43 @@ public class Add<M extends Model> implements Model, HasDataType, Comparable<Add<
         return json;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void toJson(final JsonWriter writer) throws IOException {
+        writer.beginObject();
+        writer.name(JsonStreaming.MANIFEST).value(getSerializationManifest());
+        writer.name("dataType").value(getDataType().name());
+        writer.name("models").beginArray();
+        for (final M model : getModels()) {
+            model.toJson(writer);
+        }
+        writer.endArray();
+        writer.endObject();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void toCompactJson(final JsonWriter writer) throws IOException {
+        writer.beginObject();
+        writer.name(JsonStreaming.MANIFEST).value(getSerializationManifest());
+        writer.name("dataType").value(getDataType().name());
+        JsonStreaming.writeCompactModels(writer, "models", getModels());
+        writer.endObject();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void writeBinary(final BinaryWriter writer) {
+        writer.writeStringField(FIELD_DATA_TYPE, getDataType().name());
+        getModels().forEach(model -> writer.writeModelField(FIELD_MODELS, model));
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -95,14 +166,18 @@ public class Add<M extends Model> implements Model, HasDataType, Comparable<Add<
      */
     @Override
     public int compareTo(@Nullable final Add<M> other) {
-        if (other == null) {
+        if (other == this) {
+            return 0;
+        } else if (other == null) {
             return 1;
         }
 
-        final CompareToBuilder cmp = new CompareToBuilder();
-        cmp.append(getDataType(), other.getDataType());
-        cmp.append(getModels(), other.getModels(), new CollectionComparator<M>());
-        return cmp.toComparison();
+        int cmp = getDataType().compareTo(other.getDataType());
+        if (cmp == 0) {
+            // Compares the underlying sets directly, avoiding the unmodifiable views returned by getModels().
+            cmp = CollectionComparator.compareValues(this.models, other.models);
+        }
+        return cmp;
     }
 
     /**
@@ -111,7 +186,13 @@ public class Add<M extends Model> implements Model, HasDataType, Comparable<Add<
     @Override
     @SuppressWarnings("unchecked")
     public boolean equals(final Object other) {
-        return (other instanceof Add) && compareTo((Add<M>) other) == 0;
+        if (other == this) {
+            return true;
+        } else if (!(other instanceof Add)) {
+            return false;
+        }
+        final Add<M> that = (Add<M>) other;
+        return hashCode() == that.hashCode() && compareTo(that) == 0;
     }
 
     /**
@@ -119,16 +200,19 @@ public class Add<M extends Model> implements Model, HasDataType, Comparable<Add<
      */
     @Override
     public int hashCode() {
-        final HashCodeBuilder hash = new HashCodeBuilder();
-        hash.append(getDataType().name());
-        hash.append(getModels());
-        return hash.toHashCode();
+        if (this.hashCode == 0) {
+            int hash = HashCodes.INITIAL;
+            hash = HashCodes.append(hash, getDataType().name());
+            hash = HashCodes.append(hash, getModels());
+            this.hashCode = hash;
+        }
+        return this.hashCode;
     }
 
     /**
      * Used to create {@link Add} instances.
      */
-    public static class Builder<M extends Model> implements ModelBuilder<Add<M>> {
+    public static class Builder<M extends Model> implements BinaryModelBuilder<Add<M>>, CompactModelBuilder<Add<M>> {
         private Optional<DataType> dataType = Optional.empty();
         private final SortedSet<M> models = new TreeSet<>();
 
@@ -213,6 +297,66 @@ public class Add<M extends Model> implements Model, HasDataType, Comparable<Add<
             return this;
         }
 
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        @SuppressWarnings("unchecked")
+        public Builder<M> fromJsonFields(final ManifestMapping mapping, final JsonReader reader) throws IOException {
+            Optional<String> elements = Optional.empty();
+            while (reader.hasNext()) {
+                switch (reader.nextName()) {
+                    case JsonStreaming.ELEMENTS:
+                        elements = Optional.of(reader.nextString());
+                        break;
+                    case "dataType":
+                        setDataType(DataType.valueOf(reader.nextString()));
+                        break;
+                    case "models":
+                        JsonStreaming.readCompactModels(mapping, elements, reader, model -> add((M) model));
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            }
+            return this;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Builder<M> fromCompactJson(final ManifestMapping mapping, final JsonReader reader)
+                throws IOException {
+            // The compact format only differs in how the elements are written, which the regular fields support.
+            reader.beginObject();
+            fromJsonFields(mapping, reader);
+            reader.endObject();
+            return this;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        @SuppressWarnings("unchecked")
+        public Builder<M> fromBinary(final ManifestMapping mapping, final BinaryReader reader) {
+            while (reader.hasRemaining()) {
+                final int tag = reader.readTag();
+                switch (BinaryReader.getFieldNumber(tag)) {
+                    case FIELD_DATA_TYPE:
+                        setDataType(DataType.valueOf(reader.readString()));
+                        break;
+                    case FIELD_MODELS:
+                        reader.readModelField(mapping).ifPresent(model -> add((M) model));
+                        break;
+                    default:
+                        reader.skip(tag);
+                }
+            }
+            return this;
+        }
+
         /**
          * {@inheritDoc}
          */
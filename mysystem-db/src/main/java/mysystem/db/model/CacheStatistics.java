@@ -0,0 +1,306 @@
+package mysystem.db.model;
+
+import com.google.common.base.Preconditions;
+import com.google.gson.JsonObject;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+
+import mysystem.common.model.Model;
+import mysystem.common.model.ModelBuilder;
+import mysystem.common.serialization.ManifestMapping;
+import mysystem.common.util.HashCodes;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import javax.annotation.Nullable;
+
+/**
+ * An immutable class that represents the current statistics of the model cache for a table in the database, used to
+ * determine whether the cache has been sized appropriately.
+ */
+public class CacheStatistics implements Model, Comparable<CacheStatistics> {
+    private final static String SERIALIZATION_MANIFEST = CacheStatistics.class.getSimpleName();
+
+    private final DataType dataType;
+    private final long size;
+    private final long hitCount;
+    private final long missCount;
+    private final long evictionCount;
+
+    private int hashCode = 0;
+
+    /**
+     * @param dataType the type of data stored in the cache
+     * @param size the approximate number of entries currently in the cache
+     * @param hitCount the number of lookups that were found in the cache
+     * @param missCount the number of lookups that were not found in the cache
+     * @param evictionCount the number of entries removed from the cache due to size or expiration
+     */
+    private CacheStatistics(
+            final DataType dataType, final long size, final long hitCount, final long missCount,
+            final long evictionCount) {
+        this.dataType = dataType;
+        this.size = size;
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getSerializationManifest() {
+        return SERIALIZATION_MANIFEST;
+    }
+
+    /**
+     * @return the type of data stored in the cache
+     */
+    public DataType getDataType() {
+        return this.dataType;
+    }
+
+    /**
+     * @return the approximate number of entries currently in the cache
+     */
+    public long getSize() {
+        return this.size;
+    }
+
+    /**
+     * @return the number of lookups that were found in the cache
+     */
+    public long getHitCount() {
+        return this.hitCount;
+    }
+
+    /**
+     * @return the number of lookups that were not found in the cache
+     */
+    public long getMissCount() {
+        return this.missCount;
+    }
+
+    /**
+     * @return the number of entries removed from the cache due to size or expiration
+     */
+    public long getEvictionCount() {
+        return this.evictionCount;
+    }
+
+    /**
+     * @return the ratio of lookups that were found in the cache, or 1.0 when no lookups have been performed
+     */
+    public double getHitRate() {
+        final long requestCount = getHitCount() + getMissCount();
+        return requestCount == 0 ? 1.0 : (double) getHitCount() / requestCount;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public JsonObject toJson() {
+        final JsonObject json = new JsonObject();
+        json.addProperty("dataType", getDataType().name());
+        json.addProperty("size", getSize());
+        json.addProperty("hitCount", getHitCount());
+        json.addProperty("missCount", getMissCount());
+        json.addProperty("evictionCount", getEvictionCount());
+        json.addProperty("manifest", getSerializationManifest());
+        return json;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        final ToStringBuilder str = new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE);
+        str.append("dataType", getDataType());
+        str.append("size", getSize());
+        str.append("hitCount", getHitCount());
+        str.append("missCount", getMissCount());
+        str.append("evictionCount", getEvictionCount());
+        return str.build();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int compareTo(@Nullable final CacheStatistics other) {
+        if (other == this) {
+            return 0;
+        } else if (other == null) {
+            return 1;
+        }
+
+        int cmp = getDataType().compareTo(other.getDataType());
+        if (cmp == 0) {
+            cmp = Long.compare(getSize(), other.getSize());
+        }
+        if (cmp == 0) {
+            cmp = Long.compare(getHitCount(), other.getHitCount());
+        }
+        if (cmp == 0) {
+            cmp = Long.compare(getMissCount(), other.getMissCount());
+        }
+        if (cmp == 0) {
+            cmp = Long.compare(getEvictionCount(), other.getEvictionCount());
+        }
+        return cmp;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(final Object other) {
+        if (other == this) {
+            return true;
+        } else if (!(other instanceof CacheStatistics)) {
+            return false;
+        }
+        final CacheStatistics cacheStatistics = (CacheStatistics) other;
+        return hashCode() == cacheStatistics.hashCode() && compareTo(cacheStatistics) == 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        if (this.hashCode == 0) {
+            int hash = HashCodes.INITIAL;
+            hash = HashCodes.append(hash, getDataType().name());
+            hash = HashCodes.append(hash, getSize());
+            hash = HashCodes.append(hash, getHitCount());
+            hash = HashCodes.append(hash, getMissCount());
+            hash = HashCodes.append(hash, getEvictionCount());
+            this.hashCode = hash;
+        }
+        return this.hashCode;
+    }
+
+    /**
+     * Used to create {@link CacheStatistics} instances.
+     */
+    public static class Builder implements ModelBuilder<CacheStatistics> {
+        private Optional<DataType> dataType = Optional.empty();
+        private long size = 0;
+        private long hitCount = 0;
+        private long missCount = 0;
+        private long evictionCount = 0;
+
+        /**
+         * Default constructor.
+         */
+        public Builder() {
+        }
+
+        /**
+         * @param dataType the {@link DataType} describing the type of data stored in the cache
+         */
+        public Builder(final DataType dataType) {
+            setDataType(dataType);
+        }
+
+        /**
+         * @param dataType the {@link DataType} describing the type of data stored in the cache
+         * @return {@code this} for fluent-style usage
+         */
+        public Builder setDataType(final DataType dataType) {
+            this.dataType = Optional.of(Objects.requireNonNull(dataType));
+            return this;
+        }
+
+        /**
+         * @param size the approximate number of entries currently in the cache
+         * @return {@code this} for fluent-style usage
+         */
+        public Builder setSize(final long size) {
+            Preconditions.checkArgument(size >= 0, "Size cannot be negative");
+            this.size = size;
+            return this;
+        }
+
+        /**
+         * @param hitCount the number of lookups that were found in the cache
+         * @return {@code this} for fluent-style usage
+         */
+        public Builder setHitCount(final long hitCount) {
+            Preconditions.checkArgument(hitCount >= 0, "Hit count cannot be negative");
+            this.hitCount = hitCount;
+            return this;
+        }
+
+        /**
+         * @param missCount the number of lookups that were not found in the cache
+         * @return {@code this} for fluent-style usage
+         */
+        public Builder setMissCount(final long missCount) {
+            Preconditions.checkArgument(missCount >= 0, "Miss count cannot be negative");
+            this.missCount = missCount;
+            return this;
+        }
+
+        /**
+         * @param evictionCount the number of entries removed from the cache due to size or expiration
+         * @return {@code this} for fluent-style usage
+         */
+        public Builder setEvictionCount(final long evictionCount) {
+            Preconditions.checkArgument(evictionCount >= 0, "Eviction count cannot be negative");
+            this.evictionCount = evictionCount;
+            return this;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Builder fromJson(final ManifestMapping mapping, final JsonObject json) {
+            Objects.requireNonNull(json);
+            if (json.has("dataType")) {
+                setDataType(DataType.valueOf(json.getAsJsonPrimitive("dataType").getAsString()));
+            }
+            if (json.has("size")) {
+                setSize(json.getAsJsonPrimitive("size").getAsLong());
+            }
+            if (json.has("hitCount")) {
+                setHitCount(json.getAsJsonPrimitive("hitCount").getAsLong());
+            }
+            if (json.has("missCount")) {
+                setMissCount(json.getAsJsonPrimitive("missCount").getAsLong());
+            }
+            if (json.has("evictionCount")) {
+                setEvictionCount(json.getAsJsonPrimitive("evictionCount").getAsLong());
+            }
+            return this;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public CacheStatistics build() {
+            if (!this.dataType.isPresent()) {
+                throw new IllegalStateException("Data type is required");
+            }
+
+            return new CacheStatistics(
+                    this.dataType.get(), this.size, this.hitCount, this.missCount, this.evictionCount);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String getSerializationManifest() {
+            return SERIALIZATION_MANIFEST;
+        }
+    }
+}
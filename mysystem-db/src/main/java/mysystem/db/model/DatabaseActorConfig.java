@@ -10,10 +10,15 @@ import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 import org.apache.commons.lang3.builder.ToStringStyle;
 
+import akka.actor.Props;
 import akka.actor.UntypedActor;
+import akka.routing.ConsistentHashingPool;
+import akka.routing.RoundRobinPool;
+import akka.routing.SmallestMailboxPool;
 import mysystem.common.model.Model;
 import mysystem.common.model.ModelBuilder;
 import mysystem.common.serialization.ManifestMapping;
+import mysystem.common.util.OptionalComparator;
 
 import java.util.Objects;
 import java.util.Optional;
@@ -29,17 +34,24 @@ public class DatabaseActorConfig implements Model, Comparable<DatabaseActorConfi
     private final String actorName;
     private final Class<? extends UntypedActor> actorClass;
     private final Class<?> messageClass;
+    private final Optional<Integer> poolSize;
+    private final Optional<RouterType> routerType;
 
     /**
      * @param actorName the name of the actor as defined in the configuration
      * @param actorClass the class that implements the database actor
      * @param messageClass the class representing the message type to be processed by the database actor
+     * @param poolSize the number of database actors to create behind a router, possibly empty
+     * @param routerType the routing logic used to distribute messages across the pool, possibly empty
      */
     private DatabaseActorConfig(
-            final String actorName, final Class<? extends UntypedActor> actorClass, final Class<?> messageClass) {
+            final String actorName, final Class<? extends UntypedActor> actorClass, final Class<?> messageClass,
+            final Optional<Integer> poolSize, final Optional<RouterType> routerType) {
         this.actorName = actorName;
         this.actorClass = actorClass;
         this.messageClass = messageClass;
+        this.poolSize = poolSize;
+        this.routerType = routerType;
     }
 
     /**
@@ -71,6 +83,44 @@ public class DatabaseActorConfig implements Model, Comparable<DatabaseActorConfi
         return this.messageClass;
     }
 
+    /**
+     * @return the number of database actors to create behind a router, possibly empty in which case a single actor
+     * is created without a router
+     */
+    public Optional<Integer> getPoolSize() {
+        return this.poolSize;
+    }
+
+    /**
+     * @return the routing logic used to distribute messages across the pool, possibly empty in which case round-robin
+     * routing is used
+     */
+    public Optional<RouterType> getRouterType() {
+        return this.routerType;
+    }
+
+    /**
+     * @param props the {@link Props} describing a single database actor
+     * @return the provided {@link Props} wrapped in a router pool when a pool size has been configured, otherwise the
+     * provided {@link Props}
+     */
+    public Props getProps(final Props props) {
+        Objects.requireNonNull(props);
+        if (!getPoolSize().isPresent()) {
+            return props;
+        }
+
+        final int size = getPoolSize().get();
+        switch (getRouterType().orElse(RouterType.ROUND_ROBIN)) {
+            case SMALLEST_MAILBOX:
+                return new SmallestMailboxPool(size).props(props);
+            case CONSISTENT_HASHING:
+                return new ConsistentHashingPool(size).withHashMapper(new DatabaseHashMapper()).props(props);
+            default:
+                return new RoundRobinPool(size).props(props);
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -80,6 +130,12 @@ public class DatabaseActorConfig implements Model, Comparable<DatabaseActorConfi
         json.addProperty("actorName", getActorName());
         json.addProperty("actorClass", getActorClass().getName());
         json.addProperty("messageClass", getMessageClass().getName());
+        if (getPoolSize().isPresent()) {
+            json.addProperty("poolSize", getPoolSize().get());
+        }
+        if (getRouterType().isPresent()) {
+            json.addProperty("routerType", getRouterType().get().name());
+        }
         json.addProperty("manifest", getSerializationManifest());
         return json;
     }
@@ -93,6 +149,8 @@ public class DatabaseActorConfig implements Model, Comparable<DatabaseActorConfi
         str.append("actorName", getActorName());
         str.append("actorClass", getActorClass().getName());
         str.append("messageClass", getMessageClass().getName());
+        str.append("poolSize", getPoolSize());
+        str.append("routerType", getRouterType());
         return str.toString();
     }
 
@@ -109,6 +167,8 @@ public class DatabaseActorConfig implements Model, Comparable<DatabaseActorConfi
         cmp.append(getActorName(), other.getActorName());
         cmp.append(getActorClass().getName(), other.getActorClass().getName());
         cmp.append(getMessageClass().getName(), other.getMessageClass().getName());
+        cmp.append(getPoolSize(), other.getPoolSize(), new OptionalComparator<Integer>());
+        cmp.append(getRouterType(), other.getRouterType(), new OptionalComparator<RouterType>());
         return cmp.toComparison();
     }
 
@@ -129,6 +189,8 @@ public class DatabaseActorConfig implements Model, Comparable<DatabaseActorConfi
         hash.append(getActorName());
         hash.append(getActorClass().getName());
         hash.append(getMessageClass().getName());
+        hash.append(getPoolSize());
+        hash.append(getRouterType().map(RouterType::name));
         return hash.toHashCode();
     }
 
@@ -139,6 +201,8 @@ public class DatabaseActorConfig implements Model, Comparable<DatabaseActorConfi
         private Optional<String> actorName = Optional.empty();
         private Optional<Class<? extends UntypedActor>> actorClass = Optional.empty();
         private Optional<Class<?>> messageClass = Optional.empty();
+        private Optional<Integer> poolSize = Optional.empty();
+        private Optional<RouterType> routerType = Optional.empty();
 
         /**
          * Default constructor.
@@ -154,6 +218,8 @@ public class DatabaseActorConfig implements Model, Comparable<DatabaseActorConfi
             this.actorName = Optional.of(other.getActorName());
             this.actorClass = Optional.of(other.getActorClass());
             this.messageClass = Optional.of(other.getMessageClass());
+            this.poolSize = other.getPoolSize();
+            this.routerType = other.getRouterType();
         }
 
         /**
@@ -174,6 +240,13 @@ public class DatabaseActorConfig implements Model, Comparable<DatabaseActorConfi
             } else {
                 throw new IllegalArgumentException("Database actor config must specify a message class: " + actorName);
             }
+
+            if (actorConfig.hasPath("pool-size")) {
+                setPoolSize(actorConfig.getInt("pool-size"));
+            }
+            if (actorConfig.hasPath("router-type")) {
+                setRouterType(actorConfig.getString("router-type"));
+            }
         }
 
         /**
@@ -213,6 +286,37 @@ public class DatabaseActorConfig implements Model, Comparable<DatabaseActorConfi
             return this;
         }
 
+        /**
+         * @param poolSize the number of database actors to create behind a router
+         * @return {@code this} for fluent-style usage
+         */
+        public Builder setPoolSize(final int poolSize) {
+            Preconditions.checkArgument(poolSize > 0, "Pool size must be positive");
+            this.poolSize = Optional.of(poolSize);
+            return this;
+        }
+
+        /**
+         * @param routerType the routing logic used to distribute messages across the pool
+         * @return {@code this} for fluent-style usage
+         */
+        public Builder setRouterType(final RouterType routerType) {
+            this.routerType = Optional.of(Objects.requireNonNull(routerType));
+            return this;
+        }
+
+        /**
+         * @param routerType the name of the routing logic used to distribute messages across the pool
+         * @return {@code this} for fluent-style usage
+         */
+        public Builder setRouterType(final String routerType) {
+            try {
+                return setRouterType(RouterType.valueOf(Objects.requireNonNull(routerType)));
+            } catch (final IllegalArgumentException badRouterType) {
+                throw new IllegalArgumentException("Database actor router type not recognized: " + routerType);
+            }
+        }
+
         /**
          * {@inheritDoc}
          */
@@ -228,6 +332,12 @@ public class DatabaseActorConfig implements Model, Comparable<DatabaseActorConfi
             if (json.has("messageClass")) {
                 setMessageClass(json.getAsJsonPrimitive("messageClass").getAsString());
             }
+            if (json.has("poolSize")) {
+                setPoolSize(json.getAsJsonPrimitive("poolSize").getAsInt());
+            }
+            if (json.has("routerType")) {
+                setRouterType(json.getAsJsonPrimitive("routerType").getAsString());
+            }
             return this;
         }
 
@@ -246,7 +356,8 @@ public class DatabaseActorConfig implements Model, Comparable<DatabaseActorConfi
                 throw new IllegalStateException("The message class is required");
             }
 
-            return new DatabaseActorConfig(this.actorName.get(), this.actorClass.get(), this.messageClass.get());
+            return new DatabaseActorConfig(this.actorName.get(), this.actorClass.get(), this.messageClass.get(),
+                    this.poolSize, this.routerType);
         }
 
         /**
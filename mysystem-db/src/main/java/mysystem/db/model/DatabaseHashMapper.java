@@ -0,0 +1,25 @@
+package mysystem.db.model;
+
+import akka.routing.ConsistentHashingRouter;
+
+import java.util.Objects;
+
+/**
+ * Determines the consistent hash key for the messages sent to a consistent hashing pool of database actors. Messages
+ * that reference unique identifiers are hashed on the lowest identifier, all other messages are hashed on their
+ * string representation.
+ */
+public class DatabaseHashMapper implements ConsistentHashingRouter.ConsistentHashMapper {
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object hashKey(final Object message) {
+        if (message instanceof GetById) {
+            return String.valueOf(((GetById) message).getIds().first());
+        } else if (message instanceof DeleteById) {
+            return String.valueOf(((DeleteById) message).getIds().first());
+        }
+        return String.valueOf(Objects.requireNonNull(message));
+    }
+}
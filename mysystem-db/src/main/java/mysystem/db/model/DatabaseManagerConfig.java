@@ -8,8 +8,6 @@ import com.typesafe.config.ConfigObject;
 import com.typesafe.config.ConfigValueType;
 
 import org.apache.commons.lang3.StringUtils;
-import org.apache.commons.lang3.builder.CompareToBuilder;
-import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 import org.apache.commons.lang3.builder.ToStringStyle;
 
@@ -19,6 +17,8 @@ import mysystem.common.model.Model;
 import mysystem.common.model.ModelBuilder;
 import mysystem.common.serialization.ManifestMapping;
 import mysystem.common.util.CollectionComparator;
+import mysystem.common.util.HashCodes;
+import mysystem.common.util.OptionalComparator;
 import scala.concurrent.duration.Duration;
 import scala.concurrent.duration.FiniteDuration;
 
@@ -48,25 +48,58 @@ public class DatabaseManagerConfig implements Model, Comparable<DatabaseManagerC
     private final FiniteDuration callTimeout;
     private final FiniteDuration resetTimeout;
 
+    // The thread pool configuration used to run the blocking database operations.
+    private final Optional<String> dispatcher;
+    private final Optional<Integer> threadCount;
+
+    // The configuration of the model cache for this table.
+    private final Optional<Long> cacheSize;
+    private final Optional<FiniteDuration> cacheTtl;
+    private final Optional<FiniteDuration> resultCacheStaleness;
+
+    // The configuration of the filter used to skip lookups of unique identifiers known not to exist.
+    private final Optional<Long> existenceFilterSize;
+    private final Optional<FiniteDuration> existenceFilterRebuildInterval;
+
     // The database actor configurations.
     private final Set<DatabaseActorConfig> actorConfigs = new TreeSet<>();
 
+    private int hashCode = 0;
+
     /**
      * @param actorName the name of the actor as defined in the configuration
      * @param dataType the type of data processed by the actor
      * @param maxFailures the maximum number of failures from the actor before opening the circuit breaker
      * @param callTimeout the amount of time to allow the actor to respond before the call is treated as an error
      * @param resetTimeout the amount of time to leave the circuit breaker open during failure situations
+     * @param dispatcher the identifier of the Akka dispatcher used to run blocking database operations, possibly empty
+     * @param threadCount the number of threads in a pool dedicated to this data type, possibly empty
+     * @param cacheSize the maximum number of model objects to cache by unique identifier, possibly empty
+     * @param cacheTtl the amount of time a model object remains in the cache after being stored, possibly empty
+     * @param resultCacheStaleness the maximum age of a cached query result, possibly empty
+     * @param existenceFilterSize the number of unique identifiers the existence filter is sized for, possibly empty
+     * @param existenceFilterRebuildInterval how often the existence filter is rebuilt from the database, possibly empty
      * @param actorConfigs the configurations of the individual actors used to manage database operations
      */
     private DatabaseManagerConfig(
             final String actorName, final DataType dataType, final int maxFailures, final FiniteDuration callTimeout,
-            final FiniteDuration resetTimeout, final Set<DatabaseActorConfig> actorConfigs) {
+            final FiniteDuration resetTimeout, final Optional<String> dispatcher, final Optional<Integer> threadCount,
+            final Optional<Long> cacheSize, final Optional<FiniteDuration> cacheTtl,
+            final Optional<FiniteDuration> resultCacheStaleness, final Optional<Long> existenceFilterSize,
+            final Optional<FiniteDuration> existenceFilterRebuildInterval,
+            final Set<DatabaseActorConfig> actorConfigs) {
         this.actorName = actorName;
         this.dataType = dataType;
         this.maxFailures = maxFailures;
         this.callTimeout = callTimeout;
         this.resetTimeout = resetTimeout;
+        this.dispatcher = dispatcher;
+        this.threadCount = threadCount;
+        this.cacheSize = cacheSize;
+        this.cacheTtl = cacheTtl;
+        this.resultCacheStaleness = resultCacheStaleness;
+        this.existenceFilterSize = existenceFilterSize;
+        this.existenceFilterRebuildInterval = existenceFilterRebuildInterval;
         this.actorConfigs.addAll(actorConfigs);
     }
 
@@ -113,6 +146,62 @@ public class DatabaseManagerConfig implements Model, Comparable<DatabaseManagerC
         return this.resetTimeout;
     }
 
+    /**
+     * @return the identifier of the Akka dispatcher used to run blocking database operations, possibly empty in which
+     * case the dispatcher of the database actors is used
+     */
+    public Optional<String> getDispatcher() {
+        return this.dispatcher;
+    }
+
+    /**
+     * @return the number of threads in a pool dedicated to running the blocking database operations for this data
+     * type, possibly empty in which case the dispatcher is used
+     */
+    public Optional<Integer> getThreadCount() {
+        return this.threadCount;
+    }
+
+    /**
+     * @return the maximum number of model objects to cache by unique identifier, possibly empty in which case no cache
+     * is used
+     */
+    public Optional<Long> getCacheSize() {
+        return this.cacheSize;
+    }
+
+    /**
+     * @return the amount of time a model object remains in the cache after being stored, possibly empty in which case
+     * cached objects only leave the cache when evicted or invalidated
+     */
+    public Optional<FiniteDuration> getCacheTtl() {
+        return this.cacheTtl;
+    }
+
+    /**
+     * @return the maximum age of a cached query result before it is fetched from the database again, possibly empty in
+     * which case query results are not cached
+     */
+    public Optional<FiniteDuration> getResultCacheStaleness() {
+        return this.resultCacheStaleness;
+    }
+
+    /**
+     * @return the number of unique identifiers the existence filter is sized for, possibly empty in which case no
+     * existence filter is used
+     */
+    public Optional<Long> getExistenceFilterSize() {
+        return this.existenceFilterSize;
+    }
+
+    /**
+     * @return how often the existence filter is rebuilt from the database to purge deleted unique identifiers and pick
+     * up rows added through other nodes, possibly empty in which case the filter is only built at startup
+     */
+    public Optional<FiniteDuration> getExistenceFilterRebuildInterval() {
+        return this.existenceFilterRebuildInterval;
+    }
+
     /**
      * @return an unmodifiable set of the configurations of the individual actors used to manage database operations
      */
@@ -143,6 +232,27 @@ public class DatabaseManagerConfig implements Model, Comparable<DatabaseManagerC
         json.addProperty("maxFailures", getMaxFailures());
         json.addProperty("callTimeout", getCallTimeout().toMillis());
         json.addProperty("resetTimeout", getResetTimeout().toMillis());
+        if (getDispatcher().isPresent()) {
+            json.addProperty("dispatcher", getDispatcher().get());
+        }
+        if (getThreadCount().isPresent()) {
+            json.addProperty("threadCount", getThreadCount().get());
+        }
+        if (getCacheSize().isPresent()) {
+            json.addProperty("cacheSize", getCacheSize().get());
+        }
+        if (getCacheTtl().isPresent()) {
+            json.addProperty("cacheTtl", getCacheTtl().get().toMillis());
+        }
+        if (getResultCacheStaleness().isPresent()) {
+            json.addProperty("resultCacheStaleness", getResultCacheStaleness().get().toMillis());
+        }
+        if (getExistenceFilterSize().isPresent()) {
+            json.addProperty("existenceFilterSize", getExistenceFilterSize().get());
+        }
+        if (getExistenceFilterRebuildInterval().isPresent()) {
+            json.addProperty("existenceFilterRebuildInterval", getExistenceFilterRebuildInterval().get().toMillis());
+        }
         json.add("actorConfigs", actorConfArr);
         json.addProperty("manifest", getSerializationManifest());
         return json;
@@ -159,6 +269,13 @@ public class DatabaseManagerConfig implements Model, Comparable<DatabaseManagerC
         str.append("maxFailures", getMaxFailures());
         str.append("callTimeout", getCallTimeout());
         str.append("resetTimeout", getResetTimeout());
+        str.append("dispatcher", getDispatcher());
+        str.append("threadCount", getThreadCount());
+        str.append("cacheSize", getCacheSize());
+        str.append("cacheTtl", getCacheTtl());
+        str.append("resultCacheStaleness", getResultCacheStaleness());
+        str.append("existenceFilterSize", getExistenceFilterSize());
+        str.append("existenceFilterRebuildInterval", getExistenceFilterRebuildInterval());
         str.append("actorConfigs", getActorConfigs());
         return str.toString();
     }
@@ -168,18 +285,51 @@ public class DatabaseManagerConfig implements Model, Comparable<DatabaseManagerC
      */
     @Override
     public int compareTo(@Nullable final DatabaseManagerConfig other) {
-        if (other == null) {
+        if (other == this) {
+            return 0;
+        } else if (other == null) {
             return 1;
         }
 
-        final CompareToBuilder cmp = new CompareToBuilder();
-        cmp.append(getActorName(), other.getActorName());
-        cmp.append(getDataType(), other.getDataType());
-        cmp.append(getMaxFailures(), other.getMaxFailures());
-        cmp.append(getCallTimeout(), other.getCallTimeout());
-        cmp.append(getResetTimeout(), other.getResetTimeout());
-        cmp.append(getActorConfigs(), other.getActorConfigs(), new CollectionComparator<DatabaseActorConfig>());
-        return cmp.toComparison();
+        int cmp = getActorName().compareTo(other.getActorName());
+        if (cmp == 0) {
+            cmp = getDataType().compareTo(other.getDataType());
+        }
+        if (cmp == 0) {
+            cmp = Integer.compare(getMaxFailures(), other.getMaxFailures());
+        }
+        if (cmp == 0) {
+            cmp = getCallTimeout().compareTo(other.getCallTimeout());
+        }
+        if (cmp == 0) {
+            cmp = getResetTimeout().compareTo(other.getResetTimeout());
+        }
+        if (cmp == 0) {
+            cmp = OptionalComparator.compareValues(getDispatcher(), other.getDispatcher());
+        }
+        if (cmp == 0) {
+            cmp = OptionalComparator.compareValues(getThreadCount(), other.getThreadCount());
+        }
+        if (cmp == 0) {
+            cmp = OptionalComparator.compareValues(getCacheSize(), other.getCacheSize());
+        }
+        if (cmp == 0) {
+            cmp = OptionalComparator.compareValues(getCacheTtl(), other.getCacheTtl());
+        }
+        if (cmp == 0) {
+            cmp = OptionalComparator.compareValues(getResultCacheStaleness(), other.getResultCacheStaleness());
+        }
+        if (cmp == 0) {
+            cmp = OptionalComparator.compareValues(getExistenceFilterSize(), other.getExistenceFilterSize());
+        }
+        if (cmp == 0) {
+            cmp = OptionalComparator.compareValues(
+                    getExistenceFilterRebuildInterval(), other.getExistenceFilterRebuildInterval());
+        }
+        if (cmp == 0) {
+            cmp = CollectionComparator.compareValues(getActorConfigs(), other.getActorConfigs());
+        }
+        return cmp;
     }
 
     /**
@@ -187,7 +337,13 @@ public class DatabaseManagerConfig implements Model, Comparable<DatabaseManagerC
      */
     @Override
     public boolean equals(final Object other) {
-        return (other instanceof DatabaseManagerConfig) && compareTo((DatabaseManagerConfig) other) == 0;
+        if (other == this) {
+            return true;
+        } else if (!(other instanceof DatabaseManagerConfig)) {
+            return false;
+        }
+        final DatabaseManagerConfig that = (DatabaseManagerConfig) other;
+        return hashCode() == that.hashCode() && compareTo(that) == 0;
     }
 
     /**
@@ -195,14 +351,24 @@ public class DatabaseManagerConfig implements Model, Comparable<DatabaseManagerC
      */
     @Override
     public int hashCode() {
-        final HashCodeBuilder hash = new HashCodeBuilder();
-        hash.append(getActorName());
-        hash.append(getDataType().name());
-        hash.append(getMaxFailures());
-        hash.append(getCallTimeout());
-        hash.append(getResetTimeout());
-        hash.append(getActorConfigs());
-        return hash.toHashCode();
+        if (this.hashCode == 0) {
+            int hash = HashCodes.INITIAL;
+            hash = HashCodes.append(hash, getActorName());
+            hash = HashCodes.append(hash, getDataType().name());
+            hash = HashCodes.append(hash, getMaxFailures());
+            hash = HashCodes.append(hash, getCallTimeout());
+            hash = HashCodes.append(hash, getResetTimeout());
+            hash = HashCodes.append(hash, getDispatcher());
+            hash = HashCodes.append(hash, getThreadCount());
+            hash = HashCodes.append(hash, getCacheSize());
+            hash = HashCodes.append(hash, getCacheTtl());
+            hash = HashCodes.append(hash, getResultCacheStaleness());
+            hash = HashCodes.append(hash, getExistenceFilterSize());
+            hash = HashCodes.append(hash, getExistenceFilterRebuildInterval());
+            hash = HashCodes.append(hash, getActorConfigs());
+            this.hashCode = hash;
+        }
+        return this.hashCode;
     }
 
     /**
@@ -217,6 +383,19 @@ public class DatabaseManagerConfig implements Model, Comparable<DatabaseManagerC
         private Optional<FiniteDuration> callTimeout = Optional.empty();
         private Optional<FiniteDuration> resetTimeout = Optional.empty();
 
+        // The thread pool configuration used to run the blocking database operations.
+        private Optional<String> dispatcher = Optional.empty();
+        private Optional<Integer> threadCount = Optional.empty();
+
+        // The configuration of the model cache for this table.
+        private Optional<Long> cacheSize = Optional.empty();
+        private Optional<FiniteDuration> cacheTtl = Optional.empty();
+        private Optional<FiniteDuration> resultCacheStaleness = Optional.empty();
+
+        // The configuration of the existence filter for this table.
+        private Optional<Long> existenceFilterSize = Optional.empty();
+        private Optional<FiniteDuration> existenceFilterRebuildInterval = Optional.empty();
+
         // The database actor configurations.
         private final Set<DatabaseActorConfig> actorConfigs = new TreeSet<>();
 
@@ -236,6 +415,13 @@ public class DatabaseManagerConfig implements Model, Comparable<DatabaseManagerC
             setMaxFailures(other.getMaxFailures());
             setCallTimeout(other.getCallTimeout());
             setResetTimeout(other.getResetTimeout());
+            setDispatcher(other.getDispatcher());
+            setThreadCount(other.getThreadCount());
+            setCacheSize(other.getCacheSize());
+            setCacheTtl(other.getCacheTtl());
+            setResultCacheStaleness(other.getResultCacheStaleness());
+            setExistenceFilterSize(other.getExistenceFilterSize());
+            setExistenceFilterRebuildInterval(other.getExistenceFilterRebuildInterval());
             add(other.getActorConfigs());
         }
 
@@ -260,6 +446,30 @@ public class DatabaseManagerConfig implements Model, Comparable<DatabaseManagerC
                 final long millis = managerConfig.getDuration("reset-timeout").toMillis();
                 setResetTimeout(FiniteDuration.create(millis, TimeUnit.MILLISECONDS));
             }
+            if (managerConfig.hasPath("dispatcher")) {
+                setDispatcher(managerConfig.getString("dispatcher"));
+            }
+            if (managerConfig.hasPath("thread-count")) {
+                setThreadCount(managerConfig.getInt("thread-count"));
+            }
+            if (managerConfig.hasPath("cache.max-size")) {
+                setCacheSize(managerConfig.getLong("cache.max-size"));
+            }
+            if (managerConfig.hasPath("cache.ttl")) {
+                final long millis = managerConfig.getDuration("cache.ttl").toMillis();
+                setCacheTtl(FiniteDuration.create(millis, TimeUnit.MILLISECONDS));
+            }
+            if (managerConfig.hasPath("result-cache.max-staleness")) {
+                final long millis = managerConfig.getDuration("result-cache.max-staleness").toMillis();
+                setResultCacheStaleness(FiniteDuration.create(millis, TimeUnit.MILLISECONDS));
+            }
+            if (managerConfig.hasPath("existence-filter.expected-size")) {
+                setExistenceFilterSize(managerConfig.getLong("existence-filter.expected-size"));
+            }
+            if (managerConfig.hasPath("existence-filter.rebuild-interval")) {
+                final long millis = managerConfig.getDuration("existence-filter.rebuild-interval").toMillis();
+                setExistenceFilterRebuildInterval(FiniteDuration.create(millis, TimeUnit.MILLISECONDS));
+            }
 
             if (managerConfig.hasPath("actors")) {
                 final ConfigObject obj = managerConfig.getConfig("actors").root();
@@ -318,6 +528,150 @@ public class DatabaseManagerConfig implements Model, Comparable<DatabaseManagerC
             return this;
         }
 
+        /**
+         * @param dispatcher the identifier of the Akka dispatcher used to run blocking database operations, possibly
+         * empty
+         * @return {@code this} for fluent-style usage
+         */
+        public Builder setDispatcher(final Optional<String> dispatcher) {
+            this.dispatcher = Objects.requireNonNull(dispatcher);
+            return this;
+        }
+
+        /**
+         * @param dispatcher the identifier of the Akka dispatcher used to run blocking database operations
+         * @return {@code this} for fluent-style usage
+         */
+        public Builder setDispatcher(final String dispatcher) {
+            Objects.requireNonNull(dispatcher);
+            Preconditions.checkArgument(StringUtils.isNotBlank(dispatcher), "Dispatcher cannot be blank");
+            return setDispatcher(Optional.of(dispatcher));
+        }
+
+        /**
+         * @param threadCount the number of threads in a pool dedicated to this data type, possibly empty
+         * @return {@code this} for fluent-style usage
+         */
+        public Builder setThreadCount(final Optional<Integer> threadCount) {
+            Objects.requireNonNull(threadCount);
+            Preconditions.checkArgument(!threadCount.isPresent() || threadCount.get() > 0,
+                    "Thread count must be positive");
+            this.threadCount = threadCount;
+            return this;
+        }
+
+        /**
+         * @param threadCount the number of threads in a pool dedicated to this data type
+         * @return {@code this} for fluent-style usage
+         */
+        public Builder setThreadCount(final int threadCount) {
+            return setThreadCount(Optional.of(threadCount));
+        }
+
+        /**
+         * @param cacheSize the maximum number of model objects to cache by unique identifier, possibly empty
+         * @return {@code this} for fluent-style usage
+         */
+        public Builder setCacheSize(final Optional<Long> cacheSize) {
+            Objects.requireNonNull(cacheSize);
+            Preconditions.checkArgument(!cacheSize.isPresent() || cacheSize.get() > 0, "Cache size must be positive");
+            this.cacheSize = cacheSize;
+            return this;
+        }
+
+        /**
+         * @param cacheSize the maximum number of model objects to cache by unique identifier
+         * @return {@code this} for fluent-style usage
+         */
+        public Builder setCacheSize(final long cacheSize) {
+            return setCacheSize(Optional.of(cacheSize));
+        }
+
+        /**
+         * @param cacheTtl the amount of time a model object remains in the cache after being stored, possibly empty
+         * @return {@code this} for fluent-style usage
+         */
+        public Builder setCacheTtl(final Optional<FiniteDuration> cacheTtl) {
+            Objects.requireNonNull(cacheTtl);
+            Preconditions.checkArgument(!cacheTtl.isPresent() || cacheTtl.get().toMillis() > 0,
+                    "Cache TTL must be positive");
+            this.cacheTtl = cacheTtl;
+            return this;
+        }
+
+        /**
+         * @param cacheTtl the amount of time a model object remains in the cache after being stored
+         * @return {@code this} for fluent-style usage
+         */
+        public Builder setCacheTtl(final FiniteDuration cacheTtl) {
+            return setCacheTtl(Optional.of(cacheTtl));
+        }
+
+        /**
+         * @param resultCacheStaleness the maximum age of a cached query result, possibly empty
+         * @return {@code this} for fluent-style usage
+         */
+        public Builder setResultCacheStaleness(final Optional<FiniteDuration> resultCacheStaleness) {
+            Objects.requireNonNull(resultCacheStaleness);
+            Preconditions.checkArgument(
+                    !resultCacheStaleness.isPresent() || resultCacheStaleness.get().toMillis() > 0,
+                    "Result cache staleness must be positive");
+            this.resultCacheStaleness = resultCacheStaleness;
+            return this;
+        }
+
+        /**
+         * @param resultCacheStaleness the maximum age of a cached query result
+         * @return {@code this} for fluent-style usage
+         */
+        public Builder setResultCacheStaleness(final FiniteDuration resultCacheStaleness) {
+            return setResultCacheStaleness(Optional.of(resultCacheStaleness));
+        }
+
+        /**
+         * @param existenceFilterSize the number of unique identifiers the existence filter is sized for, possibly
+         * empty
+         * @return {@code this} for fluent-style usage
+         */
+        public Builder setExistenceFilterSize(final Optional<Long> existenceFilterSize) {
+            Objects.requireNonNull(existenceFilterSize);
+            Preconditions.checkArgument(!existenceFilterSize.isPresent() || existenceFilterSize.get() > 0,
+                    "Existence filter size must be positive");
+            this.existenceFilterSize = existenceFilterSize;
+            return this;
+        }
+
+        /**
+         * @param existenceFilterSize the number of unique identifiers the existence filter is sized for
+         * @return {@code this} for fluent-style usage
+         */
+        public Builder setExistenceFilterSize(final long existenceFilterSize) {
+            return setExistenceFilterSize(Optional.of(existenceFilterSize));
+        }
+
+        /**
+         * @param existenceFilterRebuildInterval how often the existence filter is rebuilt from the database, possibly
+         * empty
+         * @return {@code this} for fluent-style usage
+         */
+        public Builder setExistenceFilterRebuildInterval(
+                final Optional<FiniteDuration> existenceFilterRebuildInterval) {
+            Objects.requireNonNull(existenceFilterRebuildInterval);
+            Preconditions.checkArgument(!existenceFilterRebuildInterval.isPresent()
+                    || existenceFilterRebuildInterval.get().toMillis() > 0,
+                    "Existence filter rebuild interval must be positive");
+            this.existenceFilterRebuildInterval = existenceFilterRebuildInterval;
+            return this;
+        }
+
+        /**
+         * @param existenceFilterRebuildInterval how often the existence filter is rebuilt from the database
+         * @return {@code this} for fluent-style usage
+         */
+        public Builder setExistenceFilterRebuildInterval(final FiniteDuration existenceFilterRebuildInterval) {
+            return setExistenceFilterRebuildInterval(Optional.of(existenceFilterRebuildInterval));
+        }
+
         /**
          * @param actorConfigs the database actor configurations of the actors to be managed
          * @return {@code this} for fluent-style usage
@@ -358,6 +712,29 @@ public class DatabaseManagerConfig implements Model, Comparable<DatabaseManagerC
                 setResetTimeout(
                         Duration.create(json.getAsJsonPrimitive("resetTimeout").getAsLong(), TimeUnit.MILLISECONDS));
             }
+            if (json.has("dispatcher")) {
+                setDispatcher(json.getAsJsonPrimitive("dispatcher").getAsString());
+            }
+            if (json.has("threadCount")) {
+                setThreadCount(json.getAsJsonPrimitive("threadCount").getAsInt());
+            }
+            if (json.has("cacheSize")) {
+                setCacheSize(json.getAsJsonPrimitive("cacheSize").getAsLong());
+            }
+            if (json.has("cacheTtl")) {
+                setCacheTtl(Duration.create(json.getAsJsonPrimitive("cacheTtl").getAsLong(), TimeUnit.MILLISECONDS));
+            }
+            if (json.has("resultCacheStaleness")) {
+                setResultCacheStaleness(Duration.create(
+                        json.getAsJsonPrimitive("resultCacheStaleness").getAsLong(), TimeUnit.MILLISECONDS));
+            }
+            if (json.has("existenceFilterSize")) {
+                setExistenceFilterSize(json.getAsJsonPrimitive("existenceFilterSize").getAsLong());
+            }
+            if (json.has("existenceFilterRebuildInterval")) {
+                setExistenceFilterRebuildInterval(Duration.create(
+                        json.getAsJsonPrimitive("existenceFilterRebuildInterval").getAsLong(), TimeUnit.MILLISECONDS));
+            }
             if (json.has("actorConfigs")) {
                 json.getAsJsonArray("actorConfigs").forEach(
                         e -> add(new DatabaseActorConfig.Builder().fromJson(mapping, e.getAsJsonObject()).build()));
@@ -390,7 +767,9 @@ public class DatabaseManagerConfig implements Model, Comparable<DatabaseManagerC
             }
 
             return new DatabaseManagerConfig(this.actorName.get(), this.dataType.get(), this.maxFailures.get(),
-                    this.callTimeout.get(), this.resetTimeout.get(), this.actorConfigs);
+                    this.callTimeout.get(), this.resetTimeout.get(), this.dispatcher, this.threadCount,
+                    this.cacheSize, this.cacheTtl, this.resultCacheStaleness, this.existenceFilterSize,
+                    this.existenceFilterRebuildInterval, this.actorConfigs);
         }
 
         /**
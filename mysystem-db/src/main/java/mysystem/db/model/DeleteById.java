@@ -2,24 +2,25 @@ package mysystem.db.model;
 
 import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 
-import org.apache.commons.lang3.builder.CompareToBuilder;
-import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 import org.apache.commons.lang3.builder.ToStringStyle;
 
-import mysystem.common.model.Model;
-import mysystem.common.model.ModelBuilder;
+import mysystem.common.model.BinaryModel;
+import mysystem.common.model.BinaryModelBuilder;
+import mysystem.common.serialization.BinaryReader;
+import mysystem.common.serialization.BinaryWriter;
+import mysystem.common.serialization.JsonStreaming;
 import mysystem.common.serialization.ManifestMapping;
-import mysystem.common.util.CollectionComparator;
+import mysystem.common.util.HashCodes;
+import mysystem.common.util.IdSet;
 
-import java.util.Arrays;
+import java.io.IOException;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.SortedSet;
-import java.util.TreeSet;
 
 import javax.annotation.Nullable;
 
@@ -27,19 +28,25 @@ import javax.annotation.Nullable;
  * An immutable class that represents the information needed to delete objects with specific unique ids from a table
  * in the database.
  */
-public class DeleteById implements Model, HasDataType, Comparable<DeleteById> {
+public class DeleteById implements BinaryModel, HasDataType, Comparable<DeleteById> {
     private final static String SERIALIZATION_MANIFEST = DeleteById.class.getSimpleName();
 
+    // The field numbers used in the binary format, which must never be reused for a different field.
+    private final static int FIELD_DATA_TYPE = 1;
+    private final static int FIELD_IDS = 2;
+
     private final DataType dataType;
-    private final SortedSet<Integer> ids;
+    private final IdSet ids;
+
+    private int hashCode = 0;
 
     /**
      * @param dataType the type of data that should be retrieved using the request object
      * @param ids the unique identifiers of the objects to fetch
      */
-    private DeleteById(final DataType dataType, final SortedSet<Integer> ids) {
+    private DeleteById(final DataType dataType, final IdSet ids) {
         this.dataType = dataType;
-        this.ids = new TreeSet<>(ids);
+        this.ids = ids;
     }
 
     /**
@@ -59,10 +66,10 @@ public class DeleteById implements Model, HasDataType, Comparable<DeleteById> {
     }
 
     /**
-     * @return an unmodifiable set containing the unique identifiers of the objects to fetch
+     * @return an immutable set containing the unique identifiers of the objects to fetch
      */
-    public SortedSet<Integer> getIds() {
-        return Collections.unmodifiableSortedSet(this.ids);
+    public IdSet getIds() {
+        return this.ids;
     }
 
     /**
@@ -71,7 +78,7 @@ public class DeleteById implements Model, HasDataType, Comparable<DeleteById> {
     @Override
     public JsonObject toJson() {
         final JsonArray idsArr = new JsonArray();
-        getIds().forEach(idsArr::add);
+        getIds().forEachId(idsArr::add);
 
         final JsonObject json = new JsonObject();
         json.addProperty("dataType", getDataType().name());
@@ -80,6 +87,32 @@ public class DeleteById implements Model, HasDataType, Comparable<DeleteById> {
         return json;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void toJson(final JsonWriter writer) throws IOException {
+        writer.beginObject();
+        writer.name(JsonStreaming.MANIFEST).value(getSerializationManifest());
+        writer.name("dataType").value(getDataType().name());
+        writer.name("ids").beginArray();
+        final IdSet ids = getIds();
+        for (int index = 0; index < ids.size(); index++) {
+            writer.value(ids.get(index));
+        }
+        writer.endArray();
+        writer.endObject();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void writeBinary(final BinaryWriter writer) {
+        writer.writeStringField(FIELD_DATA_TYPE, getDataType().name());
+        writer.writePackedIntField(FIELD_IDS, getIds());
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -96,14 +129,17 @@ public class DeleteById implements Model, HasDataType, Comparable<DeleteById> {
      */
     @Override
     public int compareTo(@Nullable final DeleteById other) {
-        if (other == null) {
+        if (other == this) {
+            return 0;
+        } else if (other == null) {
             return 1;
         }
 
-        final CompareToBuilder cmp = new CompareToBuilder();
-        cmp.append(getDataType(), other.getDataType());
-        cmp.append(getIds(), other.getIds(), new CollectionComparator<Integer>());
-        return cmp.toComparison();
+        int cmp = getDataType().compareTo(other.getDataType());
+        if (cmp == 0) {
+            cmp = getIds().compareTo(other.getIds());
+        }
+        return cmp;
     }
 
     /**
@@ -111,7 +147,13 @@ public class DeleteById implements Model, HasDataType, Comparable<DeleteById> {
      */
     @Override
     public boolean equals(final Object other) {
-        return (other instanceof DeleteById) && compareTo((DeleteById) other) == 0;
+        if (other == this) {
+            return true;
+        } else if (!(other instanceof DeleteById)) {
+            return false;
+        }
+        final DeleteById that = (DeleteById) other;
+        return hashCode() == that.hashCode() && compareTo(that) == 0;
     }
 
     /**
@@ -119,18 +161,21 @@ public class DeleteById implements Model, HasDataType, Comparable<DeleteById> {
      */
     @Override
     public int hashCode() {
-        final HashCodeBuilder hash = new HashCodeBuilder();
-        hash.append(getDataType().name());
-        hash.append(getIds());
-        return hash.toHashCode();
+        if (this.hashCode == 0) {
+            int hash = HashCodes.INITIAL;
+            hash = HashCodes.append(hash, getDataType().name());
+            hash = HashCodes.append(hash, getIds());
+            this.hashCode = hash;
+        }
+        return this.hashCode;
     }
 
     /**
      * Used to create {@link DeleteById} instances.
      */
-    public static class Builder implements ModelBuilder<DeleteById> {
+    public static class Builder implements BinaryModelBuilder<DeleteById> {
         private Optional<DataType> dataType = Optional.empty();
-        private final SortedSet<Integer> ids = new TreeSet<>();
+        private final IdSet.Builder ids = new IdSet.Builder();
 
         /**
          * Default constructor.
@@ -149,8 +194,9 @@ public class DeleteById implements Model, HasDataType, Comparable<DeleteById> {
          * @param dataType the {@link DataType} describing the type of data for which this delete request applies
          * @param ids the unique identifiers of the objects to fetch
          */
-        public Builder(final DataType dataType, final Integer... ids) {
-            this(dataType, Arrays.asList(Objects.requireNonNull(ids)));
+        public Builder(final DataType dataType, final int... ids) {
+            setDataType(dataType);
+            add(ids);
         }
 
         /**
@@ -175,8 +221,9 @@ public class DeleteById implements Model, HasDataType, Comparable<DeleteById> {
          * @param ids the unique identifiers of the objects to be deleted
          * @return {@code this} for fluent-style usage
          */
-        public Builder add(final Integer... ids) {
-            return add(Arrays.asList(Objects.requireNonNull(ids)));
+        public Builder add(final int... ids) {
+            this.ids.add(Objects.requireNonNull(ids));
+            return this;
         }
 
         /**
@@ -184,7 +231,7 @@ public class DeleteById implements Model, HasDataType, Comparable<DeleteById> {
          * @return {@code this} for fluent-style usage
          */
         public Builder add(final Collection<Integer> ids) {
-            this.ids.addAll(Objects.requireNonNull(ids));
+            this.ids.add(Objects.requireNonNull(ids));
             return this;
         }
 
@@ -198,7 +245,52 @@ public class DeleteById implements Model, HasDataType, Comparable<DeleteById> {
                 setDataType(DataType.valueOf(json.getAsJsonPrimitive("dataType").getAsString()));
             }
             if (json.has("ids")) {
-                json.getAsJsonArray("ids").forEach(e -> add(e.getAsInt()));
+                json.getAsJsonArray("ids").forEach(e -> this.ids.add(e.getAsInt()));
+            }
+            return this;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Builder fromJsonFields(final ManifestMapping mapping, final JsonReader reader) throws IOException {
+            while (reader.hasNext()) {
+                switch (reader.nextName()) {
+                    case "dataType":
+                        setDataType(DataType.valueOf(reader.nextString()));
+                        break;
+                    case "ids":
+                        reader.beginArray();
+                        while (reader.hasNext()) {
+                            this.ids.add(reader.nextInt());
+                        }
+                        reader.endArray();
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            }
+            return this;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Builder fromBinary(final ManifestMapping mapping, final BinaryReader reader) {
+            while (reader.hasRemaining()) {
+                final int tag = reader.readTag();
+                switch (BinaryReader.getFieldNumber(tag)) {
+                    case FIELD_DATA_TYPE:
+                        setDataType(DataType.valueOf(reader.readString()));
+                        break;
+                    case FIELD_IDS:
+                        reader.readPackedInts(this.ids::add);
+                        break;
+                    default:
+                        reader.skip(tag);
+                }
             }
             return this;
         }
@@ -215,7 +307,7 @@ public class DeleteById implements Model, HasDataType, Comparable<DeleteById> {
                 throw new IllegalStateException("At least one id is required");
             }
 
-            return new DeleteById(this.dataType.get(), this.ids);
+            return new DeleteById(this.dataType.get(), this.ids.build());
         }
 
         /**
@@ -0,0 +1,194 @@
+package mysystem.db.model;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+
+import mysystem.common.model.Model;
+import mysystem.common.model.ModelBuilder;
+import mysystem.common.serialization.ManifestMapping;
+import mysystem.common.util.CollectionComparator;
+import mysystem.common.util.HashCodes;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import javax.annotation.Nullable;
+
+/**
+ * An immutable class that represents the outcome of a delete operation, reporting the number of rows affected by each
+ * chunk of the delete in the order the chunks were executed.
+ */
+public class DeleteResult implements Model, Comparable<DeleteResult> {
+    private final static String SERIALIZATION_MANIFEST = DeleteResult.class.getSimpleName();
+
+    private final List<Integer> rowCounts;
+
+    private int hashCode = 0;
+
+    /**
+     * @param rowCounts the number of rows affected by each chunk of the delete operation
+     */
+    private DeleteResult(final List<Integer> rowCounts) {
+        this.rowCounts = new ArrayList<>(rowCounts);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getSerializationManifest() {
+        return SERIALIZATION_MANIFEST;
+    }
+
+    /**
+     * @return an unmodifiable list containing the number of rows affected by each chunk of the delete operation
+     */
+    public List<Integer> getRowCounts() {
+        return Collections.unmodifiableList(this.rowCounts);
+    }
+
+    /**
+     * @return the total number of rows deleted across all of the chunks
+     */
+    public int getDeleted() {
+        return this.rowCounts.stream().mapToInt(Integer::intValue).sum();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public JsonObject toJson() {
+        final JsonArray rowCountArr = new JsonArray();
+        getRowCounts().forEach(rowCountArr::add);
+
+        final JsonObject json = new JsonObject();
+        json.add("rowCounts", rowCountArr);
+        json.addProperty("manifest", getSerializationManifest());
+        return json;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        final ToStringBuilder str = new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE);
+        str.append("rowCounts", getRowCounts());
+        return str.build();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int compareTo(@Nullable final DeleteResult other) {
+        if (other == this) {
+            return 0;
+        } else if (other == null) {
+            return 1;
+        }
+
+        int cmp = CollectionComparator.compareValues(getRowCounts(), other.getRowCounts());
+        return cmp;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(final Object other) {
+        if (other == this) {
+            return true;
+        } else if (!(other instanceof DeleteResult)) {
+            return false;
+        }
+        final DeleteResult deleteResult = (DeleteResult) other;
+        return hashCode() == deleteResult.hashCode() && compareTo(deleteResult) == 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        if (this.hashCode == 0) {
+            int hash = HashCodes.INITIAL;
+            hash = HashCodes.append(hash, getRowCounts());
+            this.hashCode = hash;
+        }
+        return this.hashCode;
+    }
+
+    /**
+     * Used to create {@link DeleteResult} instances.
+     */
+    public static class Builder implements ModelBuilder<DeleteResult> {
+        private final List<Integer> rowCounts = new ArrayList<>();
+
+        /**
+         * Default constructor.
+         */
+        public Builder() {
+        }
+
+        /**
+         * @param rowCounts the number of rows affected by each chunk of the delete operation
+         */
+        public Builder(final Integer... rowCounts) {
+            add(rowCounts);
+        }
+
+        /**
+         * @param rowCounts the number of rows affected by the next chunks of the delete operation
+         * @return {@code this} for fluent-style usage
+         */
+        public Builder add(final Integer... rowCounts) {
+            return add(Arrays.asList(Objects.requireNonNull(rowCounts)));
+        }
+
+        /**
+         * @param rowCounts the number of rows affected by the next chunks of the delete operation
+         * @return {@code this} for fluent-style usage
+         */
+        public Builder add(final Collection<Integer> rowCounts) {
+            this.rowCounts.addAll(Objects.requireNonNull(rowCounts));
+            return this;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Builder fromJson(final ManifestMapping mapping, final JsonObject json) {
+            Objects.requireNonNull(json);
+            if (json.has("rowCounts")) {
+                json.getAsJsonArray("rowCounts").forEach(e -> add(e.getAsInt()));
+            }
+            return this;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public DeleteResult build() {
+            return new DeleteResult(this.rowCounts);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String getSerializationManifest() {
+            return SERIALIZATION_MANIFEST;
+        }
+    }
+}
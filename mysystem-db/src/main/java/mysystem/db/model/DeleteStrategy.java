@@ -0,0 +1,25 @@
+package mysystem.db.model;
+
+/**
+ * An enumeration describing the ways in which model objects can be deleted from the database by unique identifier.
+ */
+public enum DeleteStrategy {
+    /**
+     * Execute one auto-committed delete statement for each unique identifier.
+     */
+    PER_ID,
+
+    /**
+     * Execute one {@code WHERE id IN (...)} delete statement for each chunk of unique identifiers, all within a single
+     * transaction.
+     */
+    IN_LIST,
+
+    /**
+     * Execute one JDBC batch of single-id delete statements for each chunk of unique identifiers, all within a single
+     * transaction.
+     */
+    BATCH,
+
+    ;
+}
@@ -0,0 +1,368 @@
+package mysystem.db.model;
+
+import com.google.common.base.Preconditions;
+import com.google.gson.JsonObject;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+
+import mysystem.common.model.Model;
+import mysystem.common.model.ModelBuilder;
+import mysystem.common.serialization.ManifestMapping;
+import mysystem.common.util.HashCodes;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import javax.annotation.Nullable;
+
+/**
+ * An immutable class that represents the current statistics of the existence filter for a table in the database, used
+ * to determine whether the filter has been sized appropriately and how often it needs to be rebuilt.
+ */
+public class ExistenceFilterStatistics implements Model, Comparable<ExistenceFilterStatistics> {
+    private final static String SERIALIZATION_MANIFEST = ExistenceFilterStatistics.class.getSimpleName();
+
+    private final DataType dataType;
+    private final boolean ready;
+    private final long insertions;
+    private final double expectedFalsePositiveRate;
+    private final long skippedCount;
+    private final long queriedCount;
+    private final long falsePositiveCount;
+
+    private int hashCode = 0;
+
+    /**
+     * @param dataType the type of data whose ids are stored in the filter
+     * @param ready whether the filter has been built and is able to rule out ids
+     * @param insertions the approximate number of ids stored in the filter
+     * @param expectedFalsePositiveRate the probability of an absent id passing the filter given the ids stored
+     * @param skippedCount the number of ids looked up that the filter ruled out
+     * @param queriedCount the number of ids looked up that passed the filter and were queried
+     * @param falsePositiveCount the number of ids that passed the filter but were not found
+     */
+    private ExistenceFilterStatistics(
+            final DataType dataType, final boolean ready, final long insertions,
+            final double expectedFalsePositiveRate, final long skippedCount, final long queriedCount,
+            final long falsePositiveCount) {
+        this.dataType = dataType;
+        this.ready = ready;
+        this.insertions = insertions;
+        this.expectedFalsePositiveRate = expectedFalsePositiveRate;
+        this.skippedCount = skippedCount;
+        this.queriedCount = queriedCount;
+        this.falsePositiveCount = falsePositiveCount;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getSerializationManifest() {
+        return SERIALIZATION_MANIFEST;
+    }
+
+    /**
+     * @return the type of data whose ids are stored in the filter
+     */
+    public DataType getDataType() {
+        return this.dataType;
+    }
+
+    /**
+     * @return whether the filter has been built and is able to rule out ids
+     */
+    public boolean isReady() {
+        return this.ready;
+    }
+
+    /**
+     * @return the approximate number of ids stored in the filter
+     */
+    public long getInsertions() {
+        return this.insertions;
+    }
+
+    /**
+     * @return the probability of an absent id passing the filter given the ids stored
+     */
+    public double getExpectedFalsePositiveRate() {
+        return this.expectedFalsePositiveRate;
+    }
+
+    /**
+     * @return the number of ids looked up that the filter ruled out
+     */
+    public long getSkippedCount() {
+        return this.skippedCount;
+    }
+
+    /**
+     * @return the number of ids looked up that passed the filter and were queried
+     */
+    public long getQueriedCount() {
+        return this.queriedCount;
+    }
+
+    /**
+     * @return the number of ids at or below the highest id loaded into the filter that passed the filter but were not
+     * found, including deleted ids that remain in the filter until it is rebuilt
+     */
+    public long getFalsePositiveCount() {
+        return this.falsePositiveCount;
+    }
+
+    /**
+     * @return the ratio of absent ids that passed the filter, or 0.0 when no absent ids have been looked up
+     */
+    public double getObservedFalsePositiveRate() {
+        final long absentCount = getSkippedCount() + getFalsePositiveCount();
+        return absentCount == 0 ? 0.0 : (double) getFalsePositiveCount() / absentCount;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public JsonObject toJson() {
+        final JsonObject json = new JsonObject();
+        json.addProperty("dataType", getDataType().name());
+        json.addProperty("ready", isReady());
+        json.addProperty("insertions", getInsertions());
+        json.addProperty("expectedFalsePositiveRate", getExpectedFalsePositiveRate());
+        json.addProperty("skippedCount", getSkippedCount());
+        json.addProperty("queriedCount", getQueriedCount());
+        json.addProperty("falsePositiveCount", getFalsePositiveCount());
+        json.addProperty("manifest", getSerializationManifest());
+        return json;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        final ToStringBuilder str = new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE);
+        str.append("dataType", getDataType());
+        str.append("ready", isReady());
+        str.append("insertions", getInsertions());
+        str.append("expectedFalsePositiveRate", getExpectedFalsePositiveRate());
+        str.append("skippedCount", getSkippedCount());
+        str.append("queriedCount", getQueriedCount());
+        str.append("falsePositiveCount", getFalsePositiveCount());
+        return str.build();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int compareTo(@Nullable final ExistenceFilterStatistics other) {
+        if (other == this) {
+            return 0;
+        } else if (other == null) {
+            return 1;
+        }
+
+        int cmp = getDataType().compareTo(other.getDataType());
+        if (cmp == 0) {
+            cmp = Boolean.compare(isReady(), other.isReady());
+        }
+        if (cmp == 0) {
+            cmp = Long.compare(getInsertions(), other.getInsertions());
+        }
+        if (cmp == 0) {
+            cmp = Double.compare(getExpectedFalsePositiveRate(), other.getExpectedFalsePositiveRate());
+        }
+        if (cmp == 0) {
+            cmp = Long.compare(getSkippedCount(), other.getSkippedCount());
+        }
+        if (cmp == 0) {
+            cmp = Long.compare(getQueriedCount(), other.getQueriedCount());
+        }
+        if (cmp == 0) {
+            cmp = Long.compare(getFalsePositiveCount(), other.getFalsePositiveCount());
+        }
+        return cmp;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(final Object other) {
+        if (other == this) {
+            return true;
+        } else if (!(other instanceof ExistenceFilterStatistics)) {
+            return false;
+        }
+        final ExistenceFilterStatistics existenceFilterStatistics = (ExistenceFilterStatistics) other;
+        return hashCode() == existenceFilterStatistics.hashCode() && compareTo(existenceFilterStatistics) == 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        if (this.hashCode == 0) {
+            int hash = HashCodes.INITIAL;
+            hash = HashCodes.append(hash, getDataType().name());
+            hash = HashCodes.append(hash, isReady());
+            hash = HashCodes.append(hash, getInsertions());
+            hash = HashCodes.append(hash, getExpectedFalsePositiveRate());
+            hash = HashCodes.append(hash, getSkippedCount());
+            hash = HashCodes.append(hash, getQueriedCount());
+            hash = HashCodes.append(hash, getFalsePositiveCount());
+            this.hashCode = hash;
+        }
+        return this.hashCode;
+    }
+
+    /**
+     * Used to create {@link ExistenceFilterStatistics} instances.
+     */
+    public static class Builder implements ModelBuilder<ExistenceFilterStatistics> {
+        private Optional<DataType> dataType = Optional.empty();
+        private boolean ready = false;
+        private long insertions = 0;
+        private double expectedFalsePositiveRate = 0.0;
+        private long skippedCount = 0;
+        private long queriedCount = 0;
+        private long falsePositiveCount = 0;
+
+        /**
+         * Default constructor.
+         */
+        public Builder() {
+        }
+
+        /**
+         * @param dataType the {@link DataType} describing the type of data whose ids are stored in the filter
+         */
+        public Builder(final DataType dataType) {
+            setDataType(dataType);
+        }
+
+        /**
+         * @param dataType the {@link DataType} describing the type of data whose ids are stored in the filter
+         * @return {@code this} for fluent-style usage
+         */
+        public Builder setDataType(final DataType dataType) {
+            this.dataType = Optional.of(Objects.requireNonNull(dataType));
+            return this;
+        }
+
+        /**
+         * @param ready whether the filter has been built and is able to rule out ids
+         * @return {@code this} for fluent-style usage
+         */
+        public Builder setReady(final boolean ready) {
+            this.ready = ready;
+            return this;
+        }
+
+        /**
+         * @param insertions the approximate number of ids stored in the filter
+         * @return {@code this} for fluent-style usage
+         */
+        public Builder setInsertions(final long insertions) {
+            Preconditions.checkArgument(insertions >= 0, "Insertions cannot be negative");
+            this.insertions = insertions;
+            return this;
+        }
+
+        /**
+         * @param expectedFalsePositiveRate the probability of an absent id passing the filter given the ids stored
+         * @return {@code this} for fluent-style usage
+         */
+        public Builder setExpectedFalsePositiveRate(final double expectedFalsePositiveRate) {
+            Preconditions.checkArgument(expectedFalsePositiveRate >= 0 && expectedFalsePositiveRate <= 1,
+                    "Expected false positive rate must be between 0 and 1");
+            this.expectedFalsePositiveRate = expectedFalsePositiveRate;
+            return this;
+        }
+
+        /**
+         * @param skippedCount the number of ids looked up that the filter ruled out
+         * @return {@code this} for fluent-style usage
+         */
+        public Builder setSkippedCount(final long skippedCount) {
+            Preconditions.checkArgument(skippedCount >= 0, "Skipped count cannot be negative");
+            this.skippedCount = skippedCount;
+            return this;
+        }
+
+        /**
+         * @param queriedCount the number of ids looked up that passed the filter and were queried
+         * @return {@code this} for fluent-style usage
+         */
+        public Builder setQueriedCount(final long queriedCount) {
+            Preconditions.checkArgument(queriedCount >= 0, "Queried count cannot be negative");
+            this.queriedCount = queriedCount;
+            return this;
+        }
+
+        /**
+         * @param falsePositiveCount the number of ids that passed the filter but were not found
+         * @return {@code this} for fluent-style usage
+         */
+        public Builder setFalsePositiveCount(final long falsePositiveCount) {
+            Preconditions.checkArgument(falsePositiveCount >= 0, "False positive count cannot be negative");
+            this.falsePositiveCount = falsePositiveCount;
+            return this;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Builder fromJson(final ManifestMapping mapping, final JsonObject json) {
+            Objects.requireNonNull(json);
+            if (json.has("dataType")) {
+                setDataType(DataType.valueOf(json.getAsJsonPrimitive("dataType").getAsString()));
+            }
+            if (json.has("ready")) {
+                setReady(json.getAsJsonPrimitive("ready").getAsBoolean());
+            }
+            if (json.has("insertions")) {
+                setInsertions(json.getAsJsonPrimitive("insertions").getAsLong());
+            }
+            if (json.has("expectedFalsePositiveRate")) {
+                setExpectedFalsePositiveRate(json.getAsJsonPrimitive("expectedFalsePositiveRate").getAsDouble());
+            }
+            if (json.has("skippedCount")) {
+                setSkippedCount(json.getAsJsonPrimitive("skippedCount").getAsLong());
+            }
+            if (json.has("queriedCount")) {
+                setQueriedCount(json.getAsJsonPrimitive("queriedCount").getAsLong());
+            }
+            if (json.has("falsePositiveCount")) {
+                setFalsePositiveCount(json.getAsJsonPrimitive("falsePositiveCount").getAsLong());
+            }
+            return this;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public ExistenceFilterStatistics build() {
+            if (!this.dataType.isPresent()) {
+                throw new IllegalStateException("Data type is required");
+            }
+
+            return new ExistenceFilterStatistics(this.dataType.get(), this.ready, this.insertions,
+                    this.expectedFalsePositiveRate, this.skippedCount, this.queriedCount, this.falsePositiveCount);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String getSerializationManifest() {
+            return SERIALIZATION_MANIFEST;
+        }
+    }
+}
@@ -1,17 +1,23 @@
 package mysystem.db.model;
 
+import com.google.common.base.Preconditions;
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 
-import org.apache.commons.lang3.builder.CompareToBuilder;
-import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 import org.apache.commons.lang3.builder.ToStringStyle;
 
-import mysystem.common.model.Model;
-import mysystem.common.model.ModelBuilder;
+import mysystem.common.model.BinaryModel;
+import mysystem.common.model.BinaryModelBuilder;
+import mysystem.common.serialization.BinaryReader;
+import mysystem.common.serialization.BinaryWriter;
+import mysystem.common.serialization.JsonStreaming;
 import mysystem.common.serialization.ManifestMapping;
+import mysystem.common.util.HashCodes;
 import mysystem.common.util.OptionalComparator;
 
+import java.io.IOException;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -20,20 +26,36 @@ import javax.annotation.Nullable;
 /**
  * An immutable class that represents the information needed to fetch all objects from a table in the database.
  */
-public class GetAll implements Model, HasDataType, Comparable<GetAll> {
+public class GetAll implements BinaryModel, HasDataType, Comparable<GetAll> {
     private final static String SERIALIZATION_MANIFEST = GetAll.class.getSimpleName();
 
+    // The field numbers used in the binary format, which must never be reused for a different field.
+    private final static int FIELD_DATA_TYPE = 1;
+    private final static int FIELD_ACTIVE = 2;
+    private final static int FIELD_AFTER_ID = 3;
+    private final static int FIELD_LIMIT = 4;
+
     private final DataType dataType;
     private final Optional<Boolean> active;
+    private final Optional<Integer> afterId;
+    private final Optional<Integer> limit;
+
+    private int hashCode = 0;
 
     /**
      * @param dataType the type of data that should be retrieved using the request object
      * @param active return whether only active objects should be retrieved (present and true), or only inactive
      * objects (present and false), or all objects regardless (empty)
+     * @param afterId the cursor indicating only objects with a larger unique id should be retrieved, possibly empty
+     * @param limit the maximum number of objects to retrieve in the page, possibly empty
      */
-    private GetAll(final DataType dataType, final Optional<Boolean> active) {
+    private GetAll(
+            final DataType dataType, final Optional<Boolean> active, final Optional<Integer> afterId,
+            final Optional<Integer> limit) {
         this.dataType = dataType;
         this.active = active;
+        this.afterId = afterId;
+        this.limit = limit;
     }
 
     /**
@@ -60,6 +82,29 @@ public class GetAll implements Model, HasDataType, Comparable<GetAll> {
         return this.active;
     }
 
+    /**
+     * @return the cursor indicating only objects with a unique id larger than this value should be retrieved, or
+     * empty to start from the first object in the table
+     */
+    public Optional<Integer> getAfterId() {
+        return this.afterId;
+    }
+
+    /**
+     * @return the maximum number of objects to retrieve, ordered by unique id, or empty to retrieve all of the
+     * remaining objects
+     */
+    public Optional<Integer> getLimit() {
+        return this.limit;
+    }
+
+    /**
+     * @return whether this request retrieves a single page of objects ordered by unique id
+     */
+    public boolean isPaged() {
+        return getAfterId().isPresent() || getLimit().isPresent();
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -70,10 +115,53 @@ public class GetAll implements Model, HasDataType, Comparable<GetAll> {
         if (getActive().isPresent()) {
             json.addProperty("active", getActive().get());
         }
+        if (getAfterId().isPresent()) {
+            json.addProperty("afterId", getAfterId().get());
+        }
+        if (getLimit().isPresent()) {
+            json.addProperty("limit", getLimit().get());
+        }
         json.addProperty("manifest", getSerializationManifest());
         return json;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void toJson(final JsonWriter writer) throws IOException {
+        writer.beginObject();
+        writer.name(JsonStreaming.MANIFEST).value(getSerializationManifest());
+        writer.name("dataType").value(getDataType().name());
+        if (getActive().isPresent()) {
+            writer.name("active").value(getActive().get());
+        }
+        if (getAfterId().isPresent()) {
+            writer.name("afterId").value(getAfterId().get());
+        }
+        if (getLimit().isPresent()) {
+            writer.name("limit").value(getLimit().get());
+        }
+        writer.endObject();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void writeBinary(final BinaryWriter writer) {
+        writer.writeStringField(FIELD_DATA_TYPE, getDataType().name());
+        if (getActive().isPresent()) {
+            writer.writeBooleanField(FIELD_ACTIVE, getActive().get());
+        }
+        if (getAfterId().isPresent()) {
+            writer.writeIntField(FIELD_AFTER_ID, getAfterId().get());
+        }
+        if (getLimit().isPresent()) {
+            writer.writeIntField(FIELD_LIMIT, getLimit().get());
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -82,6 +170,8 @@ public class GetAll implements Model, HasDataType, Comparable<GetAll> {
         final ToStringBuilder str = new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE);
         str.append("dataType", getDataType());
         str.append("active", getActive());
+        str.append("afterId", getAfterId());
+        str.append("limit", getLimit());
         return str.build();
     }
 
@@ -90,14 +180,23 @@ public class GetAll implements Model, HasDataType, Comparable<GetAll> {
      */
     @Override
     public int compareTo(@Nullable final GetAll other) {
-        if (other == null) {
+        if (other == this) {
+            return 0;
+        } else if (other == null) {
             return 1;
         }
 
-        final CompareToBuilder cmp = new CompareToBuilder();
-        cmp.append(getDataType(), other.getDataType());
-        cmp.append(getActive(), other.getActive(), new OptionalComparator<Boolean>());
-        return cmp.toComparison();
+        int cmp = getDataType().compareTo(other.getDataType());
+        if (cmp == 0) {
+            cmp = OptionalComparator.compareValues(getActive(), other.getActive());
+        }
+        if (cmp == 0) {
+            cmp = OptionalComparator.compareValues(getAfterId(), other.getAfterId());
+        }
+        if (cmp == 0) {
+            cmp = OptionalComparator.compareValues(getLimit(), other.getLimit());
+        }
+        return cmp;
     }
 
     /**
@@ -105,7 +204,13 @@ public class GetAll implements Model, HasDataType, Comparable<GetAll> {
      */
     @Override
     public boolean equals(final Object other) {
-        return (other instanceof GetAll) && compareTo((GetAll) other) == 0;
+        if (other == this) {
+            return true;
+        } else if (!(other instanceof GetAll)) {
+            return false;
+        }
+        final GetAll that = (GetAll) other;
+        return hashCode() == that.hashCode() && compareTo(that) == 0;
     }
 
     /**
@@ -113,18 +218,25 @@ public class GetAll implements Model, HasDataType, Comparable<GetAll> {
      */
     @Override
     public int hashCode() {
-        final HashCodeBuilder hash = new HashCodeBuilder();
-        hash.append(getDataType().name());
-        hash.append(getActive());
-        return hash.toHashCode();
+        if (this.hashCode == 0) {
+            int hash = HashCodes.INITIAL;
+            hash = HashCodes.append(hash, getDataType().name());
+            hash = HashCodes.append(hash, getActive());
+            hash = HashCodes.append(hash, getAfterId());
+            hash = HashCodes.append(hash, getLimit());
+            this.hashCode = hash;
+        }
+        return this.hashCode;
     }
 
     /**
      * Used to create {@link GetAll} instances.
      */
-    public static class Builder implements ModelBuilder<GetAll> {
+    public static class Builder implements BinaryModelBuilder<GetAll> {
         private Optional<DataType> dataType = Optional.empty();
         private Optional<Boolean> active = Optional.empty();
+        private Optional<Integer> afterId = Optional.empty();
+        private Optional<Integer> limit = Optional.empty();
 
         /**
          * Default constructor.
@@ -132,6 +244,17 @@ public class GetAll implements Model, HasDataType, Comparable<GetAll> {
         public Builder() {
         }
 
+        /**
+         * @param other the {@link GetAll} to duplicate
+         */
+        public Builder(final GetAll other) {
+            Objects.requireNonNull(other);
+            this.dataType = Optional.of(other.getDataType());
+            this.active = other.getActive();
+            this.afterId = other.getAfterId();
+            this.limit = other.getLimit();
+        }
+
         /**
          * @param dataType the {@link DataType} describing the type of data for which this database request applies
          */
@@ -166,6 +289,44 @@ public class GetAll implements Model, HasDataType, Comparable<GetAll> {
             return setActive(Optional.of(active));
         }
 
+        /**
+         * @param afterId the cursor indicating only objects with a larger unique id should be retrieved (when
+         * present), or retrieval should start from the first object in the table (when empty)
+         * @return {@code this} for fluent-style usage
+         */
+        public Builder setAfterId(final Optional<Integer> afterId) {
+            this.afterId = Objects.requireNonNull(afterId);
+            return this;
+        }
+
+        /**
+         * @param afterId the cursor indicating only objects with a larger unique id should be retrieved
+         * @return {@code this} for fluent-style usage
+         */
+        public Builder setAfterId(final int afterId) {
+            return setAfterId(Optional.of(afterId));
+        }
+
+        /**
+         * @param limit the maximum number of objects to retrieve (when present), or all remaining objects should be
+         * retrieved (when empty)
+         * @return {@code this} for fluent-style usage
+         */
+        public Builder setLimit(final Optional<Integer> limit) {
+            Objects.requireNonNull(limit);
+            Preconditions.checkArgument(!limit.isPresent() || limit.get() > 0, "Limit must be positive");
+            this.limit = limit;
+            return this;
+        }
+
+        /**
+         * @param limit the maximum number of objects to retrieve
+         * @return {@code this} for fluent-style usage
+         */
+        public Builder setLimit(final int limit) {
+            return setLimit(Optional.of(limit));
+        }
+
         /**
          * {@inheritDoc}
          */
@@ -178,6 +339,65 @@ public class GetAll implements Model, HasDataType, Comparable<GetAll> {
             if (json.has("active")) {
                 setActive(json.getAsJsonPrimitive("active").getAsBoolean());
             }
+            if (json.has("afterId")) {
+                setAfterId(json.getAsJsonPrimitive("afterId").getAsInt());
+            }
+            if (json.has("limit")) {
+                setLimit(json.getAsJsonPrimitive("limit").getAsInt());
+            }
+            return this;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Builder fromJsonFields(final ManifestMapping mapping, final JsonReader reader) throws IOException {
+            while (reader.hasNext()) {
+                switch (reader.nextName()) {
+                    case "dataType":
+                        setDataType(DataType.valueOf(reader.nextString()));
+                        break;
+                    case "active":
+                        setActive(reader.nextBoolean());
+                        break;
+                    case "afterId":
+                        setAfterId(reader.nextInt());
+                        break;
+                    case "limit":
+                        setLimit(reader.nextInt());
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            }
+            return this;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Builder fromBinary(final ManifestMapping mapping, final BinaryReader reader) {
+            while (reader.hasRemaining()) {
+                final int tag = reader.readTag();
+                switch (BinaryReader.getFieldNumber(tag)) {
+                    case FIELD_DATA_TYPE:
+                        setDataType(DataType.valueOf(reader.readString()));
+                        break;
+                    case FIELD_ACTIVE:
+                        setActive(reader.readBoolean());
+                        break;
+                    case FIELD_AFTER_ID:
+                        setAfterId(reader.readVarInt());
+                        break;
+                    case FIELD_LIMIT:
+                        setLimit(reader.readVarInt());
+                        break;
+                    default:
+                        reader.skip(tag);
+                }
+            }
             return this;
         }
 
@@ -190,7 +410,7 @@ public class GetAll implements Model, HasDataType, Comparable<GetAll> {
                 throw new IllegalStateException("Data type is required");
             }
 
-            return new GetAll(this.dataType.get(), this.active);
+            return new GetAll(this.dataType.get(), this.active, this.afterId, this.limit);
         }
 
         /**
@@ -2,25 +2,26 @@ package mysystem.db.model;
 
 import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 
-import org.apache.commons.lang3.builder.CompareToBuilder;
-import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 import org.apache.commons.lang3.builder.ToStringStyle;
 
-import mysystem.common.model.Model;
-import mysystem.common.model.ModelBuilder;
+import mysystem.common.model.BinaryModel;
+import mysystem.common.model.BinaryModelBuilder;
+import mysystem.common.serialization.BinaryReader;
+import mysystem.common.serialization.BinaryWriter;
+import mysystem.common.serialization.JsonStreaming;
 import mysystem.common.serialization.ManifestMapping;
-import mysystem.common.util.CollectionComparator;
+import mysystem.common.util.HashCodes;
+import mysystem.common.util.IdSet;
 import mysystem.common.util.OptionalComparator;
 
-import java.util.Arrays;
+import java.io.IOException;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.SortedSet;
-import java.util.TreeSet;
 
 import javax.annotation.Nullable;
 
@@ -28,22 +29,29 @@ import javax.annotation.Nullable;
  * An immutable class that represents the information needed to fetch objects with specific unique ids from a table
  * in the database.
  */
-public class GetById implements Model, HasDataType, Comparable<GetById> {
+public class GetById implements BinaryModel, HasDataType, Comparable<GetById> {
     private final static String SERIALIZATION_MANIFEST = GetById.class.getSimpleName();
 
+    // The field numbers used in the binary format, which must never be reused for a different field.
+    private final static int FIELD_DATA_TYPE = 1;
+    private final static int FIELD_IDS = 2;
+    private final static int FIELD_ACTIVE = 3;
+
     private final DataType dataType;
-    private final SortedSet<Integer> ids;
+    private final IdSet ids;
     private final Optional<Boolean> active;
 
+    private int hashCode = 0;
+
     /**
      * @param dataType the type of data that should be retrieved using the request object
      * @param ids the unique identifiers of the objects to fetch
      * @param active return whether only active objects should be retrieved (present and true), or only inactive
      * objects (present and false), or all objects regardless (empty)
      */
-    private GetById(final DataType dataType, final SortedSet<Integer> ids, final Optional<Boolean> active) {
+    private GetById(final DataType dataType, final IdSet ids, final Optional<Boolean> active) {
         this.dataType = dataType;
-        this.ids = new TreeSet<>(ids);
+        this.ids = ids;
         this.active = active;
     }
 
@@ -64,10 +72,10 @@ public class GetById implements Model, HasDataType, Comparable<GetById> {
     }
 
     /**
-     * @return an unmodifiable set containing the unique identifiers of the objects to fetch
+     * @return an immutable set containing the unique identifiers of the objects to fetch
      */
-    public SortedSet<Integer> getIds() {
-        return Collections.unmodifiableSortedSet(this.ids);
+    public IdSet getIds() {
+        return this.ids;
     }
 
     /**
@@ -84,7 +92,7 @@ public class GetById implements Model, HasDataType, Comparable<GetById> {
     @Override
     public JsonObject toJson() {
         final JsonArray idsArr = new JsonArray();
-        getIds().forEach(idsArr::add);
+        getIds().forEachId(idsArr::add);
 
         final JsonObject json = new JsonObject();
         json.addProperty("dataType", getDataType().name());
@@ -96,6 +104,38 @@ public class GetById implements Model, HasDataType, Comparable<GetById> {
         return json;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void toJson(final JsonWriter writer) throws IOException {
+        writer.beginObject();
+        writer.name(JsonStreaming.MANIFEST).value(getSerializationManifest());
+        writer.name("dataType").value(getDataType().name());
+        if (getActive().isPresent()) {
+            writer.name("active").value(getActive().get());
+        }
+        writer.name("ids").beginArray();
+        final IdSet ids = getIds();
+        for (int index = 0; index < ids.size(); index++) {
+            writer.value(ids.get(index));
+        }
+        writer.endArray();
+        writer.endObject();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void writeBinary(final BinaryWriter writer) {
+        writer.writeStringField(FIELD_DATA_TYPE, getDataType().name());
+        writer.writePackedIntField(FIELD_IDS, getIds());
+        if (getActive().isPresent()) {
+            writer.writeBooleanField(FIELD_ACTIVE, getActive().get());
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -113,15 +153,20 @@ public class GetById implements Model, HasDataType, Comparable<GetById> {
      */
     @Override
     public int compareTo(@Nullable final GetById other) {
-        if (other == null) {
+        if (other == this) {
+            return 0;
+        } else if (other == null) {
             return 1;
         }
 
-        final CompareToBuilder cmp = new CompareToBuilder();
-        cmp.append(getDataType(), other.getDataType());
-        cmp.append(getIds(), other.getIds(), new CollectionComparator<Integer>());
-        cmp.append(getActive(), other.getActive(), new OptionalComparator<Boolean>());
-        return cmp.toComparison();
+        int cmp = getDataType().compareTo(other.getDataType());
+        if (cmp == 0) {
+            cmp = getIds().compareTo(other.getIds());
+        }
+        if (cmp == 0) {
+            cmp = OptionalComparator.compareValues(getActive(), other.getActive());
+        }
+        return cmp;
     }
 
     /**
@@ -129,7 +174,13 @@ public class GetById implements Model, HasDataType, Comparable<GetById> {
      */
     @Override
     public boolean equals(final Object other) {
-        return (other instanceof GetById) && compareTo((GetById) other) == 0;
+        if (other == this) {
+            return true;
+        } else if (!(other instanceof GetById)) {
+            return false;
+        }
+        final GetById that = (GetById) other;
+        return hashCode() == that.hashCode() && compareTo(that) == 0;
     }
 
     /**
@@ -137,20 +188,23 @@ public class GetById implements Model, HasDataType, Comparable<GetById> {
      */
     @Override
     public int hashCode() {
-        final HashCodeBuilder hash = new HashCodeBuilder();
-        hash.append(getDataType().name());
-        hash.append(getIds());
-        hash.append(getActive());
-        return hash.toHashCode();
+        if (this.hashCode == 0) {
+            int hash = HashCodes.INITIAL;
+            hash = HashCodes.append(hash, getDataType().name());
+            hash = HashCodes.append(hash, getIds());
+            hash = HashCodes.append(hash, getActive());
+            this.hashCode = hash;
+        }
+        return this.hashCode;
     }
 
     /**
      * Used to create {@link GetById} instances.
      */
-    public static class Builder implements ModelBuilder<GetById> {
+    public static class Builder implements BinaryModelBuilder<GetById> {
         private Optional<DataType> dataType = Optional.empty();
         private Optional<Boolean> active = Optional.empty();
-        private final SortedSet<Integer> ids = new TreeSet<>();
+        private final IdSet.Builder ids = new IdSet.Builder();
 
         /**
          * Default constructor.
@@ -169,8 +223,9 @@ public class GetById implements Model, HasDataType, Comparable<GetById> {
          * @param dataType the {@link DataType} describing the type of data for which this database request applies
          * @param ids the unique identifiers of the objects to fetch
          */
-        public Builder(final DataType dataType, final Integer... ids) {
-            this(dataType, Arrays.asList(Objects.requireNonNull(ids)));
+        public Builder(final DataType dataType, final int... ids) {
+            setDataType(dataType);
+            add(ids);
         }
 
         /**
@@ -195,8 +250,9 @@ public class GetById implements Model, HasDataType, Comparable<GetById> {
          * @param ids the unique identifiers of the objects to fetch
          * @return {@code this} for fluent-style usage
          */
-        public Builder add(final Integer... ids) {
-            return add(Arrays.asList(Objects.requireNonNull(ids)));
+        public Builder add(final int... ids) {
+            this.ids.add(Objects.requireNonNull(ids));
+            return this;
         }
 
         /**
@@ -204,7 +260,7 @@ public class GetById implements Model, HasDataType, Comparable<GetById> {
          * @return {@code this} for fluent-style usage
          */
         public Builder add(final Collection<Integer> ids) {
-            this.ids.addAll(Objects.requireNonNull(ids));
+            this.ids.add(Objects.requireNonNull(ids));
             return this;
         }
 
@@ -239,7 +295,58 @@ public class GetById implements Model, HasDataType, Comparable<GetById> {
                 setActive(json.getAsJsonPrimitive("active").getAsBoolean());
             }
             if (json.has("ids")) {
-                json.getAsJsonArray("ids").forEach(e -> add(e.getAsInt()));
+                json.getAsJsonArray("ids").forEach(e -> this.ids.add(e.getAsInt()));
+            }
+            return this;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Builder fromJsonFields(final ManifestMapping mapping, final JsonReader reader) throws IOException {
+            while (reader.hasNext()) {
+                switch (reader.nextName()) {
+                    case "dataType":
+                        setDataType(DataType.valueOf(reader.nextString()));
+                        break;
+                    case "active":
+                        setActive(reader.nextBoolean());
+                        break;
+                    case "ids":
+                        reader.beginArray();
+                        while (reader.hasNext()) {
+                            this.ids.add(reader.nextInt());
+                        }
+                        reader.endArray();
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            }
+            return this;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Builder fromBinary(final ManifestMapping mapping, final BinaryReader reader) {
+            while (reader.hasRemaining()) {
+                final int tag = reader.readTag();
+                switch (BinaryReader.getFieldNumber(tag)) {
+                    case FIELD_DATA_TYPE:
+                        setDataType(DataType.valueOf(reader.readString()));
+                        break;
+                    case FIELD_IDS:
+                        reader.readPackedInts(this.ids::add);
+                        break;
+                    case FIELD_ACTIVE:
+                        setActive(reader.readBoolean());
+                        break;
+                    default:
+                        reader.skip(tag);
+                }
             }
             return this;
         }
@@ -256,7 +363,7 @@ public class GetById implements Model, HasDataType, Comparable<GetById> {
                 throw new IllegalStateException("At least one id is required");
             }
 
-            return new GetById(this.dataType.get(), this.ids, this.active);
+            return new GetById(this.dataType.get(), this.ids.build(), this.active);
         }
 
         /**
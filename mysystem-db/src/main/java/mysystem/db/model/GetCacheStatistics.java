@@ -0,0 +1,174 @@
+package mysystem.db.model;
+
+import com.google.gson.JsonObject;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+
+import mysystem.common.model.Model;
+import mysystem.common.model.ModelBuilder;
+import mysystem.common.serialization.ManifestMapping;
+import mysystem.common.util.HashCodes;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import javax.annotation.Nullable;
+
+/**
+ * An immutable class that represents a request for the statistics of the model cache for a table in the database.
+ */
+public class GetCacheStatistics implements Model, HasDataType, Comparable<GetCacheStatistics> {
+    private final static String SERIALIZATION_MANIFEST = GetCacheStatistics.class.getSimpleName();
+
+    private final DataType dataType;
+
+    private int hashCode = 0;
+
+    /**
+     * @param dataType the type of data for which cache statistics should be retrieved
+     */
+    private GetCacheStatistics(final DataType dataType) {
+        this.dataType = dataType;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getSerializationManifest() {
+        return SERIALIZATION_MANIFEST;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public DataType getDataType() {
+        return this.dataType;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public JsonObject toJson() {
+        final JsonObject json = new JsonObject();
+        json.addProperty("dataType", getDataType().name());
+        json.addProperty("manifest", getSerializationManifest());
+        return json;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        final ToStringBuilder str = new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE);
+        str.append("dataType", getDataType());
+        return str.build();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int compareTo(@Nullable final GetCacheStatistics other) {
+        if (other == this) {
+            return 0;
+        } else if (other == null) {
+            return 1;
+        }
+
+        int cmp = getDataType().compareTo(other.getDataType());
+        return cmp;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(final Object other) {
+        if (other == this) {
+            return true;
+        } else if (!(other instanceof GetCacheStatistics)) {
+            return false;
+        }
+        final GetCacheStatistics getCacheStatistics = (GetCacheStatistics) other;
+        return hashCode() == getCacheStatistics.hashCode() && compareTo(getCacheStatistics) == 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        if (this.hashCode == 0) {
+            int hash = HashCodes.INITIAL;
+            hash = HashCodes.append(hash, getDataType().name());
+            this.hashCode = hash;
+        }
+        return this.hashCode;
+    }
+
+    /**
+     * Used to create {@link GetCacheStatistics} instances.
+     */
+    public static class Builder implements ModelBuilder<GetCacheStatistics> {
+        private Optional<DataType> dataType = Optional.empty();
+
+        /**
+         * Default constructor.
+         */
+        public Builder() {
+        }
+
+        /**
+         * @param dataType the {@link DataType} describing the type of data for which cache statistics are requested
+         */
+        public Builder(final DataType dataType) {
+            setDataType(dataType);
+        }
+
+        /**
+         * @param dataType the {@link DataType} describing the type of data for which cache statistics are requested
+         * @return {@code this} for fluent-style usage
+         */
+        public Builder setDataType(final DataType dataType) {
+            this.dataType = Optional.of(Objects.requireNonNull(dataType));
+            return this;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Builder fromJson(final ManifestMapping mapping, final JsonObject json) {
+            Objects.requireNonNull(json);
+            if (json.has("dataType")) {
+                setDataType(DataType.valueOf(json.getAsJsonPrimitive("dataType").getAsString()));
+            }
+            return this;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public GetCacheStatistics build() {
+            if (!this.dataType.isPresent()) {
+                throw new IllegalStateException("Data type is required");
+            }
+
+            return new GetCacheStatistics(this.dataType.get());
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String getSerializationManifest() {
+            return SERIALIZATION_MANIFEST;
+        }
+    }
+}
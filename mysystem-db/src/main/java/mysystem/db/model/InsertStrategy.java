@@ -0,0 +1,18 @@
+package mysystem.db.model;
+
+/**
+ * An enumeration describing the ways in which new model objects can be inserted into the database.
+ */
+public enum InsertStrategy {
+    /**
+     * Insert each model object with its own statement execution, committing each row individually.
+     */
+    PER_ROW,
+
+    /**
+     * Insert the model objects using JDBC batches of a configurable size, all within a single transaction.
+     */
+    BATCH,
+
+    ;
+}
@@ -2,40 +2,118 @@ package mysystem.db.model;
 
 import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 
-import org.apache.commons.lang3.builder.CompareToBuilder;
-import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 import org.apache.commons.lang3.builder.ToStringStyle;
 
+import mysystem.common.model.BinaryModel;
+import mysystem.common.model.BinaryModelBuilder;
+import mysystem.common.model.CompactModel;
+import mysystem.common.model.CompactModelBuilder;
+import mysystem.common.model.LazyModelBuilder;
+import mysystem.common.model.MemoizedModel;
 import mysystem.common.model.Model;
 import mysystem.common.model.ModelBuilder;
+import mysystem.common.serialization.BinaryReader;
+import mysystem.common.serialization.BinaryWriter;
+import mysystem.common.serialization.JsonStreaming;
 import mysystem.common.serialization.ManifestMapping;
+import mysystem.common.serialization.SerializedForm;
 import mysystem.common.util.CollectionComparator;
+import mysystem.common.util.HashCodes;
+import mysystem.common.util.OptionalComparator;
 
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.function.Supplier;
 
 import javax.annotation.Nullable;
 
 /**
- * An immutable class that represents the company objects retrieved from the database.
+ * An immutable class that represents the company objects retrieved from the database. When received from another node,
+ * the model objects are only decoded from the serialized bytes when first accessed, so that a node passing the
+ * collection on without inspecting it never decodes it, and sends it on using the bytes it was received with.
+ * <p>
+ * The model objects are held in an array in the order they were added, which for database results is the order of the
+ * rows returned, and are written in that order when serialized. Equality, ordering and the hash code are based on that
+ * same list, so two collections are equal exactly when they serialize the same model objects in the same order. The
+ * sorted and de-duplicated set returned by {@link #getModels()} is only built the first time it is requested, so
+ * collections that are only serialized, compared or iterated with {@link #getModelList()} never sort their model
+ * objects.
  */
-public class ModelCollection<M extends Model> implements Model, Comparable<ModelCollection<M>> {
+public class ModelCollection<M extends Model>
+        implements BinaryModel, CompactModel, MemoizedModel, Comparable<ModelCollection<M>> {
     private final static String SERIALIZATION_MANIFEST = ModelCollection.class.getSimpleName();
 
-    private final SortedSet<M> models = new TreeSet<>();
+    // The field numbers used in the binary format, which must never be reused for a different field.
+    private final static int FIELD_MODELS = 1;
+    private final static int FIELD_NEXT_AFTER_ID = 2;
+
+    // Only assigned after construction when decoded lazily, which happens before the decoder is cleared.
+    private List<M> models;
+    private Optional<Integer> nextAfterId;
+    private volatile Supplier<ModelCollection<M>> decoder;
+
+    // Built from the model objects the first time the sorted set is requested.
+    private volatile SortedSet<M> sortedModels = null;
+
+    // Computed lazily and retained, since this model object is immutable.
+    private final SerializedForm serializedForm;
+    private int hashCode = 0;
+
+    /**
+     * @param models the unmodifiable list of model objects retrieved from the database, which is not copied
+     * @param nextAfterId the cursor used to retrieve the next page of model objects, possibly empty
+     */
+    private ModelCollection(final List<M> models, final Optional<Integer> nextAfterId) {
+        this.models = models;
+        this.nextAfterId = nextAfterId;
+        this.decoder = null;
+        this.serializedForm = new SerializedForm();
+    }
+
+    /**
+     * @param serializedForm the {@link SerializedForm} holding the serialized bytes the collection was received with
+     * @param decoder used to decode the serialized bytes when the contents of the collection are first accessed
+     */
+    private ModelCollection(final SerializedForm serializedForm, final Supplier<ModelCollection<M>> decoder) {
+        this.serializedForm = Objects.requireNonNull(serializedForm);
+        this.decoder = Objects.requireNonNull(decoder);
+    }
 
     /**
-     * @param models the model objects retrieved from the database
+     * Decode the serialized bytes of a lazily received collection, if not already done.
      */
-    private ModelCollection(final SortedSet<M> models) {
-        this.models.addAll(models);
+    private void decode() {
+        if (this.decoder != null) {
+            synchronized (this) {
+                final Supplier<ModelCollection<M>> current = this.decoder;
+                if (current != null) {
+                    final ModelCollection<M> decoded = current.get();
+                    this.models = decoded.models;
+                    this.nextAfterId = decoded.nextAfterId;
+                    this.decoder = null;
+                }
+            }
+        }
+    }
+
+    /**
+     * @return whether the model objects in this collection are available, which is only false for a collection that
+     * was received lazily and has not been accessed yet
+     */
+    public boolean isDecoded() {
+        return this.decoder == null;
     }
 
     /**
@@ -47,10 +125,44 @@ public class ModelCollection<M extends Model> implements Model, Comparable<Model
     }
 
     /**
-     * @return an unmodifiable set containing the model objects retrieved from the database
+     * {@inheritDoc}
+     */
+    @Override
+    public SerializedForm getSerializedForm() {
+        return this.serializedForm;
+    }
+
+    /**
+     * @return an unmodifiable set containing the model objects retrieved from the database, sorted and without
+     * duplicates, which is built when first requested
      */
     public SortedSet<M> getModels() {
-        return Collections.unmodifiableSortedSet(this.models);
+        decode();
+        SortedSet<M> sorted = this.sortedModels;
+        if (sorted == null) {
+            // Concurrent callers may each build the set, but all of them build an equal set.
+            sorted = Collections.unmodifiableSortedSet(new TreeSet<>(this.models));
+            this.sortedModels = sorted;
+        }
+        return sorted;
+    }
+
+    /**
+     * @return an unmodifiable list containing the model objects retrieved from the database, in the order they were
+     * added to the collection, without sorting them or removing duplicates
+     */
+    public List<M> getModelList() {
+        decode();
+        return this.models;
+    }
+
+    /**
+     * @return the cursor to provide as the {@code afterId} of a {@link GetAll} request to retrieve the next page of
+     * model objects, or empty when there are no more model objects to retrieve
+     */
+    public Optional<Integer> getNextAfterId() {
+        decode();
+        return this.nextAfterId;
     }
 
     /**
@@ -59,21 +171,68 @@ public class ModelCollection<M extends Model> implements Model, Comparable<Model
     @Override
     public JsonObject toJson() {
         final JsonArray modelArr = new JsonArray();
-        getModels().forEach(m -> modelArr.add(m.toJson()));
+        getModelList().forEach(m -> modelArr.add(m.toJson()));
 
         final JsonObject json = new JsonObject();
         json.add("models", modelArr);
+        if (getNextAfterId().isPresent()) {
+            json.addProperty("nextAfterId", getNextAfterId().get());
+        }
         json.addProperty("manifest", getSerializationManifest());
         return json;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void toJson(final JsonWriter writer) throws IOException {
+        writer.beginObject();
+        writer.name(JsonStreaming.MANIFEST).value(getSerializationManifest());
+        writer.name("models").beginArray();
+        for (final M model : getModelList()) {
+            model.toJson(writer);
+        }
+        writer.endArray();
+        if (getNextAfterId().isPresent()) {
+            writer.name("nextAfterId").value(getNextAfterId().get());
+        }
+        writer.endObject();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void toCompactJson(final JsonWriter writer) throws IOException {
+        writer.beginObject();
+        writer.name(JsonStreaming.MANIFEST).value(getSerializationManifest());
+        JsonStreaming.writeCompactModels(writer, "models", getModelList());
+        if (getNextAfterId().isPresent()) {
+            writer.name("nextAfterId").value(getNextAfterId().get());
+        }
+        writer.endObject();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void writeBinary(final BinaryWriter writer) {
+        getModelList().forEach(model -> writer.writeModelField(FIELD_MODELS, model));
+        if (getNextAfterId().isPresent()) {
+            writer.writeIntField(FIELD_NEXT_AFTER_ID, getNextAfterId().get());
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public String toString() {
         final ToStringBuilder str = new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE);
-        str.append("models", getModels());
+        str.append("models", getModelList());
+        str.append("nextAfterId", getNextAfterId());
         return str.build();
     }
 
@@ -82,13 +241,17 @@ public class ModelCollection<M extends Model> implements Model, Comparable<Model
      */
     @Override
     public int compareTo(@Nullable final ModelCollection other) {
-        if (other == null) {
+        if (other == this) {
+            return 0;
+        } else if (other == null) {
             return 1;
         }
 
-        final CompareToBuilder cmp = new CompareToBuilder();
-        cmp.append(getModels(), other.getModels(), new CollectionComparator<M>());
-        return cmp.toComparison();
+        int cmp = CollectionComparator.compareValues(getModelList(), other.getModelList());
+        if (cmp == 0) {
+            cmp = OptionalComparator.compareValues(getNextAfterId(), other.getNextAfterId());
+        }
+        return cmp;
     }
 
     /**
@@ -96,7 +259,13 @@ public class ModelCollection<M extends Model> implements Model, Comparable<Model
      */
     @Override
     public boolean equals(final Object other) {
-        return (other instanceof ModelCollection) && compareTo((ModelCollection) other) == 0;
+        if (other == this) {
+            return true;
+        } else if (!(other instanceof ModelCollection)) {
+            return false;
+        }
+        final ModelCollection<?> that = (ModelCollection<?>) other;
+        return hashCode() == that.hashCode() && compareTo(that) == 0;
     }
 
     /**
@@ -104,16 +273,24 @@ public class ModelCollection<M extends Model> implements Model, Comparable<Model
      */
     @Override
     public int hashCode() {
-        final HashCodeBuilder hash = new HashCodeBuilder();
-        hash.append(getModels());
-        return hash.toHashCode();
+        if (this.hashCode == 0) {
+            int hash = HashCodes.INITIAL;
+            hash = HashCodes.append(hash, getModelList());
+            hash = HashCodes.append(hash, getNextAfterId());
+            this.hashCode = hash;
+        }
+        return this.hashCode;
     }
 
     /**
-     * Used to create {@link ModelCollection} instances.
+     * Used to create {@link ModelCollection} instances. The model objects are collected in an array-backed list that
+     * is handed to the built collection without copying, and only copied if more model objects are added afterwards.
      */
-    public static class Builder<M extends Model> implements ModelBuilder<ModelCollection<M>> {
-        private final SortedSet<M> models = new TreeSet<>();
+    public static class Builder<M extends Model> implements BinaryModelBuilder<ModelCollection<M>>,
+            CompactModelBuilder<ModelCollection<M>>, LazyModelBuilder<ModelCollection<M>> {
+        private List<M> models = new ArrayList<>();
+        private boolean shared = false;
+        private Optional<Integer> nextAfterId = Optional.empty();
 
         /**
          * Default constructor.
@@ -150,10 +327,67 @@ public class ModelCollection<M extends Model> implements Model, Comparable<Model
          * @return {@code this} for fluent-style usage
          */
         public Builder<M> add(final Collection<M> models) {
-            this.models.addAll(Objects.requireNonNull(models));
+            getModifiableModels().addAll(Objects.requireNonNull(models));
             return this;
         }
 
+        /**
+         * @param model the model object retrieved from the database
+         * @return {@code this} for fluent-style usage
+         */
+        public Builder<M> add(final M model) {
+            getModifiableModels().add(Objects.requireNonNull(model));
+            return this;
+        }
+
+        /**
+         * @param models the list of model objects retrieved from the database, which replaces any model objects
+         * already added and is copied, so the caller may continue to modify the list afterwards
+         * @return {@code this} for fluent-style usage
+         */
+        public Builder<M> setModels(final List<M> models) {
+            this.models = new ArrayList<>(Objects.requireNonNull(models));
+            this.shared = false;
+            return this;
+        }
+
+        /**
+         * @param expectedSize the number of model objects expected to be added, used to size the list up front
+         * @return {@code this} for fluent-style usage
+         */
+        public Builder<M> setExpectedSize(final int expectedSize) {
+            if (!this.shared && this.models instanceof ArrayList) {
+                ((ArrayList<M>) this.models).ensureCapacity(expectedSize);
+            }
+            return this;
+        }
+
+        private List<M> getModifiableModels() {
+            if (this.shared) {
+                this.models = new ArrayList<>(this.models);
+                this.shared = false;
+            }
+            return this.models;
+        }
+
+        /**
+         * @param nextAfterId the cursor used to retrieve the next page of model objects (when present), or empty when
+         * there are no more model objects to retrieve
+         * @return {@code this} for fluent-style usage
+         */
+        public Builder<M> setNextAfterId(final Optional<Integer> nextAfterId) {
+            this.nextAfterId = Objects.requireNonNull(nextAfterId);
+            return this;
+        }
+
+        /**
+         * @param nextAfterId the cursor used to retrieve the next page of model objects
+         * @return {@code this} for fluent-style usage
+         */
+        public Builder<M> setNextAfterId(final int nextAfterId) {
+            return setNextAfterId(Optional.of(nextAfterId));
+        }
+
         /**
          * {@inheritDoc}
          */
@@ -171,6 +405,69 @@ public class ModelCollection<M extends Model> implements Model, Comparable<Model
                     }
                 });
             }
+            if (json.has("nextAfterId")) {
+                setNextAfterId(json.getAsJsonPrimitive("nextAfterId").getAsInt());
+            }
+            return this;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        @SuppressWarnings("unchecked")
+        public Builder<M> fromJsonFields(final ManifestMapping mapping, final JsonReader reader) throws IOException {
+            Optional<String> elements = Optional.empty();
+            while (reader.hasNext()) {
+                switch (reader.nextName()) {
+                    case JsonStreaming.ELEMENTS:
+                        elements = Optional.of(reader.nextString());
+                        break;
+                    case "models":
+                        JsonStreaming.readCompactModels(mapping, elements, reader, model -> add((M) model));
+                        break;
+                    case "nextAfterId":
+                        setNextAfterId(reader.nextInt());
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            }
+            return this;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Builder<M> fromCompactJson(final ManifestMapping mapping, final JsonReader reader)
+                throws IOException {
+            // The compact format only differs in how the elements are written, which the regular fields support.
+            reader.beginObject();
+            fromJsonFields(mapping, reader);
+            reader.endObject();
+            return this;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        @SuppressWarnings("unchecked")
+        public Builder<M> fromBinary(final ManifestMapping mapping, final BinaryReader reader) {
+            while (reader.hasRemaining()) {
+                final int tag = reader.readTag();
+                switch (BinaryReader.getFieldNumber(tag)) {
+                    case FIELD_MODELS:
+                        reader.readModelField(mapping).ifPresent(model -> add((M) model));
+                        break;
+                    case FIELD_NEXT_AFTER_ID:
+                        setNextAfterId(reader.readVarInt());
+                        break;
+                    default:
+                        reader.skip(tag);
+                }
+            }
             return this;
         }
 
@@ -179,7 +476,18 @@ public class ModelCollection<M extends Model> implements Model, Comparable<Model
          */
         @Override
         public ModelCollection<M> build() {
-            return new ModelCollection<>(this.models);
+            // The list is shared with the built collection, so any further additions go to a copy.
+            this.shared = true;
+            return new ModelCollection<>(Collections.unmodifiableList(this.models), this.nextAfterId);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public ModelCollection<M> buildLazily(
+                final SerializedForm serializedForm, final Supplier<ModelCollection<M>> decoder) {
+            return new ModelCollection<>(serializedForm, decoder);
         }
 
         /**
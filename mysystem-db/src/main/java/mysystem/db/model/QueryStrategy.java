@@ -0,0 +1,19 @@
+package mysystem.db.model;
+
+/**
+ * An enumeration describing the ways in which model objects can be fetched from the database by unique identifier.
+ */
+public enum QueryStrategy {
+    /**
+     * Execute one query for each requested unique identifier. This is available as a fallback for drivers that do not
+     * handle large {@code IN} lists well.
+     */
+    PER_ID,
+
+    /**
+     * Execute one query for each chunk of requested unique identifiers using a {@code WHERE id IN (...)} clause.
+     */
+    IN_LIST,
+
+    ;
+}
@@ -0,0 +1,24 @@
+package mysystem.db.model;
+
+/**
+ * An enumeration describing the routing logic used to distribute messages across a pool of database actors.
+ */
+public enum RouterType {
+    /**
+     * Send each message to the next actor in the pool.
+     */
+    ROUND_ROBIN,
+
+    /**
+     * Send each message to the actor in the pool with the fewest messages in its mailbox.
+     */
+    SMALLEST_MAILBOX,
+
+    /**
+     * Send each message to an actor in the pool chosen by the unique identifiers in the message, so requests for the
+     * same identifiers are always processed by the same actor.
+     */
+    CONSISTENT_HASHING,
+
+    ;
+}
@@ -0,0 +1,103 @@
+package mysystem.db.model;
+
+import com.google.gson.JsonObject;
+
+import mysystem.common.model.Model;
+import mysystem.common.model.ModelBuilder;
+import mysystem.common.serialization.ManifestMapping;
+
+import javax.annotation.Nullable;
+
+/**
+ * An immutable object sent by the requester of a {@link StreamAll} to the sender of a chunk, indicating that the
+ * chunk has been processed and the next chunk should be sent.
+ */
+public class StreamAck implements Model, Comparable<StreamAck> {
+    private final static String SERIALIZATION_MANIFEST = StreamAck.class.getSimpleName();
+
+    /**
+     * Default constructor.
+     */
+    private StreamAck() {
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getSerializationManifest() {
+        return SERIALIZATION_MANIFEST;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public JsonObject toJson() {
+        final JsonObject json = new JsonObject();
+        json.addProperty("manifest", getSerializationManifest());
+        return json;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return getClass().getName();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int compareTo(@Nullable final StreamAck other) {
+        return (other == null) ? 1 : 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(final Object other) {
+        return other instanceof StreamAck;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return getClass().getName().hashCode();
+    }
+
+    /**
+     * Used to create {@link StreamAck} objects.
+     */
+    public static class Builder implements ModelBuilder<StreamAck> {
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Builder fromJson(final ManifestMapping mapping, final JsonObject json) {
+            // No need to do anything with the json object.
+            return this;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public StreamAck build() {
+            return new StreamAck();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String getSerializationManifest() {
+            return SERIALIZATION_MANIFEST;
+        }
+    }
+}
@@ -0,0 +1,253 @@
+package mysystem.db.model;
+
+import com.google.common.base.Preconditions;
+import com.google.gson.JsonObject;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+
+import mysystem.common.model.Model;
+import mysystem.common.model.ModelBuilder;
+import mysystem.common.serialization.ManifestMapping;
+import mysystem.common.util.HashCodes;
+import mysystem.common.util.OptionalComparator;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import javax.annotation.Nullable;
+
+/**
+ * An immutable class that represents the information needed to stream all objects from a table in the database. The
+ * objects are sent back as a sequence of {@link ModelCollection} chunks, each of which must be acknowledged with a
+ * {@link StreamAck} sent to the sender of the chunk before the next chunk is sent, followed by a
+ * {@link StreamComplete} once all of the objects have been sent.
+ */
+public class StreamAll implements Model, HasDataType, Comparable<StreamAll> {
+    private final static String SERIALIZATION_MANIFEST = StreamAll.class.getSimpleName();
+
+    private final DataType dataType;
+    private final Optional<Boolean> active;
+    private final Optional<Integer> chunkSize;
+
+    private int hashCode = 0;
+
+    /**
+     * @param dataType the type of data that should be retrieved using the request object
+     * @param active return whether only active objects should be retrieved (present and true), or only inactive
+     * objects (present and false), or all objects regardless (empty)
+     * @param chunkSize the maximum number of objects to include in each chunk, possibly empty
+     */
+    private StreamAll(final DataType dataType, final Optional<Boolean> active, final Optional<Integer> chunkSize) {
+        this.dataType = dataType;
+        this.active = active;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getSerializationManifest() {
+        return SERIALIZATION_MANIFEST;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public DataType getDataType() {
+        return this.dataType;
+    }
+
+    /**
+     * @return whether only active objects should be retrieved (present and true), or only inactive objects (present
+     * and false), or all objects regardless (empty)
+     */
+    public Optional<Boolean> getActive() {
+        return this.active;
+    }
+
+    /**
+     * @return the maximum number of objects to include in each chunk, or empty to use the configured default
+     */
+    public Optional<Integer> getChunkSize() {
+        return this.chunkSize;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public JsonObject toJson() {
+        final JsonObject json = new JsonObject();
+        json.addProperty("dataType", getDataType().name());
+        if (getActive().isPresent()) {
+            json.addProperty("active", getActive().get());
+        }
+        if (getChunkSize().isPresent()) {
+            json.addProperty("chunkSize", getChunkSize().get());
+        }
+        json.addProperty("manifest", getSerializationManifest());
+        return json;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        final ToStringBuilder str = new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE);
+        str.append("dataType", getDataType());
+        str.append("active", getActive());
+        str.append("chunkSize", getChunkSize());
+        return str.build();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int compareTo(@Nullable final StreamAll other) {
+        if (other == this) {
+            return 0;
+        } else if (other == null) {
+            return 1;
+        }
+
+        int cmp = getDataType().compareTo(other.getDataType());
+        if (cmp == 0) {
+            cmp = OptionalComparator.compareValues(getActive(), other.getActive());
+        }
+        if (cmp == 0) {
+            cmp = OptionalComparator.compareValues(getChunkSize(), other.getChunkSize());
+        }
+        return cmp;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(final Object other) {
+        if (other == this) {
+            return true;
+        } else if (!(other instanceof StreamAll)) {
+            return false;
+        }
+        final StreamAll streamAll = (StreamAll) other;
+        return hashCode() == streamAll.hashCode() && compareTo(streamAll) == 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        if (this.hashCode == 0) {
+            int hash = HashCodes.INITIAL;
+            hash = HashCodes.append(hash, getDataType().name());
+            hash = HashCodes.append(hash, getActive());
+            hash = HashCodes.append(hash, getChunkSize());
+            this.hashCode = hash;
+        }
+        return this.hashCode;
+    }
+
+    /**
+     * Used to create {@link StreamAll} instances.
+     */
+    public static class Builder implements ModelBuilder<StreamAll> {
+        private Optional<DataType> dataType = Optional.empty();
+        private Optional<Boolean> active = Optional.empty();
+        private Optional<Integer> chunkSize = Optional.empty();
+
+        /**
+         * Default constructor.
+         */
+        public Builder() {
+        }
+
+        /**
+         * @param dataType the {@link DataType} describing the type of data for which this database request applies
+         */
+        public Builder(final DataType dataType) {
+            setDataType(dataType);
+        }
+
+        /**
+         * @param dataType the {@link DataType} describing the type of data for which this database request applies
+         * @return {@code this} for fluent-style usage
+         */
+        public Builder setDataType(final DataType dataType) {
+            this.dataType = Optional.of(Objects.requireNonNull(dataType));
+            return this;
+        }
+
+        /**
+         * @param active the new value indicating whether only active or inactive objects should be retrieved (when
+         * present), or all values should be retrieved (when empty)
+         * @return {@code this} for fluent-style usage
+         */
+        public Builder setActive(final Optional<Boolean> active) {
+            this.active = Objects.requireNonNull(active);
+            return this;
+        }
+
+        /**
+         * @param active the new value indicating whether only active or inactive objects should be retrieved
+         * @return {@code this} for fluent-style usage
+         */
+        public Builder setActive(final boolean active) {
+            return setActive(Optional.of(active));
+        }
+
+        /**
+         * @param chunkSize the maximum number of objects to include in each chunk
+         * @return {@code this} for fluent-style usage
+         */
+        public Builder setChunkSize(final int chunkSize) {
+            Preconditions.checkArgument(chunkSize > 0, "Chunk size must be positive");
+            this.chunkSize = Optional.of(chunkSize);
+            return this;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Builder fromJson(final ManifestMapping mapping, final JsonObject json) {
+            Objects.requireNonNull(json);
+            if (json.has("dataType")) {
+                setDataType(DataType.valueOf(json.getAsJsonPrimitive("dataType").getAsString()));
+            }
+            if (json.has("active")) {
+                setActive(json.getAsJsonPrimitive("active").getAsBoolean());
+            }
+            if (json.has("chunkSize")) {
+                setChunkSize(json.getAsJsonPrimitive("chunkSize").getAsInt());
+            }
+            return this;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public StreamAll build() {
+            if (!this.dataType.isPresent()) {
+                throw new IllegalStateException("Data type is required");
+            }
+
+            return new StreamAll(this.dataType.get(), this.active, this.chunkSize);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String getSerializationManifest() {
+            return SERIALIZATION_MANIFEST;
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package mysystem.db.model;
+
+import com.google.common.base.Preconditions;
+import com.google.gson.JsonObject;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+
+import mysystem.common.model.Model;
+import mysystem.common.model.ModelBuilder;
+import mysystem.common.serialization.ManifestMapping;
+import mysystem.common.util.HashCodes;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import javax.annotation.Nullable;
+
+/**
+ * An immutable object sent to the requester of a {@link StreamAll} after the last chunk, indicating that all of the
+ * objects have been sent.
+ */
+public class StreamComplete implements Model, Comparable<StreamComplete> {
+    private final static String SERIALIZATION_MANIFEST = StreamComplete.class.getSimpleName();
+
+    private final long count;
+
+    private int hashCode = 0;
+
+    /**
+     * @param count the total number of objects sent across all of the chunks in the stream
+     */
+    private StreamComplete(final long count) {
+        this.count = count;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getSerializationManifest() {
+        return SERIALIZATION_MANIFEST;
+    }
+
+    /**
+     * @return the total number of objects sent across all of the chunks in the stream
+     */
+    public long getCount() {
+        return this.count;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public JsonObject toJson() {
+        final JsonObject json = new JsonObject();
+        json.addProperty("count", getCount());
+        json.addProperty("manifest", getSerializationManifest());
+        return json;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        final ToStringBuilder str = new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE);
+        str.append("count", getCount());
+        return str.build();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int compareTo(@Nullable final StreamComplete other) {
+        if (other == this) {
+            return 0;
+        } else if (other == null) {
+            return 1;
+        }
+
+        int cmp = Long.compare(getCount(), other.getCount());
+        return cmp;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(final Object other) {
+        if (other == this) {
+            return true;
+        } else if (!(other instanceof StreamComplete)) {
+            return false;
+        }
+        final StreamComplete streamComplete = (StreamComplete) other;
+        return hashCode() == streamComplete.hashCode() && compareTo(streamComplete) == 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        if (this.hashCode == 0) {
+            int hash = HashCodes.INITIAL;
+            hash = HashCodes.append(hash, getCount());
+            this.hashCode = hash;
+        }
+        return this.hashCode;
+    }
+
+    /**
+     * Used to create {@link StreamComplete} instances.
+     */
+    public static class Builder implements ModelBuilder<StreamComplete> {
+        private Optional<Long> count = Optional.empty();
+
+        /**
+         * Default constructor.
+         */
+        public Builder() {
+        }
+
+        /**
+         * @param count the total number of objects sent across all of the chunks in the stream
+         */
+        public Builder(final long count) {
+            setCount(count);
+        }
+
+        /**
+         * @param count the total number of objects sent across all of the chunks in the stream
+         * @return {@code this} for fluent-style usage
+         */
+        public Builder setCount(final long count) {
+            Preconditions.checkArgument(count >= 0, "Count must not be negative");
+            this.count = Optional.of(count);
+            return this;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Builder fromJson(final ManifestMapping mapping, final JsonObject json) {
+            Objects.requireNonNull(json);
+            if (json.has("count")) {
+                setCount(json.getAsJsonPrimitive("count").getAsLong());
+            }
+            return this;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public StreamComplete build() {
+            if (!this.count.isPresent()) {
+                throw new IllegalStateException("Count is required");
+            }
+
+            return new StreamComplete(this.count.get());
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String getSerializationManifest() {
+            return SERIALIZATION_MANIFEST;
+        }
+    }
+}
@@ -20,6 +20,7 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.sql.DataSource;
 
@@ -104,7 +105,8 @@ public class TestDatabase {
         final PreparedStatement preparedStatement = Mockito.mock(PreparedStatement.class);
         Mockito.when(preparedStatement.executeQuery()).thenReturn(resultSet);
         Mockito.when(preparedStatement.executeUpdate()).thenReturn(1);
-        Mockito.when(preparedStatement.getGeneratedKeys()).thenReturn(resultSet);
+        final ResultSet generatedKeys = getMockGeneratedKeys(1);
+        Mockito.when(preparedStatement.getGeneratedKeys()).thenReturn(generatedKeys);
         final Connection connection = Mockito.mock(Connection.class);
         Mockito.when(connection.prepareStatement(Mockito.anyString())).thenReturn(preparedStatement);
         Mockito.when(connection.prepareStatement(Mockito.anyString(), Matchers.eq(Statement.RETURN_GENERATED_KEYS)))
@@ -121,7 +123,8 @@ public class TestDatabase {
         final PreparedStatement preparedStatement = Mockito.mock(PreparedStatement.class);
         Mockito.when(preparedStatement.executeQuery()).thenReturn(resultSet);
         Mockito.when(preparedStatement.executeUpdate()).thenReturn(1);
-        Mockito.when(preparedStatement.getGeneratedKeys()).thenReturn(resultSet);
+        final ResultSet generatedKeys = getMockGeneratedKeys(1);
+        Mockito.when(preparedStatement.getGeneratedKeys()).thenReturn(generatedKeys);
         Mockito.doThrow(new SQLException("preparedStatement.close failed")).when(preparedStatement).close();
         final Connection connection = Mockito.mock(Connection.class);
         Mockito.when(connection.prepareStatement(Mockito.anyString())).thenReturn(preparedStatement);
@@ -139,7 +142,9 @@ public class TestDatabase {
         final PreparedStatement preparedStatement = Mockito.mock(PreparedStatement.class);
         Mockito.when(preparedStatement.executeQuery()).thenReturn(resultSet);
         Mockito.when(preparedStatement.executeUpdate()).thenReturn(1);
-        Mockito.when(preparedStatement.getGeneratedKeys()).thenReturn(resultSet);
+        final ResultSet generatedKeys = getMockGeneratedKeys(1);
+        Mockito.doThrow(new SQLException("resultSet.close failed")).when(generatedKeys).close();
+        Mockito.when(preparedStatement.getGeneratedKeys()).thenReturn(generatedKeys);
         final Connection connection = Mockito.mock(Connection.class);
         Mockito.when(connection.prepareStatement(Mockito.anyString())).thenReturn(preparedStatement);
         Mockito.when(connection.prepareStatement(Mockito.anyString(), Matchers.eq(Statement.RETURN_GENERATED_KEYS)))
@@ -149,6 +154,29 @@ public class TestDatabase {
         return dataSource;
     }
 
+    public static DataSource getMockDataSourceTooFewGeneratedKeys(final int keys) throws SQLException {
+        final PreparedStatement preparedStatement = Mockito.mock(PreparedStatement.class);
+        Mockito.when(preparedStatement.executeBatch()).thenReturn(new int[0]);
+        final ResultSet generatedKeys = getMockGeneratedKeys(keys);
+        Mockito.when(preparedStatement.getGeneratedKeys()).thenReturn(generatedKeys);
+        final Connection connection = Mockito.mock(Connection.class);
+        Mockito.when(connection.getAutoCommit()).thenReturn(true);
+        Mockito.when(connection.prepareStatement(Mockito.anyString(), Matchers.eq(Statement.RETURN_GENERATED_KEYS)))
+                .thenReturn(preparedStatement);
+        final DataSource dataSource = Mockito.mock(DataSource.class);
+        Mockito.when(dataSource.getConnection()).thenReturn(connection);
+        return dataSource;
+    }
+
+    private static ResultSet getMockGeneratedKeys(final int keys) throws SQLException {
+        // Returns the generated keys 1 through the specified number of keys, one for each row.
+        final AtomicInteger row = new AtomicInteger();
+        final ResultSet generatedKeys = Mockito.mock(ResultSet.class);
+        Mockito.when(generatedKeys.next()).thenAnswer(invocation -> row.incrementAndGet() <= keys);
+        Mockito.when(generatedKeys.getInt(1)).thenAnswer(invocation -> row.get());
+        return generatedKeys;
+    }
+
     /**
      * @param fileOrResource the file path or class path resource of the SQL schema to load
      * @throws IOException if there is a problem loading the schema from the configuration file
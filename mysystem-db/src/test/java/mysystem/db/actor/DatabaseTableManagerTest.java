@@ -1,31 +1,72 @@
 package mysystem.db.actor;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
 import com.typesafe.config.Config;
 import com.typesafe.config.ConfigFactory;
 import com.typesafe.config.ConfigValue;
 import com.typesafe.config.ConfigValueFactory;
 
+import org.apache.commons.lang3.RandomStringUtils;
 import org.hsqldb.jdbc.JDBCDriver;
 import org.junit.Test;
 import org.mockito.Mockito;
 
 import akka.actor.ActorRef;
 import akka.actor.ActorSystem;
+import akka.actor.Address;
+import akka.actor.ExtendedActorSystem;
 import akka.actor.PoisonPill;
 import akka.actor.Props;
+import akka.actor.UntypedActor;
 import akka.pattern.CircuitBreaker;
+import akka.pattern.Patterns;
 import akka.testkit.JavaTestKit;
+import akka.testkit.TestActorRef;
+import mysystem.common.actor.ChunkReassembler;
+import mysystem.common.config.CommonConfig;
 import mysystem.common.model.Company;
+import mysystem.db.TestDatabase;
+import mysystem.db.actor.company.AddActor;
+import mysystem.db.actor.company.DeleteActor;
 import mysystem.db.actor.company.GetActor;
 import mysystem.db.config.DatabaseConfig;
 import mysystem.db.model.Add;
+import mysystem.db.model.CacheStatistics;
 import mysystem.db.model.DataType;
 import mysystem.db.model.DatabaseManagerConfig;
+import mysystem.db.model.DeleteById;
+import mysystem.db.model.DeleteResult;
+import mysystem.db.model.ExistenceFilterStatistics;
 import mysystem.db.model.GetAll;
 import mysystem.db.model.GetById;
+import mysystem.db.model.GetCacheStatistics;
+import mysystem.db.model.GetExistenceFilterStatistics;
+import mysystem.db.model.ModelCollection;
+import mysystem.db.model.RouterType;
+import scala.concurrent.Await;
+import scala.concurrent.ExecutionContextExecutor;
+import scala.concurrent.duration.FiniteDuration;
 
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import javax.sql.DataSource;
 
@@ -33,6 +74,51 @@ import javax.sql.DataSource;
  * Perform testing of the {@link DatabaseTableManager} class.
  */
 public class DatabaseTableManagerTest {
+    private final static CountDownLatch SLOW_GET_QUERIED = new CountDownLatch(1);
+    private final static String SLOW_GET_RELEASE = "release";
+
+    /**
+     * Runs the first {@link GetById} query right away, but holds its response until released.
+     */
+    public static class SlowGetActor extends UntypedActor {
+        private final ActorRef getActor;
+        private Optional<ActorRef> requester = Optional.empty();
+        private Optional<Object> response = Optional.empty();
+        private boolean released = false;
+
+        public SlowGetActor(
+                final DataSource dataSource, final CircuitBreaker circuitBreaker,
+                final ExecutionContextExecutor executionContext) {
+            this.getActor =
+                    context().actorOf(Props.create(GetActor.class, dataSource, circuitBreaker, executionContext));
+        }
+
+        @Override
+        public void onReceive(final Object message) {
+            if (message instanceof GetById && !this.requester.isPresent()) {
+                this.requester = Optional.of(sender());
+                Patterns.pipe(Patterns.ask(this.getActor, message, 5000), context().dispatcher()).to(self());
+            } else if (message instanceof GetById) {
+                this.getActor.forward(message, context());
+            } else if (message instanceof ModelCollection) {
+                this.response = Optional.of(message);
+                SLOW_GET_QUERIED.countDown();
+                reply();
+            } else if (SLOW_GET_RELEASE.equals(message)) {
+                this.released = true;
+                reply();
+            } else {
+                unhandled(message);
+            }
+        }
+
+        private void reply() {
+            if (this.released && this.response.isPresent()) {
+                this.requester.get().tell(this.response.get(), self());
+            }
+        }
+    }
+
     private static Config getConfig() {
         return getActorConfig().withFallback(getDatabaseConfig()).withFallback(ConfigFactory.load("test-config"));
     }
@@ -50,6 +136,35 @@ public class DatabaseTableManagerTest {
         return ConfigFactory.parseMap(map);
     }
 
+    private static Config getPooledActorConfig() {
+        final Map<String, ConfigValue> map = new HashMap<>();
+        map.put("actors.get-by-id.pool-size", ConfigValueFactory.fromAnyRef(2));
+        map.put("actors.get-by-id.router-type", ConfigValueFactory.fromAnyRef(RouterType.CONSISTENT_HASHING.name()));
+        map.put("actors.get-all.pool-size", ConfigValueFactory.fromAnyRef(2));
+        map.put("actors.get-all.router-type", ConfigValueFactory.fromAnyRef(RouterType.SMALLEST_MAILBOX.name()));
+        return ConfigFactory.parseMap(map).withFallback(getActorConfig());
+    }
+
+    private static Config getCachedActorConfig() {
+        final Map<String, ConfigValue> map = new HashMap<>();
+        map.put("cache.max-size", ConfigValueFactory.fromAnyRef(100));
+        map.put("result-cache.max-staleness", ConfigValueFactory.fromAnyRef("1 m"));
+        map.put("actors.add.actor-class", ConfigValueFactory.fromAnyRef(AddActor.class.getName()));
+        map.put("actors.add.message-class", ConfigValueFactory.fromAnyRef(Add.class.getName()));
+        map.put("actors.delete-by-id.actor-class", ConfigValueFactory.fromAnyRef(DeleteActor.class.getName()));
+        map.put("actors.delete-by-id.message-class", ConfigValueFactory.fromAnyRef(DeleteById.class.getName()));
+        return ConfigFactory.parseMap(map).withFallback(getActorConfig());
+    }
+
+    private static Config getFilteredActorConfig() {
+        final Map<String, ConfigValue> map = new HashMap<>();
+        map.put("existence-filter.expected-size", ConfigValueFactory.fromAnyRef(1000));
+        map.put("existence-filter.rebuild-interval", ConfigValueFactory.fromAnyRef("1 h"));
+        map.put("actors.add.actor-class", ConfigValueFactory.fromAnyRef(AddActor.class.getName()));
+        map.put("actors.add.message-class", ConfigValueFactory.fromAnyRef(Add.class.getName()));
+        return ConfigFactory.parseMap(map).withFallback(getActorConfig());
+    }
+
     private static Config getDatabaseConfig() {
         final Map<String, ConfigValue> map = new HashMap<>();
         map.put(
@@ -85,4 +200,447 @@ public class DatabaseTableManagerTest {
             }
         }};
     }
+
+    @Test
+    public void testReceiveWithCache() throws IOException, SQLException {
+        final TestDatabase testdb = new TestDatabase(DatabaseTableManagerTest.class.getSimpleName() + "Cache");
+        testdb.load("hsqldb/tables.sql");
+        testdb.load("hsqldb/testdata.sql");
+
+        final ActorSystem system = ActorSystem.create("test-cache", getConfig());
+        new JavaTestKit(system) {{
+            final DatabaseManagerConfig managerConfig =
+                    new DatabaseManagerConfig.Builder("company", getCachedActorConfig()).build();
+            final CircuitBreaker circuitBreaker = new CircuitBreaker(system.dispatcher(), system.scheduler(), 5,
+                    duration("10 s"), duration("60 s"));
+            final ActorRef cmpmgr = system.actorOf(
+                    Props.create(DatabaseTableManager.class, managerConfig, testdb.getDataSource(), circuitBreaker));
+
+            try {
+                // The first lookup misses and populates the cache, the second lookup is served from memory.
+                for (int i = 0; i < 2; i++) {
+                    cmpmgr.tell(new GetById.Builder(DataType.COMPANY, 1, 2).build(), getRef());
+                    assertEquals(2, expectMsgClass(duration("500 ms"), ModelCollection.class).getModels().size());
+                }
+                cmpmgr.tell(new GetById.Builder(DataType.COMPANY, 1, 2).setActive(true).build(), getRef());
+                assertEquals(1, expectMsgClass(duration("500 ms"), ModelCollection.class).getModels().size());
+
+                cmpmgr.tell(new GetCacheStatistics.Builder(DataType.COMPANY).build(), getRef());
+                final CacheStatistics afterGet = expectMsgClass(duration("500 ms"), CacheStatistics.class);
+                assertEquals(2, afterGet.getSize());
+                assertEquals(4, afterGet.getHitCount());
+                assertEquals(2, afterGet.getMissCount());
+
+                // Added companies are stored in the cache.
+                final Company company = new Company.Builder().setName("Cached Company").build();
+                cmpmgr.tell(new Add.Builder<>(DataType.COMPANY, company).build(), getRef());
+                final ModelCollection<?> added = expectMsgClass(duration("500 ms"), ModelCollection.class);
+                final Company addedCompany = (Company) added.getModels().first();
+
+                cmpmgr.tell(new GetCacheStatistics.Builder(DataType.COMPANY).build(), getRef());
+                assertEquals(3, expectMsgClass(duration("500 ms"), CacheStatistics.class).getSize());
+
+                // Deleted companies are removed from the cache.
+                cmpmgr.tell(new DeleteById.Builder(DataType.COMPANY, addedCompany.getId().get()).build(), getRef());
+                expectMsgClass(duration("500 ms"), DeleteResult.class);
+
+                cmpmgr.tell(new GetById.Builder(DataType.COMPANY, addedCompany.getId().get()).build(), getRef());
+                assertEquals(0, expectMsgClass(duration("500 ms"), ModelCollection.class).getModels().size());
+
+                cmpmgr.tell(new GetCacheStatistics.Builder(DataType.COMPANY).build(), getRef());
+                final CacheStatistics afterDelete = expectMsgClass(duration("500 ms"), CacheStatistics.class);
+                assertEquals(2, afterDelete.getSize());
+                assertEquals(3, afterDelete.getMissCount());
+            } finally {
+                cmpmgr.tell(PoisonPill.getInstance(), getRef());
+                system.terminate();
+            }
+        }};
+    }
+
+    @Test
+    public void testReceiveGetByIdRacingDelete() throws Exception {
+        final TestDatabase testdb = new TestDatabase(DatabaseTableManagerTest.class.getSimpleName() + "Racing");
+        testdb.load("hsqldb/tables.sql");
+        testdb.load("hsqldb/testdata.sql");
+
+        final ActorSystem system = ActorSystem.create("test-cache-racing", getConfig());
+        new JavaTestKit(system) {{
+            final Config actorConfig = ConfigFactory.parseMap(Collections.singletonMap("actors.get-by-id.actor-class",
+                    ConfigValueFactory.fromAnyRef(SlowGetActor.class.getName())))
+                    .withFallback(getCachedActorConfig());
+            final DatabaseManagerConfig managerConfig =
+                    new DatabaseManagerConfig.Builder("company", actorConfig).build();
+            final CircuitBreaker circuitBreaker = new CircuitBreaker(system.dispatcher(), system.scheduler(), 5,
+                    duration("10 s"), duration("60 s"));
+            final ActorRef cmpmgr = system.actorOf(Props.create(DatabaseTableManager.class, managerConfig,
+                    testdb.getDataSource(), circuitBreaker), "cmpmgr");
+
+            try {
+                // The read queries the company before the delete, but completes only after the delete.
+                final JavaTestKit reader = new JavaTestKit(system);
+                cmpmgr.tell(new GetById.Builder(DataType.COMPANY, 1).build(), reader.getRef());
+                assertTrue(SLOW_GET_QUERIED.await(5, TimeUnit.SECONDS));
+
+                cmpmgr.tell(new DeleteById.Builder(DataType.COMPANY, 1).build(), getRef());
+                assertEquals(1, expectMsgClass(duration("500 ms"), DeleteResult.class).getDeleted());
+
+                system.actorSelection("/user/cmpmgr/get-by-id").tell(SLOW_GET_RELEASE, getRef());
+                assertEquals(1, reader.expectMsgClass(duration("500 ms"), ModelCollection.class).getModels().size());
+
+                // The deleted company read before the delete is not stored in the cache.
+                cmpmgr.tell(new GetCacheStatistics.Builder(DataType.COMPANY).build(), getRef());
+                assertEquals(0, expectMsgClass(duration("500 ms"), CacheStatistics.class).getSize());
+
+                cmpmgr.tell(new GetById.Builder(DataType.COMPANY, 1).build(), getRef());
+                assertEquals(0, expectMsgClass(duration("500 ms"), ModelCollection.class).getModels().size());
+            } finally {
+                cmpmgr.tell(PoisonPill.getInstance(), getRef());
+                system.terminate();
+            }
+        }};
+    }
+
+    @Test
+    public void testReceiveGetByIdOrderedWithCache() throws IOException, SQLException {
+        final TestDatabase testdb = new TestDatabase(DatabaseTableManagerTest.class.getSimpleName() + "Ordered");
+        testdb.load("hsqldb/tables.sql");
+        testdb.load("hsqldb/testdata.sql");
+
+        final ActorSystem system = ActorSystem.create("test-cache-ordered", getConfig());
+        new JavaTestKit(system) {{
+            final DatabaseManagerConfig managerConfig =
+                    new DatabaseManagerConfig.Builder("company", getCachedActorConfig()).build();
+            final CircuitBreaker circuitBreaker = new CircuitBreaker(system.dispatcher(), system.scheduler(), 5,
+                    duration("10 s"), duration("60 s"));
+            final ActorRef cmpmgr = system.actorOf(
+                    Props.create(DatabaseTableManager.class, managerConfig, testdb.getDataSource(), circuitBreaker));
+
+            try {
+                cmpmgr.tell(new GetById.Builder(DataType.COMPANY, 2).build(), getRef());
+                expectMsgClass(duration("500 ms"), ModelCollection.class);
+
+                // The cached company with the higher id is merged in order with the company fetched from the table.
+                cmpmgr.tell(new GetById.Builder(DataType.COMPANY, 1, 2).build(), getRef());
+                final ModelCollection<?> response = expectMsgClass(duration("500 ms"), ModelCollection.class);
+                assertEquals(Arrays.asList(Optional.of(1), Optional.of(2)), response.getModelList().stream()
+                        .map(m -> ((Company) m).getId()).collect(Collectors.toList()));
+            } finally {
+                cmpmgr.tell(PoisonPill.getInstance(), getRef());
+                system.terminate();
+            }
+        }};
+    }
+
+    @Test
+    public void testReceiveGetAllWithResultCache() throws IOException, SQLException {
+        final TestDatabase testdb = new TestDatabase(DatabaseTableManagerTest.class.getSimpleName() + "ResultCache");
+        testdb.load("hsqldb/tables.sql");
+        testdb.load("hsqldb/testdata.sql");
+
+        final ActorSystem system = ActorSystem.create("test-result-cache", getConfig());
+        new JavaTestKit(system) {{
+            final DatabaseManagerConfig managerConfig =
+                    new DatabaseManagerConfig.Builder("company", getCachedActorConfig()).build();
+            final CircuitBreaker circuitBreaker = new CircuitBreaker(system.dispatcher(), system.scheduler(), 5,
+                    duration("10 s"), duration("60 s"));
+            final ActorRef cmpmgr = system.actorOf(
+                    Props.create(DatabaseTableManager.class, managerConfig, testdb.getDataSource(), circuitBreaker));
+
+            try {
+                final GetAll getAll = new GetAll.Builder(DataType.COMPANY).build();
+                cmpmgr.tell(getAll, getRef());
+                assertEquals(2, expectMsgClass(duration("500 ms"), ModelCollection.class).getModels().size());
+
+                // A row inserted without going through the table manager is not visible until invalidation.
+                try (final Connection conn = testdb.getDataSource().getConnection();
+                     final Statement stmt = conn.createStatement()) {
+                    stmt.executeUpdate("INSERT INTO companies (name, active) VALUES ('Direct Company', true)");
+                }
+                cmpmgr.tell(getAll, getRef());
+                assertEquals(2, expectMsgClass(duration("500 ms"), ModelCollection.class).getModels().size());
+
+                // Paged requests bypass the result cache.
+                cmpmgr.tell(new GetAll.Builder(DataType.COMPANY).setLimit(10).build(), getRef());
+                assertEquals(3, expectMsgClass(duration("500 ms"), ModelCollection.class).getModels().size());
+
+                // Each active variant is cached separately.
+                cmpmgr.tell(new GetAll.Builder(DataType.COMPANY).setActive(true).build(), getRef());
+                assertEquals(2, expectMsgClass(duration("500 ms"), ModelCollection.class).getModels().size());
+
+                // Writes through the table manager invalidate the cached results.
+                final Company company = new Company.Builder().setName("Invalidating Company").build();
+                cmpmgr.tell(new Add.Builder<>(DataType.COMPANY, company).build(), getRef());
+                expectMsgClass(duration("500 ms"), ModelCollection.class);
+
+                cmpmgr.tell(getAll, getRef());
+                assertEquals(4, expectMsgClass(duration("500 ms"), ModelCollection.class).getModels().size());
+            } finally {
+                cmpmgr.tell(PoisonPill.getInstance(), getRef());
+                system.terminate();
+            }
+        }};
+    }
+
+    @Test
+    public void testReceiveGetAllChunked() throws Exception {
+        final TestDatabase testdb = new TestDatabase(DatabaseTableManagerTest.class.getSimpleName() + "Chunked");
+        testdb.load("hsqldb/tables.sql");
+        try (final Connection conn = testdb.getDataSource().getConnection();
+             final PreparedStatement ps = conn.prepareStatement("INSERT INTO companies (name, active) VALUES (?, ?)")) {
+            for (int i = 0; i < 300; i++) {
+                ps.setString(1, RandomStringUtils.randomAlphanumeric(200));
+                ps.setBoolean(2, true);
+                ps.addBatch();
+            }
+            ps.executeBatch();
+        }
+
+        // Two remote systems with the smallest frame size, which the serialized companies could never fit within.
+        final Config remote = ConfigFactory.parseString(String.join("\n",
+                "akka.actor.provider = \"akka.remote.RemoteActorRefProvider\"",
+                "akka.remote.netty.tcp { hostname = \"127.0.0.1\", port = 0, maximum-frame-size = 32000b }",
+                CommonConfig.CHUNKING_SIZE.getKey() + " = 16000")).withFallback(getConfig());
+        final ActorSystem system = ActorSystem.create("test-chunked-server", remote);
+        final ActorSystem client = ActorSystem.create("test-chunked-client", remote);
+        try {
+            ChunkReassembler.create(client);
+            new JavaTestKit(client) {{
+                final DatabaseManagerConfig managerConfig =
+                        new DatabaseManagerConfig.Builder("company", getCachedActorConfig()).build();
+                final CircuitBreaker circuitBreaker = new CircuitBreaker(system.dispatcher(), system.scheduler(), 5,
+                        duration("10 s"), duration("60 s"));
+                final ActorRef cmpmgr = system.actorOf(Props.create(
+                        DatabaseTableManager.class, managerConfig, testdb.getDataSource(), circuitBreaker));
+
+                final Address address = ((ExtendedActorSystem) system).provider().getDefaultAddress();
+                final FiniteDuration timeout = duration("5 seconds");
+                final ActorRef remoteMgr = Await.result(
+                        client.actorSelection(cmpmgr.path().toStringWithAddress(address)).resolveOne(timeout), timeout);
+
+                // Both the fetched and the cached results are sent back as chunks.
+                for (int i = 0; i < 2; i++) {
+                    remoteMgr.tell(new GetAll.Builder(DataType.COMPANY).build(), getRef());
+                    assertEquals(300, expectMsgClass(duration("10 seconds"), ModelCollection.class).getModels().size());
+                }
+
+                // The second lookup is served entirely from the company cache.
+                final GetById getById = new GetById.Builder(DataType.COMPANY, IntStream.rangeClosed(1, 300).boxed()
+                        .collect(Collectors.toList())).build();
+                for (int i = 0; i < 2; i++) {
+                    remoteMgr.tell(getById, getRef());
+                    assertEquals(300, expectMsgClass(duration("10 seconds"), ModelCollection.class).getModels().size());
+                }
+            }};
+        } finally {
+            JavaTestKit.shutdownActorSystem(system);
+            JavaTestKit.shutdownActorSystem(client);
+        }
+    }
+
+    @Test
+    public void testReceiveWithExistenceFilter() throws IOException, SQLException {
+        final TestDatabase testdb = new TestDatabase(DatabaseTableManagerTest.class.getSimpleName() + "Filter");
+        testdb.load("hsqldb/tables.sql");
+        testdb.load("hsqldb/testdata.sql");
+
+        final ActorSystem system = ActorSystem.create("test-existence-filter", getConfig());
+        new JavaTestKit(system) {{
+            final DatabaseManagerConfig managerConfig =
+                    new DatabaseManagerConfig.Builder("company", getFilteredActorConfig()).build();
+            final CircuitBreaker circuitBreaker = new CircuitBreaker(system.dispatcher(), system.scheduler(), 5,
+                    duration("10 s"), duration("60 s"));
+            final ActorRef cmpmgr = system.actorOf(
+                    Props.create(DatabaseTableManager.class, managerConfig, testdb.getDataSource(), circuitBreaker));
+            final GetExistenceFilterStatistics getStatistics =
+                    new GetExistenceFilterStatistics.Builder(DataType.COMPANY).build();
+
+            try {
+                // The filter is built from the table when the table manager starts.
+                new AwaitCond(duration("2 seconds")) {
+                    @Override
+                    protected boolean cond() {
+                        cmpmgr.tell(getStatistics, getRef());
+                        return expectMsgClass(duration("500 ms"), ExistenceFilterStatistics.class).isReady();
+                    }
+                };
+
+                // Ids below the highest loaded id that were never stored are answered without a query.
+                cmpmgr.tell(new GetById.Builder(DataType.COMPANY, -1, 0, 1, 2).build(), getRef());
+                assertEquals(2, expectMsgClass(duration("500 ms"), ModelCollection.class).getModels().size());
+                cmpmgr.tell(new GetById.Builder(DataType.COMPANY, 0).build(), getRef());
+                assertEquals(0, expectMsgClass(duration("500 ms"), ModelCollection.class).getModels().size());
+
+                cmpmgr.tell(getStatistics, getRef());
+                final ExistenceFilterStatistics afterGet =
+                        expectMsgClass(duration("500 ms"), ExistenceFilterStatistics.class);
+                assertEquals(2, afterGet.getInsertions());
+                assertEquals(3, afterGet.getSkippedCount());
+                assertEquals(2, afterGet.getQueriedCount());
+                assertEquals(0, afterGet.getFalsePositiveCount());
+
+                // A row inserted by another writer is above the highest loaded id, so is still queried.
+                try (final Connection conn = testdb.getDataSource().getConnection();
+                     final Statement stmt = conn.createStatement()) {
+                    stmt.executeUpdate("INSERT INTO companies (name, active) VALUES ('Direct Company', true)");
+                }
+                cmpmgr.tell(new GetById.Builder(DataType.COMPANY, 3).build(), getRef());
+                assertEquals(1, expectMsgClass(duration("500 ms"), ModelCollection.class).getModels().size());
+
+                // Added companies are stored in the filter.
+                final Company company = new Company.Builder().setName("Filtered Company").build();
+                cmpmgr.tell(new Add.Builder<>(DataType.COMPANY, company).build(), getRef());
+                final ModelCollection<?> added = expectMsgClass(duration("500 ms"), ModelCollection.class);
+                final Company addedCompany = (Company) added.getModels().first();
+
+                cmpmgr.tell(new GetById.Builder(DataType.COMPANY, addedCompany.getId().get()).build(), getRef());
+                assertEquals(1, expectMsgClass(duration("500 ms"), ModelCollection.class).getModels().size());
+
+                cmpmgr.tell(getStatistics, getRef());
+                assertEquals(3, expectMsgClass(duration("500 ms"), ExistenceFilterStatistics.class).getInsertions());
+            } finally {
+                cmpmgr.tell(PoisonPill.getInstance(), getRef());
+                system.terminate();
+            }
+        }};
+    }
+
+    @Test
+    public void testGetExistenceFilterStatisticsWithoutFilter() {
+        final ActorSystem system = ActorSystem.create("test-no-filter", getConfig());
+        new JavaTestKit(system) {{
+            final DatabaseManagerConfig managerConfig =
+                    new DatabaseManagerConfig.Builder("company", getActorConfig()).build();
+            final DataSource dataSource = Mockito.mock(DataSource.class);
+            final CircuitBreaker circuitBreaker = Mockito.mock(CircuitBreaker.class);
+            final ActorRef cmpmgr =
+                    system.actorOf(Props.create(DatabaseTableManager.class, managerConfig, dataSource, circuitBreaker));
+
+            try {
+                cmpmgr.tell(new GetExistenceFilterStatistics.Builder(DataType.COMPANY).build(), getRef());
+                expectMsgEquals(duration("500 ms"), new ExistenceFilterStatistics.Builder(DataType.COMPANY).build());
+            } finally {
+                cmpmgr.tell(PoisonPill.getInstance(), getRef());
+                system.terminate();
+            }
+        }};
+    }
+
+    @Test
+    public void testGetCacheStatisticsWithoutCache() {
+        final ActorSystem system = ActorSystem.create("test-no-cache", getConfig());
+        new JavaTestKit(system) {{
+            final DatabaseManagerConfig managerConfig =
+                    new DatabaseManagerConfig.Builder("company", getActorConfig()).build();
+            final DataSource dataSource = Mockito.mock(DataSource.class);
+            final CircuitBreaker circuitBreaker = Mockito.mock(CircuitBreaker.class);
+            final ActorRef cmpmgr =
+                    system.actorOf(Props.create(DatabaseTableManager.class, managerConfig, dataSource, circuitBreaker));
+
+            try {
+                cmpmgr.tell(new GetCacheStatistics.Builder(DataType.COMPANY).build(), getRef());
+                expectMsgEquals(duration("500 ms"), new CacheStatistics.Builder(DataType.COMPANY).build());
+            } finally {
+                cmpmgr.tell(PoisonPill.getInstance(), getRef());
+                system.terminate();
+            }
+        }};
+    }
+
+    @Test
+    public void testGetExecutorService() throws Exception {
+        final ActorSystem system = ActorSystem.create("test-executor-service", getConfig());
+        try {
+            final DatabaseManagerConfig managerConfig =
+                    new DatabaseManagerConfig.Builder("company", getActorConfig()).build();
+            final DataSource dataSource = Mockito.mock(DataSource.class);
+            final CircuitBreaker circuitBreaker = Mockito.mock(CircuitBreaker.class);
+            final TestActorRef<DatabaseTableManager> cmpmgr = TestActorRef.create(system,
+                    Props.create(DatabaseTableManager.class, managerConfig, dataSource, circuitBreaker), "cmpmgr");
+            final DatabaseTableManager manager = cmpmgr.underlyingActor();
+
+            assertFalse(manager.getExecutorService(managerConfig).isPresent());
+
+            final Optional<ExecutorService> executorService = manager.getExecutorService(
+                    new DatabaseManagerConfig.Builder(managerConfig).setThreadCount(2).build());
+            assertTrue(executorService.isPresent());
+            try {
+                final String threadName = executorService.get().submit(() -> Thread.currentThread().getName()).get();
+                assertTrue(threadName.startsWith("company-database-"));
+            } finally {
+                executorService.get().shutdown();
+            }
+        } finally {
+            system.terminate();
+        }
+    }
+
+    @Test
+    public void testGetExecutionContext() {
+        final Config config =
+                ConfigFactory.parseString("database-dispatcher.type = Dispatcher").withFallback(getConfig());
+        final ActorSystem system = ActorSystem.create("test-execution-context", config);
+        try {
+            final DatabaseManagerConfig managerConfig =
+                    new DatabaseManagerConfig.Builder("company", getActorConfig()).build();
+            final DataSource dataSource = Mockito.mock(DataSource.class);
+            final CircuitBreaker circuitBreaker = Mockito.mock(CircuitBreaker.class);
+            final TestActorRef<DatabaseTableManager> cmpmgr = TestActorRef.create(system,
+                    Props.create(DatabaseTableManager.class, managerConfig, dataSource, circuitBreaker), "cmpmgr");
+            final DatabaseTableManager manager = cmpmgr.underlyingActor();
+
+            final ExecutionContextExecutor dispatcher = manager.getContext().dispatcher();
+            assertEquals(dispatcher, manager.getExecutionContext(managerConfig, Optional.empty()));
+
+            final DatabaseManagerConfig dispatcherConfig =
+                    new DatabaseManagerConfig.Builder(managerConfig).setDispatcher("database-dispatcher").build();
+            assertEquals(system.dispatchers().lookup("database-dispatcher"),
+                    manager.getExecutionContext(dispatcherConfig, Optional.empty()));
+
+            // A dedicated executor service takes precedence over the configured dispatcher.
+            final ExecutorService executorService = Executors.newSingleThreadExecutor();
+            try {
+                final ExecutionContextExecutor executionContext =
+                        manager.getExecutionContext(dispatcherConfig, Optional.of(executorService));
+                assertNotEquals(system.dispatchers().lookup("database-dispatcher"), executionContext);
+                assertNotEquals(dispatcher, executionContext);
+            } finally {
+                executorService.shutdown();
+            }
+        } finally {
+            system.terminate();
+        }
+    }
+
+    @Test
+    public void testReceiveWithRouterPools() throws IOException, SQLException {
+        final TestDatabase testdb = new TestDatabase(DatabaseTableManagerTest.class.getSimpleName());
+        testdb.load("hsqldb/tables.sql");
+        testdb.load("hsqldb/testdata.sql");
+
+        final ActorSystem system = ActorSystem.create("test-router-pools", getConfig());
+        new JavaTestKit(system) {{
+            final DatabaseManagerConfig managerConfig =
+                    new DatabaseManagerConfig.Builder("company", getPooledActorConfig()).build();
+            final CircuitBreaker circuitBreaker = new CircuitBreaker(system.dispatcher(), system.scheduler(), 5,
+                    duration("10 s"), duration("60 s"));
+            final ActorRef cmpmgr = system.actorOf(
+                    Props.create(DatabaseTableManager.class, managerConfig, testdb.getDataSource(), circuitBreaker));
+
+            try {
+                for (int i = 0; i < 4; i++) {
+                    cmpmgr.tell(new GetById.Builder(DataType.COMPANY, 1).build(), getRef());
+                    final ModelCollection byId = expectMsgClass(duration("500 ms"), ModelCollection.class);
+                    assertEquals(1, byId.getModels().size());
+
+                    cmpmgr.tell(new GetAll.Builder(DataType.COMPANY).build(), getRef());
+                    final ModelCollection all = expectMsgClass(duration("500 ms"), ModelCollection.class);
+                    assertEquals(2, all.getModels().size());
+                }
+            } finally {
+                cmpmgr.tell(PoisonPill.getInstance(), getRef());
+                system.terminate();
+            }
+        }};
+    }
 }
@@ -0,0 +1,143 @@
+package mysystem.db.actor.company;
+
+import static org.junit.Assert.assertEquals;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+import com.typesafe.config.ConfigValue;
+import com.typesafe.config.ConfigValueFactory;
+
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.actor.PoisonPill;
+import akka.pattern.CircuitBreaker;
+import akka.testkit.JavaTestKit;
+import mysystem.common.model.Company;
+import mysystem.db.TestDatabase;
+import mysystem.db.config.DatabaseConfig;
+import mysystem.db.model.Add;
+import mysystem.db.model.DataType;
+import mysystem.db.model.InsertStrategy;
+import mysystem.db.model.ModelCollection;
+import scala.concurrent.duration.Duration;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the {@link InsertStrategy} implementations of the {@link AddActor} against the HSQLDB test database, along
+ * with many concurrent single-company add requests inserted with and without a group window. This class is not picked
+ * up by the default surefire includes, run it with {@code mvn test -Dtest=AddActorBenchmark}.
+ */
+public class AddActorBenchmark {
+    private final static Logger LOG = LoggerFactory.getLogger(AddActorBenchmark.class);
+
+    private final static int COMPANIES = 5000;
+    private final static int ITERATIONS = 5;
+
+    private static Config getConfig(final InsertStrategy insertStrategy, final int batchSize) {
+        final Map<String, ConfigValue> map = new HashMap<>();
+        map.put(DatabaseConfig.DATABASE_INSERT_STRATEGY.getKey(), ConfigValueFactory.fromAnyRef(insertStrategy.name()));
+        map.put(DatabaseConfig.DATABASE_INSERT_BATCH_SIZE.getKey(), ConfigValueFactory.fromAnyRef(batchSize));
+        return ConfigFactory.parseMap(map).withFallback(ConfigFactory.load("test-config"));
+    }
+
+    private static Config getGroupConfig(final String window) {
+        final Map<String, ConfigValue> map = new HashMap<>();
+        map.put(DatabaseConfig.DATABASE_INSERT_GROUP_WINDOW.getKey(), ConfigValueFactory.fromAnyRef(window));
+        return ConfigFactory.parseMap(map).withFallback(getConfig(InsertStrategy.BATCH, 500));
+    }
+
+    private static Add<Company> getAdd(final String prefix) {
+        final Add.Builder<Company> add = new Add.Builder<>(DataType.COMPANY);
+        for (int i = 0; i < COMPANIES; i++) {
+            add.add(new Company.Builder().setName(prefix + i).build());
+        }
+        return add.build();
+    }
+
+    private long run(final InsertStrategy insertStrategy, final int batchSize) throws IOException, SQLException {
+        final String name = String.format("add-%s-%d", insertStrategy.name().toLowerCase(), batchSize);
+        final TestDatabase testdb = new TestDatabase(AddActorBenchmark.class.getSimpleName() + "-" + name);
+        testdb.load("hsqldb/tables.sql");
+
+        final ActorSystem system = ActorSystem.create(name, getConfig(insertStrategy, batchSize));
+        final long[] elapsed = new long[1];
+        new JavaTestKit(system) {{
+            final CircuitBreaker circuitBreaker = new CircuitBreaker(system.dispatcher(), system.scheduler(), 1,
+                    Duration.create(10, TimeUnit.MINUTES), Duration.create(1, TimeUnit.MINUTES));
+            final ActorRef addActor = AddActor.create(system, testdb.getDataSource(), circuitBreaker);
+
+            try {
+                for (int iteration = 0; iteration < ITERATIONS; iteration++) {
+                    final Add<Company> add = getAdd(String.format("Company %d-", iteration));
+                    final long start = System.nanoTime();
+                    addActor.tell(add, getRef());
+                    final ModelCollection<?> response = expectMsgClass(duration("10 minutes"), ModelCollection.class);
+                    elapsed[0] += System.nanoTime() - start;
+                    assertEquals(COMPANIES, response.getModels().size());
+                }
+            } finally {
+                addActor.tell(PoisonPill.getInstance(), getRef());
+                system.terminate();
+            }
+        }};
+
+        final long millis = TimeUnit.NANOSECONDS.toMillis(elapsed[0] / ITERATIONS);
+        LOG.info("{} with batch size {}: {} ms per {} companies", insertStrategy, batchSize, millis, COMPANIES);
+        return millis;
+    }
+
+    private long runSingles(final String window) throws IOException, SQLException {
+        final String name = String.format("add-singles-%s", window.replace(' ', '-'));
+        final TestDatabase testdb = new TestDatabase(AddActorBenchmark.class.getSimpleName() + "-" + name);
+        testdb.load("hsqldb/tables.sql");
+
+        final ActorSystem system = ActorSystem.create(name, getGroupConfig(window));
+        final long[] elapsed = new long[1];
+        new JavaTestKit(system) {{
+            final CircuitBreaker circuitBreaker = new CircuitBreaker(system.dispatcher(), system.scheduler(), 1,
+                    Duration.create(10, TimeUnit.MINUTES), Duration.create(1, TimeUnit.MINUTES));
+            final ActorRef addActor = AddActor.create(system, testdb.getDataSource(), circuitBreaker);
+
+            try {
+                for (int iteration = 0; iteration < ITERATIONS; iteration++) {
+                    final long start = System.nanoTime();
+                    for (int i = 0; i < COMPANIES; i++) {
+                        final Company company =
+                                new Company.Builder().setName(String.format("Company %d-%d", iteration, i)).build();
+                        addActor.tell(new Add.Builder<>(DataType.COMPANY, company).build(), getRef());
+                    }
+                    for (int i = 0; i < COMPANIES; i++) {
+                        expectMsgClass(duration("10 minutes"), ModelCollection.class);
+                    }
+                    elapsed[0] += System.nanoTime() - start;
+                }
+            } finally {
+                addActor.tell(PoisonPill.getInstance(), getRef());
+                system.terminate();
+            }
+        }};
+
+        final long millis = TimeUnit.NANOSECONDS.toMillis(elapsed[0] / ITERATIONS);
+        LOG.info("Single-company adds with group window {}: {} ms per {} companies", window, millis, COMPANIES);
+        return millis;
+    }
+
+    @Test
+    public void benchmark() throws IOException, SQLException {
+        run(InsertStrategy.PER_ROW, 1);
+        run(InsertStrategy.BATCH, 50);
+        run(InsertStrategy.BATCH, 500);
+        run(InsertStrategy.BATCH, 5000);
+        runSingles("0 ms");
+        runSingles("2 ms");
+    }
+}
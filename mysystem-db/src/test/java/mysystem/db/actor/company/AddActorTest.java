@@ -1,31 +1,47 @@
 package mysystem.db.actor.company;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
+import com.typesafe.config.Config;
 import com.typesafe.config.ConfigFactory;
+import com.typesafe.config.ConfigValue;
+import com.typesafe.config.ConfigValueFactory;
 
 import org.junit.BeforeClass;
 import org.junit.Test;
+import org.mockito.Mockito;
 
 import akka.actor.ActorRef;
 import akka.actor.ActorSystem;
 import akka.actor.PoisonPill;
+import akka.actor.Props;
 import akka.actor.Status;
 import akka.pattern.CircuitBreaker;
 import akka.testkit.JavaTestKit;
+import akka.testkit.TestActorRef;
 import mysystem.common.model.Company;
 import mysystem.db.TestDatabase;
+import mysystem.db.config.DatabaseConfig;
 import mysystem.db.model.Add;
 import mysystem.db.model.DataType;
+import mysystem.db.model.GetAll;
+import mysystem.db.model.InsertStrategy;
 import mysystem.db.model.ModelCollection;
 import scala.concurrent.duration.Duration;
 import scala.concurrent.duration.FiniteDuration;
 
 import java.io.IOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.sql.DataSource;
 
@@ -44,6 +60,30 @@ public class AddActorTest {
         testdb.load("hsqldb/testdata.sql");
     }
 
+    /**
+     * Fails with a runtime exception while binding the company with the failing name.
+     */
+    public static class FailingAddActor extends AddActor {
+        private final static String FAILING_NAME = "Runtime Failure";
+
+        /**
+         * @param dataSource the {@link DataSource} used to manage database connections
+         * @param circuitBreaker the {@link CircuitBreaker} used to manage push-back when the database gets overloaded
+         */
+        public FailingAddActor(final DataSource dataSource, final CircuitBreaker circuitBreaker) {
+            super(dataSource, circuitBreaker);
+        }
+
+        @Override
+        protected void setStatementParameters(final PreparedStatement ps, final Company company)
+                throws SQLException {
+            if (FAILING_NAME.equals(company.getName())) {
+                throw new IllegalStateException("Failed to bind " + company.getName());
+            }
+            super.setStatementParameters(ps, company);
+        }
+    }
+
     private static CircuitBreaker getCircuitBreaker(final ActorSystem system) {
         final int maxFailures = 1;
         final FiniteDuration callTimeout = Duration.create(10, TimeUnit.SECONDS);
@@ -51,6 +91,21 @@ public class AddActorTest {
         return new CircuitBreaker(system.dispatcher(), system.scheduler(), maxFailures, callTimeout, resetTimeout);
     }
 
+    private static Config getConfig(final InsertStrategy insertStrategy, final int batchSize) {
+        final Map<String, ConfigValue> map = new HashMap<>();
+        map.put(DatabaseConfig.DATABASE_INSERT_STRATEGY.getKey(), ConfigValueFactory.fromAnyRef(insertStrategy.name()));
+        map.put(DatabaseConfig.DATABASE_INSERT_BATCH_SIZE.getKey(), ConfigValueFactory.fromAnyRef(batchSize));
+        return ConfigFactory.parseMap(map).withFallback(ConfigFactory.load("test-config"));
+    }
+
+    private static Config getGroupConfig(final String window, final int maxRequests) {
+        final Map<String, ConfigValue> map = new HashMap<>();
+        map.put(DatabaseConfig.DATABASE_INSERT_GROUP_WINDOW.getKey(), ConfigValueFactory.fromAnyRef(window));
+        map.put(DatabaseConfig.DATABASE_INSERT_GROUP_MAX_REQUESTS.getKey(),
+                ConfigValueFactory.fromAnyRef(maxRequests));
+        return ConfigFactory.parseMap(map).withFallback(ConfigFactory.load("test-config"));
+    }
+
     @Test
     public void testReceiveAdd() {
         final ActorSystem system = ActorSystem.create("test-add", ConfigFactory.load("test-config"));
@@ -77,6 +132,263 @@ public class AddActorTest {
         }};
     }
 
+    @Test
+    public void testReceiveAddBatchMultipleChunks() {
+        final ActorSystem system = ActorSystem.create("test-add-batch", getConfig(InsertStrategy.BATCH, 2));
+        new JavaTestKit(system) {{
+            final ActorRef addActor = AddActor.create(system, testdb.getDataSource(), getCircuitBreaker(system));
+
+            try {
+                final Add.Builder<Company> add = new Add.Builder<>(DataType.COMPANY);
+                for (int i = 0; i < 5; i++) {
+                    add.add(new Company.Builder().setName("Batch Company " + i).setActive(i % 2 == 0).build());
+                }
+                addActor.tell(add.build(), getRef());
+
+                final ModelCollection<?> response = expectMsgClass(duration("500 ms"), ModelCollection.class);
+                assertEquals(5, response.getModels().size());
+                for (final Object model : response.getModels()) {
+                    final Company created = (Company) model;
+                    assertTrue(created.getId().isPresent());
+                    final int index = Integer.parseInt(created.getName().substring("Batch Company ".length()));
+                    assertEquals(index % 2 == 0, created.isActive());
+                }
+            } finally {
+                addActor.tell(PoisonPill.getInstance(), getRef());
+                system.terminate();
+            }
+        }};
+    }
+
+    @Test
+    public void testReceiveAddBatchRollback() {
+        final ActorSystem system = ActorSystem.create("test-add-batch-rollback", getConfig(InsertStrategy.BATCH, 2));
+        new JavaTestKit(system) {{
+            final ActorRef addActor = AddActor.create(system, testdb.getDataSource(), getCircuitBreaker(system));
+            final ActorRef getActor = GetActor.create(system, testdb.getDataSource(), getCircuitBreaker(system));
+
+            try {
+                // The last company collides with the existing test data, so none of the companies should be added.
+                final Add<Company> add = new Add.Builder<>(DataType.COMPANY,
+                        new Company.Builder().setName("Rollback A").build(),
+                        new Company.Builder().setName("Rollback B").build(),
+                        new Company.Builder().setName("Test Company").build()).build();
+                addActor.tell(add, getRef());
+                expectMsgClass(duration("500 ms"), Status.Failure.class);
+
+                getActor.tell(new GetAll.Builder(DataType.COMPANY).build(), getRef());
+                final ModelCollection<?> response = expectMsgClass(duration("500 ms"), ModelCollection.class);
+                final Optional<?> rolledBack = response.getModels().stream()
+                        .filter(m -> ((Company) m).getName().startsWith("Rollback")).findAny();
+                assertFalse(rolledBack.isPresent());
+            } finally {
+                addActor.tell(PoisonPill.getInstance(), getRef());
+                getActor.tell(PoisonPill.getInstance(), getRef());
+                system.terminate();
+            }
+        }};
+    }
+
+    @Test
+    public void testReceiveAddBatchRollbackRuntimeException() {
+        final ActorSystem system =
+                ActorSystem.create("test-add-batch-rollback-runtime", getConfig(InsertStrategy.BATCH, 1));
+        new JavaTestKit(system) {{
+            final ActorRef addActor = system.actorOf(
+                    Props.create(FailingAddActor.class, testdb.getDataSource(), getCircuitBreaker(system)));
+            final ActorRef getActor = GetActor.create(system, testdb.getDataSource(), getCircuitBreaker(system));
+
+            try {
+                // The batches before the failing company have been executed, but must not be committed.
+                final Add<Company> add = new Add.Builder<>(DataType.COMPANY,
+                        new Company.Builder().setName("Runtime A").build(),
+                        new Company.Builder().setName("Runtime B").build(),
+                        new Company.Builder().setName(FailingAddActor.FAILING_NAME).build()).build();
+                addActor.tell(add, getRef());
+                expectMsgClass(duration("500 ms"), Status.Failure.class);
+
+                getActor.tell(new GetAll.Builder(DataType.COMPANY).build(), getRef());
+                final ModelCollection<?> response = expectMsgClass(duration("500 ms"), ModelCollection.class);
+                final Optional<?> rolledBack = response.getModels().stream()
+                        .filter(m -> ((Company) m).getName().startsWith("Runtime")).findAny();
+                assertFalse(rolledBack.isPresent());
+            } finally {
+                addActor.tell(PoisonPill.getInstance(), getRef());
+                getActor.tell(PoisonPill.getInstance(), getRef());
+                system.terminate();
+            }
+        }};
+    }
+
+    @Test
+    public void testReceiveAddPerRow() {
+        final ActorSystem system = ActorSystem.create("test-add-per-row", getConfig(InsertStrategy.PER_ROW, 1));
+        new JavaTestKit(system) {{
+            final ActorRef addActor = AddActor.create(system, testdb.getDataSource(), getCircuitBreaker(system));
+
+            try {
+                final Add<Company> add = new Add.Builder<>(DataType.COMPANY,
+                        new Company.Builder().setName("Per Row A").build(),
+                        new Company.Builder().setName("Per Row B").build()).build();
+                addActor.tell(add, getRef());
+
+                final ModelCollection<?> response = expectMsgClass(duration("500 ms"), ModelCollection.class);
+                assertEquals(2, response.getModels().size());
+                response.getModels().forEach(m -> assertTrue(((Company) m).getId().isPresent()));
+            } finally {
+                addActor.tell(PoisonPill.getInstance(), getRef());
+                system.terminate();
+            }
+        }};
+    }
+
+    @Test
+    public void testGroupConfig() {
+        final ActorSystem system = ActorSystem.create("test-group-config", getGroupConfig("0 ms", 5));
+        new JavaTestKit(system) {{
+            try {
+                final Props props = Props.create(AddActor.class, testdb.getDataSource(), getCircuitBreaker(system));
+                final AddActor actor = TestActorRef.<AddActor>create(system, props, "add-actor").underlyingActor();
+
+                assertFalse(actor.getGroupWindow().isPresent());
+                assertEquals(5, actor.getGroupMaxRequests());
+                assertEquals(Optional.of(FiniteDuration.create(2, TimeUnit.MILLISECONDS)),
+                        actor.getGroupWindow(getGroupConfig("2 ms", 5)));
+            } finally {
+                system.terminate();
+            }
+        }};
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testGroupConfigInvalidMaxRequests() {
+        final ActorSystem system = ActorSystem.create("test-group-config-invalid", getGroupConfig("2 ms", 5));
+        try {
+            final Props props = Props.create(AddActor.class, testdb.getDataSource(), getCircuitBreaker(system));
+            TestActorRef.<AddActor>create(system, props, "add-actor").underlyingActor()
+                    .getGroupMaxRequests(getGroupConfig("2 ms", 0));
+        } finally {
+            system.terminate();
+        }
+    }
+
+    @Test
+    public void testReceiveAddGrouped() throws SQLException {
+        final ActorSystem system = ActorSystem.create("test-add-grouped", getGroupConfig("200 ms", 10));
+        new JavaTestKit(system) {{
+            final AtomicInteger connections = new AtomicInteger();
+            final DataSource dataSource = Mockito.mock(DataSource.class);
+            Mockito.when(dataSource.getConnection()).thenAnswer(invocation -> {
+                connections.incrementAndGet();
+                return testdb.getDataSource().getConnection();
+            });
+            final ActorRef addActor = AddActor.create(system, dataSource, getCircuitBreaker(system));
+            final ActorRef getActor = GetActor.create(system, testdb.getDataSource(), getCircuitBreaker(system));
+            final JavaTestKit first = new JavaTestKit(system);
+            final JavaTestKit second = new JavaTestKit(system);
+            final JavaTestKit third = new JavaTestKit(system);
+
+            try {
+                // The second request collides with the existing test data, which must not fail the other requests.
+                addActor.tell(new Add.Builder<>(DataType.COMPANY, new Company.Builder().setName("Grouped A").build(),
+                        new Company.Builder().setName("Grouped B").build()).build(), first.getRef());
+                addActor.tell(new Add.Builder<>(DataType.COMPANY, new Company.Builder().setName("Grouped C").build(),
+                        new Company.Builder().setName("Test Company").build()).build(), second.getRef());
+                addActor.tell(new Add.Builder<>(DataType.COMPANY, new Company.Builder().setName("Grouped D").build())
+                        .build(), third.getRef());
+
+                final ModelCollection<?> firstResponse = first.expectMsgClass(duration("1 s"), ModelCollection.class);
+                assertEquals(2, firstResponse.getModels().size());
+                firstResponse.getModels().forEach(m -> assertTrue(((Company) m).getId().isPresent()));
+                assertTrue(firstResponse.getModels().stream()
+                        .allMatch(m -> ((Company) m).getName().matches("Grouped [AB]")));
+                second.expectMsgClass(duration("1 s"), Status.Failure.class);
+                final ModelCollection<?> thirdResponse = third.expectMsgClass(duration("1 s"), ModelCollection.class);
+                assertEquals(1, thirdResponse.getModels().size());
+                assertEquals("Grouped D", ((Company) thirdResponse.getModels().first()).getName());
+                assertEquals(1, connections.get());
+
+                getActor.tell(new GetAll.Builder(DataType.COMPANY).build(), getRef());
+                final ModelCollection<?> response = expectMsgClass(duration("500 ms"), ModelCollection.class);
+                assertEquals(3, response.getModels().stream()
+                        .filter(m -> ((Company) m).getName().startsWith("Grouped")).count());
+            } finally {
+                addActor.tell(PoisonPill.getInstance(), getRef());
+                getActor.tell(PoisonPill.getInstance(), getRef());
+                system.terminate();
+            }
+        }};
+    }
+
+    @Test
+    public void testReceiveAddGroupedRuntimeException() {
+        final ActorSystem system = ActorSystem.create("test-add-grouped-runtime", getGroupConfig("200 ms", 10));
+        new JavaTestKit(system) {{
+            final ActorRef addActor = system.actorOf(
+                    Props.create(FailingAddActor.class, testdb.getDataSource(), getCircuitBreaker(system)));
+            final JavaTestKit other = new JavaTestKit(system);
+
+            try {
+                addActor.tell(new Add.Builder<>(DataType.COMPANY,
+                        new Company.Builder().setName("Isolated Runtime").build()).build(), getRef());
+                addActor.tell(new Add.Builder<>(DataType.COMPANY,
+                        new Company.Builder().setName(FailingAddActor.FAILING_NAME).build()).build(), other.getRef());
+
+                final ModelCollection<?> response = expectMsgClass(duration("1 s"), ModelCollection.class);
+                assertEquals("Isolated Runtime", ((Company) response.getModels().first()).getName());
+                other.expectMsgClass(duration("1 s"), Status.Failure.class);
+            } finally {
+                addActor.tell(PoisonPill.getInstance(), getRef());
+                system.terminate();
+            }
+        }};
+    }
+
+    @Test
+    public void testReceiveAddGroupedMaxRequests() {
+        final ActorSystem system = ActorSystem.create("test-add-grouped-max", getGroupConfig("10 s", 2));
+        new JavaTestKit(system) {{
+            final ActorRef addActor = AddActor.create(system, testdb.getDataSource(), getCircuitBreaker(system));
+
+            try {
+                addActor.tell(new Add.Builder<>(DataType.COMPANY, new Company.Builder().setName("Max A").build())
+                        .build(), getRef());
+                addActor.tell(new Add.Builder<>(DataType.COMPANY, new Company.Builder().setName("Max B").build())
+                        .build(), getRef());
+
+                // Reaching the max requests inserts immediately rather than waiting for the 10 second window.
+                expectMsgClass(duration("500 ms"), ModelCollection.class);
+                expectMsgClass(duration("500 ms"), ModelCollection.class);
+            } finally {
+                addActor.tell(PoisonPill.getInstance(), getRef());
+                system.terminate();
+            }
+        }};
+    }
+
+    @Test
+    public void testReceiveAddGroupedConnectionException() throws SQLException {
+        final ActorSystem system = ActorSystem.create("test-add-grouped-exc", getGroupConfig("50 ms", 10));
+        new JavaTestKit(system) {{
+            final DataSource dataSource = TestDatabase.getMockDataSourceGetConnectionException();
+            final ActorRef addActor = AddActor.create(system, dataSource, getCircuitBreaker(system));
+            final JavaTestKit other = new JavaTestKit(system);
+
+            try {
+                addActor.tell(new Add.Builder<>(DataType.COMPANY, new Company.Builder().setName("Failed A").build())
+                        .build(), getRef());
+                addActor.tell(new Add.Builder<>(DataType.COMPANY, new Company.Builder().setName("Failed B").build())
+                        .build(), other.getRef());
+
+                expectMsgClass(duration("500 ms"), Status.Failure.class);
+                other.expectMsgClass(duration("500 ms"), Status.Failure.class);
+            } finally {
+                addActor.tell(PoisonPill.getInstance(), getRef());
+                system.terminate();
+            }
+        }};
+    }
+
     @Test
     public void testReceiveAddConnectionException() throws SQLException {
         final ActorSystem system = ActorSystem.create("test-add-conn-exc", ConfigFactory.load("test-config"));
@@ -197,6 +509,30 @@ public class AddActorTest {
         }};
     }
 
+    @Test
+    public void testReceiveAddTooFewGeneratedKeys() throws SQLException {
+        final ActorSystem system = ActorSystem.create("test-add-too-few-keys", ConfigFactory.load("test-config"));
+        new JavaTestKit(system) {{
+            final DataSource dataSource = TestDatabase.getMockDataSourceTooFewGeneratedKeys(1);
+            final Connection connection = dataSource.getConnection();
+            final ActorRef addActor = AddActor.create(system, dataSource, getCircuitBreaker(system));
+
+            try {
+                addActor.tell(new Add.Builder<>(DataType.COMPANY, new Company.Builder().setName("Key A").build(),
+                        new Company.Builder().setName("Key B").build()).build(), getRef());
+
+                final Status.Failure failure = expectMsgClass(duration("500 ms"), Status.Failure.class);
+                assertEquals("Failure(java.sql.SQLException: Generated keys were not returned for all of the added "
+                        + "companies)", failure.toString());
+                Mockito.verify(connection).rollback();
+                Mockito.verify(connection, Mockito.never()).commit();
+            } finally {
+                addActor.tell(PoisonPill.getInstance(), getRef());
+                system.terminate();
+            }
+        }};
+    }
+
     @Test
     public void testReceiveWithUnhandled() {
         final ActorSystem system = ActorSystem.create("test-unhandled", ConfigFactory.load("test-config"));
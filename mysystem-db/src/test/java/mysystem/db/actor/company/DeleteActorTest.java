@@ -2,7 +2,10 @@ package mysystem.db.actor.company;
 
 import static org.junit.Assert.assertEquals;
 
+import com.typesafe.config.Config;
 import com.typesafe.config.ConfigFactory;
+import com.typesafe.config.ConfigValue;
+import com.typesafe.config.ConfigValueFactory;
 
 import org.junit.BeforeClass;
 import org.junit.Test;
@@ -10,18 +13,36 @@ import org.junit.Test;
 import akka.actor.ActorRef;
 import akka.actor.ActorSystem;
 import akka.actor.PoisonPill;
+import akka.actor.Props;
 import akka.actor.Status;
 import akka.pattern.CircuitBreaker;
 import akka.testkit.JavaTestKit;
+import akka.testkit.TestActorRef;
+import mysystem.common.model.Company;
+import mysystem.common.util.IdSet;
 import mysystem.db.TestDatabase;
+import mysystem.db.config.DatabaseConfig;
+import mysystem.db.model.Add;
 import mysystem.db.model.DataType;
 import mysystem.db.model.DeleteById;
+import mysystem.db.model.DeleteResult;
+import mysystem.db.model.DeleteStrategy;
+import mysystem.db.model.GetById;
+import mysystem.db.model.ModelCollection;
 import scala.concurrent.duration.Duration;
 import scala.concurrent.duration.FiniteDuration;
 
 import java.io.IOException;
+import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 import javax.sql.DataSource;
 
@@ -40,6 +61,30 @@ public class DeleteActorTest {
         testdb.load("hsqldb/testdata.sql");
     }
 
+    /**
+     * A delete actor that fails with a runtime exception when binding the parameters of the second IN list chunk.
+     */
+    public static class FailingDeleteActor extends DeleteActor {
+        private int bound = 0;
+
+        /**
+         * @param dataSource the {@link DataSource} used to manage database connections
+         * @param circuitBreaker the {@link CircuitBreaker} used to manage push-back when the database gets overloaded
+         */
+        public FailingDeleteActor(final DataSource dataSource, final CircuitBreaker circuitBreaker) {
+            super(dataSource, circuitBreaker);
+        }
+
+        @Override
+        protected void setStatementParameters(final PreparedStatement ps, final IdSet ids, final int bucketSize)
+                throws SQLException {
+            if (++this.bound > 1) {
+                throw new IllegalStateException("Failed to bind " + ids);
+            }
+            super.setStatementParameters(ps, ids, bucketSize);
+        }
+    }
+
     private static CircuitBreaker getCircuitBreaker(final ActorSystem system) {
         final int maxFailures = 1;
         final FiniteDuration callTimeout = Duration.create(10, TimeUnit.SECONDS);
@@ -47,6 +92,106 @@ public class DeleteActorTest {
         return new CircuitBreaker(system.dispatcher(), system.scheduler(), maxFailures, callTimeout, resetTimeout);
     }
 
+    private static Config getConfig(final DeleteStrategy deleteStrategy, final int batchSize) {
+        final Map<String, ConfigValue> map = new HashMap<>();
+        map.put(DatabaseConfig.DATABASE_DELETE_STRATEGY.getKey(), ConfigValueFactory.fromAnyRef(deleteStrategy.name()));
+        map.put(DatabaseConfig.DATABASE_DELETE_BATCH_SIZE.getKey(), ConfigValueFactory.fromAnyRef(batchSize));
+        return ConfigFactory.parseMap(map).withFallback(ConfigFactory.load("test-config"));
+    }
+
+    private static List<Integer> addCompanies(final JavaTestKit kit, final ActorSystem system, final String prefix) {
+        final ActorRef addActor = AddActor.create(system, testdb.getDataSource(), getCircuitBreaker(system));
+        try {
+            final Add.Builder<Company> add = new Add.Builder<>(DataType.COMPANY);
+            for (int i = 0; i < 5; i++) {
+                add.add(new Company.Builder().setName(prefix + i).build());
+            }
+            addActor.tell(add.build(), kit.getRef());
+
+            final ModelCollection<?> created = kit.expectMsgClass(ModelCollection.class);
+            return created.getModels().stream().map(m -> ((Company) m).getId().get()).collect(Collectors.toList());
+        } finally {
+            addActor.tell(PoisonPill.getInstance(), kit.getRef());
+        }
+    }
+
+    private void testReceiveDeleteByIdStrategy(final DeleteStrategy strategy, final List<Integer> expected) {
+        final String name = "test-del-by-id-" + strategy.name().toLowerCase().replace('_', '-');
+        final ActorSystem system = ActorSystem.create(name, getConfig(strategy, 2));
+        new JavaTestKit(system) {{
+            final ActorRef delActor = DeleteActor.create(system, testdb.getDataSource(), getCircuitBreaker(system));
+
+            try {
+                // Include an id that does not exist, which should not be counted.
+                final List<Integer> ids = addCompanies(this, system, strategy.name());
+                delActor.tell(new DeleteById.Builder(DataType.COMPANY, ids).add(-1).build(), getRef());
+
+                final DeleteResult result = expectMsgClass(duration("500 ms"), DeleteResult.class);
+                assertEquals(expected, result.getRowCounts());
+                assertEquals(5, result.getDeleted());
+            } finally {
+                delActor.tell(PoisonPill.getInstance(), getRef());
+                system.terminate();
+            }
+        }};
+    }
+
+    @Test
+    public void testReceiveDeleteByIdInList() {
+        // The ids are sorted, so the missing -1 id is included in the first chunk.
+        testReceiveDeleteByIdStrategy(DeleteStrategy.IN_LIST, Arrays.asList(1, 2, 2));
+    }
+
+    @Test
+    public void testReceiveDeleteByIdBatch() {
+        testReceiveDeleteByIdStrategy(DeleteStrategy.BATCH, Arrays.asList(1, 2, 2));
+    }
+
+    @Test
+    public void testReceiveDeleteByIdPerId() {
+        testReceiveDeleteByIdStrategy(DeleteStrategy.PER_ID, Arrays.asList(0, 1, 1, 1, 1, 1));
+    }
+
+    @Test
+    public void testReceiveDeleteByIdInListRollbackRuntimeException() {
+        final ActorSystem system =
+                ActorSystem.create("test-del-by-id-rollback-runtime", getConfig(DeleteStrategy.IN_LIST, 2));
+        new JavaTestKit(system) {{
+            final ActorRef delActor = system.actorOf(
+                    Props.create(FailingDeleteActor.class, testdb.getDataSource(), getCircuitBreaker(system)));
+            final ActorRef getActor = GetActor.create(system, testdb.getDataSource(), getCircuitBreaker(system));
+
+            try {
+                // The first chunk has been deleted before the failure, but must not be committed.
+                final List<Integer> ids = addCompanies(this, system, "Rollback");
+                delActor.tell(new DeleteById.Builder(DataType.COMPANY, ids).build(), getRef());
+                expectMsgClass(duration("500 ms"), Status.Failure.class);
+
+                getActor.tell(new GetById.Builder(DataType.COMPANY, ids).build(), getRef());
+                final ModelCollection<?> response = expectMsgClass(duration("500 ms"), ModelCollection.class);
+                assertEquals(ids.size(), response.getModels().size());
+            } finally {
+                delActor.tell(PoisonPill.getInstance(), getRef());
+                getActor.tell(PoisonPill.getInstance(), getRef());
+                system.terminate();
+            }
+        }};
+    }
+
+    @Test
+    public void testGetRowCount() {
+        final ActorSystem system = ActorSystem.create("test-row-count", ConfigFactory.load("test-config"));
+        try {
+            final Props props = Props.create(DeleteActor.class, testdb.getDataSource(), getCircuitBreaker(system));
+            final DeleteActor actor = TestActorRef.<DeleteActor>create(system, props, "delete-actor").underlyingActor();
+
+            assertEquals(0, actor.getRowCount(null));
+            assertEquals(3, actor.getRowCount(new int[] {1, 2, Statement.SUCCESS_NO_INFO}));
+        } finally {
+            system.terminate();
+        }
+    }
+
     @Test
     public void testReceiveDeleteById() {
         final ActorSystem system = ActorSystem.create("test-del-by-id", ConfigFactory.load("test-config"));
@@ -56,8 +201,8 @@ public class DeleteActorTest {
             try {
                 delActor.tell(new DeleteById.Builder(DataType.COMPANY, 1).build(), getRef());
 
-                final Status.Success success = expectMsgClass(duration("500 ms"), Status.Success.class);
-                assertEquals("Success(Delete completed successfully)", success.toString());
+                final DeleteResult result = expectMsgClass(duration("500 ms"), DeleteResult.class);
+                assertEquals(Collections.singletonList(1), result.getRowCounts());
             } finally {
                 delActor.tell(PoisonPill.getInstance(), getRef());
                 system.terminate();
@@ -152,8 +297,8 @@ public class DeleteActorTest {
                 delActor.tell(new DeleteById.Builder(DataType.COMPANY, 1).build(), getRef());
 
                 // Delete has no result set, so this is successful.
-                final Status.Success success = expectMsgClass(duration("500 ms"), Status.Success.class);
-                assertEquals("Success(Delete completed successfully)", success.toString());
+                final DeleteResult result = expectMsgClass(duration("500 ms"), DeleteResult.class);
+                assertEquals(Collections.singletonList(1), result.getRowCounts());
             } finally {
                 delActor.tell(PoisonPill.getInstance(), getRef());
                 system.terminate();
@@ -172,8 +317,8 @@ public class DeleteActorTest {
                 delActor.tell(new DeleteById.Builder(DataType.COMPANY, 1).build(), getRef());
 
                 // Delete has no result set, so this is successful.
-                final Status.Success success = expectMsgClass(duration("500 ms"), Status.Success.class);
-                assertEquals("Success(Delete completed successfully)", success.toString());
+                final DeleteResult result = expectMsgClass(duration("500 ms"), DeleteResult.class);
+                assertEquals(Collections.singletonList(1), result.getRowCounts());
             } finally {
                 delActor.tell(PoisonPill.getInstance(), getRef());
                 system.terminate();
@@ -1,32 +1,50 @@
 package mysystem.db.actor.company;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.typesafe.config.Config;
 import com.typesafe.config.ConfigFactory;
+import com.typesafe.config.ConfigValue;
+import com.typesafe.config.ConfigValueFactory;
 
 import org.junit.BeforeClass;
 import org.junit.Test;
+import org.mockito.Mockito;
 
 import akka.actor.ActorRef;
 import akka.actor.ActorSystem;
 import akka.actor.PoisonPill;
+import akka.actor.Props;
 import akka.actor.Status;
+import akka.dispatch.ExecutionContexts;
 import akka.pattern.CircuitBreaker;
 import akka.testkit.JavaTestKit;
+import akka.testkit.TestActorRef;
 import mysystem.common.model.Company;
 import mysystem.db.TestDatabase;
+import mysystem.db.config.DatabaseConfig;
 import mysystem.db.model.DataType;
 import mysystem.db.model.GetAll;
 import mysystem.db.model.GetById;
 import mysystem.db.model.ModelCollection;
+import mysystem.db.model.QueryStrategy;
 import scala.concurrent.duration.Duration;
 import scala.concurrent.duration.FiniteDuration;
 
 import java.io.IOException;
 import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 import javax.sql.DataSource;
 
@@ -52,6 +70,265 @@ public class GetActorTest {
         return new CircuitBreaker(system.dispatcher(), system.scheduler(), maxFailures, callTimeout, resetTimeout);
     }
 
+    private static Config getConfig(final QueryStrategy queryStrategy, final int batchSize) {
+        final Map<String, ConfigValue> map = new HashMap<>();
+        map.put(DatabaseConfig.DATABASE_QUERY_STRATEGY.getKey(), ConfigValueFactory.fromAnyRef(queryStrategy.name()));
+        map.put(DatabaseConfig.DATABASE_QUERY_BATCH_SIZE.getKey(), ConfigValueFactory.fromAnyRef(batchSize));
+        return ConfigFactory.parseMap(map).withFallback(ConfigFactory.load("test-config"));
+    }
+
+    private static Config getCoalesceConfig(final String window, final int maxRequests) {
+        final Map<String, ConfigValue> map = new HashMap<>();
+        map.put(DatabaseConfig.DATABASE_QUERY_COALESCE_WINDOW.getKey(), ConfigValueFactory.fromAnyRef(window));
+        map.put(DatabaseConfig.DATABASE_QUERY_COALESCE_MAX_REQUESTS.getKey(),
+                ConfigValueFactory.fromAnyRef(maxRequests));
+        return ConfigFactory.parseMap(map).withFallback(ConfigFactory.load("test-config"));
+    }
+
+    @Test
+    public void testGetBucketSize() {
+        final ActorSystem system = ActorSystem.create("test-bucket-size", getConfig(QueryStrategy.IN_LIST, 100));
+        try {
+            final Props props = Props.create(GetActor.class, testdb.getDataSource(), getCircuitBreaker(system));
+            final GetActor actor = TestActorRef.<GetActor>create(system, props, "get-actor").underlyingActor();
+
+            assertEquals(8, actor.getBucketSize(1));
+            assertEquals(8, actor.getBucketSize(8));
+            assertEquals(16, actor.getBucketSize(9));
+            assertEquals(64, actor.getBucketSize(64));
+            assertEquals(100, actor.getBucketSize(65));
+            assertEquals(100, actor.getBucketSize(100));
+        } finally {
+            system.terminate();
+        }
+    }
+
+    @Test
+    public void testGetSqlInListCached() {
+        final ActorSystem system = ActorSystem.create("test-sql-cached", getConfig(QueryStrategy.IN_LIST, 100));
+        try {
+            final Props props = Props.create(GetActor.class, testdb.getDataSource(), getCircuitBreaker(system));
+            final GetActor actor = TestActorRef.<GetActor>create(system, props, "get-actor").underlyingActor();
+
+            final GetById getById = new GetById.Builder(DataType.COMPANY, 1, 2).build();
+            final GetById getByIdActive = new GetById.Builder(DataType.COMPANY, 1, 2).setActive(true).build();
+
+            final String sql = actor.getSql(getById, 8);
+            assertEquals("SELECT id, name, active FROM companies WHERE id IN (?, ?, ?, ?, ?, ?, ?, ?) ORDER BY id",
+                    sql);
+            assertTrue(sql == actor.getSql(new GetById.Builder(DataType.COMPANY, 3).build(), 8));
+            assertEquals("SELECT id, name, active FROM companies WHERE id IN (?, ?, ?, ?, ?, ?, ?, ?) AND active = ? "
+                    + "ORDER BY id", actor.getSql(getByIdActive, 8));
+        } finally {
+            system.terminate();
+        }
+    }
+
+    @Test
+    public void testReceiveGetByIdInListMultipleChunks() {
+        final ActorSystem system =
+                ActorSystem.create("test-get-by-id-in-list", getConfig(QueryStrategy.IN_LIST, 2));
+        new JavaTestKit(system) {{
+            final ActorRef getActor = GetActor.create(system, testdb.getDataSource(), getCircuitBreaker(system));
+
+            try {
+                getActor.tell(new GetById.Builder(DataType.COMPANY, 1, 2, 3, 4, 5).build(), getRef());
+
+                final ModelCollection response = expectMsgClass(duration("500 ms"), ModelCollection.class);
+                assertEquals(2, response.getModels().size());
+
+                final Company a = new Company.Builder().setId(1).setName("Test Company").setActive(true).build();
+                final Company b = new Company.Builder().setId(2).setName("Another Company").setActive(false).build();
+                assertTrue(response.getModels().contains(a));
+                assertTrue(response.getModels().contains(b));
+            } finally {
+                getActor.tell(PoisonPill.getInstance(), getRef());
+                system.terminate();
+            }
+        }};
+    }
+
+    @Test
+    public void testReceiveGetByIdInListWithActive() {
+        final ActorSystem system =
+                ActorSystem.create("test-get-by-id-in-list-active", getConfig(QueryStrategy.IN_LIST, 2));
+        new JavaTestKit(system) {{
+            final ActorRef getActor = GetActor.create(system, testdb.getDataSource(), getCircuitBreaker(system));
+
+            try {
+                getActor.tell(new GetById.Builder(DataType.COMPANY, 1, 2, 3).setActive(false).build(), getRef());
+
+                final ModelCollection response = expectMsgClass(duration("500 ms"), ModelCollection.class);
+                assertEquals(1, response.getModels().size());
+
+                final Company b = new Company.Builder().setId(2).setName("Another Company").setActive(false).build();
+                assertTrue(response.getModels().contains(b));
+            } finally {
+                getActor.tell(PoisonPill.getInstance(), getRef());
+                system.terminate();
+            }
+        }};
+    }
+
+    @Test
+    public void testReceiveGetByIdWithExecutionContext() throws SQLException {
+        final ActorSystem system =
+                ActorSystem.create("test-get-by-id-execution-context", ConfigFactory.load("test-config"));
+        final ExecutorService executorService = Executors.newSingleThreadExecutor(
+                new ThreadFactoryBuilder().setNameFormat("test-database-%d").build());
+        new JavaTestKit(system) {{
+            final AtomicReference<String> threadName = new AtomicReference<>();
+            final DataSource dataSource = Mockito.mock(DataSource.class);
+            Mockito.when(dataSource.getConnection()).thenAnswer(invocation -> {
+                threadName.set(Thread.currentThread().getName());
+                return testdb.getDataSource().getConnection();
+            });
+
+            final Props props = Props.create(GetActor.class, dataSource, getCircuitBreaker(system),
+                    ExecutionContexts.fromExecutorService(executorService));
+            final ActorRef getActor = system.actorOf(props);
+
+            try {
+                getActor.tell(new GetById.Builder(DataType.COMPANY, 1).build(), getRef());
+
+                final ModelCollection response = expectMsgClass(duration("500 ms"), ModelCollection.class);
+                assertEquals(1, response.getModels().size());
+                assertEquals("test-database-0", threadName.get());
+            } finally {
+                getActor.tell(PoisonPill.getInstance(), getRef());
+                system.terminate();
+                executorService.shutdown();
+            }
+        }};
+    }
+
+    @Test
+    public void testCoalesceConfig() {
+        final ActorSystem system = ActorSystem.create("test-coalesce-config", getCoalesceConfig("0 ms", 5));
+        new JavaTestKit(system) {{
+            try {
+                final Props props = Props.create(GetActor.class, testdb.getDataSource(), getCircuitBreaker(system));
+                final GetActor actor = TestActorRef.<GetActor>create(system, props, "get-actor").underlyingActor();
+
+                assertFalse(actor.getCoalesceWindow().isPresent());
+                assertEquals(5, actor.getCoalesceMaxRequests());
+                assertEquals(Optional.of(FiniteDuration.create(2, TimeUnit.MILLISECONDS)),
+                        actor.getCoalesceWindow(getCoalesceConfig("2 ms", 5)));
+            } finally {
+                system.terminate();
+            }
+        }};
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testCoalesceConfigInvalidMaxRequests() {
+        final ActorSystem system = ActorSystem.create("test-coalesce-config-invalid", getCoalesceConfig("2 ms", 5));
+        try {
+            final Props props = Props.create(GetActor.class, testdb.getDataSource(), getCircuitBreaker(system));
+            TestActorRef.<GetActor>create(system, props, "get-actor").underlyingActor()
+                    .getCoalesceMaxRequests(getCoalesceConfig("2 ms", 0));
+        } finally {
+            system.terminate();
+        }
+    }
+
+    @Test
+    public void testReceiveGetByIdCoalesced() throws SQLException {
+        final ActorSystem system = ActorSystem.create("test-get-by-id-coalesced", getCoalesceConfig("200 ms", 10));
+        new JavaTestKit(system) {{
+            final AtomicInteger connections = new AtomicInteger();
+            final DataSource dataSource = Mockito.mock(DataSource.class);
+            Mockito.when(dataSource.getConnection()).thenAnswer(invocation -> {
+                connections.incrementAndGet();
+                return testdb.getDataSource().getConnection();
+            });
+            final ActorRef getActor = GetActor.create(system, dataSource, getCircuitBreaker(system));
+            final JavaTestKit first = new JavaTestKit(system);
+            final JavaTestKit second = new JavaTestKit(system);
+            final JavaTestKit third = new JavaTestKit(system);
+
+            try {
+                getActor.tell(new GetById.Builder(DataType.COMPANY, 1, 2, 3).build(), first.getRef());
+                getActor.tell(new GetById.Builder(DataType.COMPANY, 1, 2).setActive(false).build(), second.getRef());
+                getActor.tell(new GetById.Builder(DataType.COMPANY, 3).build(), third.getRef());
+
+                final Company a = new Company.Builder().setId(1).setName("Test Company").setActive(true).build();
+                final Company b = new Company.Builder().setId(2).setName("Another Company").setActive(false).build();
+                assertEquals(new ModelCollection.Builder<>(a, b).build(),
+                        first.expectMsgClass(duration("1 s"), ModelCollection.class));
+                assertEquals(new ModelCollection.Builder<>(b).build(),
+                        second.expectMsgClass(duration("1 s"), ModelCollection.class));
+                assertEquals(new ModelCollection.Builder<>().build(),
+                        third.expectMsgClass(duration("1 s"), ModelCollection.class));
+                assertEquals(1, connections.get());
+            } finally {
+                getActor.tell(PoisonPill.getInstance(), getRef());
+                system.terminate();
+            }
+        }};
+    }
+
+    @Test
+    public void testReceiveGetByIdCoalescedMaxRequests() {
+        final ActorSystem system =
+                ActorSystem.create("test-get-by-id-coalesced-max", getCoalesceConfig("10 s", 2));
+        new JavaTestKit(system) {{
+            final ActorRef getActor = GetActor.create(system, testdb.getDataSource(), getCircuitBreaker(system));
+
+            try {
+                getActor.tell(new GetById.Builder(DataType.COMPANY, 1).build(), getRef());
+                getActor.tell(new GetById.Builder(DataType.COMPANY, 2).build(), getRef());
+
+                // Reaching the max requests flushes immediately rather than waiting for the 10 second window.
+                expectMsgClass(duration("500 ms"), ModelCollection.class);
+                expectMsgClass(duration("500 ms"), ModelCollection.class);
+            } finally {
+                getActor.tell(PoisonPill.getInstance(), getRef());
+                system.terminate();
+            }
+        }};
+    }
+
+    @Test
+    public void testReceiveGetByIdCoalescedConnectionException() throws SQLException {
+        final ActorSystem system =
+                ActorSystem.create("test-get-by-id-coalesced-exc", getCoalesceConfig("50 ms", 10));
+        new JavaTestKit(system) {{
+            final DataSource dataSource = TestDatabase.getMockDataSourceGetConnectionException();
+            final ActorRef getActor = GetActor.create(system, dataSource, getCircuitBreaker(system));
+            final JavaTestKit other = new JavaTestKit(system);
+
+            try {
+                getActor.tell(new GetById.Builder(DataType.COMPANY, 1).build(), getRef());
+                getActor.tell(new GetById.Builder(DataType.COMPANY, 2).build(), other.getRef());
+
+                expectMsgClass(duration("500 ms"), Status.Failure.class);
+                other.expectMsgClass(duration("500 ms"), Status.Failure.class);
+            } finally {
+                getActor.tell(PoisonPill.getInstance(), getRef());
+                system.terminate();
+            }
+        }};
+    }
+
+    @Test
+    public void testReceiveGetByIdPerId() {
+        final ActorSystem system = ActorSystem.create("test-get-by-id-per-id", getConfig(QueryStrategy.PER_ID, 2));
+        new JavaTestKit(system) {{
+            final ActorRef getActor = GetActor.create(system, testdb.getDataSource(), getCircuitBreaker(system));
+
+            try {
+                getActor.tell(new GetById.Builder(DataType.COMPANY, 1, 2, 3).build(), getRef());
+
+                final ModelCollection response = expectMsgClass(duration("500 ms"), ModelCollection.class);
+                assertEquals(2, response.getModels().size());
+            } finally {
+                getActor.tell(PoisonPill.getInstance(), getRef());
+                system.terminate();
+            }
+        }};
+    }
+
     @Test
     public void testReceiveGetById() {
         final ActorSystem system = ActorSystem.create("test-get-by-id", ConfigFactory.load("test-config"));
@@ -257,6 +534,59 @@ public class GetActorTest {
         }};
     }
 
+    @Test
+    public void testGetSqlGetAllPaged() {
+        final ActorSystem system = ActorSystem.create("test-sql-get-all-paged", ConfigFactory.load("test-config"));
+        try {
+            final Props props = Props.create(GetActor.class, testdb.getDataSource(), getCircuitBreaker(system));
+            final GetActor actor = TestActorRef.<GetActor>create(system, props, "get-actor").underlyingActor();
+
+            assertEquals("SELECT id, name, active FROM companies ORDER BY id",
+                    actor.getSql(new GetAll.Builder(DataType.COMPANY).build()));
+            assertEquals("SELECT id, name, active FROM companies ORDER BY id LIMIT ?",
+                    actor.getSql(new GetAll.Builder(DataType.COMPANY).setLimit(5).build()));
+            assertEquals("SELECT id, name, active FROM companies WHERE active = ? AND id > ? ORDER BY id LIMIT ?",
+                    actor.getSql(new GetAll.Builder(DataType.COMPANY).setActive(true).setAfterId(3).setLimit(5)
+                            .build()));
+            assertEquals("SELECT id, name, active FROM companies WHERE id > ? ORDER BY id",
+                    actor.getSql(new GetAll.Builder(DataType.COMPANY).setAfterId(3).build()));
+        } finally {
+            system.terminate();
+        }
+    }
+
+    @Test
+    public void testReceiveGetAllPaged() {
+        final ActorSystem system = ActorSystem.create("test-get-all-paged", ConfigFactory.load("test-config"));
+        new JavaTestKit(system) {{
+            final ActorRef getActor = GetActor.create(system, testdb.getDataSource(), getCircuitBreaker(system));
+
+            try {
+                final GetAll firstPage = new GetAll.Builder(DataType.COMPANY).setLimit(1).build();
+                getActor.tell(firstPage, getRef());
+
+                final Company a = new Company.Builder().setId(1).setName("Test Company").setActive(true).build();
+                final ModelCollection first = expectMsgClass(duration("500 ms"), ModelCollection.class);
+                assertEquals(new ModelCollection.Builder<>(a).setNextAfterId(1).build(), first);
+
+                getActor.tell(new GetAll.Builder(firstPage).setAfterId(first.getNextAfterId()).build(), getRef());
+
+                final Company b = new Company.Builder().setId(2).setName("Another Company").setActive(false).build();
+                final ModelCollection second = expectMsgClass(duration("500 ms"), ModelCollection.class);
+                assertEquals(new ModelCollection.Builder<>(b).build(), second);
+
+                getActor.tell(new GetAll.Builder(DataType.COMPANY).setAfterId(2).setLimit(1).build(), getRef());
+
+                final ModelCollection last = expectMsgClass(duration("500 ms"), ModelCollection.class);
+                assertTrue(last.getModels().isEmpty());
+                assertFalse(last.getNextAfterId().isPresent());
+            } finally {
+                getActor.tell(PoisonPill.getInstance(), getRef());
+                system.terminate();
+            }
+        }};
+    }
+
     @Test
     public void testReceiveGetAllConnectionException() throws SQLException {
         final ActorSystem system = ActorSystem.create("test-get-all-conn-exc", ConfigFactory.load("test-config"));
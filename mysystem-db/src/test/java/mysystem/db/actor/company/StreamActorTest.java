@@ -0,0 +1,227 @@
+package mysystem.db.actor.company;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+import com.typesafe.config.ConfigValueFactory;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.actor.Props;
+import akka.actor.Status;
+import akka.pattern.CircuitBreaker;
+import akka.testkit.JavaTestKit;
+import mysystem.common.model.Company;
+import mysystem.db.TestDatabase;
+import mysystem.db.config.DatabaseConfig;
+import mysystem.db.model.DataType;
+import mysystem.db.model.ModelCollection;
+import mysystem.db.model.StreamAck;
+import mysystem.db.model.StreamAll;
+import mysystem.db.model.StreamComplete;
+import scala.concurrent.duration.Duration;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.sql.DataSource;
+
+/**
+ * Perform testing on the {@link StreamActor} class.
+ */
+public class StreamActorTest {
+    private static TestDatabase testdb = new TestDatabase(StreamActorTest.class.getSimpleName());
+
+    private static final Company A = new Company.Builder().setId(1).setName("Test Company").setActive(true).build();
+    private static final Company B =
+            new Company.Builder().setId(2).setName("Another Company").setActive(false).build();
+
+    /**
+     * Initialize the test database.
+     */
+    @BeforeClass
+    public static void setup() throws IOException, SQLException {
+        testdb.load("hsqldb/tables.sql");
+        testdb.load("hsqldb/testdata.sql");
+
+        // Stream once so the one-time class loading and query preparation costs are not paid by the first test.
+        final ActorSystem system = ActorSystem.create("test-stream-warm-up", getConfig("10 s"));
+        new JavaTestKit(system) {{
+            try {
+                create(system, testdb.getDataSource(), new StreamAll.Builder(DataType.COMPANY).build(), getRef());
+                expectMsgClass(duration("10 s"), ModelCollection.class);
+                expectMsgClass(duration("10 s"), StreamComplete.class);
+            } finally {
+                system.terminate();
+            }
+        }};
+    }
+
+    private static Config getConfig(final String ackTimeout) {
+        return ConfigFactory.load("test-config").withValue(
+                DatabaseConfig.DATABASE_STREAM_ACK_TIMEOUT.getKey(), ConfigValueFactory.fromAnyRef(ackTimeout));
+    }
+
+    private static ActorRef create(
+            final ActorSystem system, final DataSource dataSource, final StreamAll streamAll,
+            final ActorRef requester) {
+        return system.actorOf(Props.create(StreamActor.class, dataSource, system.dispatcher(), streamAll, requester));
+    }
+
+    @Test
+    public void testStreamWithAcks() {
+        final ActorSystem system = ActorSystem.create("test-stream-with-acks", getConfig("10 s"));
+        new JavaTestKit(system) {{
+            try {
+                create(system, testdb.getDataSource(), new StreamAll.Builder(DataType.COMPANY).setChunkSize(1).build(),
+                        getRef());
+
+                assertEquals(new ModelCollection.Builder<>(A).build(),
+                        expectMsgClass(ModelCollection.class));
+                final ActorRef stream = getLastSender();
+
+                // The next chunk is not sent until the previous one is acknowledged.
+                expectNoMsg(duration("100 ms"));
+                stream.tell(new StreamAck.Builder().build(), getRef());
+
+                assertEquals(new ModelCollection.Builder<>(B).build(),
+                        expectMsgClass(ModelCollection.class));
+                reply(new StreamAck.Builder().build());
+
+                assertEquals(new StreamComplete.Builder(2).build(),
+                        expectMsgClass(StreamComplete.class));
+            } finally {
+                system.terminate();
+            }
+        }};
+    }
+
+    @Test
+    public void testStreamSinglePartialChunk() {
+        final ActorSystem system = ActorSystem.create("test-stream-partial-chunk", getConfig("10 s"));
+        new JavaTestKit(system) {{
+            try {
+                create(system, testdb.getDataSource(), new StreamAll.Builder(DataType.COMPANY).build(), getRef());
+
+                // The partial chunk needs no acknowledgement since the result set has been exhausted.
+                assertEquals(new ModelCollection.Builder<>(A, B).build(),
+                        expectMsgClass(ModelCollection.class));
+                assertEquals(new StreamComplete.Builder(2).build(),
+                        expectMsgClass(StreamComplete.class));
+            } finally {
+                system.terminate();
+            }
+        }};
+    }
+
+    @Test
+    public void testStreamWithActive() {
+        final ActorSystem system = ActorSystem.create("test-stream-with-active", getConfig("10 s"));
+        new JavaTestKit(system) {{
+            try {
+                final StreamAll streamAll = new StreamAll.Builder(DataType.COMPANY).setActive(false).build();
+                create(system, testdb.getDataSource(), streamAll, getRef());
+
+                assertEquals(new ModelCollection.Builder<>(B).build(),
+                        expectMsgClass(ModelCollection.class));
+                assertEquals(new StreamComplete.Builder(1).build(),
+                        expectMsgClass(StreamComplete.class));
+            } finally {
+                system.terminate();
+            }
+        }};
+    }
+
+    @Test
+    public void testStreamAckTimeout() {
+        final ActorSystem system = ActorSystem.create("test-stream-ack-timeout", getConfig("100 ms"));
+        new JavaTestKit(system) {{
+            try {
+                create(system, testdb.getDataSource(), new StreamAll.Builder(DataType.COMPANY).setChunkSize(1).build(),
+                        getRef());
+
+                expectMsgClass(ModelCollection.class);
+
+                final Status.Failure failure = expectMsgClass(Status.Failure.class);
+                assertTrue(failure.cause() instanceof TimeoutException);
+            } finally {
+                system.terminate();
+            }
+        }};
+    }
+
+    @Test
+    public void testStreamRequesterTerminated() throws SQLException {
+        final ActorSystem system = ActorSystem.create("test-stream-requester-terminated", getConfig("10 s"));
+        new JavaTestKit(system) {{
+            try {
+                final AtomicReference<Connection> connection = new AtomicReference<>();
+                final DataSource dataSource = Mockito.mock(DataSource.class);
+                Mockito.when(dataSource.getConnection()).thenAnswer(invocation -> {
+                    connection.set(testdb.getDataSource().getConnection());
+                    return connection.get();
+                });
+
+                final JavaTestKit requester = new JavaTestKit(system);
+                create(system, dataSource, new StreamAll.Builder(DataType.COMPANY).setChunkSize(1).build(),
+                        requester.getRef());
+                requester.expectMsgClass(ModelCollection.class);
+                final ActorRef stream = requester.getLastSender();
+                watch(stream);
+
+                // The stream stops as soon as the requester does, rather than waiting for the 10 second ack timeout.
+                system.stop(requester.getRef());
+                expectTerminated(stream);
+                assertTrue(connection.get().isClosed());
+            } finally {
+                system.terminate();
+            }
+        }};
+    }
+
+    @Test
+    public void testStreamConnectionException() throws SQLException {
+        final ActorSystem system = ActorSystem.create("test-stream-conn-exc", getConfig("10 s"));
+        new JavaTestKit(system) {{
+            try {
+                final DataSource dataSource = TestDatabase.getMockDataSourceGetConnectionException();
+                create(system, dataSource, new StreamAll.Builder(DataType.COMPANY).build(), getRef());
+
+                final Status.Failure failure = expectMsgClass(Status.Failure.class);
+                assertEquals("dataSource.getConnection failed", failure.cause().getMessage());
+            } finally {
+                system.terminate();
+            }
+        }};
+    }
+
+    @Test
+    public void testStreamThroughGetActor() {
+        final ActorSystem system = ActorSystem.create("test-stream-get-actor", getConfig("10 s"));
+        new JavaTestKit(system) {{
+            try {
+                final CircuitBreaker circuitBreaker = new CircuitBreaker(system.dispatcher(), system.scheduler(), 1,
+                        Duration.create(10, TimeUnit.SECONDS), Duration.create(60, TimeUnit.SECONDS));
+                final ActorRef getActor = GetActor.create(system, testdb.getDataSource(), circuitBreaker);
+                getActor.tell(new StreamAll.Builder(DataType.COMPANY).build(), getRef());
+
+                assertEquals(new ModelCollection.Builder<>(A, B).build(),
+                        expectMsgClass(ModelCollection.class));
+                assertEquals(new StreamComplete.Builder(2).build(),
+                        expectMsgClass(StreamComplete.class));
+            } finally {
+                system.terminate();
+            }
+        }};
+    }
+}
@@ -0,0 +1,91 @@
+package mysystem.db.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import mysystem.common.model.Company;
+import mysystem.db.model.CacheStatistics;
+import mysystem.db.model.DataType;
+import scala.concurrent.duration.Duration;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Perform testing of the {@link CompanyCache} class.
+ */
+public class CompanyCacheTest {
+    private Company company(final int id) {
+        return new Company.Builder().setId(id).setName("Company " + id).build();
+    }
+
+    @Test
+    public void testGetAllPresent() {
+        final CompanyCache cache = new CompanyCache(10, Optional.empty());
+        cache.putAll(Arrays.asList(company(1), company(2), new Company.Builder().setName("No Id").build()));
+
+        final Map<Integer, Company> present = cache.getAllPresent(Arrays.asList(1, 2, 3));
+        assertEquals(2, present.size());
+        assertEquals(company(1), present.get(1));
+
+        final CacheStatistics stats = cache.getStatistics(DataType.COMPANY);
+        assertEquals(2, stats.getSize());
+        assertEquals(2, stats.getHitCount());
+        assertEquals(1, stats.getMissCount());
+        assertEquals(0, stats.getEvictionCount());
+    }
+
+    @Test
+    public void testInvalidateAll() {
+        final CompanyCache cache = new CompanyCache(10, Optional.empty());
+        cache.putAll(Arrays.asList(company(1), company(2)));
+        cache.invalidateAll(Collections.singleton(1));
+
+        assertEquals(Collections.singleton(2), cache.getAllPresent(Arrays.asList(1, 2)).keySet());
+    }
+
+    @Test
+    public void testPutAllWithGeneration() {
+        final CompanyCache cache = new CompanyCache(10, Optional.empty());
+        final long generation = cache.getGeneration();
+        assertTrue(cache.putAll(Collections.singleton(company(1)), generation));
+
+        // Results read before an invalidation are dropped, since they may include companies deleted since.
+        cache.invalidateAll(Collections.singleton(2));
+        assertFalse(cache.putAll(Collections.singleton(company(2)), generation));
+        assertEquals(Collections.singleton(1), cache.getAllPresent(Arrays.asList(1, 2)).keySet());
+
+        assertTrue(cache.putAll(Collections.singleton(company(2)), cache.getGeneration()));
+        assertEquals(2, cache.getStatistics(DataType.COMPANY).getSize());
+    }
+
+    @Test
+    public void testEviction() {
+        final CompanyCache cache = new CompanyCache(2, Optional.empty());
+        cache.putAll(Arrays.asList(company(1), company(2), company(3)));
+
+        final CacheStatistics stats = cache.getStatistics(DataType.COMPANY);
+        assertEquals(2, stats.getSize());
+        assertEquals(1, stats.getEvictionCount());
+    }
+
+    @Test
+    public void testTtl() throws InterruptedException {
+        final CompanyCache cache = new CompanyCache(10, Optional.of(Duration.create(20, TimeUnit.MILLISECONDS)));
+        cache.putAll(Collections.singleton(company(1)));
+        Thread.sleep(50);
+
+        assertTrue(cache.getAllPresent(Collections.singleton(1)).isEmpty());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidSize() {
+        new CompanyCache(0, Optional.empty());
+    }
+}
@@ -0,0 +1,129 @@
+package mysystem.db.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import mysystem.common.util.IdSet;
+import mysystem.db.model.DataType;
+import mysystem.db.model.ExistenceFilterStatistics;
+
+/**
+ * Perform testing of the {@link ExistenceFilter} class.
+ */
+public class ExistenceFilterTest {
+    private ExistenceFilter create(final int... ids) {
+        final ExistenceFilter filter = new ExistenceFilter(1000);
+        assertTrue(filter.startRebuild());
+        filter.completeRebuild(IdSet.of(ids));
+        return filter;
+    }
+
+    @Test
+    public void testNotReady() {
+        final ExistenceFilter filter = new ExistenceFilter(1000);
+        assertFalse(filter.isReady());
+        assertEquals(IdSet.of(1, 2, 3), filter.filter(IdSet.of(1, 2, 3)));
+
+        final ExistenceFilterStatistics stats = filter.getStatistics(DataType.COMPANY);
+        assertFalse(stats.isReady());
+        assertEquals(0, stats.getSkippedCount());
+        assertEquals(0, stats.getQueriedCount());
+    }
+
+    @Test
+    public void testFilter() {
+        final ExistenceFilter filter = create(1, 2, 3);
+        assertTrue(filter.isReady());
+        assertEquals(IdSet.of(1, 3), filter.filter(IdSet.of(-5, 0, 1, 3)));
+        assertEquals(IdSet.EMPTY, filter.filter(IdSet.of(-1)));
+
+        final ExistenceFilterStatistics stats = filter.getStatistics(DataType.COMPANY);
+        assertTrue(stats.isReady());
+        assertEquals(3, stats.getInsertions());
+        assertEquals(3, stats.getSkippedCount());
+        assertEquals(2, stats.getQueriedCount());
+        assertTrue(stats.getExpectedFalsePositiveRate() < ExistenceFilter.DEFAULT_FALSE_POSITIVE_PROBABILITY);
+    }
+
+    @Test
+    public void testFilterAboveHighestLoadedId() {
+        // Ids above the highest loaded id may have been stored by another writer since the load.
+        final ExistenceFilter filter = create(10, 20);
+        assertEquals(IdSet.of(10, 21, 1001), filter.filter(IdSet.of(10, 21, 1001)));
+
+        final ExistenceFilterStatistics stats = filter.getStatistics(DataType.COMPANY);
+        assertEquals(0, stats.getSkippedCount());
+        assertEquals(3, stats.getQueriedCount());
+    }
+
+    @Test
+    public void testFilterEmptyTable() {
+        final ExistenceFilter filter = create();
+        assertTrue(filter.isReady());
+        assertEquals(IdSet.of(1, 2), filter.filter(IdSet.of(1, 2)));
+    }
+
+    @Test
+    public void testPut() {
+        final ExistenceFilter filter = create(10);
+        filter.put(5);
+        assertEquals(IdSet.of(5, 10), filter.filter(IdSet.of(5, 7, 10)));
+        assertEquals(2, filter.getStatistics(DataType.COMPANY).getInsertions());
+
+        // Stored ids do not raise the highest loaded id, since lower ids may have been stored elsewhere.
+        filter.put(30);
+        assertEquals(IdSet.of(25, 30), filter.filter(IdSet.of(25, 30)));
+    }
+
+    @Test
+    public void testRecordFalsePositives() {
+        final ExistenceFilter filter = create(1, 10);
+        filter.filter(IdSet.of(1, 5));
+        filter.recordFalsePositives(IdSet.of(5, 1001));
+
+        // Ids above the highest loaded id are not trusted by the filter, so are not false positives.
+        final ExistenceFilterStatistics stats = filter.getStatistics(DataType.COMPANY);
+        assertEquals(1, stats.getFalsePositiveCount());
+    }
+
+    @Test
+    public void testRebuild() {
+        final ExistenceFilter filter = create(1, 2);
+        assertTrue(filter.startRebuild());
+        assertFalse(filter.startRebuild());
+
+        // Ids stored while the rebuild runs are kept, while ids missing from the reloaded table are purged.
+        filter.put(7);
+        filter.completeRebuild(IdSet.of(1, 9));
+        assertEquals(IdSet.of(1, 7), filter.filter(IdSet.of(1, 2, 7)));
+        assertEquals(3, filter.getStatistics(DataType.COMPANY).getInsertions());
+        assertTrue(filter.startRebuild());
+    }
+
+    @Test
+    public void testAbortRebuild() {
+        final ExistenceFilter filter = create(1, 2);
+        assertTrue(filter.startRebuild());
+        filter.abortRebuild();
+        assertEquals(IdSet.of(1, 2), filter.filter(IdSet.of(1, 2)));
+        assertTrue(filter.startRebuild());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testCompleteRebuildNotStarted() {
+        new ExistenceFilter(1000).completeRebuild(IdSet.of(1));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNonPositiveExpectedInsertions() {
+        new ExistenceFilter(0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidFalsePositiveProbability() {
+        new ExistenceFilter(1000, 1.0);
+    }
+}
@@ -0,0 +1,84 @@
+package mysystem.db.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+
+import akka.dispatch.Futures;
+import scala.concurrent.Future;
+import scala.concurrent.Promise;
+import scala.concurrent.duration.Duration;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Perform testing of the {@link ResultCache} class.
+ */
+public class ResultCacheTest {
+    private static class CountingLoader implements Supplier<Future<Object>> {
+        private final AtomicInteger count = new AtomicInteger(0);
+        private Promise<Object> promise = Futures.promise();
+
+        @Override
+        public Future<Object> get() {
+            this.count.incrementAndGet();
+            this.promise = Futures.promise();
+            return this.promise.future();
+        }
+    }
+
+    @Test
+    public void testCoalesceInFlight() {
+        final ResultCache<String> cache = new ResultCache<>(Duration.create(1, TimeUnit.MINUTES));
+        final CountingLoader loader = new CountingLoader();
+
+        final Future<Object> first = cache.get("a", loader);
+        final Future<Object> second = cache.get("a", loader);
+        assertSame(first, second);
+        assertEquals(1, loader.count.get());
+
+        loader.promise.success("result");
+        assertSame(first, cache.get("a", loader));
+        assertEquals(1, loader.count.get());
+
+        cache.get("b", loader);
+        assertEquals(2, loader.count.get());
+    }
+
+    @Test
+    public void testFailureNotReused() {
+        final ResultCache<String> cache = new ResultCache<>(Duration.create(1, TimeUnit.MINUTES));
+        final CountingLoader loader = new CountingLoader();
+
+        cache.get("a", loader);
+        loader.promise.failure(new RuntimeException("Fake"));
+        cache.get("a", loader);
+        assertEquals(2, loader.count.get());
+    }
+
+    @Test
+    public void testMaxStaleness() throws InterruptedException {
+        final ResultCache<String> cache = new ResultCache<>(Duration.create(20, TimeUnit.MILLISECONDS));
+        final CountingLoader loader = new CountingLoader();
+
+        cache.get("a", loader);
+        loader.promise.success("result");
+        Thread.sleep(50);
+        cache.get("a", loader);
+        assertEquals(2, loader.count.get());
+    }
+
+    @Test
+    public void testInvalidateAll() {
+        final ResultCache<String> cache = new ResultCache<>(Duration.create(1, TimeUnit.MINUTES));
+        final CountingLoader loader = new CountingLoader();
+
+        cache.get("a", loader);
+        cache.invalidateAll();
+        cache.get("a", loader);
+        assertEquals(2, loader.count.get());
+    }
+}
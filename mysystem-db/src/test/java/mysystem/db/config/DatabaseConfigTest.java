@@ -12,7 +12,7 @@ public class DatabaseConfigTest {
     public void test() {
         // This is only here for 100% coverage.
         assertEquals(DatabaseConfig.DATABASE_USERNAME, DatabaseConfig.valueOf("DATABASE_USERNAME"));
-        assertEquals(5, DatabaseConfig.values().length);
+        assertEquals(18, DatabaseConfig.values().length);
     }
 
     @Test
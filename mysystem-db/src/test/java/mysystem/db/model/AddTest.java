@@ -2,6 +2,7 @@ package mysystem.db.model;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import com.google.gson.JsonObject;
@@ -82,6 +83,15 @@ public class AddTest {
         assertTrue(d.equals(d));
     }
 
+    @Test
+    public void testSerializedForm() {
+        final Add<Company> model = new Add.Builder<>(DataType.COMPANY, new Company.Builder().setName("name").build()).build();
+
+        // The serialized form is created when first needed, and then retained.
+        assertSame(model.getSerializedForm(), model.getSerializedForm());
+        assertEquals(0, model.getSerializedForm().getRetainedBytes());
+    }
+
     @Test
     public void testHashCode() {
         final Company ca = new Company.Builder().setName("a").build();
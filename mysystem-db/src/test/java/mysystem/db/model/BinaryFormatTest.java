@@ -0,0 +1,87 @@
+package mysystem.db.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import mysystem.common.model.Company;
+import mysystem.common.model.Model;
+import mysystem.common.serialization.BinaryModelSerialization;
+import mysystem.common.serialization.ModelSerialization;
+
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Perform round-trip and size testing on the database model objects when serialized with the tagged binary format.
+ */
+public class BinaryFormatTest {
+    private final BinaryModelSerialization binary = new BinaryModelSerialization();
+    private final ModelSerialization json = new ModelSerialization();
+
+    private void assertRoundTrip(final Model model) {
+        final byte[] serialized = this.binary.toBinary(model);
+        assertEquals(model, this.binary.fromBinary(serialized, this.binary.manifest(model)));
+        assertTrue("Binary not smaller than JSON for " + model,
+                serialized.length < this.json.toBinary(model).length);
+    }
+
+    @Test
+    public void testRoundTripGetById() {
+        assertRoundTrip(new GetById.Builder(DataType.COMPANY, 1, 300, 70000).build());
+        assertRoundTrip(new GetById.Builder(DataType.COMPANY, 1, 2).setActive(false).build());
+    }
+
+    @Test
+    public void testRoundTripDeleteById() {
+        assertRoundTrip(new DeleteById.Builder(DataType.COMPANY, 1, 2, 3).build());
+    }
+
+    @Test
+    public void testRoundTripGetAll() {
+        assertRoundTrip(new GetAll.Builder(DataType.COMPANY).build());
+        assertRoundTrip(new GetAll.Builder(DataType.COMPANY).setActive(true).setAfterId(20).setLimit(10).build());
+    }
+
+    @Test
+    public void testRoundTripAdd() {
+        final Company a = new Company.Builder().setName("a").build();
+        final Company b = new Company.Builder().setName("b").setActive(false).build();
+        assertRoundTrip(new Add.Builder<>(DataType.COMPANY, a, b).build());
+    }
+
+    @Test
+    public void testRoundTripModelCollection() {
+        final Company a = new Company.Builder().setId(1).setName("a").build();
+        final Company b = new Company.Builder().setId(2).setName("b").build();
+        assertRoundTrip(new ModelCollection.Builder<>(a, b).setNextAfterId(2).build());
+        assertRoundTrip(new ModelCollection.Builder<Company>().build());
+    }
+
+    @Test
+    public void testRoundTripNestedJsonModel() {
+        // Model objects without binary support are written as JSON when nested within binary model objects.
+        final GetCacheStatistics getCacheStatistics = new GetCacheStatistics.Builder(DataType.COMPANY).build();
+        final ModelCollection<GetCacheStatistics> collection =
+                new ModelCollection.Builder<>(getCacheStatistics).build();
+
+        final byte[] serialized = this.binary.toBinary(collection);
+        assertEquals(collection, this.binary.fromBinary(serialized, this.binary.manifest(collection)));
+    }
+
+    @Test
+    public void testSizeLargeCollection() {
+        final List<Company> companies = new LinkedList<>();
+        for (int id = 1; id <= 1000; id++) {
+            companies.add(new Company.Builder().setId(id).setName("Company " + id).setActive(id % 2 == 0).build());
+        }
+        final ModelCollection<Company> collection = new ModelCollection.Builder<>(companies).build();
+
+        final byte[] serialized = this.binary.toBinary(collection);
+        final int jsonSize = this.json.toBinary(collection).length;
+        assertTrue("Binary " + serialized.length + " not less than half of JSON " + jsonSize,
+                serialized.length * 2 < jsonSize);
+        assertEquals(collection, this.binary.fromBinary(serialized, this.binary.manifest(collection)));
+    }
+}
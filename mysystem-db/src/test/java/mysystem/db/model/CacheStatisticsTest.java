@@ -0,0 +1,111 @@
+package mysystem.db.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import org.junit.Test;
+
+import mysystem.common.serialization.ManifestMapping;
+
+/**
+ * Perform testing on the {@link CacheStatistics} class.
+ */
+public class CacheStatisticsTest {
+    private final ManifestMapping mapping = new ManifestMapping();
+
+    private CacheStatistics create(final long hits, final long misses) {
+        return new CacheStatistics.Builder(DataType.COMPANY).setSize(3).setHitCount(hits).setMissCount(misses)
+                .setEvictionCount(1).build();
+    }
+
+    @Test
+    public void testCompareTo() {
+        final CacheStatistics a = create(1, 2);
+        final CacheStatistics b = create(2, 2);
+
+        assertEquals(1, a.compareTo(null));
+        assertEquals(0, a.compareTo(a));
+        assertEquals(-1, a.compareTo(b));
+        assertEquals(1, b.compareTo(a));
+        assertEquals(0, b.compareTo(b));
+    }
+
+    @Test
+    public void testEquals() {
+        final CacheStatistics a = create(1, 2);
+        final CacheStatistics b = create(2, 2);
+
+        assertFalse(a.equals(null));
+        assertTrue(a.equals(a));
+        assertFalse(a.equals(b));
+        assertFalse(b.equals(a));
+        assertTrue(b.equals(b));
+    }
+
+    @Test
+    public void testHashCode() {
+        assertEquals(create(1, 2).hashCode(), create(1, 2).hashCode());
+        assertFalse(create(1, 2).hashCode() == create(2, 2).hashCode());
+    }
+
+    @Test
+    public void testGetHitRate() {
+        assertEquals(1.0, new CacheStatistics.Builder(DataType.COMPANY).build().getHitRate(), 0.0001);
+        assertEquals(0.25, create(1, 3).getHitRate(), 0.0001);
+    }
+
+    @Test
+    public void testToJson() {
+        assertEquals("{\"dataType\":\"COMPANY\",\"size\":3,\"hitCount\":1,\"missCount\":2,\"evictionCount\":1,"
+                + "\"manifest\":\"CacheStatistics\"}", create(1, 2).toJson().toString());
+    }
+
+    @Test
+    public void testToString() {
+        assertEquals("CacheStatistics[dataType=COMPANY,size=3,hitCount=1,missCount=2,evictionCount=1]",
+                create(1, 2).toString());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testBuilderNoDataType() {
+        new CacheStatistics.Builder().build();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBuilderNegativeSize() {
+        new CacheStatistics.Builder(DataType.COMPANY).setSize(-1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBuilderNegativeHitCount() {
+        new CacheStatistics.Builder(DataType.COMPANY).setHitCount(-1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBuilderNegativeMissCount() {
+        new CacheStatistics.Builder(DataType.COMPANY).setMissCount(-1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBuilderNegativeEvictionCount() {
+        new CacheStatistics.Builder(DataType.COMPANY).setEvictionCount(-1);
+    }
+
+    @Test
+    public void testFromJson() {
+        final CacheStatistics original = create(1, 2);
+        final CacheStatistics copy = new CacheStatistics.Builder().fromJson(mapping, original.toJson()).build();
+
+        assertEquals(original, copy);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testFromJsonNoDataType() {
+        final JsonObject json = new JsonParser().parse("{\"manifest\":\"CacheStatistics\"}").getAsJsonObject();
+        new CacheStatistics.Builder().fromJson(mapping, json).build();
+    }
+}
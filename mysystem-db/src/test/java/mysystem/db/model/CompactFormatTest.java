@@ -0,0 +1,75 @@
+package mysystem.db.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import mysystem.common.model.Company;
+import mysystem.common.model.Model;
+import mysystem.common.serialization.ModelSerialization;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Perform round-trip and size testing on the database model objects when serialized with the compact JSON format.
+ */
+public class CompactFormatTest {
+    private final ModelSerialization compact = new ModelSerialization(true);
+    private final ModelSerialization json = new ModelSerialization();
+
+    private byte[] assertRoundTrip(final Model model) {
+        final String manifest = this.compact.manifest(model);
+        final byte[] serialized = this.compact.toBinary(model);
+        assertEquals(ModelSerialization.COMPACT_PREFIX + model.getSerializationManifest(), manifest);
+        assertEquals(model, this.compact.fromBinary(serialized, manifest));
+        assertEquals(model, this.json.fromBinary(serialized, manifest));
+        return serialized;
+    }
+
+    @Test
+    public void testRoundTripAdd() {
+        final Company a = new Company.Builder().setName("a").build();
+        final Company b = new Company.Builder().setName("b").setActive(false).build();
+        final byte[] serialized = assertRoundTrip(new Add.Builder<>(DataType.COMPANY, a, b).build());
+
+        assertEquals("{\"manifest\":\"Add\",\"dataType\":\"COMPANY\",\"elements\":\"Company\","
+                + "\"models\":[[null,\"a\",true],[null,\"b\",false]]}", new String(serialized, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testRoundTripModelCollection() {
+        final Company a = new Company.Builder().setId(1).setName("a").build();
+        final Company b = new Company.Builder().setId(2).setName("b").build();
+        final byte[] serialized = assertRoundTrip(new ModelCollection.Builder<>(a, b).setNextAfterId(2).build());
+        assertRoundTrip(new ModelCollection.Builder<Company>().build());
+
+        assertEquals("{\"manifest\":\"ModelCollection\",\"elements\":\"Company\","
+                + "\"models\":[[1,\"a\",true],[2,\"b\",true]],\"nextAfterId\":2}",
+                new String(serialized, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testRoundTripNonCompactElements() {
+        // Elements without compact support are written as regular JSON objects.
+        final GetCacheStatistics getCacheStatistics = new GetCacheStatistics.Builder(DataType.COMPANY).build();
+        final byte[] serialized = assertRoundTrip(new ModelCollection.Builder<>(getCacheStatistics).build());
+
+        assertTrue(new String(serialized, StandardCharsets.UTF_8).contains("\"manifest\":\"GetCacheStatistics\""));
+    }
+
+    @Test
+    public void testSizeLargeCollection() {
+        final List<Company> companies = new LinkedList<>();
+        for (int id = 1; id <= 1000; id++) {
+            companies.add(new Company.Builder().setId(id).setName("Company " + id).setActive(id % 2 == 0).build());
+        }
+        final ModelCollection<Company> collection = new ModelCollection.Builder<>(companies).build();
+
+        final int compactSize = assertRoundTrip(collection).length;
+        final int jsonSize = this.json.toBinary(collection).length;
+        assertTrue("Compact " + compactSize + " not less than half of JSON " + jsonSize, compactSize * 2 < jsonSize);
+    }
+}
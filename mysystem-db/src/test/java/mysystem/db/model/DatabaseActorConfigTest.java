@@ -2,6 +2,7 @@ package mysystem.db.model;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import com.google.gson.JsonObject;
@@ -13,11 +14,16 @@ import com.typesafe.config.ConfigValueFactory;
 
 import org.junit.Test;
 
+import akka.actor.Props;
+import akka.routing.ConsistentHashingPool;
+import akka.routing.RoundRobinPool;
+import akka.routing.SmallestMailboxPool;
 import mysystem.common.serialization.ManifestMapping;
 import mysystem.db.actor.company.GetActor;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * Perform testing of the {@link DatabaseActorConfig} class and builder.
@@ -32,6 +38,13 @@ public class DatabaseActorConfigTest {
         return ConfigFactory.parseMap(map);
     }
 
+    private Config getConfigWithPool(final RouterType routerType) {
+        final Map<String, ConfigValue> map = new HashMap<>();
+        map.put("pool-size", ConfigValueFactory.fromAnyRef(3));
+        map.put("router-type", ConfigValueFactory.fromAnyRef(routerType.name()));
+        return ConfigFactory.parseMap(map).withFallback(getConfig());
+    }
+
     private Config getConfigNoActorClass() {
         final Map<String, ConfigValue> map = new HashMap<>();
         map.put("message-class", ConfigValueFactory.fromAnyRef(GetAll.class.getName()));
@@ -100,9 +113,9 @@ public class DatabaseActorConfigTest {
         final DatabaseActorConfig b = new DatabaseActorConfig.Builder("b", getConfig()).build();
         final DatabaseActorConfig c = new DatabaseActorConfig.Builder("c", getConfig()).build();
 
-        assertEquals(-198566735, a.hashCode());
-        assertEquals(-198565366, b.hashCode());
-        assertEquals(-198563997, c.hashCode());
+        assertEquals(-1254920567, a.hashCode());
+        assertEquals(-1253046406, b.hashCode());
+        assertEquals(-1251172245, c.hashCode());
     }
 
     @Test
@@ -121,7 +134,55 @@ public class DatabaseActorConfigTest {
 
         assertEquals(
                 "DatabaseActorConfig[actorName=a,actorClass=mysystem.db.actor.company.GetActor,messageClass=mysystem"
-                        + ".db.model.GetAll]", config.toString());
+                        + ".db.model.GetAll,poolSize=Optional.empty,routerType=Optional.empty]", config.toString());
+    }
+
+    @Test
+    public void testPool() {
+        final DatabaseActorConfig config =
+                new DatabaseActorConfig.Builder("a", getConfigWithPool(RouterType.CONSISTENT_HASHING)).build();
+        assertEquals(Optional.of(3), config.getPoolSize());
+        assertEquals(Optional.of(RouterType.CONSISTENT_HASHING), config.getRouterType());
+
+        assertEquals(
+                "{\"actorName\":\"a\",\"actorClass\":\"mysystem.db.actor.company.GetActor\","
+                        + "\"messageClass\":\"mysystem.db.model.GetAll\",\"poolSize\":3,"
+                        + "\"routerType\":\"CONSISTENT_HASHING\",\"manifest\":\"DatabaseActorConfig\"}",
+                config.toJson().toString());
+        assertEquals(config, new DatabaseActorConfig.Builder().fromJson(mapping, config.toJson()).build());
+        assertEquals(config, new DatabaseActorConfig.Builder(config).build());
+        assertFalse(config.equals(new DatabaseActorConfig.Builder("a", getConfig()).build()));
+    }
+
+    @Test
+    public void testGetProps() {
+        final Props props = Props.empty();
+        assertSame(props, new DatabaseActorConfig.Builder("a", getConfig()).build().getProps(props));
+
+        final Props roundRobin = new DatabaseActorConfig.Builder("a", getConfig()).setPoolSize(2).build()
+                .getProps(props);
+        assertTrue(roundRobin.routerConfig() instanceof RoundRobinPool);
+        assertEquals(2, ((RoundRobinPool) roundRobin.routerConfig()).nrOfInstances());
+
+        final Props smallestMailbox =
+                new DatabaseActorConfig.Builder("a", getConfigWithPool(RouterType.SMALLEST_MAILBOX)).build()
+                        .getProps(props);
+        assertTrue(smallestMailbox.routerConfig() instanceof SmallestMailboxPool);
+
+        final Props consistentHashing =
+                new DatabaseActorConfig.Builder("a", getConfigWithPool(RouterType.CONSISTENT_HASHING)).build()
+                        .getProps(props);
+        assertTrue(consistentHashing.routerConfig() instanceof ConsistentHashingPool);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBuilderInvalidPoolSize() {
+        new DatabaseActorConfig.Builder("a", getConfig()).setPoolSize(0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBuilderInvalidRouterType() {
+        new DatabaseActorConfig.Builder("a", getConfig()).setRouterType("invalid");
     }
 
     @Test(expected = IllegalArgumentException.class)
@@ -0,0 +1,20 @@
+package mysystem.db.model;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+/**
+ * Perform testing of the {@link DatabaseHashMapper} class.
+ */
+public class DatabaseHashMapperTest {
+    @Test
+    public void testHashKey() {
+        final DatabaseHashMapper mapper = new DatabaseHashMapper();
+        final GetAll getAll = new GetAll.Builder(DataType.COMPANY).build();
+
+        assertEquals("1", mapper.hashKey(new GetById.Builder(DataType.COMPANY, 3, 1, 2).build()));
+        assertEquals("2", mapper.hashKey(new DeleteById.Builder(DataType.COMPANY, 5, 2).build()));
+        assertEquals(getAll.toString(), mapper.hashKey(getAll));
+    }
+}
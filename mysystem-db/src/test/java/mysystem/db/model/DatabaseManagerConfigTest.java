@@ -23,9 +23,12 @@ import akka.pattern.CircuitBreaker;
 import mysystem.common.serialization.ManifestMapping;
 import mysystem.db.actor.company.GetActor;
 import scala.concurrent.ExecutionContextExecutor;
+import scala.concurrent.duration.Duration;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Perform testing of the {@link DatabaseManagerConfig} class and builder.
@@ -53,6 +56,18 @@ public class DatabaseManagerConfigTest {
         return ConfigFactory.parseMap(map);
     }
 
+    private Config getConfigWithThreadPool() {
+        final Map<String, ConfigValue> map = new HashMap<>();
+        map.put("dispatcher", ConfigValueFactory.fromAnyRef("mysystem.database.dispatcher"));
+        map.put("thread-count", ConfigValueFactory.fromAnyRef(4));
+        map.put("cache.max-size", ConfigValueFactory.fromAnyRef(1000));
+        map.put("cache.ttl", ConfigValueFactory.fromAnyRef("5 m"));
+        map.put("result-cache.max-staleness", ConfigValueFactory.fromAnyRef("30 s"));
+        map.put("existence-filter.expected-size", ConfigValueFactory.fromAnyRef(5000));
+        map.put("existence-filter.rebuild-interval", ConfigValueFactory.fromAnyRef("1 h"));
+        return ConfigFactory.parseMap(map).withFallback(getConfig());
+    }
+
     private Config getConfigNoDataType() {
         final Map<String, ConfigValue> map = new HashMap<>();
         map.put("call-timeout", ConfigValueFactory.fromAnyRef("10 s"));
@@ -139,9 +154,9 @@ public class DatabaseManagerConfigTest {
         final DatabaseManagerConfig b = new DatabaseManagerConfig.Builder("b", getConfig()).build();
         final DatabaseManagerConfig c = new DatabaseManagerConfig.Builder("c", getConfig()).build();
 
-        assertEquals(-1718487040, a.hashCode());
-        assertEquals(-1649143083, b.hashCode());
-        assertEquals(-1579799126, c.hashCode());
+        assertEquals(-162385424, a.hashCode());
+        assertEquals(-1612935231, b.hashCode());
+        assertEquals(1231482258, c.hashCode());
     }
 
     @Test
@@ -165,10 +180,15 @@ public class DatabaseManagerConfigTest {
 
         final StringBuilder expected = new StringBuilder();
         expected.append("DatabaseManagerConfig[actorName=a,dataType=COMPANY,maxFailures=5,callTimeout=10000 ");
-        expected.append("milliseconds,resetTimeout=60000 milliseconds,actorConfigs=[DatabaseActorConfig[actorName=");
-        expected.append("get-all,actorClass=mysystem.db.actor.company.GetActor,messageClass=");
-        expected.append("mysystem.db.model.GetAll], DatabaseActorConfig[actorName=get-by-id,actorClass=");
-        expected.append("mysystem.db.actor.company.GetActor,messageClass=mysystem.db.model.GetAll]]]");
+        expected.append("milliseconds,resetTimeout=60000 milliseconds,dispatcher=Optional.empty,threadCount=");
+        expected.append("Optional.empty,cacheSize=Optional.empty,cacheTtl=Optional.empty,resultCacheStaleness=");
+        expected.append("Optional.empty,existenceFilterSize=Optional.empty,existenceFilterRebuildInterval=");
+        expected.append("Optional.empty,actorConfigs=[");
+        expected.append("DatabaseActorConfig[actorName=get-all,actorClass=");
+        expected.append("mysystem.db.actor.company.GetActor,messageClass=mysystem.db.model.GetAll,poolSize=");
+        expected.append("Optional.empty,routerType=Optional.empty], DatabaseActorConfig[actorName=get-by-id,");
+        expected.append("actorClass=mysystem.db.actor.company.GetActor,messageClass=mysystem.db.model.GetAll,");
+        expected.append("poolSize=Optional.empty,routerType=Optional.empty]]]");
 
         assertEquals(expected.toString(), config.toString());
     }
@@ -191,6 +211,68 @@ public class DatabaseManagerConfigTest {
         assertNotNull(circuitBreaker);
     }
 
+    @Test
+    public void testThreadPool() {
+        final DatabaseManagerConfig config = new DatabaseManagerConfig.Builder("a", getConfigWithThreadPool()).build();
+        assertEquals(Optional.of("mysystem.database.dispatcher"), config.getDispatcher());
+        assertEquals(Optional.of(4), config.getThreadCount());
+        assertEquals(Optional.of(1000L), config.getCacheSize());
+        assertEquals(Optional.of(Duration.create(5, TimeUnit.MINUTES)), config.getCacheTtl());
+        assertEquals(Optional.of(Duration.create(30, TimeUnit.SECONDS)), config.getResultCacheStaleness());
+        assertEquals(Optional.of(5000L), config.getExistenceFilterSize());
+        assertEquals(Optional.of(Duration.create(1, TimeUnit.HOURS)), config.getExistenceFilterRebuildInterval());
+
+        final StringBuilder expected = new StringBuilder();
+        expected.append("{\"actorName\":\"a\",\"dataType\":\"COMPANY\",\"maxFailures\":5,\"callTimeout\":10000,");
+        expected.append("\"resetTimeout\":60000,\"dispatcher\":\"mysystem.database.dispatcher\",\"threadCount\":4,");
+        expected.append("\"cacheSize\":1000,\"cacheTtl\":300000,\"resultCacheStaleness\":30000,");
+        expected.append("\"existenceFilterSize\":5000,\"existenceFilterRebuildInterval\":3600000,");
+        assertTrue(config.toJson().toString().startsWith(expected.toString()));
+
+        final DatabaseManagerConfig copy =
+                new DatabaseManagerConfig.Builder().fromJson(mapping, config.toJson()).build();
+        assertEquals(config, copy);
+        assertEquals(config, new DatabaseManagerConfig.Builder(config).build());
+        assertFalse(config.equals(new DatabaseManagerConfig.Builder("a", getConfig()).build()));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBuilderBlankDispatcher() {
+        new DatabaseManagerConfig.Builder("a", getConfig()).setDispatcher(" ");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBuilderNonPositiveThreadCount() {
+        new DatabaseManagerConfig.Builder("a", getConfig()).setThreadCount(0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBuilderNonPositiveCacheSize() {
+        new DatabaseManagerConfig.Builder("a", getConfig()).setCacheSize(0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBuilderNonPositiveCacheTtl() {
+        new DatabaseManagerConfig.Builder("a", getConfig()).setCacheTtl(Duration.create(0, TimeUnit.SECONDS));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBuilderNonPositiveResultCacheStaleness() {
+        new DatabaseManagerConfig.Builder("a", getConfig())
+                .setResultCacheStaleness(Duration.create(0, TimeUnit.SECONDS));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBuilderNonPositiveExistenceFilterSize() {
+        new DatabaseManagerConfig.Builder("a", getConfig()).setExistenceFilterSize(0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBuilderNonPositiveExistenceFilterRebuildInterval() {
+        new DatabaseManagerConfig.Builder("a", getConfig())
+                .setExistenceFilterRebuildInterval(Duration.create(0, TimeUnit.SECONDS));
+    }
+
     @Test(expected = IllegalStateException.class)
     public void testBuilderNoDataType() {
         new DatabaseManagerConfig.Builder("a", getConfigNoDataType()).build();
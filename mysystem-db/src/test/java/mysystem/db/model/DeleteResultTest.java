@@ -0,0 +1,104 @@
+package mysystem.db.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import org.junit.Test;
+
+import mysystem.common.serialization.ManifestMapping;
+
+import java.util.Arrays;
+
+/**
+ * Perform testing on the {@link DeleteResult} class.
+ */
+public class DeleteResultTest {
+    private final ManifestMapping mapping = new ManifestMapping();
+
+    @Test
+    public void testCompareTo() {
+        final DeleteResult a = new DeleteResult.Builder().build();
+        final DeleteResult b = new DeleteResult.Builder(1, 2).build();
+        final DeleteResult c = new DeleteResult.Builder(3).build();
+
+        assertEquals(1, a.compareTo(null));
+        assertEquals(0, a.compareTo(a));
+        assertEquals(-1, a.compareTo(b));
+        assertEquals(-1, a.compareTo(c));
+        assertEquals(1, b.compareTo(a));
+        assertEquals(0, b.compareTo(b));
+        assertEquals(-1, b.compareTo(c));
+        assertEquals(1, c.compareTo(a));
+        assertEquals(1, c.compareTo(b));
+        assertEquals(0, c.compareTo(c));
+    }
+
+    @Test
+    public void testEquals() {
+        final DeleteResult a = new DeleteResult.Builder().build();
+        final DeleteResult b = new DeleteResult.Builder(1, 2).build();
+        final DeleteResult c = new DeleteResult.Builder(3).build();
+
+        assertFalse(a.equals(null));
+        assertTrue(a.equals(a));
+        assertFalse(a.equals(b));
+        assertFalse(a.equals(c));
+        assertFalse(b.equals(a));
+        assertTrue(b.equals(b));
+        assertFalse(b.equals(c));
+        assertFalse(c.equals(a));
+        assertFalse(c.equals(b));
+        assertTrue(c.equals(c));
+    }
+
+    @Test
+    public void testHashCode() {
+        final DeleteResult a = new DeleteResult.Builder().build();
+        final DeleteResult b = new DeleteResult.Builder(1, 2).build();
+        final DeleteResult c = new DeleteResult.Builder(3).build();
+
+        assertEquals(630, a.hashCode());
+        assertEquals(b.hashCode(), new DeleteResult.Builder(1, 2).build().hashCode());
+        assertFalse(b.hashCode() == c.hashCode());
+    }
+
+    @Test
+    public void testGetDeleted() {
+        assertEquals(0, new DeleteResult.Builder().build().getDeleted());
+        assertEquals(6, new DeleteResult.Builder(1, 2).add(Arrays.asList(0, 3)).build().getDeleted());
+    }
+
+    @Test
+    public void testToJson() {
+        final DeleteResult a = new DeleteResult.Builder().build();
+        final DeleteResult b = new DeleteResult.Builder(1, 2).build();
+
+        assertEquals("{\"rowCounts\":[],\"manifest\":\"DeleteResult\"}", a.toJson().toString());
+        assertEquals("{\"rowCounts\":[1,2],\"manifest\":\"DeleteResult\"}", b.toJson().toString());
+    }
+
+    @Test
+    public void testToString() {
+        assertEquals("DeleteResult[rowCounts=[]]", new DeleteResult.Builder().build().toString());
+        assertEquals("DeleteResult[rowCounts=[1, 2]]", new DeleteResult.Builder(1, 2).build().toString());
+    }
+
+    @Test
+    public void testBuilderFromJson() {
+        final DeleteResult original = new DeleteResult.Builder(1, 2, 0).build();
+        final DeleteResult copy = new DeleteResult.Builder().fromJson(mapping, original.toJson()).build();
+
+        assertEquals(original, copy);
+    }
+
+    @Test
+    public void testBuilderFromJsonNoRowCounts() {
+        final JsonObject json = new JsonParser().parse("{\"manifest\":\"DeleteResult\"}").getAsJsonObject();
+
+        assertEquals(new DeleteResult.Builder().build(), new DeleteResult.Builder().fromJson(mapping, json).build());
+    }
+}
@@ -0,0 +1,17 @@
+package mysystem.db.model;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+/**
+ * Perform testing of the {@link DeleteStrategy} enumeration.
+ */
+public class DeleteStrategyTest {
+    @Test
+    public void test() {
+        // Only here for 100% coverage.
+        assertEquals(DeleteStrategy.IN_LIST, DeleteStrategy.valueOf("IN_LIST"));
+        assertEquals(3, DeleteStrategy.values().length);
+    }
+}
@@ -0,0 +1,121 @@
+package mysystem.db.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import org.junit.Test;
+
+import mysystem.common.serialization.ManifestMapping;
+
+/**
+ * Perform testing on the {@link ExistenceFilterStatistics} class.
+ */
+public class ExistenceFilterStatisticsTest {
+    private final ManifestMapping mapping = new ManifestMapping();
+
+    private ExistenceFilterStatistics create(final long skipped, final long falsePositives) {
+        return new ExistenceFilterStatistics.Builder(DataType.COMPANY).setReady(true).setInsertions(3)
+                .setExpectedFalsePositiveRate(0.5).setSkippedCount(skipped).setQueriedCount(4)
+                .setFalsePositiveCount(falsePositives).build();
+    }
+
+    @Test
+    public void testCompareTo() {
+        final ExistenceFilterStatistics a = create(1, 2);
+        final ExistenceFilterStatistics b = create(2, 2);
+
+        assertEquals(1, a.compareTo(null));
+        assertEquals(0, a.compareTo(a));
+        assertEquals(-1, a.compareTo(b));
+        assertEquals(1, b.compareTo(a));
+        assertEquals(0, b.compareTo(b));
+    }
+
+    @Test
+    public void testEquals() {
+        final ExistenceFilterStatistics a = create(1, 2);
+        final ExistenceFilterStatistics b = create(2, 2);
+
+        assertFalse(a.equals(null));
+        assertTrue(a.equals(a));
+        assertFalse(a.equals(b));
+        assertFalse(b.equals(a));
+        assertTrue(b.equals(b));
+    }
+
+    @Test
+    public void testHashCode() {
+        assertEquals(create(1, 2).hashCode(), create(1, 2).hashCode());
+        assertFalse(create(1, 2).hashCode() == create(2, 2).hashCode());
+    }
+
+    @Test
+    public void testGetObservedFalsePositiveRate() {
+        assertEquals(0.0, new ExistenceFilterStatistics.Builder(DataType.COMPANY).build()
+                .getObservedFalsePositiveRate(), 0.0001);
+        assertEquals(0.25, create(3, 1).getObservedFalsePositiveRate(), 0.0001);
+    }
+
+    @Test
+    public void testToJson() {
+        assertEquals("{\"dataType\":\"COMPANY\",\"ready\":true,\"insertions\":3,\"expectedFalsePositiveRate\":0.5,"
+                + "\"skippedCount\":1,\"queriedCount\":4,\"falsePositiveCount\":2,"
+                + "\"manifest\":\"ExistenceFilterStatistics\"}", create(1, 2).toJson().toString());
+    }
+
+    @Test
+    public void testToString() {
+        assertEquals("ExistenceFilterStatistics[dataType=COMPANY,ready=true,insertions=3,expectedFalsePositiveRate=0.5,"
+                + "skippedCount=1,queriedCount=4,falsePositiveCount=2]", create(1, 2).toString());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testBuilderNoDataType() {
+        new ExistenceFilterStatistics.Builder().build();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBuilderNegativeInsertions() {
+        new ExistenceFilterStatistics.Builder(DataType.COMPANY).setInsertions(-1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBuilderInvalidExpectedFalsePositiveRate() {
+        new ExistenceFilterStatistics.Builder(DataType.COMPANY).setExpectedFalsePositiveRate(1.5);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBuilderNegativeSkippedCount() {
+        new ExistenceFilterStatistics.Builder(DataType.COMPANY).setSkippedCount(-1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBuilderNegativeQueriedCount() {
+        new ExistenceFilterStatistics.Builder(DataType.COMPANY).setQueriedCount(-1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBuilderNegativeFalsePositiveCount() {
+        new ExistenceFilterStatistics.Builder(DataType.COMPANY).setFalsePositiveCount(-1);
+    }
+
+    @Test
+    public void testFromJson() {
+        final ExistenceFilterStatistics original = create(1, 2);
+        final ExistenceFilterStatistics copy =
+                new ExistenceFilterStatistics.Builder().fromJson(mapping, original.toJson()).build();
+
+        assertEquals(original, copy);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testFromJsonNoDataType() {
+        final JsonObject json =
+                new JsonParser().parse("{\"manifest\":\"ExistenceFilterStatistics\"}").getAsJsonObject();
+        new ExistenceFilterStatistics.Builder().fromJson(mapping, json).build();
+    }
+}
@@ -11,6 +11,8 @@ import org.junit.Test;
 
 import mysystem.common.serialization.ManifestMapping;
 
+import java.util.Optional;
+
 /**
  * Perform testing on the {@link GetAll} class.
  */
@@ -46,8 +48,8 @@ public class GetAllTest {
         final GetAll a = new GetAll.Builder(DataType.COMPANY).build();
         final GetAll b = new GetAll.Builder(DataType.COMPANY).setActive(true).build();
 
-        assertEquals(1603752026, a.hashCode());
-        assertEquals(1603753257, b.hashCode());
+        assertEquals(808235338, a.hashCode());
+        assertEquals(809920577, b.hashCode());
     }
 
     @Test
@@ -64,8 +66,33 @@ public class GetAllTest {
         final GetAll a = new GetAll.Builder(DataType.COMPANY).build();
         final GetAll b = new GetAll.Builder(DataType.COMPANY).setActive(true).build();
 
-        assertEquals("GetAll[dataType=COMPANY,active=Optional.empty]", a.toString());
-        assertEquals("GetAll[dataType=COMPANY,active=Optional[true]]", b.toString());
+        assertEquals("GetAll[dataType=COMPANY,active=Optional.empty,afterId=Optional.empty,limit=Optional.empty]",
+                a.toString());
+        assertEquals("GetAll[dataType=COMPANY,active=Optional[true],afterId=Optional.empty,limit=Optional.empty]",
+                b.toString());
+    }
+
+    @Test
+    public void testPaging() {
+        final GetAll a = new GetAll.Builder(DataType.COMPANY).build();
+        final GetAll b = new GetAll.Builder(DataType.COMPANY).setLimit(10).build();
+        final GetAll c = new GetAll.Builder(b).setAfterId(5).build();
+
+        assertFalse(a.isPaged());
+        assertTrue(b.isPaged());
+        assertTrue(c.isPaged());
+        assertEquals(Optional.of(5), c.getAfterId());
+        assertEquals(Optional.of(10), c.getLimit());
+        assertEquals(-1, b.compareTo(c));
+        assertEquals("{\"dataType\":\"COMPANY\",\"afterId\":5,\"limit\":10,\"manifest\":\"GetAll\"}",
+                c.toJson().toString());
+        assertEquals("GetAll[dataType=COMPANY,active=Optional.empty,afterId=Optional[5],limit=Optional[10]]",
+                c.toString());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBuilderInvalidLimit() {
+        new GetAll.Builder(DataType.COMPANY).setLimit(0);
     }
 
     @Test(expected = IllegalStateException.class)
@@ -81,6 +108,14 @@ public class GetAllTest {
         assertEquals(original, copy);
     }
 
+    @Test
+    public void testFromJsonPaged() {
+        final GetAll original = new GetAll.Builder(DataType.COMPANY).setAfterId(5).setLimit(10).build();
+        final GetAll copy = new GetAll.Builder().fromJson(mapping, original.toJson()).build();
+
+        assertEquals(original, copy);
+    }
+
     @Test(expected = IllegalStateException.class)
     public void testFromJsonNoDataType() {
         final JsonObject json = new JsonParser().parse("{\"manifest\":\"GetAll\"}").getAsJsonObject();
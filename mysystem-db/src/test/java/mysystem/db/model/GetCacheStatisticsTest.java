@@ -0,0 +1,77 @@
+package mysystem.db.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import org.junit.Test;
+
+import mysystem.common.serialization.ManifestMapping;
+
+/**
+ * Perform testing on the {@link GetCacheStatistics} class.
+ */
+public class GetCacheStatisticsTest {
+    private final ManifestMapping mapping = new ManifestMapping();
+
+    @Test
+    public void testCompareTo() {
+        final GetCacheStatistics a = new GetCacheStatistics.Builder(DataType.COMPANY).build();
+
+        assertEquals(1, a.compareTo(null));
+        assertEquals(0, a.compareTo(a));
+        assertEquals(0, a.compareTo(new GetCacheStatistics.Builder(DataType.COMPANY).build()));
+    }
+
+    @Test
+    public void testEquals() {
+        final GetCacheStatistics a = new GetCacheStatistics.Builder(DataType.COMPANY).build();
+
+        assertFalse(a.equals(null));
+        assertTrue(a.equals(a));
+        assertTrue(a.equals(new GetCacheStatistics.Builder(DataType.COMPANY).build()));
+    }
+
+    @Test
+    public void testHashCode() {
+        final GetCacheStatistics a = new GetCacheStatistics.Builder(DataType.COMPANY).build();
+
+        assertEquals(new GetCacheStatistics.Builder(DataType.COMPANY).build().hashCode(), a.hashCode());
+    }
+
+    @Test
+    public void testToJson() {
+        final GetCacheStatistics a = new GetCacheStatistics.Builder(DataType.COMPANY).build();
+
+        assertEquals("{\"dataType\":\"COMPANY\",\"manifest\":\"GetCacheStatistics\"}", a.toJson().toString());
+    }
+
+    @Test
+    public void testToString() {
+        final GetCacheStatistics a = new GetCacheStatistics.Builder(DataType.COMPANY).build();
+
+        assertEquals("GetCacheStatistics[dataType=COMPANY]", a.toString());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testBuilderNoDataType() {
+        new GetCacheStatistics.Builder().build();
+    }
+
+    @Test
+    public void testFromJson() {
+        final GetCacheStatistics original = new GetCacheStatistics.Builder(DataType.COMPANY).build();
+        final GetCacheStatistics copy = new GetCacheStatistics.Builder().fromJson(mapping, original.toJson()).build();
+
+        assertEquals(original, copy);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testFromJsonNoDataType() {
+        final JsonObject json = new JsonParser().parse("{\"manifest\":\"GetCacheStatistics\"}").getAsJsonObject();
+        new GetCacheStatistics.Builder().fromJson(mapping, json).build();
+    }
+}
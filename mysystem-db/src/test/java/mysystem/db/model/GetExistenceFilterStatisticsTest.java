@@ -0,0 +1,80 @@
+package mysystem.db.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import org.junit.Test;
+
+import mysystem.common.serialization.ManifestMapping;
+
+/**
+ * Perform testing on the {@link GetExistenceFilterStatistics} class.
+ */
+public class GetExistenceFilterStatisticsTest {
+    private final ManifestMapping mapping = new ManifestMapping();
+
+    @Test
+    public void testCompareTo() {
+        final GetExistenceFilterStatistics a = new GetExistenceFilterStatistics.Builder(DataType.COMPANY).build();
+
+        assertEquals(1, a.compareTo(null));
+        assertEquals(0, a.compareTo(a));
+        assertEquals(0, a.compareTo(new GetExistenceFilterStatistics.Builder(DataType.COMPANY).build()));
+    }
+
+    @Test
+    public void testEquals() {
+        final GetExistenceFilterStatistics a = new GetExistenceFilterStatistics.Builder(DataType.COMPANY).build();
+
+        assertFalse(a.equals(null));
+        assertTrue(a.equals(a));
+        assertTrue(a.equals(new GetExistenceFilterStatistics.Builder(DataType.COMPANY).build()));
+    }
+
+    @Test
+    public void testHashCode() {
+        final GetExistenceFilterStatistics a = new GetExistenceFilterStatistics.Builder(DataType.COMPANY).build();
+
+        assertEquals(new GetExistenceFilterStatistics.Builder(DataType.COMPANY).build().hashCode(), a.hashCode());
+    }
+
+    @Test
+    public void testToJson() {
+        final GetExistenceFilterStatistics a = new GetExistenceFilterStatistics.Builder(DataType.COMPANY).build();
+
+        assertEquals("{\"dataType\":\"COMPANY\",\"manifest\":\"GetExistenceFilterStatistics\"}", a.toJson().toString());
+    }
+
+    @Test
+    public void testToString() {
+        final GetExistenceFilterStatistics a = new GetExistenceFilterStatistics.Builder(DataType.COMPANY).build();
+
+        assertEquals("GetExistenceFilterStatistics[dataType=COMPANY]", a.toString());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testBuilderNoDataType() {
+        new GetExistenceFilterStatistics.Builder().build();
+    }
+
+    @Test
+    public void testFromJson() {
+        final GetExistenceFilterStatistics original =
+                new GetExistenceFilterStatistics.Builder(DataType.COMPANY).build();
+        final GetExistenceFilterStatistics copy =
+                new GetExistenceFilterStatistics.Builder().fromJson(mapping, original.toJson()).build();
+
+        assertEquals(original, copy);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testFromJsonNoDataType() {
+        final JsonObject json =
+                new JsonParser().parse("{\"manifest\":\"GetExistenceFilterStatistics\"}").getAsJsonObject();
+        new GetExistenceFilterStatistics.Builder().fromJson(mapping, json).build();
+    }
+}
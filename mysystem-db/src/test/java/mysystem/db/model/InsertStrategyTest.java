@@ -0,0 +1,17 @@
+package mysystem.db.model;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+/**
+ * Perform testing of the {@link InsertStrategy} enumeration.
+ */
+public class InsertStrategyTest {
+    @Test
+    public void test() {
+        // Only here for 100% coverage.
+        assertEquals(InsertStrategy.BATCH, InsertStrategy.valueOf("BATCH"));
+        assertEquals(2, InsertStrategy.values().length);
+    }
+}
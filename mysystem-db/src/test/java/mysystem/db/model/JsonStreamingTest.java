@@ -0,0 +1,79 @@
+package mysystem.db.model;
+
+import static org.junit.Assert.assertEquals;
+
+import com.google.gson.JsonParser;
+
+import org.junit.Test;
+
+import mysystem.common.model.Company;
+import mysystem.common.model.Model;
+import mysystem.common.serialization.ModelSerialization;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Perform testing of the streaming JSON serialization of the database model objects.
+ */
+public class JsonStreamingTest {
+    private final ModelSerialization serialization = new ModelSerialization();
+
+    private void assertRoundTrip(final Model model) {
+        final String manifest = this.serialization.manifest(model);
+        final byte[] streamed = this.serialization.toBinary(model);
+        assertEquals(model, this.serialization.fromBinary(streamed, manifest));
+
+        // The streamed JSON must contain the same fields as the JSON object, and be readable in both directions.
+        assertEquals(model.toJson(), new JsonParser().parse(new String(streamed, StandardCharsets.UTF_8)));
+        final byte[] tree = model.toJson().toString().getBytes(StandardCharsets.UTF_8);
+        assertEquals(model, this.serialization.fromBinary(tree, manifest));
+    }
+
+    @Test
+    public void testGetById() {
+        assertRoundTrip(new GetById.Builder(DataType.COMPANY, 1, 2, 3).build());
+        assertRoundTrip(new GetById.Builder(DataType.COMPANY, 1).setActive(false).build());
+    }
+
+    @Test
+    public void testDeleteById() {
+        assertRoundTrip(new DeleteById.Builder(DataType.COMPANY, 1, 2, 3).build());
+    }
+
+    @Test
+    public void testGetAll() {
+        assertRoundTrip(new GetAll.Builder(DataType.COMPANY).build());
+        assertRoundTrip(new GetAll.Builder(DataType.COMPANY).setActive(true).setAfterId(5).setLimit(10).build());
+    }
+
+    @Test
+    public void testAdd() {
+        final Company a = new Company.Builder().setName("a").build();
+        final Company b = new Company.Builder().setName("b").setActive(false).build();
+        assertRoundTrip(new Add.Builder<>(DataType.COMPANY, a, b).build());
+    }
+
+    @Test
+    public void testModelCollection() {
+        final Company a = new Company.Builder().setId(1).setName("a").build();
+        final Company b = new Company.Builder().setId(2).setName("b").build();
+        assertRoundTrip(new ModelCollection.Builder<>(a, b).setNextAfterId(2).build());
+        assertRoundTrip(new ModelCollection.Builder<Company>().build());
+    }
+
+    @Test
+    public void testModelCollectionNestedTreeModel() {
+        // Model objects without streaming support are streamed from their JSON object, with the manifest first.
+        final GetCacheStatistics getCacheStatistics = new GetCacheStatistics.Builder(DataType.COMPANY).build();
+        assertRoundTrip(new ModelCollection.Builder<>(getCacheStatistics).build());
+    }
+
+    @Test
+    public void testModelCollectionUnrecognizedNestedModel() {
+        final String json = "{\"models\":[{\"manifest\":\"Unrecognized\",\"a\":[1,{\"b\":2}]},"
+                + "{\"name\":\"a\",\"manifest\":\"Company\"}],\"manifest\":\"ModelCollection\"}";
+        final Company a = new Company.Builder().setName("a").build();
+        assertEquals(new ModelCollection.Builder<>(a).build(),
+                this.serialization.fromBinary(json.getBytes(StandardCharsets.UTF_8), "ModelCollection"));
+    }
+}
@@ -2,6 +2,8 @@ package mysystem.db.model;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import com.google.gson.JsonObject;
@@ -9,10 +11,17 @@ import com.google.gson.JsonParser;
 
 import org.junit.Test;
 
+import akka.serialization.SerializerWithStringManifest;
 import mysystem.common.model.Company;
+import mysystem.common.serialization.BinaryModelSerialization;
 import mysystem.common.serialization.ManifestMapping;
+import mysystem.common.serialization.ModelSerialization;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
 
 /**
  * Perform testing on the {@link ModelCollection} class.
@@ -74,9 +83,9 @@ public class ModelCollectionTest {
         final ModelCollection<Company> b = new ModelCollection.Builder<>(companyA, companyB).build();
         final ModelCollection<Company> c = new ModelCollection.Builder<>(companyC).build();
 
-        assertEquals(629, a.hashCode());
-        assertEquals(1730046, b.hashCode());
-        assertEquals(865393, c.hashCode());
+        assertEquals(23310, a.hashCode());
+        assertEquals(1023853159, b.hashCode());
+        assertEquals(32020688, c.hashCode());
     }
 
     @Test
@@ -108,10 +117,11 @@ public class ModelCollectionTest {
         final ModelCollection<Company> b = new ModelCollection.Builder<>(companyA, companyB).build();
         final ModelCollection<Company> c = new ModelCollection.Builder<>(companyC).build();
 
-        assertEquals("ModelCollection[models=[]]", a.toString());
+        assertEquals("ModelCollection[models=[],nextAfterId=Optional.empty]", a.toString());
         assertEquals("ModelCollection[models=[Company[id=Optional.empty,name=a,active=true], "
-                + "Company[id=Optional.empty,name=b,active=true]]]", b.toString());
-        assertEquals("ModelCollection[models=[Company[id=Optional.empty,name=c,active=true]]]", c.toString());
+                + "Company[id=Optional.empty,name=b,active=true]],nextAfterId=Optional.empty]", b.toString());
+        assertEquals("ModelCollection[models=[Company[id=Optional.empty,name=c,active=true]],"
+                + "nextAfterId=Optional.empty]", c.toString());
     }
 
     @Test
@@ -131,7 +141,8 @@ public class ModelCollectionTest {
 
     @Test
     public void testBuilderNoCompanies() {
-        assertEquals("ModelCollection[models=[]]", new ModelCollection.Builder().build().toString());
+        assertEquals("ModelCollection[models=[],nextAfterId=Optional.empty]",
+                new ModelCollection.Builder().build().toString());
     }
 
     @Test
@@ -147,6 +158,22 @@ public class ModelCollectionTest {
         assertEquals(original, copy);
     }
 
+    @Test
+    public void testNextAfterId() {
+        final Company company = new Company.Builder().setId(1).setName("a").build();
+
+        final ModelCollection<Company> a = new ModelCollection.Builder<>(company).build();
+        final ModelCollection<Company> b = new ModelCollection.Builder<>(company).setNextAfterId(1).build();
+
+        assertEquals(Optional.empty(), a.getNextAfterId());
+        assertEquals(Optional.of(1), b.getNextAfterId());
+        assertEquals(-1, a.compareTo(b));
+        assertFalse(a.equals(b));
+        assertEquals("{\"models\":[{\"id\":1,\"name\":\"a\",\"active\":true,\"manifest\":\"Company\"}],"
+                + "\"nextAfterId\":1,\"manifest\":\"ModelCollection\"}", b.toJson().toString());
+        assertEquals(b, new ModelCollection.Builder<Company>().fromJson(mapping, b.toJson()).build());
+    }
+
     @Test
     public void testBuilderFromJsonNoModels() {
         // a JsonObject with no "models" element.
@@ -172,4 +199,109 @@ public class ModelCollectionTest {
 
         assertEquals(empty, copy);
     }
+
+    @Test
+    public void testLazyDecoding() {
+        final Company a = new Company.Builder().setId(1).setName("a").build();
+        final Company b = new Company.Builder().setId(2).setName("b").build();
+        final ModelCollection<Company> collection = new ModelCollection.Builder<>(a, b).setNextAfterId(2).build();
+        assertTrue(collection.isDecoded());
+
+        // Serializers with retention disabled, so forwarded bytes can only come from the lazily received collection.
+        final List<SerializerWithStringManifest> serializers = Arrays.asList(new ModelSerialization(false,
+                Optional.empty(), 0), new ModelSerialization(true, Optional.of(0), 0), new BinaryModelSerialization(0));
+        for (final SerializerWithStringManifest serializer : serializers) {
+            final byte[] bytes = serializer.toBinary(collection);
+            final ModelCollection<?> received =
+                    (ModelCollection<?>) serializer.fromBinary(bytes, serializer.manifest(collection));
+            assertFalse(received.isDecoded());
+
+            // Forwarding the collection untouched sends the bytes it was received with.
+            assertSame(bytes, serializer.toBinary(received));
+            assertFalse(received.isDecoded());
+
+            assertEquals(collection, received);
+            assertTrue(received.isDecoded());
+            assertEquals(Optional.of(2), received.getNextAfterId());
+            assertSame(bytes, serializer.toBinary(received));
+        }
+    }
+
+    @Test
+    public void testLazyDecodingDifferentFormat() {
+        final Company a = new Company.Builder().setId(1).setName("a").build();
+        final ModelCollection<Company> collection = new ModelCollection.Builder<>(a).build();
+
+        final ModelSerialization compact = new ModelSerialization(true);
+        final ModelCollection<?> received = (ModelCollection<?>) compact
+                .fromBinary(compact.toBinary(collection), compact.manifest(collection));
+
+        // Sending in a different format than the collection was received with requires decoding.
+        final ModelSerialization json = new ModelSerialization(false);
+        final byte[] bytes = json.toBinary(received);
+        assertTrue(received.isDecoded());
+        assertEquals(collection, json.fromBinary(bytes, json.manifest(received)));
+    }
+
+    @Test(expected = RuntimeException.class)
+    public void testLazyDecodingInvalid() {
+        final ModelSerialization json = new ModelSerialization();
+        final ModelCollection<?> received = (ModelCollection<?>) json
+                .fromBinary("{\"models\":".getBytes(StandardCharsets.UTF_8), "ModelCollection");
+        received.getModels();
+    }
+
+    @Test
+    public void testKeepsInsertionOrder() {
+        final Company a = new Company.Builder().setId(1).setName("a").build();
+        final Company b = new Company.Builder().setId(2).setName("b").build();
+        final ModelCollection<Company> collection = new ModelCollection.Builder<>(b, a, b).build();
+
+        assertEquals(Arrays.asList(b, a, b), collection.getModelList());
+        assertEquals(Arrays.asList(a, b), new ArrayList<>(collection.getModels()));
+        assertSame(collection.getModels(), collection.getModels());
+
+        // Equality follows the order the model objects were added in, which is also the order they are serialized in.
+        assertEquals(new ModelCollection.Builder<>(b, a, b).build(), collection);
+        assertEquals(new ModelCollection.Builder<>(b, a, b).build().hashCode(), collection.hashCode());
+        assertNotEquals(new ModelCollection.Builder<>(a, b).build(), collection);
+        assertNotEquals(new ModelCollection.Builder<>(a, b, b).build(), collection);
+
+        // Model objects are serialized in the order they were added, so the receiver sees the same order.
+        final ModelSerialization serialization = new ModelSerialization();
+        final ModelCollection<?> received = (ModelCollection<?>) serialization
+                .fromBinary(serialization.toBinary(collection), serialization.manifest(collection));
+        assertEquals(Arrays.asList(b, a, b), received.getModelList());
+        assertEquals(collection, received);
+    }
+
+    @Test
+    public void testBuilderSetModels() {
+        final Company a = new Company.Builder().setId(1).setName("a").build();
+        final Company b = new Company.Builder().setId(2).setName("b").build();
+        final Company c = new Company.Builder().setId(3).setName("c").build();
+
+        final List<Company> models = new ArrayList<>(Arrays.asList(c, a));
+        final ModelCollection.Builder<Company> builder = new ModelCollection.Builder<>(b).setModels(models);
+        final ModelCollection<Company> first = builder.build();
+        assertEquals(Arrays.asList(c, a), first.getModelList());
+
+        // Adding to the builder after building, or after taking a list, never modifies the list or the collection.
+        final ModelCollection<Company> second = builder.add(b).build();
+        assertEquals(Arrays.asList(c, a), first.getModelList());
+        assertEquals(Arrays.asList(c, a), models);
+        assertEquals(Arrays.asList(c, a, b), second.getModelList());
+
+        // The list is copied, so the caller modifying it afterwards never modifies the builder or the collection.
+        final ModelCollection.Builder<Company> copying = new ModelCollection.Builder<Company>().setModels(models);
+        models.add(b);
+        assertEquals(Arrays.asList(c, a), copying.build().getModelList());
+        assertEquals(Arrays.asList(c, a), first.getModelList());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testModelListUnmodifiable() {
+        final Company a = new Company.Builder().setId(1).setName("a").build();
+        new ModelCollection.Builder<Company>().setExpectedSize(10).add(a).build().getModelList().add(a);
+    }
 }
@@ -0,0 +1,94 @@
+package mysystem.db.model;
+
+import mysystem.common.model.Company;
+
+import java.lang.management.ManagementFactory;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.function.ToIntBiFunction;
+import java.util.function.ToIntFunction;
+
+/**
+ * A microbenchmark comparing the hand-written {@code compareTo}, {@code equals} and {@code hashCode} methods of the
+ * model classes with the {@link org.apache.commons.lang3.builder.CompareToBuilder} and
+ * {@link org.apache.commons.lang3.builder.HashCodeBuilder} implementations they replaced, which are kept as the
+ * reference implementations in the {@link ModelOrderingTest}. Both the time taken and the number of bytes allocated
+ * per operation are reported. This is not run as part of the unit tests, run the {@link #main(String[])} method with
+ * the test classpath instead.
+ */
+public class ModelComparisonBenchmark {
+    private final static int SAMPLES = 1024;
+    private final static int WARMUP_ITERATIONS = 2_000_000;
+    private final static int ITERATIONS = 10_000_000;
+
+    private final static com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private static <T> Object[] samples(final Function<Random, T> generator) {
+        // The same seed is used for every model type so that runs are repeatable.
+        final Random random = new Random(23);
+        final Object[] samples = new Object[SAMPLES];
+        for (int sample = 0; sample < SAMPLES; sample++) {
+            samples[sample] = generator.apply(random);
+        }
+        return samples;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> int run(final Object[] samples, final int iterations, final ToIntBiFunction<T, T> operation) {
+        int result = 0;
+        for (int iteration = 0; iteration < iterations; iteration++) {
+            final T a = (T) samples[iteration & (SAMPLES - 1)];
+            final T b = (T) samples[(iteration * 7 + 3) & (SAMPLES - 1)];
+            result += operation.applyAsInt(a, b);
+        }
+        return result;
+    }
+
+    private static <T> void report(
+            final String name, final Object[] samples, final ToIntBiFunction<T, T> operation) {
+        run(samples, WARMUP_ITERATIONS, operation);
+
+        final long threadId = Thread.currentThread().getId();
+        final long allocatedBefore = THREADS.getThreadAllocatedBytes(threadId);
+        final long start = System.nanoTime();
+        final int result = run(samples, ITERATIONS, operation);
+        final double nanos = (double) (System.nanoTime() - start) / ITERATIONS;
+        final double bytes = (double) (THREADS.getThreadAllocatedBytes(threadId) - allocatedBefore) / ITERATIONS;
+        System.out.println(String.format("%-36s %8.2f ns/op  %8.2f bytes/op  (%d)", name, nanos, bytes, result));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> void benchmark(
+            final String model, final Function<Random, T> generator, final ToIntBiFunction<T, T> reference,
+            final ToIntFunction<T> referenceHash) {
+        final Object[] samples = samples(generator);
+        ModelComparisonBenchmark.<T>report(model + " compareTo builder", samples, reference);
+        ModelComparisonBenchmark.<T>report(model + " compareTo", samples, (a, b) -> ((Comparable<T>) a).compareTo(b));
+        ModelComparisonBenchmark.<T>report(model + " equals", samples, (a, b) -> a.equals(b) ? 1 : 0);
+        ModelComparisonBenchmark.<T>report(model + " hashCode builder", samples,
+                (a, b) -> referenceHash.applyAsInt(a));
+        ModelComparisonBenchmark.<T>report(model + " hashCode", samples, (a, b) -> a.hashCode());
+    }
+
+    /**
+     * @param args the command-line arguments, which are ignored
+     */
+    public static void main(final String... args) {
+        if (!THREADS.isThreadAllocatedMemorySupported()) {
+            System.out.println("Thread allocation measurement is not supported, bytes/op will not be accurate");
+        }
+        THREADS.setThreadAllocatedMemoryEnabled(true);
+
+        ModelComparisonBenchmark.<Company>benchmark("Company", ModelOrderingTest::randomCompany,
+                ModelOrderingTest::compare, ModelOrderingTest::hash);
+        ModelComparisonBenchmark.<GetById>benchmark("GetById", ModelOrderingTest::randomGetById,
+                ModelOrderingTest::compare, ModelOrderingTest::hash);
+        ModelComparisonBenchmark.<GetAll>benchmark("GetAll", ModelOrderingTest::randomGetAll,
+                ModelOrderingTest::compare, ModelOrderingTest::hash);
+        ModelComparisonBenchmark.<Add<Company>>benchmark("Add", ModelOrderingTest::randomAdd,
+                ModelOrderingTest::compare, ModelOrderingTest::hash);
+        ModelComparisonBenchmark.<ModelCollection<Company>>benchmark("ModelCollection",
+                ModelOrderingTest::randomModelCollection, ModelOrderingTest::compare, ModelOrderingTest::hash);
+    }
+}
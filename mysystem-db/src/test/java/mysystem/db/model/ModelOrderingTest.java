@@ -0,0 +1,555 @@
+package mysystem.db.model;
+
+import static org.junit.Assert.assertEquals;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+import com.typesafe.config.ConfigValue;
+import com.typesafe.config.ConfigValueFactory;
+
+import org.apache.commons.lang3.builder.CompareToBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.junit.Test;
+
+import mysystem.common.model.Company;
+import mysystem.common.util.CollectionComparator;
+import mysystem.common.util.OptionalComparator;
+import mysystem.db.actor.company.GetActor;
+import scala.concurrent.duration.FiniteDuration;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.ToIntBiFunction;
+import java.util.function.ToIntFunction;
+
+/**
+ * Perform property testing of the hand-written {@code compareTo}, {@code equals} and {@code hashCode} methods of the
+ * database model classes, verifying that they produce exactly the same results as the {@link CompareToBuilder} and
+ * {@link HashCodeBuilder} implementations they replaced, for randomly generated model objects.
+ */
+public class ModelOrderingTest {
+    private final static int SAMPLES = 60;
+
+    private final Random random = new Random(23);
+
+    /**
+     * The reference ordering of {@link Company} objects, as previously implemented with a {@link CompareToBuilder}.
+     */
+    @SuppressWarnings("unchecked")
+    public static int compare(final Company a, final Company b) {
+        final CompareToBuilder cmp = new CompareToBuilder();
+        cmp.append(a.getId(), b.getId(), new OptionalComparator());
+        cmp.append(a.getName(), b.getName());
+        cmp.append(a.isActive(), b.isActive());
+        return cmp.toComparison();
+    }
+
+    /**
+     * The reference hash code of {@link Company} objects, as previously implemented with a {@link HashCodeBuilder}.
+     */
+    public static int hash(final Company company) {
+        final HashCodeBuilder hash = new HashCodeBuilder();
+        hash.append(company.getId());
+        hash.append(company.getName());
+        hash.append(company.isActive());
+        return hash.toHashCode();
+    }
+
+    /**
+     * The reference ordering of {@link GetById} objects, as previously implemented with a {@link CompareToBuilder}.
+     */
+    public static int compare(final GetById a, final GetById b) {
+        final CompareToBuilder cmp = new CompareToBuilder();
+        cmp.append(a.getDataType(), b.getDataType());
+        cmp.append(a.getIds(), b.getIds());
+        cmp.append(a.getActive(), b.getActive(), new OptionalComparator<Boolean>());
+        return cmp.toComparison();
+    }
+
+    /**
+     * The reference hash code of {@link GetById} objects, as previously implemented with a {@link HashCodeBuilder}.
+     */
+    public static int hash(final GetById getById) {
+        final HashCodeBuilder hash = new HashCodeBuilder();
+        hash.append(getById.getDataType().name());
+        hash.append(getById.getIds());
+        hash.append(getById.getActive());
+        return hash.toHashCode();
+    }
+
+    private static int compare(final DeleteById a, final DeleteById b) {
+        final CompareToBuilder cmp = new CompareToBuilder();
+        cmp.append(a.getDataType(), b.getDataType());
+        cmp.append(a.getIds(), b.getIds());
+        return cmp.toComparison();
+    }
+
+    private static int hash(final DeleteById deleteById) {
+        final HashCodeBuilder hash = new HashCodeBuilder();
+        hash.append(deleteById.getDataType().name());
+        hash.append(deleteById.getIds());
+        return hash.toHashCode();
+    }
+
+    /**
+     * The reference ordering of {@link GetAll} objects, as previously implemented with a {@link CompareToBuilder}.
+     */
+    public static int compare(final GetAll a, final GetAll b) {
+        final CompareToBuilder cmp = new CompareToBuilder();
+        cmp.append(a.getDataType(), b.getDataType());
+        cmp.append(a.getActive(), b.getActive(), new OptionalComparator<Boolean>());
+        cmp.append(a.getAfterId(), b.getAfterId(), new OptionalComparator<Integer>());
+        cmp.append(a.getLimit(), b.getLimit(), new OptionalComparator<Integer>());
+        return cmp.toComparison();
+    }
+
+    /**
+     * The reference hash code of {@link GetAll} objects, as previously implemented with a {@link HashCodeBuilder}.
+     */
+    public static int hash(final GetAll getAll) {
+        final HashCodeBuilder hash = new HashCodeBuilder();
+        hash.append(getAll.getDataType().name());
+        hash.append(getAll.getActive());
+        hash.append(getAll.getAfterId());
+        hash.append(getAll.getLimit());
+        return hash.toHashCode();
+    }
+
+    /**
+     * The reference ordering of {@link Add} objects, as previously implemented with a {@link CompareToBuilder}.
+     */
+    public static int compare(final Add<Company> a, final Add<Company> b) {
+        final CompareToBuilder cmp = new CompareToBuilder();
+        cmp.append(a.getDataType(), b.getDataType());
+        cmp.append(a.getModels(), b.getModels(), new CollectionComparator<Company>());
+        return cmp.toComparison();
+    }
+
+    /**
+     * The reference hash code of {@link Add} objects, as previously implemented with a {@link HashCodeBuilder}.
+     */
+    public static int hash(final Add<Company> add) {
+        final HashCodeBuilder hash = new HashCodeBuilder();
+        hash.append(add.getDataType().name());
+        hash.append(add.getModels());
+        return hash.toHashCode();
+    }
+
+    /**
+     * The reference ordering of {@link ModelCollection} objects, as previously implemented with a
+     * {@link CompareToBuilder}, over the model objects in the order they were added.
+     */
+    public static int compare(final ModelCollection<Company> a, final ModelCollection<Company> b) {
+        final CompareToBuilder cmp = new CompareToBuilder();
+        cmp.append(a.getModelList(), b.getModelList(), new CollectionComparator<Company>());
+        cmp.append(a.getNextAfterId(), b.getNextAfterId(), new OptionalComparator<Integer>());
+        return cmp.toComparison();
+    }
+
+    /**
+     * The reference hash code of {@link ModelCollection} objects, as previously implemented with a
+     * {@link HashCodeBuilder}, over the model objects in the order they were added.
+     */
+    public static int hash(final ModelCollection<Company> collection) {
+        final HashCodeBuilder hash = new HashCodeBuilder();
+        hash.append(collection.getModelList());
+        hash.append(collection.getNextAfterId());
+        return hash.toHashCode();
+    }
+
+    private static int compare(final DatabaseManagerConfig a, final DatabaseManagerConfig b) {
+        final CompareToBuilder cmp = new CompareToBuilder();
+        cmp.append(a.getActorName(), b.getActorName());
+        cmp.append(a.getDataType(), b.getDataType());
+        cmp.append(a.getMaxFailures(), b.getMaxFailures());
+        cmp.append(a.getCallTimeout(), b.getCallTimeout());
+        cmp.append(a.getResetTimeout(), b.getResetTimeout());
+        cmp.append(a.getDispatcher(), b.getDispatcher(), new OptionalComparator<String>());
+        cmp.append(a.getThreadCount(), b.getThreadCount(), new OptionalComparator<Integer>());
+        cmp.append(a.getCacheSize(), b.getCacheSize(), new OptionalComparator<Long>());
+        cmp.append(a.getCacheTtl(), b.getCacheTtl(), new OptionalComparator<FiniteDuration>());
+        cmp.append(a.getResultCacheStaleness(), b.getResultCacheStaleness(),
+                new OptionalComparator<FiniteDuration>());
+        cmp.append(a.getExistenceFilterSize(), b.getExistenceFilterSize(), new OptionalComparator<Long>());
+        cmp.append(a.getExistenceFilterRebuildInterval(), b.getExistenceFilterRebuildInterval(),
+                new OptionalComparator<FiniteDuration>());
+        cmp.append(a.getActorConfigs(), b.getActorConfigs(), new CollectionComparator<DatabaseActorConfig>());
+        return cmp.toComparison();
+    }
+
+    private static int hash(final DatabaseManagerConfig config) {
+        final HashCodeBuilder hash = new HashCodeBuilder();
+        hash.append(config.getActorName());
+        hash.append(config.getDataType().name());
+        hash.append(config.getMaxFailures());
+        hash.append(config.getCallTimeout());
+        hash.append(config.getResetTimeout());
+        hash.append(config.getDispatcher());
+        hash.append(config.getThreadCount());
+        hash.append(config.getCacheSize());
+        hash.append(config.getCacheTtl());
+        hash.append(config.getResultCacheStaleness());
+        hash.append(config.getExistenceFilterSize());
+        hash.append(config.getExistenceFilterRebuildInterval());
+        hash.append(config.getActorConfigs());
+        return hash.toHashCode();
+    }
+
+    /**
+     * @param random the source of randomness used to generate the company
+     * @return a company drawn from a small range of values, so that equal and nearly equal companies are common
+     */
+    public static Company randomCompany(final Random random) {
+        final Company.Builder builder = new Company.Builder();
+        if (random.nextBoolean()) {
+            builder.setId(random.nextInt(4));
+        }
+        builder.setName(randomString(random, "a", "b", "ab", "ba"));
+        builder.setActive(random.nextBoolean());
+        return builder.build();
+    }
+
+    /**
+     * @param random the source of randomness used to generate the request
+     * @return a request drawn from a small range of values, so that equal and nearly equal requests are common
+     */
+    public static GetById randomGetById(final Random random) {
+        final GetById.Builder builder = new GetById.Builder(randomDataType(random), randomIds(random));
+        if (random.nextBoolean()) {
+            builder.setActive(random.nextBoolean());
+        }
+        return builder.build();
+    }
+
+    /**
+     * @param random the source of randomness used to generate the request
+     * @return a request drawn from a small range of values, so that equal and nearly equal requests are common
+     */
+    public static GetAll randomGetAll(final Random random) {
+        final GetAll.Builder builder = new GetAll.Builder(randomDataType(random));
+        if (random.nextBoolean()) {
+            builder.setActive(random.nextBoolean());
+        }
+        if (random.nextBoolean()) {
+            builder.setAfterId(random.nextInt(3));
+        }
+        if (random.nextBoolean()) {
+            builder.setLimit(random.nextInt(3) + 1);
+        }
+        return builder.build();
+    }
+
+    /**
+     * @param random the source of randomness used to generate the request
+     * @return a request drawn from a small range of values, so that equal and nearly equal requests are common
+     */
+    public static Add<Company> randomAdd(final Random random) {
+        return new Add.Builder<>(randomDataType(random), randomCompanies(random, 1)).build();
+    }
+
+    /**
+     * @param random the source of randomness used to generate the collection
+     * @return a collection drawn from a small range of values, so that equal and nearly equal collections are common
+     */
+    public static ModelCollection<Company> randomModelCollection(final Random random) {
+        final ModelCollection.Builder<Company> builder = new ModelCollection.Builder<>(randomCompanies(random, 0));
+        if (random.nextBoolean()) {
+            builder.setNextAfterId(random.nextInt(3));
+        }
+        return builder.build();
+    }
+
+    private static DeleteById randomDeleteById(final Random random) {
+        return new DeleteById.Builder(randomDataType(random), randomIds(random)).build();
+    }
+
+    private static DatabaseManagerConfig randomDatabaseManagerConfig(final Random random) {
+        final DatabaseManagerConfig.Builder builder = new DatabaseManagerConfig.Builder();
+        builder.setActorName(randomString(random, "a", "b"));
+        builder.setDataType(randomDataType(random));
+        builder.setMaxFailures(random.nextInt(2) + 1);
+        builder.setCallTimeout(new FiniteDuration(random.nextInt(2) + 1, TimeUnit.SECONDS));
+        // Equal durations expressed in different units are expected to compare and hash consistently.
+        builder.setResetTimeout(random.nextBoolean() ? new FiniteDuration(1, TimeUnit.MINUTES)
+                : new FiniteDuration(60, TimeUnit.SECONDS));
+        if (random.nextBoolean()) {
+            builder.setDispatcher(randomString(random, "x", "y"));
+        }
+        if (random.nextBoolean()) {
+            builder.setThreadCount(random.nextInt(2) + 1);
+        }
+        if (random.nextBoolean()) {
+            builder.setCacheSize(random.nextInt(2) + 1L);
+        }
+        if (random.nextBoolean()) {
+            builder.setCacheTtl(new FiniteDuration(random.nextInt(2) + 1, TimeUnit.SECONDS));
+        }
+        if (random.nextBoolean()) {
+            builder.setResultCacheStaleness(new FiniteDuration(random.nextInt(2) + 1, TimeUnit.SECONDS));
+        }
+        if (random.nextBoolean()) {
+            builder.setExistenceFilterSize(random.nextInt(2) + 1L);
+        }
+        if (random.nextBoolean()) {
+            builder.setExistenceFilterRebuildInterval(new FiniteDuration(random.nextInt(2) + 1, TimeUnit.HOURS));
+        }
+        final int actors = random.nextInt(2) + 1;
+        for (int actor = 0; actor < actors; actor++) {
+            builder.add(new DatabaseActorConfig.Builder(randomString(random, "c", "d", "e"), getActorConfig()).build());
+        }
+        return builder.build();
+    }
+
+    private static Config getActorConfig() {
+        final Map<String, ConfigValue> map = new HashMap<>();
+        map.put("actor-class", ConfigValueFactory.fromAnyRef(GetActor.class.getName()));
+        map.put("message-class", ConfigValueFactory.fromAnyRef(GetAll.class.getName()));
+        return ConfigFactory.parseMap(map);
+    }
+
+    private static List<Company> randomCompanies(final Random random, final int minimum) {
+        final int size = minimum + random.nextInt(4);
+        final List<Company> companies = new ArrayList<>(size);
+        for (int index = 0; index < size; index++) {
+            companies.add(randomCompany(random));
+        }
+        return companies;
+    }
+
+    private static int[] randomIds(final Random random) {
+        final int[] ids = new int[random.nextInt(4) + 1];
+        for (int index = 0; index < ids.length; index++) {
+            ids[index] = random.nextInt(5);
+        }
+        return ids;
+    }
+
+    /**
+     * The reference ordering of {@link CacheStatistics} objects, as previously implemented with a
+     * {@link CompareToBuilder}.
+     */
+    public static int compare(final CacheStatistics a, final CacheStatistics b) {
+        final CompareToBuilder cmp = new CompareToBuilder();
+        cmp.append(a.getDataType(), b.getDataType());
+        cmp.append(a.getSize(), b.getSize());
+        cmp.append(a.getHitCount(), b.getHitCount());
+        cmp.append(a.getMissCount(), b.getMissCount());
+        cmp.append(a.getEvictionCount(), b.getEvictionCount());
+        return cmp.toComparison();
+    }
+
+    /**
+     * The reference hash code of {@link CacheStatistics} objects, as previously implemented with a
+     * {@link HashCodeBuilder}.
+     */
+    public static int hash(final CacheStatistics statistics) {
+        final HashCodeBuilder hash = new HashCodeBuilder();
+        hash.append(statistics.getDataType().name());
+        hash.append(statistics.getSize());
+        hash.append(statistics.getHitCount());
+        hash.append(statistics.getMissCount());
+        hash.append(statistics.getEvictionCount());
+        return hash.toHashCode();
+    }
+
+    /**
+     * The reference ordering of {@link ExistenceFilterStatistics} objects, as previously implemented with a
+     * {@link CompareToBuilder}.
+     */
+    public static int compare(final ExistenceFilterStatistics a, final ExistenceFilterStatistics b) {
+        final CompareToBuilder cmp = new CompareToBuilder();
+        cmp.append(a.getDataType(), b.getDataType());
+        cmp.append(a.isReady(), b.isReady());
+        cmp.append(a.getInsertions(), b.getInsertions());
+        cmp.append(a.getExpectedFalsePositiveRate(), b.getExpectedFalsePositiveRate());
+        cmp.append(a.getSkippedCount(), b.getSkippedCount());
+        cmp.append(a.getQueriedCount(), b.getQueriedCount());
+        cmp.append(a.getFalsePositiveCount(), b.getFalsePositiveCount());
+        return cmp.toComparison();
+    }
+
+    /**
+     * The reference hash code of {@link ExistenceFilterStatistics} objects, as previously implemented with a
+     * {@link HashCodeBuilder}.
+     */
+    public static int hash(final ExistenceFilterStatistics statistics) {
+        final HashCodeBuilder hash = new HashCodeBuilder();
+        hash.append(statistics.getDataType().name());
+        hash.append(statistics.isReady());
+        hash.append(statistics.getInsertions());
+        hash.append(statistics.getExpectedFalsePositiveRate());
+        hash.append(statistics.getSkippedCount());
+        hash.append(statistics.getQueriedCount());
+        hash.append(statistics.getFalsePositiveCount());
+        return hash.toHashCode();
+    }
+
+    /**
+     * The reference ordering of {@link StreamAll} objects, as previously implemented with a {@link CompareToBuilder}.
+     */
+    public static int compare(final StreamAll a, final StreamAll b) {
+        final CompareToBuilder cmp = new CompareToBuilder();
+        cmp.append(a.getDataType(), b.getDataType());
+        cmp.append(a.getActive(), b.getActive(), new OptionalComparator<Boolean>());
+        cmp.append(a.getChunkSize(), b.getChunkSize(), new OptionalComparator<Integer>());
+        return cmp.toComparison();
+    }
+
+    /**
+     * The reference hash code of {@link StreamAll} objects, as previously implemented with a {@link HashCodeBuilder}.
+     */
+    public static int hash(final StreamAll streamAll) {
+        final HashCodeBuilder hash = new HashCodeBuilder();
+        hash.append(streamAll.getDataType().name());
+        hash.append(streamAll.getActive());
+        hash.append(streamAll.getChunkSize());
+        return hash.toHashCode();
+    }
+
+    /**
+     * The reference ordering of {@link DeleteResult} objects, as previously implemented with a
+     * {@link CompareToBuilder}.
+     */
+    public static int compare(final DeleteResult a, final DeleteResult b) {
+        final CompareToBuilder cmp = new CompareToBuilder();
+        cmp.append(a.getRowCounts(), b.getRowCounts(), new CollectionComparator<Integer>());
+        return cmp.toComparison();
+    }
+
+    /**
+     * The reference hash code of {@link DeleteResult} objects, as previously implemented with a
+     * {@link HashCodeBuilder}.
+     */
+    public static int hash(final DeleteResult result) {
+        final HashCodeBuilder hash = new HashCodeBuilder();
+        hash.append(result.getRowCounts());
+        return hash.toHashCode();
+    }
+
+    private static CacheStatistics randomCacheStatistics(final Random random) {
+        final CacheStatistics.Builder builder = new CacheStatistics.Builder(randomDataType(random));
+        builder.setSize(random.nextInt(2));
+        builder.setHitCount(random.nextInt(2));
+        builder.setMissCount(random.nextInt(2));
+        builder.setEvictionCount(random.nextInt(2));
+        return builder.build();
+    }
+
+    private static ExistenceFilterStatistics randomExistenceFilterStatistics(final Random random) {
+        final ExistenceFilterStatistics.Builder builder = new ExistenceFilterStatistics.Builder(randomDataType(random));
+        builder.setReady(random.nextBoolean());
+        builder.setInsertions(random.nextInt(2));
+        builder.setExpectedFalsePositiveRate(random.nextInt(2) * 0.25);
+        builder.setSkippedCount(random.nextInt(2));
+        builder.setQueriedCount(random.nextInt(2));
+        builder.setFalsePositiveCount(random.nextInt(2));
+        return builder.build();
+    }
+
+    private static StreamAll randomStreamAll(final Random random) {
+        final StreamAll.Builder builder = new StreamAll.Builder(randomDataType(random));
+        if (random.nextBoolean()) {
+            builder.setActive(random.nextBoolean());
+        }
+        if (random.nextBoolean()) {
+            builder.setChunkSize(random.nextInt(2) + 1);
+        }
+        return builder.build();
+    }
+
+    private static DeleteResult randomDeleteResult(final Random random) {
+        final DeleteResult.Builder builder = new DeleteResult.Builder();
+        for (int index = random.nextInt(3); index > 0; index--) {
+            builder.add(random.nextInt(2));
+        }
+        return builder.build();
+    }
+
+    private static DataType randomDataType(final Random random) {
+        return DataType.values()[random.nextInt(DataType.values().length)];
+    }
+
+    private static String randomString(final Random random, final String... values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private <T> void check(
+            final Function<Random, T> generator, final ToIntBiFunction<T, T> reference,
+            final ToIntFunction<T> referenceHash) {
+        final List<T> samples = new ArrayList<>(SAMPLES);
+        for (int sample = 0; sample < SAMPLES; sample++) {
+            samples.add(generator.apply(this.random));
+        }
+
+        for (final T a : samples) {
+            assertEquals(a.toString(), referenceHash.applyAsInt(a), a.hashCode());
+            for (final T b : samples) {
+                final int expected = reference.applyAsInt(a, b);
+                @SuppressWarnings("unchecked")
+                final int actual = ((Comparable<T>) a).compareTo(b);
+                assertEquals(a + " compared with " + b, expected, actual);
+                assertEquals(a + " equal to " + b, expected == 0, a.equals(b));
+            }
+        }
+    }
+
+    @Test
+    public void testCompany() {
+        check(ModelOrderingTest::randomCompany, ModelOrderingTest::compare, ModelOrderingTest::hash);
+    }
+
+    @Test
+    public void testGetById() {
+        check(ModelOrderingTest::randomGetById, ModelOrderingTest::compare, ModelOrderingTest::hash);
+    }
+
+    @Test
+    public void testDeleteById() {
+        check(ModelOrderingTest::randomDeleteById, ModelOrderingTest::compare, ModelOrderingTest::hash);
+    }
+
+    @Test
+    public void testGetAll() {
+        check(ModelOrderingTest::randomGetAll, ModelOrderingTest::compare, ModelOrderingTest::hash);
+    }
+
+    @Test
+    public void testAdd() {
+        check(ModelOrderingTest::randomAdd, ModelOrderingTest::compare, ModelOrderingTest::hash);
+    }
+
+    @Test
+    public void testModelCollection() {
+        check(ModelOrderingTest::randomModelCollection, ModelOrderingTest::compare, ModelOrderingTest::hash);
+    }
+
+    @Test
+    public void testDatabaseManagerConfig() {
+        check(ModelOrderingTest::randomDatabaseManagerConfig, ModelOrderingTest::compare, ModelOrderingTest::hash);
+    }
+
+    @Test
+    public void testCacheStatistics() {
+        check(ModelOrderingTest::randomCacheStatistics, ModelOrderingTest::compare, ModelOrderingTest::hash);
+    }
+
+    @Test
+    public void testExistenceFilterStatistics() {
+        check(ModelOrderingTest::randomExistenceFilterStatistics, ModelOrderingTest::compare, ModelOrderingTest::hash);
+    }
+
+    @Test
+    public void testStreamAll() {
+        check(ModelOrderingTest::randomStreamAll, ModelOrderingTest::compare, ModelOrderingTest::hash);
+    }
+
+    @Test
+    public void testDeleteResult() {
+        check(ModelOrderingTest::randomDeleteResult, ModelOrderingTest::compare, ModelOrderingTest::hash);
+    }
+}
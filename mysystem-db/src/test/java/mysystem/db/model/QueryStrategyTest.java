@@ -0,0 +1,17 @@
+package mysystem.db.model;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+/**
+ * Perform testing of the {@link QueryStrategy} enumeration.
+ */
+public class QueryStrategyTest {
+    @Test
+    public void test() {
+        // Only here for 100% coverage.
+        assertEquals(QueryStrategy.IN_LIST, QueryStrategy.valueOf("IN_LIST"));
+        assertEquals(2, QueryStrategy.values().length);
+    }
+}
@@ -0,0 +1,17 @@
+package mysystem.db.model;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+/**
+ * Perform testing of the {@link RouterType} enumeration.
+ */
+public class RouterTypeTest {
+    @Test
+    public void test() {
+        // Only here for 100% coverage.
+        assertEquals(RouterType.ROUND_ROBIN, RouterType.valueOf("ROUND_ROBIN"));
+        assertEquals(3, RouterType.values().length);
+    }
+}
@@ -0,0 +1,57 @@
+package mysystem.db.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import mysystem.common.serialization.ManifestMapping;
+
+/**
+ * Perform testing of the {@link StreamAck} class and builder.
+ */
+public class StreamAckTest {
+    @Test
+    public void testCompareTo() {
+        final StreamAck a = new StreamAck.Builder().build();
+        final StreamAck b = new StreamAck.Builder().build();
+
+        assertEquals(1, a.compareTo(null));
+        assertEquals(0, a.compareTo(a));
+        assertEquals(0, a.compareTo(b));
+        assertEquals(0, b.compareTo(a));
+    }
+
+    @Test
+    public void testEquals() {
+        final StreamAck a = new StreamAck.Builder().build();
+        final StreamAck b = new StreamAck.Builder().build();
+
+        assertFalse(a.equals(null));
+        assertTrue(a.equals(a));
+        assertTrue(a.equals(b));
+        assertTrue(b.equals(a));
+    }
+
+    @Test
+    public void testHashCode() {
+        assertEquals("mysystem.db.model.StreamAck".hashCode(), new StreamAck.Builder().build().hashCode());
+    }
+
+    @Test
+    public void testToJson() {
+        assertEquals("{\"manifest\":\"StreamAck\"}", new StreamAck.Builder().build().toJson().toString());
+    }
+
+    @Test
+    public void testToString() {
+        assertEquals("mysystem.db.model.StreamAck", new StreamAck.Builder().build().toString());
+    }
+
+    @Test
+    public void testFromJson() {
+        final StreamAck original = new StreamAck.Builder().build();
+        assertEquals(original, new StreamAck.Builder().fromJson(new ManifestMapping(), original.toJson()).build());
+    }
+}
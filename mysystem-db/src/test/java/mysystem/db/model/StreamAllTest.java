@@ -0,0 +1,101 @@
+package mysystem.db.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import org.junit.Test;
+
+import mysystem.common.serialization.ManifestMapping;
+
+/**
+ * Perform testing on the {@link StreamAll} class.
+ */
+public class StreamAllTest {
+    private final ManifestMapping mapping = new ManifestMapping();
+
+    @Test
+    public void testCompareTo() {
+        final StreamAll a = new StreamAll.Builder(DataType.COMPANY).build();
+        final StreamAll b = new StreamAll.Builder(DataType.COMPANY).setActive(true).build();
+        final StreamAll c = new StreamAll.Builder(DataType.COMPANY).setActive(true).setChunkSize(10).build();
+
+        assertEquals(1, a.compareTo(null));
+        assertEquals(0, a.compareTo(a));
+        assertEquals(-1, a.compareTo(b));
+        assertEquals(-1, a.compareTo(c));
+        assertEquals(1, b.compareTo(a));
+        assertEquals(0, b.compareTo(b));
+        assertEquals(-1, b.compareTo(c));
+        assertEquals(1, c.compareTo(a));
+        assertEquals(1, c.compareTo(b));
+        assertEquals(0, c.compareTo(c));
+    }
+
+    @Test
+    public void testEquals() {
+        final StreamAll a = new StreamAll.Builder(DataType.COMPANY).build();
+        final StreamAll b = new StreamAll.Builder(DataType.COMPANY).setChunkSize(10).build();
+
+        assertFalse(a.equals(null));
+        assertTrue(a.equals(a));
+        assertFalse(a.equals(b));
+        assertFalse(b.equals(a));
+        assertTrue(b.equals(b));
+    }
+
+    @Test
+    public void testHashCode() {
+        final StreamAll a = new StreamAll.Builder(DataType.COMPANY).build();
+        final StreamAll b = new StreamAll.Builder(DataType.COMPANY).setActive(true).setChunkSize(10).build();
+
+        assertEquals(new StreamAll.Builder(DataType.COMPANY).build().hashCode(), a.hashCode());
+        assertFalse(a.hashCode() == b.hashCode());
+    }
+
+    @Test
+    public void testToJson() {
+        final StreamAll a = new StreamAll.Builder(DataType.COMPANY).build();
+        final StreamAll b = new StreamAll.Builder(DataType.COMPANY).setActive(true).setChunkSize(10).build();
+
+        assertEquals("{\"dataType\":\"COMPANY\",\"manifest\":\"StreamAll\"}", a.toJson().toString());
+        assertEquals("{\"dataType\":\"COMPANY\",\"active\":true,\"chunkSize\":10,\"manifest\":\"StreamAll\"}",
+                b.toJson().toString());
+    }
+
+    @Test
+    public void testToString() {
+        final StreamAll a = new StreamAll.Builder(DataType.COMPANY).build();
+        final StreamAll b = new StreamAll.Builder(DataType.COMPANY).setActive(true).setChunkSize(10).build();
+
+        assertEquals("StreamAll[dataType=COMPANY,active=Optional.empty,chunkSize=Optional.empty]", a.toString());
+        assertEquals("StreamAll[dataType=COMPANY,active=Optional[true],chunkSize=Optional[10]]", b.toString());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testBuilderNoDataType() {
+        new StreamAll.Builder().build();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBuilderInvalidChunkSize() {
+        new StreamAll.Builder(DataType.COMPANY).setChunkSize(0);
+    }
+
+    @Test
+    public void testFromJson() {
+        final StreamAll original = new StreamAll.Builder(DataType.COMPANY).setActive(false).setChunkSize(5).build();
+        final StreamAll copy = new StreamAll.Builder().fromJson(mapping, original.toJson()).build();
+
+        assertEquals(original, copy);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testFromJsonNoDataType() {
+        final JsonObject json = new JsonParser().parse("{\"manifest\":\"StreamAll\"}").getAsJsonObject();
+        new StreamAll.Builder().fromJson(mapping, json).build();
+    }
+}
@@ -0,0 +1,87 @@
+package mysystem.db.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import org.junit.Test;
+
+import mysystem.common.serialization.ManifestMapping;
+
+/**
+ * Perform testing on the {@link StreamComplete} class.
+ */
+public class StreamCompleteTest {
+    private final ManifestMapping mapping = new ManifestMapping();
+
+    @Test
+    public void testCompareTo() {
+        final StreamComplete a = new StreamComplete.Builder(0).build();
+        final StreamComplete b = new StreamComplete.Builder(10).build();
+
+        assertEquals(1, a.compareTo(null));
+        assertEquals(0, a.compareTo(a));
+        assertEquals(-1, a.compareTo(b));
+        assertEquals(1, b.compareTo(a));
+        assertEquals(0, b.compareTo(b));
+    }
+
+    @Test
+    public void testEquals() {
+        final StreamComplete a = new StreamComplete.Builder(0).build();
+        final StreamComplete b = new StreamComplete.Builder(10).build();
+
+        assertFalse(a.equals(null));
+        assertTrue(a.equals(a));
+        assertFalse(a.equals(b));
+        assertFalse(b.equals(a));
+        assertTrue(b.equals(b));
+    }
+
+    @Test
+    public void testHashCode() {
+        final StreamComplete a = new StreamComplete.Builder(0).build();
+        final StreamComplete b = new StreamComplete.Builder(10).build();
+
+        assertEquals(new StreamComplete.Builder(10).build().hashCode(), b.hashCode());
+        assertFalse(a.hashCode() == b.hashCode());
+    }
+
+    @Test
+    public void testToJson() {
+        assertEquals("{\"count\":10,\"manifest\":\"StreamComplete\"}",
+                new StreamComplete.Builder(10).build().toJson().toString());
+    }
+
+    @Test
+    public void testToString() {
+        assertEquals("StreamComplete[count=10]", new StreamComplete.Builder(10).build().toString());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testBuilderNoCount() {
+        new StreamComplete.Builder().build();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBuilderNegativeCount() {
+        new StreamComplete.Builder(-1);
+    }
+
+    @Test
+    public void testFromJson() {
+        final StreamComplete original = new StreamComplete.Builder(10).build();
+        final StreamComplete copy = new StreamComplete.Builder().fromJson(mapping, original.toJson()).build();
+
+        assertEquals(original, copy);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testFromJsonNoCount() {
+        final JsonObject json = new JsonParser().parse("{\"manifest\":\"StreamComplete\"}").getAsJsonObject();
+        new StreamComplete.Builder().fromJson(mapping, json).build();
+    }
+}
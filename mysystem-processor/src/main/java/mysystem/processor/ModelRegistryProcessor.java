@@ -0,0 +1,146 @@
+package mysystem.processor;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * An annotation processor that runs whenever a module depending on this one is compiled, and records every model
+ * class along with its nested builder class in the {@link #REGISTRY_RESOURCE} resource. The {@code ManifestMapping}
+ * reads these resources at runtime instead of scanning the classpath. No annotations are needed on the model classes,
+ * and no annotations are claimed so that other processors are not affected.
+ * <p>
+ * Incremental builds only compile the changed sources, so the entries found in each compilation are merged with the
+ * existing resource. Existing entries are kept unless their model class was compiled again or no longer exists.
+ */
+@SupportedAnnotationTypes("*")
+public class ModelRegistryProcessor extends AbstractProcessor {
+    /**
+     * The resource listing the model classes and their builder classes, one pair per line, generated for each module.
+     */
+    public final static String REGISTRY_RESOURCE = "META-INF/mysystem/models";
+
+    private final static String MODEL = "mysystem.common.model.Model";
+    private final static String MODEL_BUILDER = "mysystem.common.model.ModelBuilder";
+
+    private final SortedSet<String> entries = new TreeSet<>();
+    private final Set<String> compiled = new TreeSet<>();
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+        final TypeElement model = getType(MODEL);
+        final TypeElement builder = getType(MODEL_BUILDER);
+        if (model == null || builder == null) {
+            return false;
+        }
+
+        if (roundEnv.processingOver()) {
+            write();
+        } else {
+            for (final Element element : roundEnv.getRootElements()) {
+                find(element, model.asType(), builder.asType());
+            }
+        }
+        return false;
+    }
+
+    private TypeElement getType(final String name) {
+        return processingEnv.getElementUtils().getTypeElement(name);
+    }
+
+    private boolean isConcreteSubtype(final Element element, final TypeMirror supertype) {
+        return element.getKind() == ElementKind.CLASS && !element.getModifiers().contains(Modifier.ABSTRACT)
+                && processingEnv.getTypeUtils().isAssignable(processingEnv.getTypeUtils().erasure(element.asType()),
+                processingEnv.getTypeUtils().erasure(supertype));
+    }
+
+    private void find(final Element element, final TypeMirror model, final TypeMirror builder) {
+        if (!(element instanceof TypeElement)) {
+            return;
+        }
+
+        final TypeElement type = (TypeElement) element;
+        this.compiled.add(getBinaryName(type));
+        for (final Element enclosed : type.getEnclosedElements()) {
+            if (isConcreteSubtype(type, model) && isConcreteSubtype(enclosed, builder)) {
+                this.entries.add(getBinaryName(type) + " " + getBinaryName((TypeElement) enclosed));
+            }
+            find(enclosed, model, builder);
+        }
+    }
+
+    private String getBinaryName(final TypeElement type) {
+        return processingEnv.getElementUtils().getBinaryName(type).toString();
+    }
+
+    private boolean isRetained(final String entry) {
+        final String model = entry.split(" ")[0];
+        return !this.compiled.contains(model) && getType(model.replace('$', '.')) != null;
+    }
+
+    private SortedSet<String> read() {
+        final SortedSet<String> existing = new TreeSet<>();
+        try {
+            final FileObject resource = processingEnv.getFiler()
+                    .getResource(StandardLocation.CLASS_OUTPUT, "", REGISTRY_RESOURCE);
+            try (final BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(resource.openInputStream(), StandardCharsets.UTF_8))) {
+                reader.lines().filter(line -> !line.trim().isEmpty()).forEach(existing::add);
+            }
+        } catch (final IOException notFound) {
+            // There is no registry from a previous compilation to merge with.
+        }
+        return existing;
+    }
+
+    private void write() {
+        final SortedSet<String> existing = read();
+        final SortedSet<String> merged = new TreeSet<>(this.entries);
+        existing.stream().filter(this::isRetained).forEach(merged::add);
+        if (merged.equals(existing)) {
+            return;
+        }
+
+        try {
+            final FileObject resource = processingEnv.getFiler()
+                    .createResource(StandardLocation.CLASS_OUTPUT, "", REGISTRY_RESOURCE);
+            try (final PrintWriter writer = new PrintWriter(
+                    new OutputStreamWriter(resource.openOutputStream(), StandardCharsets.UTF_8))) {
+                merged.forEach(writer::println);
+            }
+        } catch (final IOException writeFailed) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Failed to write the model registry: " + writeFailed.getMessage());
+        }
+    }
+}
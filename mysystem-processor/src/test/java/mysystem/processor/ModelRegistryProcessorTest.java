@@ -0,0 +1,126 @@
+package mysystem.processor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+
+/**
+ * Perform testing on the {@link ModelRegistryProcessor} class by compiling sources with the processor enabled.
+ */
+public class ModelRegistryProcessorTest {
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    private static JavaFileObject source(final String className, final String code) {
+        final URI uri = URI.create("string:///" + className.replace('.', '/') + JavaFileObject.Kind.SOURCE.extension);
+        return new SimpleJavaFileObject(uri, JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(final boolean ignoreEncodingErrors) {
+                return code;
+            }
+        };
+    }
+
+    private static List<JavaFileObject> getModelInterfaces() {
+        return Arrays.asList(
+                source("mysystem.common.model.Model", "package mysystem.common.model; public interface Model { }"),
+                source("mysystem.common.model.ModelBuilder",
+                        "package mysystem.common.model; public interface ModelBuilder<M extends Model> { }"));
+    }
+
+    private File compile(final List<JavaFileObject> sources) throws IOException {
+        final File output = this.folder.newFolder();
+        return compile(sources, Arrays.asList("-d", output.getAbsolutePath(), "-proc:only"), output);
+    }
+
+    private File compile(final List<JavaFileObject> sources, final List<String> options, final File output) {
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        final JavaCompiler.CompilationTask task = compiler.getTask(null, null, null, options, null, sources);
+        task.setProcessors(Collections.singletonList(new ModelRegistryProcessor()));
+        assertTrue(task.call());
+        return new File(output, ModelRegistryProcessor.REGISTRY_RESOURCE);
+    }
+
+    private static JavaFileObject model(final String simpleName) {
+        return source("a." + simpleName, "package a; import mysystem.common.model.*; public class " + simpleName
+                + " implements Model { public static class Builder implements ModelBuilder<" + simpleName + "> { } }");
+    }
+
+    @Test
+    public void testRegistry() throws IOException {
+        final List<JavaFileObject> sources = new LinkedList<>(getModelInterfaces());
+        sources.add(source("a.Company", "package a; import mysystem.common.model.*; "
+                + "public class Company implements Model { public static class Builder implements "
+                + "ModelBuilder<Company> { } }"));
+        sources.add(source("a.Outer", "package a; import mysystem.common.model.*; public class Outer { "
+                + "public static class Inner implements Model { public static class Builder implements "
+                + "ModelBuilder<Inner> { } } }"));
+        sources.add(source("a.Generic", "package a; import mysystem.common.model.*; "
+                + "public class Generic<M extends Model> implements Model { "
+                + "public static class Builder<M extends Model> implements ModelBuilder<Generic<M>> { } }"));
+        sources.add(source("a.NoBuilder", "package a; import mysystem.common.model.*; "
+                + "public class NoBuilder implements Model { }"));
+        sources.add(source("a.Abstract", "package a; import mysystem.common.model.*; "
+                + "public abstract class Abstract implements Model { public static class Builder implements "
+                + "ModelBuilder<Abstract> { } }"));
+
+        final File registry = compile(sources);
+        assertEquals(Arrays.asList("a.Company a.Company$Builder", "a.Generic a.Generic$Builder",
+                "a.Outer$Inner a.Outer$Inner$Builder"), Files.readAllLines(registry.toPath(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testRegistryIncremental() throws IOException {
+        final File output = this.folder.newFolder();
+        final List<String> options =
+                Arrays.asList("-d", output.getAbsolutePath(), "-classpath", output.getAbsolutePath());
+
+        final List<JavaFileObject> sources = new LinkedList<>(getModelInterfaces());
+        sources.addAll(Arrays.asList(model("Company"), model("Department"), model("Removed")));
+        compile(sources, options, output);
+
+        // Simulate an incremental build: one model was deleted, one is no longer a model, and one is new.
+        assertTrue(new File(output, "a/Removed.class").delete());
+        assertTrue(new File(output, "a/Removed$Builder.class").delete());
+        final List<JavaFileObject> changed = new LinkedList<>(getModelInterfaces());
+        changed.add(source("a.Department", "package a; public class Department { }"));
+        changed.add(model("Employee"));
+
+        final File registry = compile(changed, options, output);
+        assertEquals(Arrays.asList("a.Company a.Company$Builder", "a.Employee a.Employee$Builder"),
+                Files.readAllLines(registry.toPath(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testNoModels() throws IOException {
+        final List<JavaFileObject> sources = new LinkedList<>(getModelInterfaces());
+        sources.add(source("a.Other", "package a; public class Other { }"));
+
+        assertFalse(compile(sources).exists());
+    }
+
+    @Test
+    public void testNoModelInterface() throws IOException {
+        assertFalse(compile(Collections.singletonList(source("a.Other", "package a; public class Other { }")))
+                .exists());
+    }
+}
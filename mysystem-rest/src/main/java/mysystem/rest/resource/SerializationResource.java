@@ -0,0 +1,74 @@
+package mysystem.rest.resource;
+
+import akka.actor.ActorSystem;
+import mysystem.common.actor.SerializationMonitor;
+import mysystem.common.model.CompressionSummary;
+import mysystem.common.model.HistogramSummary;
+import mysystem.common.model.ManifestStatistics;
+import mysystem.common.model.SerializationStatistics;
+
+import java.util.function.Function;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.MediaType;
+
+/**
+ * Provides the statistics describing the model objects serialized and deserialized on this node, either as JSON or in
+ * the Prometheus text format so the statistics can be scraped by a monitoring system.
+ */
+@Path("/serialization")
+public class SerializationResource {
+    @GET
+    @Produces(MediaType.APPLICATION_JSON)
+    public String get(@Context final ActorSystem actorSystem) {
+        return SerializationMonitor.getStatistics(actorSystem).toJson().toString();
+    }
+
+    @GET
+    @Path("/metrics")
+    @Produces(MediaType.TEXT_PLAIN)
+    public String getMetrics(@Context final ActorSystem actorSystem) {
+        final SerializationStatistics statistics = SerializationMonitor.getStatistics(actorSystem);
+        final StringBuilder metrics = new StringBuilder();
+        append(metrics, statistics, "mysystem_serialized_bytes", ManifestStatistics::getSerializedBytes);
+        append(metrics, statistics, "mysystem_deserialized_bytes", ManifestStatistics::getDeserializedBytes);
+        append(metrics, statistics, "mysystem_encode_nanos", ManifestStatistics::getEncodeNanos);
+        append(metrics, statistics, "mysystem_decode_nanos", ManifestStatistics::getDecodeNanos);
+        append(metrics, statistics.getCompression());
+        return metrics.toString();
+    }
+
+    protected void append(final StringBuilder metrics, final CompressionSummary compression) {
+        append(metrics, "mysystem_compressed_count", "counter", compression.getCompressedCount());
+        append(metrics, "mysystem_uncompressed_bytes", "counter", compression.getUncompressedBytes());
+        append(metrics, "mysystem_compressed_bytes", "counter", compression.getCompressedBytes());
+        append(metrics, "mysystem_compression_ratio", "gauge", compression.getCompressionRatio());
+        append(metrics, "mysystem_compression_nanos", "counter", compression.getCompressionNanos());
+        append(metrics, "mysystem_decompressed_count", "counter", compression.getDecompressedCount());
+        append(metrics, "mysystem_decompression_nanos", "counter", compression.getDecompressionNanos());
+    }
+
+    protected void append(final StringBuilder metrics, final String name, final String type, final Number value) {
+        metrics.append(String.format("# TYPE %s %s\n", name, type));
+        metrics.append(String.format("%s %s\n", name, value));
+    }
+
+    protected void append(
+            final StringBuilder metrics, final SerializationStatistics statistics, final String name,
+            final Function<ManifestStatistics, HistogramSummary> summaryFunction) {
+        metrics.append(String.format("# TYPE %s summary\n", name));
+        for (final ManifestStatistics manifest : statistics.getManifests()) {
+            final HistogramSummary summary = summaryFunction.apply(manifest);
+            final String labels = String.format(
+                    "serializer=\"%s\",manifest=\"%s\"", manifest.getSerializer(), manifest.getManifest());
+            metrics.append(String.format("%s{%s,quantile=\"0.5\"} %d\n", name, labels, summary.getP50()));
+            metrics.append(String.format("%s{%s,quantile=\"0.9\"} %d\n", name, labels, summary.getP90()));
+            metrics.append(String.format("%s{%s,quantile=\"0.99\"} %d\n", name, labels, summary.getP99()));
+            metrics.append(String.format("%s_sum{%s} %d\n", name, labels, summary.getSum()));
+            metrics.append(String.format("%s_count{%s} %d\n", name, labels, summary.getCount()));
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package mysystem.shell.command;
+
+import com.google.common.annotations.VisibleForTesting;
+
+import akka.actor.ActorRef;
+import akka.actor.UntypedActor;
+import akka.cluster.Cluster;
+import akka.cluster.ClusterEvent;
+import akka.dispatch.Futures;
+import akka.dispatch.OnComplete;
+import akka.pattern.Patterns;
+import akka.util.Timeout;
+import mysystem.common.actor.SerializationMonitor;
+import mysystem.common.model.CompressionSummary;
+import mysystem.common.model.GetSerializationStatistics;
+import mysystem.common.model.HistogramSummary;
+import mysystem.common.model.ManifestStatistics;
+import mysystem.common.model.SerializationStatistics;
+import mysystem.shell.model.Command;
+import mysystem.shell.model.CommandPath;
+import mysystem.shell.model.ConsoleOutput;
+import mysystem.shell.model.Registration;
+import mysystem.shell.model.RegistrationRequest;
+import mysystem.shell.model.RegistrationResponse;
+import scala.concurrent.ExecutionContext;
+import scala.concurrent.Future;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This actor implements the {@code serialization} command in the shell, which displays the sizes and times of the
+ * serialization performed for each type of model object, and the compression performed, on each of the members of the
+ * cluster.
+ */
+public class SerializationCommand extends UntypedActor {
+    private final static Timeout TIMEOUT = new Timeout(5, TimeUnit.SECONDS);
+
+    private final Cluster cluster;
+
+    /**
+     * Default constructor.
+     */
+    public SerializationCommand() {
+        this.cluster = Cluster.get(context().system());
+    }
+
+    /**
+     * @param cluster the {@link Cluster} whose members will be asked for their serialization statistics
+     */
+    @VisibleForTesting
+    protected SerializationCommand(final Cluster cluster) {
+        this.cluster = Objects.requireNonNull(cluster);
+    }
+
+    /**
+     * @return the {@link Cluster} whose members will be asked for their serialization statistics
+     */
+    protected Cluster getCluster() {
+        return this.cluster;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onReceive(final Object message) {
+        if (message instanceof RegistrationRequest) {
+            handleRegistrationRequest();
+        } else if (message instanceof Command) {
+            handleCommand();
+        } else {
+            unhandled(message);
+        }
+    }
+
+    protected void handleRegistrationRequest() {
+        final String description = "displays the serialization statistics for each type of message";
+        final CommandPath serialization = new CommandPath.Builder("serialization").build();
+        final Registration reg = new Registration.Builder().setActorPath(self()).setPath(serialization)
+                .setDescription(description).build();
+        sender().tell(new RegistrationResponse.Builder().add(reg).build(), self());
+    }
+
+    protected void handleCommand() {
+        final List<Future<Object>> futures = new LinkedList<>();
+        final ClusterEvent.CurrentClusterState state = getCluster().state();
+        if (state != null) {
+            final GetSerializationStatistics request = new GetSerializationStatistics.Builder().build();
+            state.getMembers().forEach(member -> futures.add(
+                    Patterns.ask(SerializationMonitor.getActorSelection(context(), member.address()), request,
+                            TIMEOUT)));
+        }
+
+        final ActorRef sender = sender();
+        final ActorRef self = self();
+        final ExecutionContext executionContext = context().dispatcher();
+        Futures.sequence(futures, executionContext).onComplete(new OnComplete<Iterable<Object>>() {
+            @Override
+            public void onComplete(final Throwable failure, final Iterable<Object> responses) {
+                if (failure != null) {
+                    sender.tell(new ConsoleOutput.Builder(
+                            "Failed to retrieve serialization statistics: " + failure.getMessage()).setHasMore(true)
+                            .build(), self);
+                } else {
+                    responses.forEach(response -> getOutput((SerializationStatistics) response).forEach(
+                            line -> sender.tell(new ConsoleOutput.Builder(line).setHasMore(true).build(), self)));
+                }
+                sender.tell(new ConsoleOutput.Builder().build(), self);
+            }
+        }, executionContext);
+    }
+
+    protected List<String> getOutput(final SerializationStatistics statistics) {
+        final List<String> output = new LinkedList<>();
+        output.add(String.format("  %s", statistics.getAddress()));
+        if (statistics.getManifests().isEmpty()) {
+            output.add("    No messages serialized");
+        }
+        for (final ManifestStatistics manifest : statistics.getManifests()) {
+            output.add(String.format("    %s (%s)", manifest.getManifest(), manifest.getSerializer()));
+            output.add(String.format("      sent      %s", getOutput(manifest.getSerializedBytes(), "bytes")));
+            output.add(String.format("      received  %s", getOutput(manifest.getDeserializedBytes(), "bytes")));
+            output.add(String.format("      encode    %s", getOutput(manifest.getEncodeNanos(), "ns")));
+            output.add(String.format("      decode    %s", getOutput(manifest.getDecodeNanos(), "ns")));
+        }
+        final CompressionSummary compression = statistics.getCompression();
+        if (compression.getCompressedCount() > 0 || compression.getDecompressedCount() > 0) {
+            output.add("    Compression");
+            output.add(String.format("      compress    count %d, ratio %.2f, %d ns", compression.getCompressedCount(),
+                    compression.getCompressionRatio(), compression.getCompressionNanos()));
+            output.add(String.format("      decompress  count %d, %d ns", compression.getDecompressedCount(),
+                    compression.getDecompressionNanos()));
+        }
+        return output;
+    }
+
+    protected String getOutput(final HistogramSummary summary, final String unit) {
+        return String.format("count %d, mean %.0f %s, p50 %d %s, p99 %d %s, max %d %s", summary.getCount(),
+                summary.getMean(), unit, summary.getP50(), unit, summary.getP99(), unit, summary.getMax(), unit);
+    }
+}
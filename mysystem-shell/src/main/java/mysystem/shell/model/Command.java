@@ -2,6 +2,8 @@ package mysystem.shell.model;
 
 import com.google.common.base.Preconditions;
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 
 import org.apache.commons.cli.CommandLine;
 import org.apache.commons.cli.DefaultParser;
@@ -12,8 +14,10 @@ import org.apache.commons.lang3.builder.ToStringStyle;
 
 import mysystem.common.model.Model;
 import mysystem.common.model.ModelBuilder;
+import mysystem.common.serialization.JsonStreaming;
 import mysystem.common.serialization.ManifestMapping;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -105,6 +109,22 @@ public class Command implements Model, Comparable<Command> {
         return json;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void toJson(final JsonWriter writer) throws IOException {
+        writer.beginObject();
+        writer.name(JsonStreaming.MANIFEST).value(getSerializationManifest());
+        writer.name("commandPath");
+        getCommandPath().toJson(writer);
+        writer.name("registration");
+        getRegistration().toJson(writer);
+        writer.name("userInput");
+        getUserInput().toJson(writer);
+        writer.endObject();
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -245,6 +265,29 @@ public class Command implements Model, Comparable<Command> {
             return this;
         }
 
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Builder fromJsonFields(final ManifestMapping mapping, final JsonReader reader) throws IOException {
+            while (reader.hasNext()) {
+                switch (reader.nextName()) {
+                    case "registration":
+                        setRegistration(JsonStreaming.readModel(mapping, new Registration.Builder(), reader));
+                        break;
+                    case "userInput":
+                        setUserInput(JsonStreaming.readModel(mapping, new TokenizedUserInput.Builder(), reader));
+                        break;
+                    case "commandPath":
+                        setCommandPath(JsonStreaming.readModel(mapping, new CommandPath.Builder(), reader));
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            }
+            return this;
+        }
+
         /**
          * {@inheritDoc}
          */
@@ -1,6 +1,8 @@
 package mysystem.shell.model;
 
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import com.typesafe.config.Config;
 
 import org.apache.commons.lang3.builder.CompareToBuilder;
@@ -11,8 +13,10 @@ import org.apache.commons.lang3.builder.ToStringStyle;
 import akka.actor.UntypedActor;
 import mysystem.common.model.Model;
 import mysystem.common.model.ModelBuilder;
+import mysystem.common.serialization.JsonStreaming;
 import mysystem.common.serialization.ManifestMapping;
 
+import java.io.IOException;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -70,6 +74,18 @@ public class CommandConfig implements Model, Comparable<CommandConfig> {
         return json;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void toJson(final JsonWriter writer) throws IOException {
+        writer.beginObject();
+        writer.name(JsonStreaming.MANIFEST).value(getSerializationManifest());
+        writer.name("commandName").value(getCommandName());
+        writer.name("commandClass").value(getCommandClass().getName());
+        writer.endObject();
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -195,6 +211,26 @@ public class CommandConfig implements Model, Comparable<CommandConfig> {
             return this;
         }
 
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Builder fromJsonFields(final ManifestMapping mapping, final JsonReader reader) throws IOException {
+            while (reader.hasNext()) {
+                switch (reader.nextName()) {
+                    case "commandName":
+                        setCommandName(reader.nextString());
+                        break;
+                    case "commandClass":
+                        setCommandClass(reader.nextString());
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            }
+            return this;
+        }
+
         /**
          * {@inheritDoc}
          */
@@ -2,15 +2,18 @@ package mysystem.shell.model;
 
 import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 
 import org.apache.commons.lang3.StringUtils;
-import org.apache.commons.lang3.builder.CompareToBuilder;
 
 import mysystem.common.model.Model;
 import mysystem.common.model.ModelBuilder;
+import mysystem.common.serialization.JsonStreaming;
 import mysystem.common.serialization.ManifestMapping;
 import mysystem.common.util.CollectionComparator;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -31,6 +34,8 @@ public class CommandPath implements Model, Comparable<CommandPath> {
 
     private final List<String> path;
 
+    private int hashCode = 0;
+
     /**
      * @param path the fully qualified path representing a shell command
      */
@@ -158,6 +163,21 @@ public class CommandPath implements Model, Comparable<CommandPath> {
         return json;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void toJson(final JsonWriter writer) throws IOException {
+        writer.beginObject();
+        writer.name(JsonStreaming.MANIFEST).value(getSerializationManifest());
+        writer.name("path").beginArray();
+        for (final String element : getPath()) {
+            writer.value(element);
+        }
+        writer.endArray();
+        writer.endObject();
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -171,13 +191,14 @@ public class CommandPath implements Model, Comparable<CommandPath> {
      */
     @Override
     public int compareTo(@Nullable final CommandPath other) {
-        if (other == null) {
+        if (other == this) {
+            return 0;
+        } else if (other == null) {
             return 1;
         }
 
-        final CompareToBuilder cmp = new CompareToBuilder();
-        cmp.append(getPath(), other.getPath(), new CollectionComparator<String>());
-        return cmp.toComparison();
+        // Compares the underlying lists directly, avoiding the unmodifiable views returned by getPath().
+        return CollectionComparator.compareValues(this.path, other.path);
     }
 
     /**
@@ -185,7 +206,13 @@ public class CommandPath implements Model, Comparable<CommandPath> {
      */
     @Override
     public boolean equals(final Object other) {
-        return (other instanceof CommandPath) && compareTo((CommandPath) other) == 0;
+        if (other == this) {
+            return true;
+        } else if (!(other instanceof CommandPath)) {
+            return false;
+        }
+        final CommandPath that = (CommandPath) other;
+        return hashCode() == that.hashCode() && compareTo(that) == 0;
     }
 
     /**
@@ -193,7 +220,10 @@ public class CommandPath implements Model, Comparable<CommandPath> {
      */
     @Override
     public int hashCode() {
-        return getPath().hashCode();
+        if (this.hashCode == 0) {
+            this.hashCode = this.path.hashCode();
+        }
+        return this.hashCode;
     }
 
     /**
@@ -277,6 +307,27 @@ public class CommandPath implements Model, Comparable<CommandPath> {
             return this;
         }
 
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Builder fromJsonFields(final ManifestMapping mapping, final JsonReader reader) throws IOException {
+            while (reader.hasNext()) {
+                switch (reader.nextName()) {
+                    case "path":
+                        reader.beginArray();
+                        while (reader.hasNext()) {
+                            add(reader.nextString());
+                        }
+                        reader.endArray();
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            }
+            return this;
+        }
+
         /**
          * {@inheritDoc}
          */
@@ -1,6 +1,8 @@
 package mysystem.shell.model;
 
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 
 import org.apache.commons.lang3.builder.CompareToBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
@@ -9,9 +11,11 @@ import org.apache.commons.lang3.builder.ToStringStyle;
 
 import mysystem.common.model.Model;
 import mysystem.common.model.ModelBuilder;
+import mysystem.common.serialization.JsonStreaming;
 import mysystem.common.serialization.ManifestMapping;
 import mysystem.common.util.OptionalComparator;
 
+import java.io.IOException;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -82,6 +86,21 @@ public class ConsoleOutput implements Model, Comparable<ConsoleOutput> {
         return json;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void toJson(final JsonWriter writer) throws IOException {
+        writer.beginObject();
+        writer.name(JsonStreaming.MANIFEST).value(getSerializationManifest());
+        if (getOutput().isPresent()) {
+            writer.name("output").value(getOutput().get());
+        }
+        writer.name("hasMore").value(hasMore());
+        writer.name("terminate").value(isTerminate());
+        writer.endObject();
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -196,6 +215,29 @@ public class ConsoleOutput implements Model, Comparable<ConsoleOutput> {
             return this;
         }
 
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Builder fromJsonFields(final ManifestMapping mapping, final JsonReader reader) throws IOException {
+            while (reader.hasNext()) {
+                switch (reader.nextName()) {
+                    case "output":
+                        this.output = Optional.of(reader.nextString());
+                        break;
+                    case "hasMore":
+                        this.hasMore = reader.nextBoolean();
+                        break;
+                    case "terminate":
+                        this.terminate = reader.nextBoolean();
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            }
+            return this;
+        }
+
         /**
          * {@inheritDoc}
          */
@@ -2,6 +2,8 @@ package mysystem.shell.model;
 
 import com.google.common.base.Preconditions;
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.builder.CompareToBuilder;
@@ -11,9 +13,11 @@ import org.apache.commons.lang3.builder.ToStringStyle;
 
 import mysystem.common.model.Model;
 import mysystem.common.model.ModelBuilder;
+import mysystem.common.serialization.JsonStreaming;
 import mysystem.common.serialization.ManifestMapping;
 import mysystem.common.util.OptionalComparator;
 
+import java.io.IOException;
 import java.text.ParseException;
 import java.util.Objects;
 import java.util.Optional;
@@ -85,6 +89,22 @@ public class InvalidInput implements Model, Comparable<InvalidInput> {
         return json;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void toJson(final JsonWriter writer) throws IOException {
+        writer.beginObject();
+        writer.name(JsonStreaming.MANIFEST).value(getSerializationManifest());
+        writer.name("userInput");
+        getUserInput().toJson(writer);
+        writer.name("error").value(getError());
+        if (getLocation().isPresent()) {
+            writer.name("location").value(getLocation().get());
+        }
+        writer.endObject();
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -238,6 +258,29 @@ public class InvalidInput implements Model, Comparable<InvalidInput> {
             return this;
         }
 
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Builder fromJsonFields(final ManifestMapping mapping, final JsonReader reader) throws IOException {
+            while (reader.hasNext()) {
+                switch (reader.nextName()) {
+                    case "userInput":
+                        setUserInput(JsonStreaming.readModel(mapping, new UserInput.Builder(), reader));
+                        break;
+                    case "error":
+                        setError(reader.nextString());
+                        break;
+                    case "location":
+                        setLocation(reader.nextInt());
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            }
+            return this;
+        }
+
         /**
          * {@inheritDoc}
          */
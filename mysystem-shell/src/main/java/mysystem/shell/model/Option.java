@@ -2,6 +2,8 @@ package mysystem.shell.model;
 
 import com.google.common.base.Preconditions;
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.builder.CompareToBuilder;
@@ -11,9 +13,11 @@ import org.apache.commons.lang3.builder.ToStringStyle;
 
 import mysystem.common.model.Model;
 import mysystem.common.model.ModelBuilder;
+import mysystem.common.serialization.JsonStreaming;
 import mysystem.common.serialization.ManifestMapping;
 import mysystem.common.util.OptionalComparator;
 
+import java.io.IOException;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -150,6 +154,27 @@ public class Option implements Model, Comparable<Option> {
         return json;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void toJson(final JsonWriter writer) throws IOException {
+        writer.beginObject();
+        writer.name(JsonStreaming.MANIFEST).value(getSerializationManifest());
+        writer.name("description").value(getDescription());
+        writer.name("shortOption").value(getShortOption());
+        if (getLongOption().isPresent()) {
+            writer.name("longOption").value(getLongOption().get());
+        }
+        if (getArgName().isPresent()) {
+            writer.name("argName").value(getArgName().get());
+        }
+        writer.name("arguments").value(getArguments());
+        writer.name("required").value(isRequired());
+        writer.name("optionalArg").value(hasOptionalArg());
+        writer.endObject();
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -345,6 +370,41 @@ public class Option implements Model, Comparable<Option> {
             return this;
         }
 
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Builder fromJsonFields(final ManifestMapping mapping, final JsonReader reader) throws IOException {
+            while (reader.hasNext()) {
+                switch (reader.nextName()) {
+                    case "description":
+                        setDescription(reader.nextString());
+                        break;
+                    case "shortOption":
+                        setShortOption(reader.nextString());
+                        break;
+                    case "longOption":
+                        setLongOption(reader.nextString());
+                        break;
+                    case "argName":
+                        setArgName(reader.nextString());
+                        break;
+                    case "arguments":
+                        setArguments(reader.nextInt());
+                        break;
+                    case "required":
+                        setRequired(reader.nextBoolean());
+                        break;
+                    case "optionalArg":
+                        setOptionalArg(reader.nextBoolean());
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            }
+            return this;
+        }
+
         /**
          * {@inheritDoc}
          */
@@ -1,6 +1,8 @@
 package mysystem.shell.model;
 
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 
 import org.apache.commons.lang3.builder.ToStringBuilder;
 import org.apache.commons.lang3.builder.ToStringStyle;
@@ -8,8 +10,10 @@ import org.apache.commons.lang3.builder.ToStringStyle;
 import akka.actor.ActorRef;
 import mysystem.common.model.Model;
 import mysystem.common.model.ModelBuilder;
+import mysystem.common.serialization.JsonStreaming;
 import mysystem.common.serialization.ManifestMapping;
 
+import java.io.IOException;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -94,6 +98,26 @@ public class Registration implements Model, Comparable<Registration> {
         return json;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void toJson(final JsonWriter writer) throws IOException {
+        writer.beginObject();
+        writer.name(JsonStreaming.MANIFEST).value(getSerializationManifest());
+        writer.name("actorPath").value(getActorPath());
+        writer.name("path");
+        getPath().toJson(writer);
+        if (getOptions().isPresent()) {
+            writer.name("options");
+            getOptions().get().toJson(writer);
+        }
+        if (getDescription().isPresent()) {
+            writer.name("description").value(getDescription().get());
+        }
+        writer.endObject();
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -112,7 +136,9 @@ public class Registration implements Model, Comparable<Registration> {
      */
     @Override
     public int compareTo(@Nullable final Registration registration) {
-        if (registration == null) {
+        if (registration == this) {
+            return 0;
+        } else if (registration == null) {
             return 1;
         }
 
@@ -124,7 +150,13 @@ public class Registration implements Model, Comparable<Registration> {
      */
     @Override
     public boolean equals(final Object other) {
-        return (other instanceof Registration) && compareTo((Registration) other) == 0;
+        if (other == this) {
+            return true;
+        } else if (!(other instanceof Registration)) {
+            return false;
+        }
+        final Registration registration = (Registration) other;
+        return hashCode() == registration.hashCode() && compareTo(registration) == 0;
     }
 
     /**
@@ -233,6 +265,32 @@ public class Registration implements Model, Comparable<Registration> {
             return this;
         }
 
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Builder fromJsonFields(final ManifestMapping mapping, final JsonReader reader) throws IOException {
+            while (reader.hasNext()) {
+                switch (reader.nextName()) {
+                    case "actorPath":
+                        setActorPath(reader.nextString());
+                        break;
+                    case "path":
+                        setPath(JsonStreaming.readModel(mapping, new CommandPath.Builder(), reader));
+                        break;
+                    case "options":
+                        setOptions(JsonStreaming.readModel(mapping, new Options.Builder(), reader));
+                        break;
+                    case "description":
+                        setDescription(reader.nextString());
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            }
+            return this;
+        }
+
         /**
          * {@inheritDoc}
          */
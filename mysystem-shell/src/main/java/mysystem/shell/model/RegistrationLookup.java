@@ -2,6 +2,8 @@ package mysystem.shell.model;
 
 import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 
 import org.apache.commons.lang3.builder.CompareToBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
@@ -10,10 +12,12 @@ import org.apache.commons.lang3.builder.ToStringStyle;
 
 import mysystem.common.model.Model;
 import mysystem.common.model.ModelBuilder;
+import mysystem.common.serialization.JsonStreaming;
 import mysystem.common.serialization.ManifestMapping;
 import mysystem.common.util.CollectionComparator;
 import mysystem.common.util.OptionalComparator;
 
+import java.io.IOException;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Objects;
@@ -80,6 +84,25 @@ public class RegistrationLookup implements Model, Comparable<RegistrationLookup>
         return json;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void toJson(final JsonWriter writer) throws IOException {
+        writer.beginObject();
+        writer.name(JsonStreaming.MANIFEST).value(getSerializationManifest());
+        writer.name("paths").beginArray();
+        for (final CommandPath path : getPaths()) {
+            path.toJson(writer);
+        }
+        writer.endArray();
+        if (getUserInput().isPresent()) {
+            writer.name("userInput");
+            getUserInput().get().toJson(writer);
+        }
+        writer.endObject();
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -195,6 +218,30 @@ public class RegistrationLookup implements Model, Comparable<RegistrationLookup>
             return this;
         }
 
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Builder fromJsonFields(final ManifestMapping mapping, final JsonReader reader) throws IOException {
+            while (reader.hasNext()) {
+                switch (reader.nextName()) {
+                    case "paths":
+                        reader.beginArray();
+                        while (reader.hasNext()) {
+                            add(JsonStreaming.readModel(mapping, new CommandPath.Builder(), reader));
+                        }
+                        reader.endArray();
+                        break;
+                    case "userInput":
+                        setUserInput(JsonStreaming.readModel(mapping, new TokenizedUserInput.Builder(), reader));
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            }
+            return this;
+        }
+
         /**
          * {@inheritDoc}
          */
@@ -1,11 +1,16 @@
 package mysystem.shell.model;
 
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 
 import mysystem.common.model.Model;
 import mysystem.common.model.ModelBuilder;
+import mysystem.common.serialization.JsonStreaming;
 import mysystem.common.serialization.ManifestMapping;
 
+import java.io.IOException;
+
 import javax.annotation.Nullable;
 
 /**
@@ -38,6 +43,16 @@ public class RegistrationRequest implements Model, Comparable<RegistrationReques
         return json;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void toJson(final JsonWriter writer) throws IOException {
+        writer.beginObject();
+        writer.name(JsonStreaming.MANIFEST).value(getSerializationManifest());
+        writer.endObject();
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -83,6 +98,18 @@ public class RegistrationRequest implements Model, Comparable<RegistrationReques
             return this;
         }
 
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Builder fromJsonFields(final ManifestMapping mapping, final JsonReader reader) throws IOException {
+            while (reader.hasNext()) {
+                reader.nextName();
+                reader.skipValue();
+            }
+            return this;
+        }
+
         /**
          * {@inheritDoc}
          */
@@ -2,6 +2,8 @@ package mysystem.shell.model;
 
 import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 
 import org.apache.commons.lang3.builder.CompareToBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
@@ -10,10 +12,12 @@ import org.apache.commons.lang3.builder.ToStringStyle;
 
 import mysystem.common.model.Model;
 import mysystem.common.model.ModelBuilder;
+import mysystem.common.serialization.JsonStreaming;
 import mysystem.common.serialization.ManifestMapping;
 import mysystem.common.util.CollectionComparator;
 import mysystem.common.util.OptionalComparator;
 
+import java.io.IOException;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -84,6 +88,25 @@ public class RegistrationResponse implements Model, Comparable<RegistrationRespo
         return json;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void toJson(final JsonWriter writer) throws IOException {
+        writer.beginObject();
+        writer.name(JsonStreaming.MANIFEST).value(getSerializationManifest());
+        writer.name("registrations").beginArray();
+        for (final Registration registration : getRegistrations()) {
+            registration.toJson(writer);
+        }
+        writer.endArray();
+        if (getUserInput().isPresent()) {
+            writer.name("userInput");
+            getUserInput().get().toJson(writer);
+        }
+        writer.endObject();
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -241,6 +264,30 @@ public class RegistrationResponse implements Model, Comparable<RegistrationRespo
             return this;
         }
 
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Builder fromJsonFields(final ManifestMapping mapping, final JsonReader reader) throws IOException {
+            while (reader.hasNext()) {
+                switch (reader.nextName()) {
+                    case "registrations":
+                        reader.beginArray();
+                        while (reader.hasNext()) {
+                            add(JsonStreaming.readModel(mapping, new Registration.Builder(), reader));
+                        }
+                        reader.endArray();
+                        break;
+                    case "userInput":
+                        setUserInput(JsonStreaming.readModel(mapping, new TokenizedUserInput.Builder(), reader));
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            }
+            return this;
+        }
+
         /**
          * {@inheritDoc}
          */
@@ -2,6 +2,8 @@ package mysystem.shell.model;
 
 import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 
 import org.apache.commons.lang3.builder.CompareToBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
@@ -10,9 +12,11 @@ import org.apache.commons.lang3.builder.ToStringStyle;
 
 import mysystem.common.model.Model;
 import mysystem.common.model.ModelBuilder;
+import mysystem.common.serialization.JsonStreaming;
 import mysystem.common.serialization.ManifestMapping;
 import mysystem.common.util.CollectionComparator;
 
+import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.text.ParseException;
 import java.util.ArrayList;
@@ -78,6 +82,23 @@ public class TokenizedUserInput implements Model, Comparable<TokenizedUserInput>
         return json;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void toJson(final JsonWriter writer) throws IOException {
+        writer.beginObject();
+        writer.name(JsonStreaming.MANIFEST).value(getSerializationManifest());
+        writer.name("userInput");
+        getUserInput().toJson(writer);
+        writer.name("tokens").beginArray();
+        for (final String token : getTokens()) {
+            writer.value(token);
+        }
+        writer.endArray();
+        writer.endObject();
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -260,6 +281,30 @@ public class TokenizedUserInput implements Model, Comparable<TokenizedUserInput>
             return this;
         }
 
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Builder fromJsonFields(final ManifestMapping mapping, final JsonReader reader) throws IOException {
+            while (reader.hasNext()) {
+                switch (reader.nextName()) {
+                    case "userInput":
+                        setUserInput(JsonStreaming.readModel(mapping, new UserInput.Builder(), reader));
+                        break;
+                    case "tokens":
+                        reader.beginArray();
+                        while (reader.hasNext()) {
+                            this.tokens.add(reader.nextString());
+                        }
+                        reader.endArray();
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            }
+            return this;
+        }
+
         /**
          * @return the {@link TokenizedUserInput} defined in this builder
          */
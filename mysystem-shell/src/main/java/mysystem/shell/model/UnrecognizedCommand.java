@@ -1,14 +1,18 @@
 package mysystem.shell.model;
 
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 
 import org.apache.commons.lang3.builder.ToStringBuilder;
 import org.apache.commons.lang3.builder.ToStringStyle;
 
 import mysystem.common.model.Model;
 import mysystem.common.model.ModelBuilder;
+import mysystem.common.serialization.JsonStreaming;
 import mysystem.common.serialization.ManifestMapping;
 
+import java.io.IOException;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -55,6 +59,18 @@ public class UnrecognizedCommand implements Model, Comparable<UnrecognizedComman
         return json;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void toJson(final JsonWriter writer) throws IOException {
+        writer.beginObject();
+        writer.name(JsonStreaming.MANIFEST).value(getSerializationManifest());
+        writer.name("userInput");
+        getUserInput().toJson(writer);
+        writer.endObject();
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -132,6 +148,23 @@ public class UnrecognizedCommand implements Model, Comparable<UnrecognizedComman
             return this;
         }
 
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Builder fromJsonFields(final ManifestMapping mapping, final JsonReader reader) throws IOException {
+            while (reader.hasNext()) {
+                switch (reader.nextName()) {
+                    case "userInput":
+                        setUserInput(JsonStreaming.readModel(mapping, new TokenizedUserInput.Builder(), reader));
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            }
+            return this;
+        }
+
         /**
          * {@inheritDoc}
          */
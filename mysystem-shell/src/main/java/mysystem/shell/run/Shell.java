@@ -4,6 +4,8 @@ import com.typesafe.config.Config;
 import com.typesafe.config.ConfigFactory;
 
 import akka.actor.ActorSystem;
+import mysystem.common.actor.ChunkReassembler;
+import mysystem.common.actor.SerializationMonitor;
 import mysystem.common.config.CommonConfig;
 import mysystem.shell.actor.CommandExecutor;
 import mysystem.shell.actor.ConsoleManager;
@@ -35,6 +37,8 @@ public class Shell {
     }
 
     protected void createActors(final ActorSystem actorSystem) {
+        ChunkReassembler.create(actorSystem);
+        SerializationMonitor.create(actorSystem);
         RegistrationManager.create(actorSystem);
         ConsoleManager.create(actorSystem);
         CommandExecutor.create(actorSystem);
@@ -0,0 +1,210 @@
+package mysystem.shell.command;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.google.common.collect.Sets;
+import com.typesafe.config.ConfigFactory;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.actor.Address;
+import akka.actor.ExtendedActorSystem;
+import akka.actor.PoisonPill;
+import akka.actor.Props;
+import akka.cluster.Cluster;
+import akka.cluster.ClusterEvent;
+import akka.cluster.Member;
+import akka.cluster.MemberStatus;
+import akka.cluster.UniqueAddress;
+import akka.testkit.JavaTestKit;
+import akka.testkit.TestActorRef;
+import mysystem.common.actor.SerializationMonitor;
+import mysystem.common.model.CompressionSummary;
+import mysystem.common.model.HistogramSummary;
+import mysystem.common.model.ManifestStatistics;
+import mysystem.common.model.SerializationStatistics;
+import mysystem.shell.model.Command;
+import mysystem.shell.model.CommandPath;
+import mysystem.shell.model.ConsoleOutput;
+import mysystem.shell.model.Registration;
+import mysystem.shell.model.RegistrationRequest;
+import mysystem.shell.model.RegistrationResponse;
+import mysystem.shell.model.TokenizedUserInput;
+import scala.Option;
+import scala.collection.JavaConversions;
+import scala.collection.immutable.HashSet;
+import scala.collection.immutable.TreeSet;
+
+import java.text.ParseException;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Perform testing of the {@link SerializationCommand} class.
+ */
+public class SerializationCommandTest {
+    private static Cluster cluster = null;
+    private static Cluster clusterWithNoState = null;
+    private static ActorSystem system = null;
+
+    /**
+     * Initialize the test actor system, with a cluster containing only the local node.
+     */
+    @BeforeClass
+    public static void setup() {
+        cluster = Mockito.mock(Cluster.class);
+        clusterWithNoState = Mockito.mock(Cluster.class);
+        system = ActorSystem.create("test-actor-system", ConfigFactory.load("test-config"));
+
+        final Address address = ((ExtendedActorSystem) system).provider().getDefaultAddress();
+        final Set<String> roles = Sets.newHashSet("0.0.0-SNAPSHOT", "SYSTEM");
+        final Member member = new Member(new UniqueAddress(address, 1), 1, MemberStatus.up(),
+                JavaConversions.asScalaSet(roles).toSet());
+        final TreeSet<Member> members = new TreeSet<>(Member.ordering()).insert(member);
+        final ClusterEvent.CurrentClusterState state = new ClusterEvent.CurrentClusterState(members,
+                new HashSet<>(), new HashSet<>(), Option.apply(address), null);
+        Mockito.when(cluster.state()).thenReturn(state);
+    }
+
+    /**
+     * Shutdown the test actor system.
+     */
+    @AfterClass
+    public static void teardown() {
+        if (system != null) {
+            JavaTestKit.shutdownActorSystem(system);
+            system = null;
+        }
+    }
+
+    private Command getCommand(final ActorRef actorRef) throws ParseException {
+        final TokenizedUserInput userInput = new TokenizedUserInput.Builder("serialization").build();
+        final CommandPath path = new CommandPath.Builder("serialization").build();
+        final Registration reg = new Registration.Builder().setActorPath(actorRef).setPath(path).build();
+        final RegistrationResponse response = new RegistrationResponse.Builder(reg).setUserInput(userInput).build();
+        return new Command.Builder(response).build();
+    }
+
+    @Test
+    public void testReceiveWithRegistrationRequest() {
+        new JavaTestKit(system) {{
+            final ActorRef command = system.actorOf(Props.create(SerializationCommand.class, cluster));
+
+            try {
+                command.tell(new RegistrationRequest.Builder().build(), getRef());
+
+                final RegistrationResponse response = expectMsgClass(duration("500 ms"), RegistrationResponse.class);
+                assertEquals(1, response.getRegistrations().size());
+
+                final Registration registration = response.getRegistrations().iterator().next();
+                assertEquals("displays the serialization statistics for each type of message",
+                        registration.getDescription().get());
+                assertEquals(new CommandPath.Builder("serialization").build(), registration.getPath());
+            } finally {
+                command.tell(PoisonPill.getInstance(), getRef());
+            }
+        }};
+    }
+
+    @Test
+    public void testReceiveWithCommand() throws ParseException {
+        new JavaTestKit(system) {{
+            final ActorRef monitor = SerializationMonitor.create(system);
+            final ActorRef command = system.actorOf(Props.create(SerializationCommand.class, cluster));
+
+            try {
+                command.tell(getCommand(getRef()), getRef());
+
+                final ConsoleOutput address = expectMsgClass(duration("2 s"), ConsoleOutput.class);
+                assertEquals("  akka://test-actor-system", address.getOutput().get());
+                assertTrue(address.hasMore());
+
+                ConsoleOutput output = expectMsgClass(duration("500 ms"), ConsoleOutput.class);
+                while (output.hasMore()) {
+                    assertTrue(output.getOutput().isPresent());
+                    output = expectMsgClass(duration("500 ms"), ConsoleOutput.class);
+                }
+                assertFalse(output.getOutput().isPresent());
+                assertFalse(output.isTerminate());
+            } finally {
+                command.tell(PoisonPill.getInstance(), getRef());
+                monitor.tell(PoisonPill.getInstance(), getRef());
+            }
+        }};
+    }
+
+    @Test
+    public void testReceiveWithCommandNoState() throws ParseException {
+        new JavaTestKit(system) {{
+            final ActorRef command = system.actorOf(Props.create(SerializationCommand.class, clusterWithNoState));
+
+            try {
+                command.tell(getCommand(getRef()), getRef());
+
+                final ConsoleOutput output = expectMsgClass(duration("500 ms"), ConsoleOutput.class);
+                assertFalse(output.getOutput().isPresent());
+                assertFalse(output.hasMore());
+            } finally {
+                command.tell(PoisonPill.getInstance(), getRef());
+            }
+        }};
+    }
+
+    @Test
+    public void testGetOutput() {
+        final HistogramSummary summary = new HistogramSummary.Builder().setCount(2).setSum(300).setMax(200)
+                .setP50(128).setP90(200).setP99(200).build();
+        final ManifestStatistics manifest = new ManifestStatistics.Builder("ModelSerialization", "Company")
+                .setSerializedBytes(summary).build();
+        final SerializationStatistics statistics =
+                new SerializationStatistics.Builder("akka://mysystem").add(manifest).build();
+
+        final SerializationCommand command =
+                TestActorRef.<SerializationCommand>create(system, Props.create(SerializationCommand.class, cluster))
+                        .underlyingActor();
+        final List<String> output = command.getOutput(statistics);
+        assertEquals(6, output.size());
+        assertEquals("  akka://mysystem", output.get(0));
+        assertEquals("    Company (ModelSerialization)", output.get(1));
+        assertEquals("      sent      count 2, mean 150 bytes, p50 128 bytes, p99 200 bytes, max 200 bytes",
+                output.get(2));
+        assertEquals("      decode    count 0, mean 0 ns, p50 0 ns, p99 0 ns, max 0 ns", output.get(5));
+
+        final List<String> empty = command.getOutput(new SerializationStatistics.Builder("akka://mysystem").build());
+        assertEquals(2, empty.size());
+        assertEquals("    No messages serialized", empty.get(1));
+
+        final CompressionSummary compression = new CompressionSummary.Builder().setCompressedCount(2)
+                .setUncompressedBytes(1000).setCompressedBytes(400).setCompressionNanos(300).setDecompressedCount(1)
+                .setDecompressionNanos(50).build();
+        final List<String> compressed = command.getOutput(
+                new SerializationStatistics.Builder("akka://mysystem").add(manifest).setCompression(compression)
+                        .build());
+        assertEquals(9, compressed.size());
+        assertEquals("    Compression", compressed.get(6));
+        assertEquals("      compress    count 2, ratio 2.50, 300 ns", compressed.get(7));
+        assertEquals("      decompress  count 1, 50 ns", compressed.get(8));
+    }
+
+    @Test
+    public void testReceiveWithUnhandled() {
+        new JavaTestKit(system) {{
+            final ActorRef command = system.actorOf(Props.create(SerializationCommand.class, cluster));
+
+            try {
+                command.tell("unhandled", getRef());
+
+                expectNoMsg(duration("100 ms"));
+            } finally {
+                command.tell(PoisonPill.getInstance(), getRef());
+            }
+        }};
+    }
+}
@@ -10,10 +10,12 @@ import com.google.gson.JsonParser;
 import org.junit.Test;
 
 import mysystem.common.serialization.ManifestMapping;
+import mysystem.common.util.CollectionComparator;
 
 import java.text.ParseException;
 import java.util.Arrays;
 import java.util.Optional;
+import java.util.Random;
 
 /**
  * Perform testing of the {@link CommandPath} class and builder.
@@ -68,6 +70,29 @@ public class CommandPathTest {
         assertEquals(4098, c.hashCode());
     }
 
+    @Test
+    public void testCompareToMatchesCollectionComparator() {
+        final CollectionComparator<String> comparator = new CollectionComparator<>();
+        final Random random = new Random(3);
+        for (int test = 0; test < 500; test++) {
+            final CommandPath a = getRandomPath(random);
+            final CommandPath b = getRandomPath(random);
+            final int expected = comparator.compare(a.getPath(), b.getPath());
+            assertEquals(expected, a.compareTo(b));
+            assertEquals(expected == 0, a.equals(b));
+            assertEquals(a.getPath().hashCode(), a.hashCode());
+        }
+    }
+
+    private CommandPath getRandomPath(final Random random) {
+        final CommandPath.Builder builder = new CommandPath.Builder();
+        final int size = random.nextInt(3) + 1;
+        for (int index = 0; index < size; index++) {
+            builder.add(random.nextBoolean() ? "a" : "b");
+        }
+        return builder.build();
+    }
+
     @Test(expected = IllegalStateException.class)
     public void testBuilderNoPaths() {
         new CommandPath.Builder().build();
@@ -0,0 +1,86 @@
+package mysystem.shell.model;
+
+import static org.junit.Assert.assertEquals;
+
+import com.google.gson.JsonParser;
+import com.typesafe.config.ConfigFactory;
+
+import org.junit.Test;
+
+import mysystem.common.model.Model;
+import mysystem.common.serialization.ModelSerialization;
+
+import java.nio.charset.StandardCharsets;
+import java.text.ParseException;
+
+/**
+ * Perform testing of the streaming JSON serialization of the shell model objects.
+ */
+public class JsonStreamingTest {
+    private final ModelSerialization serialization = new ModelSerialization();
+
+    private void assertRoundTrip(final Model model) {
+        final String manifest = this.serialization.manifest(model);
+        final byte[] streamed = this.serialization.toBinary(model);
+        assertEquals(model, this.serialization.fromBinary(streamed, manifest));
+
+        // The streamed JSON must contain the same fields as the JSON object, and be readable in both directions.
+        assertEquals(model.toJson(), new JsonParser().parse(new String(streamed, StandardCharsets.UTF_8)));
+        final byte[] tree = model.toJson().toString().getBytes(StandardCharsets.UTF_8);
+        assertEquals(model, this.serialization.fromBinary(tree, manifest));
+    }
+
+    @Test
+    public void testNoFields() {
+        assertRoundTrip(new AcceptInput.Builder().build());
+        assertRoundTrip(new Terminate.Builder().build());
+        assertRoundTrip(new RegistrationRequest.Builder().build());
+    }
+
+    @Test
+    public void testUserInput() throws ParseException {
+        assertRoundTrip(new UserInput.Builder("a \"quoted\" <input>").build());
+        assertRoundTrip(new TokenizedUserInput.Builder("a b -i 1").build());
+        assertRoundTrip(new UnrecognizedCommand.Builder(new TokenizedUserInput.Builder("a b").build()).build());
+        assertRoundTrip(new InvalidInput.Builder(new UserInput.Builder("a").build(), new ParseException("e", 1))
+                .build());
+        assertRoundTrip(new InvalidInput.Builder().setUserInput(new UserInput.Builder("a").build()).setError("e")
+                .build());
+    }
+
+    @Test
+    public void testConsoleOutput() {
+        assertRoundTrip(new ConsoleOutput.Builder("output").setHasMore(true).build());
+        assertRoundTrip(new ConsoleOutput.Builder().setTerminate(true).build());
+    }
+
+    @Test
+    public void testCommandConfig() {
+        assertRoundTrip(new CommandConfig.Builder("a",
+                ConfigFactory.parseString("{ class = \"mysystem.shell.command.ExitCommand\" }")).build());
+    }
+
+    @Test
+    public void testRegistrations() throws ParseException {
+        final Option a = new Option.Builder().setDescription("description").setShortOption("s").setLongOption("long")
+                .setArgName("argName").setArguments(1).setRequired(true).setOptionalArg(true).build();
+        final Option b = new Option.Builder().setDescription("description").setShortOption("i").build();
+        final Options options = new Options.Builder(a, b).build();
+        final CommandPath commandPath = new CommandPath.Builder("a", "b").build();
+        final Registration registration = new Registration.Builder().setActorPath("path").setPath(commandPath)
+                .setOptions(options).setDescription("description").build();
+        final TokenizedUserInput input = new TokenizedUserInput.Builder("a b -s 1").build();
+        final RegistrationResponse response =
+                new RegistrationResponse.Builder(registration).setUserInput(input).build();
+
+        assertRoundTrip(a);
+        assertRoundTrip(options);
+        assertRoundTrip(commandPath);
+        assertRoundTrip(registration);
+        assertRoundTrip(new Registration.Builder().setActorPath("path").setPath(commandPath).build());
+        assertRoundTrip(new RegistrationLookup.Builder(input).build());
+        assertRoundTrip(response);
+        assertRoundTrip(new RegistrationResponse.Builder().build());
+        assertRoundTrip(new Command.Builder(response).build());
+    }
+}
@@ -4,6 +4,8 @@ import com.typesafe.config.Config;
 import com.typesafe.config.ConfigFactory;
 
 import akka.actor.ActorSystem;
+import mysystem.common.actor.ChunkReassembler;
+import mysystem.common.actor.SerializationMonitor;
 import mysystem.common.config.CommonConfig;
 import mysystem.db.actor.DatabaseManager;
 import mysystem.tomcat.actor.TomcatManager;
@@ -27,6 +29,8 @@ public class Runner {
     }
 
     protected void createActors(final ActorSystem actorSystem) {
+        ChunkReassembler.create(actorSystem);
+        SerializationMonitor.create(actorSystem);
         DatabaseManager.create(actorSystem);
         TomcatManager.create(actorSystem);
     }